@@ -0,0 +1,134 @@
+package com.example.backend.loadtest;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.example.backend.dto.FishListingResponseDto;
+import com.example.backend.dto.OrderDto;
+import com.example.backend.fields.FieldSelectionFilter;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+
+/**
+ * Compares JSON, CBOR and Smile for the FishListingResponseDto list of /api/fishListings/list and the
+ * OrderDto list of /api/orders/list-dto: payload size (and gzipped size, for clients that compress) plus
+ * encode and decode time per response, decoding back into the DTOs as a Java client would.
+ *
+ * The mappers are configured like the application's (Boot's builder defaults, ISO dates, the pass-through
+ * field filter, Smile's shared string values); the pages come from SamplePages. Timing is per JVM, not
+ * JMH-grade.
+ *
+ * Run with {@code mvn -Pload-test -DskipTests -Dloadtest.main=com.example.backend.loadtest.BinaryFormatBenchmark verify}.
+ *
+ * Tunables (system properties): the SamplePages sizes, benchmark.warmup (300 responses per format and
+ * direction), benchmark.iterations (500), benchmark.report (target/load-test/binary-format-benchmark.json).
+ */
+public class BinaryFormatBenchmark {
+
+    private static final TypeReference<List<FishListingResponseDto>> LISTINGS = new TypeReference<>() {};
+    private static final TypeReference<List<OrderDto>> ORDERS = new TypeReference<>() {};
+
+    public static void main(String[] args) throws Exception {
+        int warmup = Integer.getInteger("benchmark.warmup", 300);
+        int iterations = Integer.getInteger("benchmark.iterations", 500);
+        Path reportPath = Paths.get(System.getProperty("benchmark.report", "target/load-test/binary-format-benchmark.json"));
+        SamplePages pages = SamplePages.fromSystemProperties();
+
+        Map<String, ObjectMapper> formats = new LinkedHashMap<>();
+        formats.put("json", mapper(new JsonFactory()));
+        formats.put("cbor", mapper(new CBORFactory()));
+        formats.put("smile", mapper(SmileFactory.builder().enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES).build()));
+
+        Map<String, Object> listings = new LinkedHashMap<>();
+        Map<String, Object> orders = new LinkedHashMap<>();
+        for (Map.Entry<String, ObjectMapper> format : formats.entrySet()) {
+            listings.put(format.getKey(), measure("listings " + format.getKey(), format.getValue(), pages::listingPage,
+                    LISTINGS, warmup, iterations));
+            orders.put(format.getKey(), measure("orders " + format.getKey(), format.getValue(), pages::orderPage,
+                    ORDERS, warmup, iterations));
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("listings", pages.listings);
+        report.put("orders", pages.orders);
+        report.put("itemsPerOrder", SamplePages.ITEMS_PER_ORDER);
+        report.put("fishListingResponseDtoList", listings);
+        report.put("orderDtoList", orders);
+        if (reportPath.getParent() != null) {
+            Files.createDirectories(reportPath.getParent());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(reportPath.toFile(), report);
+        System.out.println("Report written to " + reportPath.toAbsolutePath());
+    }
+
+    private static ObjectMapper mapper(JsonFactory factory) {
+        return Jackson2ObjectMapperBuilder.json()
+                .factory(factory)
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .filters(FieldSelectionFilter.ALL)
+                .build();
+    }
+
+    private static <T> Map<String, Object> measure(String name, ObjectMapper mapper, Supplier<List<T>> page,
+            TypeReference<List<T>> type, int warmup, int iterations) throws Exception {
+        ObjectWriter writer = mapper.writer();
+        ObjectReader reader = mapper.readerFor(type);
+        byte[] encoded = writer.writeValueAsBytes(page.get());
+        for (int i = 0; i < warmup; i++) {
+            writer.writeValueAsBytes(page.get());
+            reader.readValue(encoded);
+        }
+
+        double[] encodeMicros = new double[iterations];
+        double[] decodeMicros = new double[iterations];
+        for (int i = 0; i < iterations; i++) {
+            List<T> value = page.get();
+            long start = System.nanoTime();
+            writer.writeValueAsBytes(value);
+            encodeMicros[i] = (System.nanoTime() - start) / 1000.0;
+            start = System.nanoTime();
+            reader.readValue(encoded);
+            decodeMicros[i] = (System.nanoTime() - start) / 1000.0;
+        }
+        Arrays.sort(encodeMicros);
+        Arrays.sort(decodeMicros);
+        double encodeMedian = encodeMicros[iterations / 2];
+        double decodeMedian = decodeMicros[iterations / 2];
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("bytes", encoded.length);
+        stats.put("gzipBytes", gzipped(encoded));
+        stats.put("encodeMicrosMedian", Math.round(encodeMedian));
+        stats.put("decodeMicrosMedian", Math.round(decodeMedian));
+        stats.put("encodeMBPerSecond", Math.round(encoded.length / encodeMedian * 10) / 10.0);
+        stats.put("decodeMBPerSecond", Math.round(encoded.length / decodeMedian * 10) / 10.0);
+        System.out.printf("%-15s bytes=%8d  gzip=%7d  encode=%6d us  decode=%6d us%n", name, encoded.length,
+                stats.get("gzipBytes"), stats.get("encodeMicrosMedian"), stats.get("decodeMicrosMedian"));
+        return stats;
+    }
+
+    private static int gzipped(byte[] bytes) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.size();
+    }
+}
@@ -0,0 +1,192 @@
+package com.example.backend.loadtest;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.messaging.MessageChannel;
+
+import com.example.backend.enums.ListingStatus;
+import com.example.backend.feed.CatchFeed;
+import com.example.backend.feed.CatchFilter;
+import com.example.backend.feed.CatchMatcher;
+import com.example.backend.feed.CatchSubscription;
+import com.example.backend.fields.FieldSelectionFilter;
+import com.example.backend.model.FishListing;
+import com.example.backend.model.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Fan-out cost of the new-catch feed on one node: subscribers with random filters (some fish types, an
+ * optional location, an optional price cap, now and then a status) are registered with a CatchFeed, and
+ * listings are published through it to an outbound channel that only counts messages. The time covers
+ * compiling the index when stale, matching, serializing once and queueing every delivery; the WebSocket
+ * writes themselves happen on the outbound channel's threads and are not included.
+ *
+ * Every publish is also checked against the filters evaluated one by one, and the run fails if the
+ * index disagrees with them.
+ *
+ * Run with {@code mvn -Pload-test -DskipTests -Dloadtest.main=com.example.backend.loadtest.CatchFeedBenchmark verify}.
+ *
+ * Tunables (system properties): benchmark.subscribers (10000), benchmark.warmup (500 listings),
+ * benchmark.iterations (2000), benchmark.churn (every 100th publish follows a subscribe and an
+ * unsubscribe, forcing a recompile), benchmark.report (target/load-test/catch-feed-benchmark.json).
+ */
+public class CatchFeedBenchmark {
+
+    private static final List<String> FISH_TYPES = List.of("Salmon", "Bluefin Tuna", "Mackerel", "Sea Bass",
+            "Anchovy", "Snapper", "Grouper", "Squid", "Shrimp", "Crab");
+    private static final List<String> LOCATIONS = List.of("Gulf of Thailand", "Andaman Sea", "Phuket", "Krabi",
+            "Chonburi", "Rayong", "Trat", "Songkhla", "Pattani", "Salaya");
+
+    public static void main(String[] args) throws Exception {
+        int subscribers = Integer.getInteger("benchmark.subscribers", 10_000);
+        int warmup = Integer.getInteger("benchmark.warmup", 500);
+        int iterations = Integer.getInteger("benchmark.iterations", 2000);
+        int churn = Integer.getInteger("benchmark.churn", 100);
+        Path reportPath = Paths.get(System.getProperty("benchmark.report", "target/load-test/catch-feed-benchmark.json"));
+
+        Random random = new Random(42);
+        AtomicInteger queued = new AtomicInteger();
+        MessageChannel countingChannel = (message, timeout) -> {
+            queued.incrementAndGet();
+            return true;
+        };
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .filters(FieldSelectionFilter.ALL)
+                .build();
+        CatchFeed feed = new CatchFeed(countingChannel, objectMapper, new SimpleMeterRegistry());
+
+        Map<String, CatchFilter> filters = new HashMap<>();
+        for (int i = 0; i < subscribers; i++) {
+            CatchFilter filter = randomFilter(random);
+            filters.put("session-" + i, filter);
+            feed.subscribe("session-" + i, "sub-0", filter);
+        }
+
+        for (int i = 0; i < warmup; i++) {
+            feed.publish(randomListing(random, i));
+        }
+
+        double[] micros = new double[iterations];
+        long deliveries = 0;
+        int recompiles = 0;
+        for (int i = 0; i < iterations; i++) {
+            if (churn > 0 && i % churn == 0) {
+                feed.unsubscribe("session-" + i % subscribers, "sub-0");
+                CatchFilter filter = randomFilter(random);
+                filters.put("session-" + i % subscribers, filter);
+                feed.subscribe("session-" + i % subscribers, "sub-0", filter);
+                recompiles++;
+            }
+            FishListing listing = randomListing(random, warmup + i);
+            queued.set(0);
+            long start = System.nanoTime();
+            int sent = feed.publish(listing);
+            micros[i] = (System.nanoTime() - start) / 1000.0;
+            deliveries += sent;
+
+            long expected = filters.values().stream().filter(filter -> filter.matches(listing)).count();
+            if (sent != expected || queued.get() != expected) {
+                throw new IllegalStateException("Listing " + listing.getId() + " reached " + sent
+                        + " subscriptions, the filters match " + expected);
+            }
+        }
+        Arrays.sort(micros);
+
+        // The index alone, without serialization or channel sends
+        List<CatchSubscription> all = new ArrayList<>();
+        filters.forEach((session, filter) -> all.add(new CatchSubscription(session, "sub-0", filter)));
+        long compileStart = System.nanoTime();
+        CatchMatcher matcher = CatchMatcher.compile(all);
+        double compileMillis = (System.nanoTime() - compileStart) / 1_000_000.0;
+        double[] matchMicros = new double[iterations];
+        AtomicInteger matched = new AtomicInteger();
+        for (int i = 0; i < iterations; i++) {
+            FishListing listing = randomListing(random, i);
+            long start = System.nanoTime();
+            matcher.forEachMatch(listing, subscription -> matched.incrementAndGet());
+            matchMicros[i] = (System.nanoTime() - start) / 1000.0;
+        }
+        Arrays.sort(matchMicros);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("subscribers", subscribers);
+        report.put("publishes", iterations);
+        report.put("recompiles", recompiles);
+        report.put("deliveriesPerPublishMean", Math.round(deliveries / (double) iterations));
+        report.put("publishMicrosMedian", Math.round(micros[iterations / 2]));
+        report.put("publishMicrosP99", Math.round(micros[(int) (iterations * 0.99)]));
+        report.put("publishMicrosMax", Math.round(micros[iterations - 1]));
+        report.put("compileMillis", Math.round(compileMillis * 10) / 10.0);
+        report.put("matchOnlyMicrosMedian", Math.round(matchMicros[iterations / 2]));
+        report.put("bruteForceAgreement", true);
+        System.out.printf("%d subscribers: publish median=%d us  p99=%d us  max=%d us, %d deliveries per listing, "
+                + "compile=%.1f ms, match only median=%d us%n", subscribers, report.get("publishMicrosMedian"),
+                report.get("publishMicrosP99"), report.get("publishMicrosMax"), report.get("deliveriesPerPublishMean"),
+                compileMillis, report.get("matchOnlyMicrosMedian"));
+
+        if (reportPath.getParent() != null) {
+            Files.createDirectories(reportPath.getParent());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(reportPath.toFile(), report);
+        System.out.println("Report written to " + reportPath.toAbsolutePath());
+    }
+
+    // Mostly one or two fish types, often a location, sometimes a price cap, rarely a status
+    private static CatchFilter randomFilter(Random random) {
+        Map<String, String> headers = new HashMap<>();
+        int fishTypes = random.nextInt(4);
+        if (fishTypes > 0) {
+            List<String> chosen = new ArrayList<>();
+            for (int i = 0; i < fishTypes; i++) {
+                chosen.add(FISH_TYPES.get(random.nextInt(FISH_TYPES.size())));
+            }
+            headers.put(CatchFilter.FISH_TYPE, String.join(",", chosen));
+        }
+        if (random.nextInt(10) < 6) {
+            headers.put(CatchFilter.LOCATION, LOCATIONS.get(random.nextInt(LOCATIONS.size())));
+        }
+        if (random.nextBoolean()) {
+            headers.put(CatchFilter.MAX_PRICE, String.valueOf(100 + random.nextInt(900)));
+        }
+        if (random.nextInt(10) == 0) {
+            headers.put(CatchFilter.STATUS, random.nextBoolean() ? "AVAILABLE" : "SENT FRESH,SENT FROZEN");
+        }
+        return CatchFilter.fromHeaders(headers::get);
+    }
+
+    private static FishListing randomListing(Random random, int i) {
+        User fisherman = new User();
+        fisherman.setId(String.format("FSH%03d", i % 25));
+        fisherman.setFirstName("First" + i % 25);
+        fisherman.setLastName("Last" + i % 25);
+
+        FishListing listing = new FishListing();
+        listing.setId((long) i + 1);
+        listing.setFishType(FISH_TYPES.get(random.nextInt(FISH_TYPES.size())));
+        listing.setWeightInKg(1.5 + i % 10);
+        listing.setPrice(BigDecimal.valueOf(5000 + random.nextInt(100_000), 2));
+        listing.setCatchDate(LocalDateTime.of(2025, 11, 1, 6, 0).plusMinutes(i));
+        listing.setCreatedAt(LocalDateTime.of(2025, 11, 1, 9, 0).plusMinutes(i));
+        listing.setLocation(LOCATIONS.get(random.nextInt(LOCATIONS.size())));
+        listing.setStatus(ListingStatus.values()[random.nextInt(4)]);
+        listing.setFisherman(fisherman);
+        return listing;
+    }
+}
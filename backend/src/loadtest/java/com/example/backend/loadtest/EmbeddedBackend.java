@@ -0,0 +1,82 @@
+package com.example.backend.loadtest;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.example.backend.BackendApplication;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+/**
+ * Boots the real backend on a random port against a throwaway Postgres process,
+ * so a load run needs neither Docker nor a shared database.
+ */
+public class EmbeddedBackend implements AutoCloseable {
+
+    private final EmbeddedPostgres postgres;
+    private final ConfigurableApplicationContext context;
+    private final String jdbcUrl;
+
+    private EmbeddedBackend(EmbeddedPostgres postgres, ConfigurableApplicationContext context, String jdbcUrl) {
+        this.postgres = postgres;
+        this.context = context;
+        this.jdbcUrl = jdbcUrl;
+    }
+
+    public static EmbeddedBackend start() throws IOException {
+        return start(Map.of());
+    }
+
+    // overrides are extra application properties, e.g. "fishermen.partitioning.enabled" -> "true"
+    public static EmbeddedBackend start(Map<String, String> overrides) throws IOException {
+        EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+        String jdbcUrl = postgres.getJdbcUrl("postgres", "postgres");
+
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("spring.datasource.url", jdbcUrl);
+        properties.put("spring.datasource.username", "postgres");
+        properties.put("spring.datasource.password", "postgres");
+        properties.put("server.port", "0");
+        properties.put("spring.docker.compose.enabled", "false");
+        // Already the default; explicit so the job's status changes never touch the listings being bought
+        properties.put("fishermen.listing-freshness.enabled", "false");
+        // Benchmarks read per-request SQL tallies from the X-Sql-* headers
+        properties.put("fishermen.sql-profiler.debug-header-enabled", "true");
+        properties.putAll(overrides);
+
+        // Passed as command-line arguments so they win over application.properties
+        String[] args = properties.entrySet().stream()
+                .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                .toArray(String[]::new);
+        // Devtools reads this before the environment exists, so it has to be a system property
+        System.setProperty("spring.devtools.restart.enabled", "false");
+
+        try {
+            return new EmbeddedBackend(postgres, SpringApplication.run(BackendApplication.class, args), jdbcUrl);
+        } catch (RuntimeException e) {
+            postgres.close();
+            throw e;
+        }
+    }
+
+    public String baseUrl() {
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        return "http://localhost:" + port;
+    }
+
+    // Direct database access for seeding synthetic data; user and password are both "postgres"
+    public String jdbcUrl() {
+        return jdbcUrl;
+    }
+
+    @Override
+    public void close() throws IOException {
+        context.close();
+        postgres.close();
+    }
+}
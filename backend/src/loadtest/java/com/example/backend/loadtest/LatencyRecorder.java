@@ -0,0 +1,76 @@
+package com.example.backend.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collects raw latency samples per endpoint and turns them into percentile summaries.
+ * Samples are kept in full (a load run is minutes, not days) so the percentiles are exact.
+ */
+public class LatencyRecorder {
+
+    private final Map<String, EndpointSamples> endpoints = new ConcurrentHashMap<>();
+
+    public void record(String endpoint, long latencyNanos, boolean error) {
+        endpoints.computeIfAbsent(endpoint, key -> new EndpointSamples()).add(latencyNanos, error);
+    }
+
+    public void reset() {
+        endpoints.clear();
+    }
+
+    public Map<String, Map<String, Object>> summarize(double elapsedSeconds) {
+        Map<String, Map<String, Object>> summary = new TreeMap<>();
+        endpoints.forEach((endpoint, samples) -> summary.put(endpoint, samples.summarize(elapsedSeconds)));
+        return summary;
+    }
+
+    private static class EndpointSamples {
+        private long[] latencies = new long[1024];
+        private int count;
+        private int errors;
+
+        synchronized void add(long latencyNanos, boolean error) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+            if (error) {
+                errors++;
+            }
+        }
+
+        synchronized Map<String, Object> summarize(double elapsedSeconds) {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("requests", count);
+            stats.put("errors", errors);
+            stats.put("errorRate", count == 0 ? 0.0 : round((double) errors / count));
+            stats.put("throughputPerSecond", round(count / elapsedSeconds));
+            stats.put("meanMs", round(count == 0 ? 0.0 : Arrays.stream(sorted).average().orElse(0) / 1_000_000.0));
+            stats.put("p50Ms", percentileMillis(sorted, 0.50));
+            stats.put("p95Ms", percentileMillis(sorted, 0.95));
+            stats.put("p99Ms", percentileMillis(sorted, 0.99));
+            stats.put("maxMs", count == 0 ? 0.0 : round(sorted[count - 1] / 1_000_000.0));
+            return stats;
+        }
+
+        private static double percentileMillis(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0.0;
+            }
+            // Nearest-rank percentile
+            int rank = (int) Math.ceil(percentile * sorted.length);
+            return round(sorted[Math.max(rank - 1, 0)] / 1_000_000.0);
+        }
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000.0) / 1000.0;
+    }
+}
@@ -0,0 +1,386 @@
+package com.example.backend.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Drives a weighted mix of marketplace traffic against the REST API and writes a JSON report
+ * with per-endpoint p50/p95/p99 latency, throughput and error rate, plus the Hibernate second-level and
+ * query cache hit rates over the measured phase (read from the backend's Actuator metrics).
+ *
+ * Run with {@code mvn -Pload-test -DskipTests verify}. Without {@code -Dloadtest.baseUrl} the
+ * backend is booted in-process on an embedded Postgres; with it, an already running backend is used.
+ *
+ * Tunables (system properties): loadtest.baseUrl, loadtest.users (16), loadtest.warmupSeconds (10),
+ * loadtest.durationSeconds (60), loadtest.thinkTimeMs (0), loadtest.report (target/load-test/report.json).
+ */
+public class LoadTestRunner {
+
+    // Actuator counters sampled around the measured phase, by report key
+    private static final Map<String, String> CACHE_METRICS = Map.of(
+            "secondLevel", "hibernate.second.level.cache.requests",
+            "query", "hibernate.cache.query.requests");
+
+    // Scenario weights, roughly what the marketplace sees: mostly browsing, some checkouts
+    private static final int BROWSE_WEIGHT = 60;
+    private static final int MY_ORDERS_WEIGHT = 15;
+    private static final int CHECKOUT_WEIGHT = 15;
+    private static final int MANAGE_WEIGHT = 10;
+
+    private final String baseUrl;
+    private final HttpClient client;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final LatencyRecorder recorder = new LatencyRecorder();
+    private final long thinkTimeMs;
+    private final String runId = UUID.randomUUID().toString().substring(0, 8);
+
+    private volatile List<Long> listingIds = List.of();
+
+    public LoadTestRunner(String baseUrl, long thinkTimeMs) {
+        this.baseUrl = baseUrl;
+        this.thinkTimeMs = thinkTimeMs;
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = System.getProperty("loadtest.baseUrl");
+        int users = Integer.getInteger("loadtest.users", 16);
+        int warmupSeconds = Integer.getInteger("loadtest.warmupSeconds", 10);
+        int durationSeconds = Integer.getInteger("loadtest.durationSeconds", 60);
+        long thinkTimeMs = Long.getLong("loadtest.thinkTimeMs", 0L);
+        Path reportPath = Paths.get(System.getProperty("loadtest.report", "target/load-test/report.json"));
+
+        EmbeddedBackend embedded = null;
+        if (baseUrl == null || baseUrl.isBlank()) {
+            embedded = EmbeddedBackend.start();
+            baseUrl = embedded.baseUrl();
+        }
+
+        try {
+            LoadTestRunner runner = new LoadTestRunner(baseUrl, thinkTimeMs);
+            Map<String, Object> report = runner.run(users, warmupSeconds, durationSeconds);
+            runner.writeReport(report, reportPath);
+        } finally {
+            if (embedded != null) {
+                embedded.close();
+            }
+        }
+    }
+
+    public Map<String, Object> run(int users, int warmupSeconds, int durationSeconds) throws Exception {
+        refreshListingIds();
+        List<String> buyerIds = registerBuyers(users);
+
+        System.out.printf("Load test against %s with %d users (warm-up %ds, measured %ds)%n",
+                baseUrl, users, warmupSeconds, durationSeconds);
+
+        runPhase(buyerIds, warmupSeconds);
+        recorder.reset();
+
+        Map<String, double[]> cacheBefore = sampleCacheMetrics();
+        Instant startedAt = Instant.now();
+        long start = System.nanoTime();
+        runPhase(buyerIds, durationSeconds);
+        double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        Map<String, double[]> cacheAfter = sampleCacheMetrics();
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("runId", runId);
+        report.put("startedAt", startedAt.toString());
+        report.put("baseUrl", baseUrl);
+        report.put("users", users);
+        report.put("durationSeconds", Math.round(elapsedSeconds * 1000.0) / 1000.0);
+        report.put("mix", Map.of(
+                "browse", BROWSE_WEIGHT,
+                "myOrders", MY_ORDERS_WEIGHT,
+                "checkout", CHECKOUT_WEIGHT,
+                "manage", MANAGE_WEIGHT));
+        report.put("endpoints", recorder.summarize(elapsedSeconds));
+        report.put("caches", cacheHitRates(cacheBefore, cacheAfter));
+        return report;
+    }
+
+    // Hit and miss totals per cache; a cache whose metric can't be read (Actuator not exposed,
+    // statistics off) is left out
+    private Map<String, double[]> sampleCacheMetrics() {
+        Map<String, double[]> samples = new LinkedHashMap<>();
+        CACHE_METRICS.forEach((key, metric) -> {
+            try {
+                samples.put(key, new double[] { metricCount(metric, "hit"), metricCount(metric, "miss") });
+            } catch (Exception e) {
+                System.out.printf("Cache metric %s unavailable: %s%n", metric, e.getMessage());
+            }
+        });
+        return samples;
+    }
+
+    private double metricCount(String metric, String result) throws Exception {
+        HttpResponse<String> response = client.send(get("/actuator/metrics/" + metric + "?tag=result:" + result),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IOException("HTTP " + response.statusCode());
+        }
+        return objectMapper.readTree(response.body()).path("measurements").path(0).path("value").asDouble();
+    }
+
+    private static Map<String, Object> cacheHitRates(Map<String, double[]> before, Map<String, double[]> after) {
+        Map<String, Object> caches = new LinkedHashMap<>();
+        before.forEach((key, start) -> {
+            double[] end = after.get(key);
+            if (end == null) {
+                return;
+            }
+            long hits = Math.round(end[0] - start[0]);
+            long misses = Math.round(end[1] - start[1]);
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("hits", hits);
+            stats.put("misses", misses);
+            stats.put("hitRate", hits + misses == 0 ? 0.0 : Math.round(10_000.0 * hits / (hits + misses)) / 10_000.0);
+            caches.put(key, stats);
+        });
+        return caches;
+    }
+
+    private void runPhase(List<String> buyerIds, int seconds) throws InterruptedException {
+        if (seconds <= 0) {
+            return;
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        ExecutorService pool = Executors.newFixedThreadPool(buyerIds.size());
+        for (String buyerId : buyerIds) {
+            pool.submit(() -> {
+                while (System.nanoTime() < deadline) {
+                    try {
+                        runScenario(buyerId);
+                        if (thinkTimeMs > 0) {
+                            Thread.sleep(thinkTimeMs);
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    } catch (Exception e) {
+                        // Already recorded as an error against the failing endpoint; keep the user going
+                    }
+                }
+            });
+        }
+        pool.shutdown();
+        pool.awaitTermination(seconds + 60L, TimeUnit.SECONDS);
+    }
+
+    private void runScenario(String buyerId) throws Exception {
+        int roll = ThreadLocalRandom.current().nextInt(
+                BROWSE_WEIGHT + MY_ORDERS_WEIGHT + CHECKOUT_WEIGHT + MANAGE_WEIGHT);
+        if (roll < BROWSE_WEIGHT) {
+            browse();
+        } else if (roll < BROWSE_WEIGHT + MY_ORDERS_WEIGHT) {
+            myOrders(buyerId);
+        } else if (roll < BROWSE_WEIGHT + MY_ORDERS_WEIGHT + CHECKOUT_WEIGHT) {
+            checkout(buyerId);
+        } else {
+            send("GET /api/orders/list-dto", get("/api/orders/list-dto"));
+        }
+    }
+
+    // Market page followed by a detail page
+    private void browse() throws Exception {
+        send("GET /api/fishListings/list", get("/api/fishListings/list"));
+        send("GET /api/fishListings/{id}", get("/api/fishListings/" + randomListingId()));
+    }
+
+    // Buyer reviews screen
+    private void myOrders(String buyerId) throws Exception {
+        send("GET /api/users/{id}", get("/api/users/" + buyerId));
+        send("GET /api/orders/buyer/{buyerId}", get("/api/orders/buyer/" + buyerId));
+        send("GET /api/reviews/buyer/{buyerId}", get("/api/reviews/buyer/" + buyerId));
+    }
+
+    // Detail page, order, payment and (half of the time) a review of the first item
+    private void checkout(String buyerId) throws Exception {
+        long listingId = randomListingId();
+        send("GET /api/fishListings/{id}", get("/api/fishListings/" + listingId));
+
+        Map<String, Object> item = new LinkedHashMap<>();
+        item.put("fishListingId", listingId);
+        item.put("quantity", ThreadLocalRandom.current().nextInt(1, 5) * 0.5);
+        Map<String, Object> order = new LinkedHashMap<>();
+        order.put("buyerId", buyerId);
+        order.put("items", List.of(item));
+        HttpResponse<String> created = send("POST /api/orders/create", post("/api/orders/create", order));
+        String orderId = created.statusCode() == 201 ? createdOrderId(created.body()) : null;
+        if (orderId == null) {
+            return;
+        }
+
+        // The buyer's orders page, which also has the total and item ids the payment and review need
+        HttpResponse<String> ordersResponse = send("GET /api/orders/buyer/{buyerId}",
+                get("/api/orders/buyer/" + buyerId));
+        JsonNode placed = null;
+        for (JsonNode candidate : objectMapper.readTree(ordersResponse.body())) {
+            if (orderId.equals(candidate.path("id").asText())) {
+                placed = candidate;
+            }
+        }
+        if (placed == null) {
+            return;
+        }
+
+        Map<String, Object> payment = new LinkedHashMap<>();
+        payment.put("orderId", orderId);
+        payment.put("amount", placed.path("totalPrice").decimalValue());
+        payment.put("transactionId", "lt_" + runId + "_" + UUID.randomUUID());
+        send("POST /api/payments/create", post("/api/payments/create", payment));
+
+        JsonNode firstItem = placed.path("items").path(0);
+        if (ThreadLocalRandom.current().nextBoolean() && firstItem.has("id")) {
+            Map<String, Object> review = new LinkedHashMap<>();
+            review.put("rating", ThreadLocalRandom.current().nextInt(1, 6));
+            review.put("comment", "Load test review");
+            review.put("buyerId", buyerId);
+            review.put("orderItemId", firstItem.path("id").asLong());
+            send("POST /api/reviews/create", post("/api/reviews/create", review));
+        }
+    }
+
+    // The create response serializes the Order entity, whose buyer and items refer back to it, so the body
+    // is cut off once Jackson's nesting limit is hit; the id is its first field and is read before that
+    private String createdOrderId(String body) {
+        try (JsonParser parser = objectMapper.createParser(body)) {
+            if (parser.nextToken() == JsonToken.START_OBJECT && "id".equals(parser.nextFieldName())) {
+                return parser.nextTextValue();
+            }
+        } catch (IOException e) {
+            // Not an order
+        }
+        return null;
+    }
+
+    // One dedicated buyer per virtual user keeps order/payment/review flows independent
+    private List<String> registerBuyers(int users) throws Exception {
+        List<String> buyerIds = new ArrayList<>();
+        for (int i = 0; i < users; i++) {
+            String username = "lt_" + runId + "_" + i;
+            Map<String, Object> register = new LinkedHashMap<>();
+            register.put("username", username);
+            register.put("email", username + "@loadtest.local");
+            register.put("password", "loadtest");
+            register.put("firstName", "Load");
+            register.put("lastName", "Test " + i);
+            register.put("role", "BUYER");
+            register.put("location", "Gulf of Thailand");
+
+            HttpResponse<String> response = client.send(post("/api/users/register", register),
+                    HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 201) {
+                throw new IllegalStateException("Could not register load-test buyer: " + response.body());
+            }
+            buyerIds.add(objectMapper.readTree(response.body()).path("id").asText());
+        }
+        return buyerIds;
+    }
+
+    private void refreshListingIds() throws Exception {
+        HttpResponse<String> response = client.send(get("/api/fishListings/list"), HttpResponse.BodyHandlers.ofString());
+        List<Long> ids = new ArrayList<>();
+        for (JsonNode listing : objectMapper.readTree(response.body())) {
+            ids.add(listing.path("id").asLong());
+        }
+        if (ids.isEmpty()) {
+            throw new IllegalStateException("No fish listings to load test against; is the seed data loaded?");
+        }
+        listingIds = ids;
+    }
+
+    private long randomListingId() {
+        List<Long> ids = listingIds;
+        return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+
+    private HttpResponse<String> send(String endpoint, HttpRequest request) throws Exception {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            long elapsed = System.nanoTime() - start;
+            recorder.record(endpoint, elapsed, response.statusCode() >= 400 || !parses(response));
+            return response;
+        } catch (IOException e) {
+            recorder.record(endpoint, System.nanoTime() - start, true);
+            throw e;
+        }
+    }
+
+    // A JSON body cut short or mangled on the way is as much a failure as an error status
+    private boolean parses(HttpResponse<String> response) {
+        boolean json = response.headers().firstValue("Content-Type").map(type -> type.contains("json")).orElse(false);
+        if (!json || response.body().isEmpty()) {
+            return true;
+        }
+        try {
+            objectMapper.readTree(response.body());
+            return true;
+        } catch (JsonProcessingException e) {
+            return false;
+        }
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String path, Object body) throws IOException {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                .build();
+    }
+
+    private void writeReport(Map<String, Object> report, Path reportPath) throws IOException {
+        if (reportPath.getParent() != null) {
+            Files.createDirectories(reportPath.getParent());
+        }
+        objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
+        objectMapper.writeValue(reportPath.toFile(), report);
+
+        System.out.printf("%-36s %9s %8s %9s %9s %9s%n", "endpoint", "requests", "errors", "p50 ms", "p95 ms", "p99 ms");
+        @SuppressWarnings("unchecked")
+        Map<String, Map<String, Object>> endpoints = (Map<String, Map<String, Object>>) report.get("endpoints");
+        endpoints.forEach((endpoint, stats) -> System.out.printf("%-36s %9s %8s %9s %9s %9s%n",
+                endpoint, stats.get("requests"), stats.get("errors"),
+                stats.get("p50Ms"), stats.get("p95Ms"), stats.get("p99Ms")));
+        @SuppressWarnings("unchecked")
+        Map<String, Map<String, Object>> caches = (Map<String, Map<String, Object>>) report.get("caches");
+        caches.forEach((cache, stats) -> System.out.printf("%s cache: %s hits, %s misses, hit rate %s%n",
+                cache, stats.get("hits"), stats.get("misses"), stats.get("hitRate")));
+        System.out.println("Report written to " + reportPath.toAbsolutePath());
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.backend.loadtest;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.function.LongSupplier;
+
+import com.example.backend.money.MoneyMath;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Compares the order-pricing loop of OrderController.createOrder before and after the move to fixed point:
+ * BigDecimal price x Double quantity summed as BigDecimal, against MoneyMath.lineTotal on minor units and
+ * grams. Both price the same synthetic order lines (listing prices and half-kilo to 20 kg quantities).
+ *
+ * Each variant is warmed up, then timed over several iterations; allocation is read from the thread's
+ * allocated-bytes counter, so the numbers are per JVM, not JMH-grade, but the gap is large enough.
+ *
+ * Run with {@code mvn -Pload-test -DskipTests -Dloadtest.main=com.example.backend.loadtest.OrderPricingBenchmark verify}.
+ *
+ * Tunables (system properties): benchmark.lines (1000000 order lines), benchmark.warmup (5 iterations),
+ * benchmark.iterations (10), benchmark.report (target/load-test/order-pricing-benchmark.json).
+ */
+public class OrderPricingBenchmark {
+
+    private static final int LINES_PER_ORDER = 4;
+
+    private final BigDecimal[] decimalPrices;
+    private final Double[] decimalQuantities;
+    private final long[] minorPrices;
+    private final long[] grams;
+
+    private OrderPricingBenchmark(int lines) {
+        SplittableRandom random = new SplittableRandom(42);
+        decimalPrices = new BigDecimal[lines];
+        decimalQuantities = new Double[lines];
+        minorPrices = new long[lines];
+        grams = new long[lines];
+        for (int i = 0; i < lines; i++) {
+            long priceMinor = random.nextLong(15_000, 800_000);
+            double quantity = random.nextInt(1, 41) * 0.5;
+            decimalPrices[i] = MoneyMath.toDecimal(priceMinor);
+            decimalQuantities[i] = quantity;
+            minorPrices[i] = priceMinor;
+            grams[i] = MoneyMath.toGrams(quantity);
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        int lines = Integer.getInteger("benchmark.lines", 1_000_000);
+        int warmup = Integer.getInteger("benchmark.warmup", 5);
+        int iterations = Integer.getInteger("benchmark.iterations", 10);
+        Path reportPath = Paths.get(System.getProperty("benchmark.report", "target/load-test/order-pricing-benchmark.json"));
+
+        OrderPricingBenchmark benchmark = new OrderPricingBenchmark(lines);
+        // Fixed point rounds each line to the minor unit, BigDecimal only the order total: at most half a
+        // minor unit apart per line
+        long difference = benchmark.fixedPointTotals() - benchmark.bigDecimalTotals();
+        if (Math.abs(difference) > lines / 2 + 1) {
+            throw new IllegalStateException("Variants disagree on the order totals by " + difference);
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("lines", lines);
+        report.put("linesPerOrder", LINES_PER_ORDER);
+        report.put("totalsDifferenceMinor", difference);
+        report.put("bigDecimal", measure("bigDecimal", benchmark::bigDecimalTotals, lines, warmup, iterations));
+        report.put("fixedPoint", measure("fixedPoint", benchmark::fixedPointTotals, lines, warmup, iterations));
+
+        if (reportPath.getParent() != null) {
+            Files.createDirectories(reportPath.getParent());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(reportPath.toFile(), report);
+        System.out.println("Report written to " + reportPath.toAbsolutePath());
+    }
+
+    // The createOrder loop as it was; returns the sum of order totals in minor units so both variants can be compared
+    private long bigDecimalTotals() {
+        long sum = 0;
+        for (int start = 0; start < decimalPrices.length; start += LINES_PER_ORDER) {
+            BigDecimal totalPrice = BigDecimal.ZERO;
+            for (int i = start; i < Math.min(start + LINES_PER_ORDER, decimalPrices.length); i++) {
+                BigDecimal itemTotalPrice = decimalPrices[i].multiply(BigDecimal.valueOf(decimalQuantities[i]));
+                totalPrice = totalPrice.add(itemTotalPrice);
+            }
+            sum += MoneyMath.toMinor(totalPrice);
+        }
+        return sum;
+    }
+
+    private long fixedPointTotals() {
+        long sum = 0;
+        for (int start = 0; start < minorPrices.length; start += LINES_PER_ORDER) {
+            long totalPriceMinor = 0;
+            for (int i = start; i < Math.min(start + LINES_PER_ORDER, minorPrices.length); i++) {
+                totalPriceMinor = Math.addExact(totalPriceMinor, MoneyMath.lineTotal(minorPrices[i], grams[i]));
+            }
+            sum += totalPriceMinor;
+        }
+        return sum;
+    }
+
+    private static Map<String, Object> measure(String name, LongSupplier variant, int lines, int warmup, int iterations) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long sink = 0;
+        for (int i = 0; i < warmup; i++) {
+            sink += variant.getAsLong();
+        }
+
+        double[] nanosPerLine = new double[iterations];
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            sink += variant.getAsLong();
+            nanosPerLine[i] = (double) (System.nanoTime() - start) / lines;
+        }
+        double bytesPerLine = (double) (threads.getCurrentThreadAllocatedBytes() - allocatedBefore) / ((long) lines * iterations);
+
+        Arrays.sort(nanosPerLine);
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("nsPerLineMedian", round(nanosPerLine[iterations / 2]));
+        stats.put("nsPerLineMin", round(nanosPerLine[0]));
+        stats.put("bytesAllocatedPerLine", round(bytesPerLine));
+        System.out.printf("%-11s median=%7.2f ns/line  min=%7.2f ns/line  allocated=%7.2f B/line  (sink %d)%n",
+                name, nanosPerLine[iterations / 2], nanosPerLine[0], bytesPerLine, sink);
+        return stats;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
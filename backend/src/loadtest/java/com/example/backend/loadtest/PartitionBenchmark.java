@@ -0,0 +1,156 @@
+package com.example.backend.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Measures hot-window read latency as history grows, with fish_listings and orders partitioned and not.
+ *
+ * Each mode boots the backend once, seeds a fixed hot set (listings caught and orders placed in the last
+ * two weeks), then grows the history in steps and re-measures the same requests. With partitioning the
+ * latencies should stay flat; without it they grow with the table.
+ *
+ * Run with {@code mvn -Pload-test -DskipTests -Dloadtest.main=com.example.backend.loadtest.PartitionBenchmark verify}.
+ *
+ * Tunables (system properties): benchmark.history (0,250000,1000000 rows per table, cumulative),
+ * benchmark.requests (300 per endpoint and step), benchmark.report (target/load-test/partition-benchmark.json).
+ */
+public class PartitionBenchmark {
+
+    private static final String HOT_BUYER = "BUY0001";
+    private static final int HOT_LISTINGS = 200;
+    private static final int HOT_ORDERS = 20;
+
+    private static final List<String> ENDPOINTS = List.of(
+            "/api/fishListings/list",
+            "/api/orders/list-dto?sinceDays=14",
+            "/api/orders/buyer/" + HOT_BUYER + "?sinceDays=14");
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+    public static void main(String[] args) throws Exception {
+        List<Integer> historySteps = Arrays.stream(System.getProperty("benchmark.history", "0,250000,1000000").split(","))
+                .map(String::trim)
+                .map(Integer::valueOf)
+                .toList();
+        int requests = Integer.getInteger("benchmark.requests", 300);
+        Path reportPath = Paths.get(System.getProperty("benchmark.report", "target/load-test/partition-benchmark.json"));
+
+        PartitionBenchmark benchmark = new PartitionBenchmark();
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("requestsPerEndpoint", requests);
+        report.put("unpartitioned", benchmark.runMode(false, historySteps, requests));
+        report.put("partitioned", benchmark.runMode(true, historySteps, requests));
+
+        if (reportPath.getParent() != null) {
+            Files.createDirectories(reportPath.getParent());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(reportPath.toFile(), report);
+        System.out.println("Report written to " + reportPath.toAbsolutePath());
+    }
+
+    private Map<String, Object> runMode(boolean partitioned, List<Integer> historySteps, int requests) throws Exception {
+        String mode = partitioned ? "partitioned" : "unpartitioned";
+        Map<String, Object> results = new LinkedHashMap<>();
+
+        // The freshness job never fires during the run; it's enabled so /list uses its catch-date bound
+        Map<String, String> overrides = Map.of(
+                "fishermen.partitioning.enabled", String.valueOf(partitioned),
+                "fishermen.listing-freshness.enabled", "true",
+                "fishermen.listing-freshness.interval", "1d",
+                "fishermen.sql-profiler.enabled", "false");
+
+        try (EmbeddedBackend backend = EmbeddedBackend.start(overrides);
+                Connection connection = DriverManager.getConnection(backend.jdbcUrl(), "postgres", "postgres")) {
+            seedHotSet(connection);
+
+            int history = 0;
+            for (int target : historySteps) {
+                if (target > history) {
+                    addHistory(connection, history, target - history);
+                    history = target;
+                }
+                LatencyRecorder recorder = new LatencyRecorder();
+                long start = System.nanoTime();
+                for (String endpoint : ENDPOINTS) {
+                    measure(backend.baseUrl(), endpoint, requests / 5, new LatencyRecorder());
+                    measure(backend.baseUrl(), endpoint, requests, recorder);
+                }
+                double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+                Map<String, Map<String, Object>> summary = recorder.summarize(elapsedSeconds);
+                results.put(String.valueOf(history), summary);
+
+                summary.forEach((endpoint, stats) -> System.out.printf("%-14s history=%-9d %-44s p50=%8s p95=%8s p99=%8s ms%n",
+                        mode, target, endpoint, stats.get("p50Ms"), stats.get("p95Ms"), stats.get("p99Ms")));
+            }
+        }
+        return results;
+    }
+
+    private void measure(String baseUrl, String endpoint, int count, LatencyRecorder recorder) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + endpoint))
+                .timeout(Duration.ofSeconds(60))
+                .GET()
+                .build();
+        for (int i = 0; i < count; i++) {
+            long start = System.nanoTime();
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            recorder.record(endpoint, System.nanoTime() - start, response.statusCode() >= 400);
+        }
+    }
+
+    private static void seedHotSet(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("""
+                    INSERT INTO fish_listings (fish_type, weight_grams, price_minor, catch_date, status, fisherman_id, created_at, location)
+                    SELECT 'Mackerel', 1000, 30000, now() - (n %% 13 || ' days')::interval, 'AVAILABLE', 'FISHER0002',
+                           now(), 'Gulf of Thailand'
+                    FROM generate_series(1, %d) AS n
+                    """.formatted(HOT_LISTINGS));
+            statement.executeUpdate("""
+                    INSERT INTO orders (id, order_date, status, total_price_minor, buyer_id)
+                    SELECT 'HOT' || n, now() - (n %% 13 || ' days')::interval, 'PENDING', 30000, '%s'
+                    FROM generate_series(1, %d) AS n
+                    """.formatted(HOT_BUYER, HOT_ORDERS));
+        }
+    }
+
+    // Old, sold listings and completed orders spread over the three years before the hot window
+    private static void addHistory(Connection connection, int offset, int rows) throws SQLException {
+        System.out.printf("Adding %d history rows per table...%n", rows);
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("""
+                    INSERT INTO fish_listings (fish_type, weight_grams, price_minor, catch_date, status, fisherman_id, created_at, location)
+                    SELECT (ARRAY['Salmon', 'Cod', 'Herring', 'Snapper'])[1 + n %% 4], 1000, 50000,
+                           now() - interval '31 days' - (n %% 1065 || ' days')::interval,
+                           (ARRAY['SOLD', 'EXPIRED'])[1 + n %% 2], 'FISHER0001', now(), 'North Sea'
+                    FROM generate_series(%d, %d) AS n
+                    """.formatted(offset + 1, offset + rows));
+            statement.executeUpdate("""
+                    INSERT INTO orders (id, order_date, status, total_price_minor, buyer_id)
+                    SELECT 'HIST' || n, now() - interval '15 days' - (n %% 1080 || ' days')::interval, 'COMPLETED', 50000,
+                           (ARRAY['BUY0002', 'BUY0003', 'BUY0004', 'BUY0005'])[1 + n %% 4]
+                    FROM generate_series(%d, %d) AS n
+                    """.formatted(offset + 1, offset + rows));
+            statement.execute("ANALYZE fish_listings");
+            statement.execute("ANALYZE orders");
+        }
+    }
+}
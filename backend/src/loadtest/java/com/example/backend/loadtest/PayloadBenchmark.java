@@ -0,0 +1,119 @@
+package com.example.backend.loadtest;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.example.backend.dto.NormalizedResponseDto;
+import com.example.backend.fields.FieldSelection;
+import com.example.backend.fields.FieldSelectionFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+/**
+ * Compares list payloads written in full against ?fields= selections and ?normalized=true, for the two
+ * pages that load whole lists: the market (/api/fishListings/list) and order management
+ * (/api/orders/list-dto). The selections are the properties FishMarket.js and Manage.js render.
+ *
+ * Each variant builds the page's DTOs, applies the mode and serializes with the application's Jackson
+ * setup, so normalization's own cost is counted; bytes are the uncompressed JSON. Timing is per JVM,
+ * not JMH-grade.
+ *
+ * Run with {@code mvn -Pload-test -DskipTests -Dloadtest.main=com.example.backend.loadtest.PayloadBenchmark verify}.
+ *
+ * Tunables (system properties): benchmark.listings (500), benchmark.orders (300 of three items),
+ * benchmark.fishermen (25), benchmark.buyers (40), benchmark.warmup (200 responses per variant),
+ * benchmark.iterations (500), benchmark.report (target/load-test/payload-benchmark.json).
+ */
+public class PayloadBenchmark {
+
+    private static final String MARKET_FIELDS = "id,fishType,weightInKg,price,photoUrl,catchDate,status,location";
+    private static final String MANAGE_FIELDS = "id,orderDate,status,buyer.username,items.fishName,items.photoUrl,"
+            + "items.priceAtPurchase,items.quantity";
+    // The same properties against the normalized shape: item photo and name come from included.listings
+    private static final String MANAGE_NORMALIZED_FIELDS = "id,orderDate,status,buyerId,items.fishListingId,"
+            + "items.priceAtPurchase,items.quantity";
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final SamplePages pages;
+
+    private PayloadBenchmark(SamplePages pages) {
+        this.pages = pages;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int warmup = Integer.getInteger("benchmark.warmup", 200);
+        int iterations = Integer.getInteger("benchmark.iterations", 500);
+        Path reportPath = Paths.get(System.getProperty("benchmark.report", "target/load-test/payload-benchmark.json"));
+        SamplePages pages = SamplePages.fromSystemProperties();
+        PayloadBenchmark benchmark = new PayloadBenchmark(pages);
+
+        Map<String, Object> market = new LinkedHashMap<>();
+        market.put("full", benchmark.measure("market full", pages::listingPage, page -> page, null, warmup, iterations));
+        market.put("fields", benchmark.measure("market fields", pages::listingPage, page -> page, MARKET_FIELDS,
+                warmup, iterations));
+        market.put("normalized", benchmark.measure("market normalized", pages::listingPage,
+                NormalizedResponseDto::ofListings, null, warmup, iterations));
+
+        Map<String, Object> manage = new LinkedHashMap<>();
+        manage.put("full", benchmark.measure("manage full", pages::orderPage, page -> page, null, warmup, iterations));
+        manage.put("fields", benchmark.measure("manage fields", pages::orderPage, page -> page, MANAGE_FIELDS,
+                warmup, iterations));
+        manage.put("normalized", benchmark.measure("manage normalized", pages::orderPage,
+                NormalizedResponseDto::ofOrders, null, warmup, iterations));
+        manage.put("normalizedFields", benchmark.measure("manage norm+fields", pages::orderPage,
+                NormalizedResponseDto::ofOrders, MANAGE_NORMALIZED_FIELDS, warmup, iterations));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("listings", pages.listings);
+        report.put("orders", pages.orders);
+        report.put("itemsPerOrder", SamplePages.ITEMS_PER_ORDER);
+        report.put("fishermen", pages.fishermen);
+        report.put("buyers", pages.buyers);
+        report.put("market", market);
+        report.put("manage", manage);
+        if (reportPath.getParent() != null) {
+            Files.createDirectories(reportPath.getParent());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(reportPath.toFile(), report);
+        System.out.println("Report written to " + reportPath.toAbsolutePath());
+    }
+
+    private <T> Map<String, Object> measure(String name, Supplier<List<T>> page, Function<List<T>, Object> mode,
+            String fields, int warmup, int iterations) throws Exception {
+        FieldSelection selection = FieldSelection.parse(fields);
+        ObjectWriter writer = objectMapper.writer(selection == null
+                ? FieldSelectionFilter.ALL
+                : FieldSelectionFilter.provider(selection));
+        long bytes = 0;
+        for (int i = 0; i < warmup; i++) {
+            bytes = writer.writeValueAsBytes(mode.apply(page.get())).length;
+        }
+        double[] micros = new double[iterations];
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            writer.writeValueAsBytes(mode.apply(page.get()));
+            micros[i] = (System.nanoTime() - start) / 1000.0;
+        }
+        Arrays.sort(micros);
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("fields", fields);
+        stats.put("bytes", bytes);
+        stats.put("microsMedian", Math.round(micros[iterations / 2]));
+        stats.put("microsP95", Math.round(micros[(int) (iterations * 0.95)]));
+        System.out.printf("%-20s bytes=%9d  median=%7d us  p95=%7d us%n", name, bytes,
+                stats.get("microsMedian"), stats.get("microsP95"));
+        return stats;
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.backend.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Compares what the buyer reviews screen costs to load: the three calls BuyerReviews.js makes on mount
+ * (the user, their orders as OrderDto, their reviews) against the composite /reviewable endpoint, both
+ * for its first page and walked to the last page so the same items are covered.
+ *
+ * Statement counts come from the SQL profiler's X-Sql-Statements header and response sizes are the
+ * uncompressed body bytes, both per screen load; latency is per screen load with the calls made one
+ * after another.
+ *
+ * Run with {@code mvn -Pload-test -DskipTests -Dloadtest.main=com.example.backend.loadtest.ReviewScreenBenchmark verify}.
+ *
+ * Tunables (system properties): benchmark.orders (200 shipped orders of three items, a third reviewed),
+ * benchmark.pageSize (20), benchmark.requests (200 screen loads per flow),
+ * benchmark.report (target/load-test/review-screen-benchmark.json).
+ */
+public class ReviewScreenBenchmark {
+
+    private static final String BUYER = "BUY0001";
+    private static final int ITEMS_PER_ORDER = 3;
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+    private record Totals(long statements, long bytes, int calls) {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int orders = Integer.getInteger("benchmark.orders", 200);
+        int pageSize = Integer.getInteger("benchmark.pageSize", 20);
+        int requests = Integer.getInteger("benchmark.requests", 200);
+        Path reportPath = Paths.get(System.getProperty("benchmark.report", "target/load-test/review-screen-benchmark.json"));
+
+        Map<String, String> overrides = Map.of(
+                "fishermen.sql-profiler.enabled", "true",
+                "fishermen.sql-profiler.debug-header-enabled", "true");
+
+        ReviewScreenBenchmark benchmark = new ReviewScreenBenchmark();
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("orders", orders);
+        report.put("itemsPerOrder", ITEMS_PER_ORDER);
+        report.put("pageSize", pageSize);
+        report.put("requestsPerFlow", requests);
+
+        try (EmbeddedBackend backend = EmbeddedBackend.start(overrides);
+                Connection connection = DriverManager.getConnection(backend.jdbcUrl(), "postgres", "postgres")) {
+            seed(connection, orders);
+            String base = backend.baseUrl();
+            String reviewable = base + "/api/reviews/buyer/" + BUYER + "/reviewable?size=" + pageSize;
+
+            Map<String, List<String>> flows = new LinkedHashMap<>();
+            flows.put("threeCalls", List.of(
+                    base + "/api/users/" + BUYER,
+                    base + "/api/orders/buyer/" + BUYER,
+                    base + "/api/reviews/buyer/" + BUYER));
+            flows.put("compositeFirstPage", List.of(reviewable + "&page=0"));
+            flows.put("compositeAllPages", null);
+
+            LatencyRecorder recorder = new LatencyRecorder();
+            long start = System.nanoTime();
+            Map<String, Totals> totals = new LinkedHashMap<>();
+            for (Map.Entry<String, List<String>> flow : flows.entrySet()) {
+                List<String> urls = flow.getValue() != null ? flow.getValue() : allPages(reviewable, orders, pageSize);
+                for (int i = 0; i < requests / 5; i++) {
+                    benchmark.load(urls);
+                }
+                Totals last = null;
+                for (int i = 0; i < requests; i++) {
+                    long loadStart = System.nanoTime();
+                    last = benchmark.load(urls);
+                    recorder.record(flow.getKey(), System.nanoTime() - loadStart, last == null);
+                }
+                totals.put(flow.getKey(), last);
+            }
+            double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+            Map<String, Map<String, Object>> latency = recorder.summarize(elapsedSeconds);
+
+            for (Map.Entry<String, Totals> flow : totals.entrySet()) {
+                Map<String, Object> stats = new LinkedHashMap<>();
+                Totals flowTotals = flow.getValue();
+                stats.put("httpCalls", flowTotals == null ? null : flowTotals.calls());
+                stats.put("sqlStatements", flowTotals == null ? null : flowTotals.statements());
+                stats.put("responseBytes", flowTotals == null ? null : flowTotals.bytes());
+                stats.put("latency", latency.get(flow.getKey()));
+                report.put(flow.getKey(), stats);
+                System.out.printf("%-19s calls=%3s statements=%5s bytes=%8s p50=%8s p95=%8s ms%n", flow.getKey(),
+                        stats.get("httpCalls"), stats.get("sqlStatements"), stats.get("responseBytes"),
+                        latency.get(flow.getKey()).get("p50Ms"), latency.get(flow.getKey()).get("p95Ms"));
+            }
+        }
+
+        if (reportPath.getParent() != null) {
+            Files.createDirectories(reportPath.getParent());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(reportPath.toFile(), report);
+        System.out.println("Report written to " + reportPath.toAbsolutePath());
+    }
+
+    // Enough pages for every seeded item plus the buyer's seed orders
+    private static List<String> allPages(String reviewable, int orders, int pageSize) {
+        int pages = (orders * ITEMS_PER_ORDER + 10) / pageSize + 1;
+        return IntStream.range(0, pages).mapToObj(page -> reviewable + "&page=" + page).toList();
+    }
+
+    // One screen load; null if any call failed
+    private Totals load(List<String> urls) throws Exception {
+        long statements = 0;
+        long bytes = 0;
+        for (String url : urls) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                    .timeout(Duration.ofSeconds(60))
+                    .header("X-Debug-Sql", "1")
+                    .GET()
+                    .build();
+            HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() >= 400) {
+                return null;
+            }
+            statements += response.headers().firstValueAsLong("X-Sql-Statements").orElse(0);
+            bytes += response.body().length;
+        }
+        return new Totals(statements, bytes, urls.size());
+    }
+
+    // Shipped orders for the buyer over the seeded listings, with every third item reviewed
+    private static void seed(Connection connection, int orders) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("""
+                    INSERT INTO orders (id, order_date, status, total_price_minor, buyer_id)
+                    SELECT 'REV' || n, now() - (n || ' hours')::interval, 'SHIPPED', 90000, '%s'
+                    FROM generate_series(1, %d) AS n
+                    """.formatted(BUYER, orders));
+            statement.executeUpdate("""
+                    INSERT INTO order_items (order_id, fish_listing_id, quantity_grams, price_at_purchase_minor)
+                    SELECT 'REV' || n, l.id, 1000, 30000
+                    FROM generate_series(1, %d) AS n
+                    CROSS JOIN LATERAL (SELECT id FROM fish_listings ORDER BY id OFFSET n %% 10 LIMIT %d) l
+                    """.formatted(orders, ITEMS_PER_ORDER));
+            statement.executeUpdate("""
+                    INSERT INTO reviews (rating, comment, review_date, buyer_id, order_item_id)
+                    SELECT 4, 'Good catch', now(), '%s', oi.id
+                    FROM order_items oi
+                    WHERE oi.order_id LIKE 'REV%%' AND oi.id %% 3 = 0
+                    """.formatted(BUYER));
+            statement.execute("ANALYZE");
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.backend.loadtest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.example.backend.dto.FishListingResponseDto;
+import com.example.backend.dto.OrderDto;
+import com.example.backend.dto.OrderItemDto;
+import com.example.backend.dto.UserSummaryDto;
+import com.example.backend.enums.ListingStatus;
+
+/**
+ * Synthetic list responses shaped like the real ones, for benchmarks that measure serialization without a
+ * running backend. Every call builds fresh DTOs.
+ */
+final class SamplePages {
+
+    static final int ITEMS_PER_ORDER = 3;
+
+    final int listings;
+    final int orders;
+    final int fishermen;
+    final int buyers;
+
+    SamplePages(int listings, int orders, int fishermen, int buyers) {
+        this.listings = listings;
+        this.orders = orders;
+        this.fishermen = fishermen;
+        this.buyers = buyers;
+    }
+
+    // From the benchmark.listings (500), benchmark.orders (300), benchmark.fishermen (25) and
+    // benchmark.buyers (40) system properties
+    static SamplePages fromSystemProperties() {
+        return new SamplePages(Integer.getInteger("benchmark.listings", 500), Integer.getInteger("benchmark.orders", 300),
+                Integer.getInteger("benchmark.fishermen", 25), Integer.getInteger("benchmark.buyers", 40));
+    }
+
+    // What FishListingResponseDto.from builds for the seeded-size market
+    List<FishListingResponseDto> listingPage() {
+        List<FishListingResponseDto> page = new ArrayList<>(listings);
+        for (int i = 0; i < listings; i++) {
+            FishListingResponseDto dto = new FishListingResponseDto();
+            dto.setId((long) i + 1);
+            dto.setFishType(fishType(i));
+            dto.setWeightInKg(1.5 + i % 10);
+            dto.setPrice(BigDecimal.valueOf(15000 + i * 37L, 2));
+            dto.setPhotoUrl(photoUrl(i));
+            dto.setCatchDate(LocalDateTime.of(2025, 11, 1, 6, 0).plusHours(i));
+            dto.setStatus(ListingStatus.AVAILABLE);
+            dto.setCreatedAt(LocalDateTime.of(2025, 11, 1, 9, 0).plusHours(i));
+            dto.setLocation("Pier " + i % 12);
+            dto.setLatitude(13.7 + i % 50 / 100.0);
+            dto.setLongitude(100.5 + i % 50 / 100.0);
+            UserSummaryDto fisherman = new UserSummaryDto();
+            fisherman.setId(fishermanId(i % fishermen));
+            fisherman.setFirstName("First" + i % fishermen);
+            fisherman.setLastName("Last" + i % fishermen);
+            dto.setFisherman(fisherman);
+            page.add(dto);
+        }
+        return page;
+    }
+
+    // What OrderDto.from builds: orders over a tenth of the market's listings, as repeat buys are common
+    List<OrderDto> orderPage() {
+        int popularListings = Math.max(1, listings / 10);
+        List<OrderDto> page = new ArrayList<>(orders);
+        for (int o = 0; o < orders; o++) {
+            OrderDto order = new OrderDto();
+            order.setId(String.format("ORD%05d", o + 1));
+            order.setOrderDate(LocalDateTime.of(2025, 11, 1, 12, 0).plusMinutes(o * 17L));
+            order.setStatus("SHIPPED");
+            order.setTotalPrice(BigDecimal.valueOf(450000 + o, 2));
+            int buyer = o % buyers;
+            order.setBuyer(new OrderDto.BuyerDto(String.format("BUY%04d", buyer), "buyer" + buyer,
+                    "First" + buyer, "Last" + buyer));
+            List<OrderItemDto> items = new ArrayList<>(ITEMS_PER_ORDER);
+            for (int n = 0; n < ITEMS_PER_ORDER; n++) {
+                int listing = (o * 7 + n * 13) % popularListings;
+                OrderItemDto item = new OrderItemDto();
+                item.setId((long) o * ITEMS_PER_ORDER + n + 1);
+                item.setFishListingId((long) listing + 1);
+                item.setQuantity(1.5);
+                item.setPhotoUrl(photoUrl(listing));
+                item.setFishName(fishType(listing));
+                item.setPriceAtPurchase(BigDecimal.valueOf(15000 + listing * 37L, 2));
+                OrderItemDto.FishListingDto listingDto = new OrderItemDto.FishListingDto();
+                listingDto.setId((long) listing + 1);
+                listingDto.setFishType(fishType(listing));
+                listingDto.setPrice(BigDecimal.valueOf(15000 + listing * 37L, 2));
+                listingDto.setPhotoUrl(photoUrl(listing));
+                OrderItemDto.FishListingDto.FishermanDto fisherman = new OrderItemDto.FishListingDto.FishermanDto();
+                fisherman.setId(fishermanId(listing % fishermen));
+                fisherman.setFirstName("First" + listing % fishermen);
+                fisherman.setLastName("Last" + listing % fishermen);
+                listingDto.setFisherman(fisherman);
+                item.setFishListing(listingDto);
+                items.add(item);
+            }
+            order.setItems(items);
+            page.add(order);
+        }
+        return page;
+    }
+
+    private static String fishType(int listing) {
+        return List.of("Salmon", "Bluefin Tuna", "Mackerel", "Sea Bass", "Anchovy").get(listing % 5);
+    }
+
+    private static String photoUrl(int listing) {
+        return "http://localhost:8080/uploads/fish-images/" + String.format("%08x-4b1d-9c2e-listing-%d.jpg",
+                listing * 2654435761L & 0xffffffffL, listing);
+    }
+
+    private static String fishermanId(int fisherman) {
+        return String.format("FSH%04d", fisherman + 1);
+    }
+}
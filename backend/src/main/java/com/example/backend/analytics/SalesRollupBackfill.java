@@ -0,0 +1,87 @@
+package com.example.backend.analytics;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.backend.repository.FishermanSalesDailyRepo;
+
+/**
+ * Rebuilds the sales rollups from orders, a few days per transaction with several chunks in parallel.
+ *
+ * A chunk re-applies every order placed in its days, which also subtracts contributions left by orders
+ * that no longer exist. Chunks hold the same per-day locks as live refreshes, so the rebuild can run
+ * while orders keep changing.
+ */
+public class SalesRollupBackfill {
+
+    private static final Logger logger = LoggerFactory.getLogger(SalesRollupBackfill.class);
+
+    public record Result(LocalDate from, LocalDate to, int chunks, long elapsedMs) {}
+
+    private final FishermanSalesDailyRepo fishermanSalesDailyRepo;
+    private final TransactionTemplate transactionTemplate;
+    private final SalesRollupProperties properties;
+
+    public SalesRollupBackfill(FishermanSalesDailyRepo fishermanSalesDailyRepo, TransactionTemplate transactionTemplate,
+            SalesRollupProperties properties) {
+        this.fishermanSalesDailyRepo = fishermanSalesDailyRepo;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+    }
+
+    public Result rebuild() {
+        long start = System.nanoTime();
+        LocalDate first = fishermanSalesDailyRepo.findFirstSaleDay();
+        LocalDate last = fishermanSalesDailyRepo.findLastSaleDay();
+        if (first == null || last == null) {
+            return new Result(null, null, 0, 0);
+        }
+
+        List<LocalDate> chunkStarts = new ArrayList<>();
+        for (LocalDate day = first; !day.isAfter(last); day = day.plusDays(properties.getChunkDays())) {
+            chunkStarts.add(day);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, properties.getParallelism()));
+        try {
+            List<Future<?>> chunks = new ArrayList<>();
+            for (LocalDate chunkStart : chunkStarts) {
+                chunks.add(executor.submit(() -> applyChunk(chunkStart, chunkStart.plusDays(properties.getChunkDays()))));
+            }
+            for (Future<?> chunk : chunks) {
+                chunk.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Sales rollup rebuild interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Sales rollup rebuild failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        logger.info("Rebuilt sales rollups for {} to {} ({} days, {} chunks) in {} ms", first, last,
+                ChronoUnit.DAYS.between(first, last) + 1, chunkStarts.size(), elapsedMs);
+        return new Result(first, last, chunkStarts.size(), elapsedMs);
+    }
+
+    // Days [from, to)
+    private void applyChunk(LocalDate from, LocalDate to) {
+        transactionTemplate.executeWithoutResult(status -> {
+            fishermanSalesDailyRepo.lockDays(from, to.minusDays(1));
+            fishermanSalesDailyRepo.applyDays(from, to);
+            fishermanSalesDailyRepo.deleteEmptyDays(from, to.minusDays(1));
+        });
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.backend.analytics;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "fishermen.sales-rollup")
+public class SalesRollupProperties {
+
+    // Seed data is loaded with plain SQL, so the rollups start empty unless rebuilt on startup
+    private boolean backfillOnStartup = true;
+
+    // The backfill re-applies this many days of orders per transaction, this many chunks at a time
+    private int chunkDays = 7;
+    private int parallelism = 4;
+}
@@ -0,0 +1,54 @@
+package com.example.backend.analytics;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import com.example.backend.model.OutboxEvent;
+import com.example.backend.outbox.DomainEventType;
+import com.example.backend.outbox.OutboxSubscriber;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Refreshes an order's sales rollups after a change that can affect whether or what it sold
+public class SalesRollupSubscriber implements OutboxSubscriber {
+
+    private static final Set<DomainEventType> ORDER_EVENTS = EnumSet.of(DomainEventType.ORDER_STATUS_CHANGED,
+            DomainEventType.ORDER_DELETED, DomainEventType.ORDER_ITEM_DELETED);
+
+    // Payment events carry the order id in their details
+    private static final Set<DomainEventType> PAYMENT_EVENTS = EnumSet.of(DomainEventType.PAYMENT_CREATED,
+            DomainEventType.PAYMENT_STATUS_CHANGED, DomainEventType.PAYMENT_DELETED);
+
+    private final SalesRollupUpdater salesRollupUpdater;
+    private final ObjectMapper objectMapper;
+
+    public SalesRollupSubscriber(SalesRollupUpdater salesRollupUpdater, ObjectMapper objectMapper) {
+        this.salesRollupUpdater = salesRollupUpdater;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Set<DomainEventType> getEventTypes() {
+        Set<DomainEventType> types = EnumSet.copyOf(ORDER_EVENTS);
+        types.addAll(PAYMENT_EVENTS);
+        return types;
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+        String orderId = ORDER_EVENTS.contains(event.getEventType()) ? event.getAggregateId() : orderIdOf(event);
+        if (orderId != null) {
+            salesRollupUpdater.refreshOrder(orderId);
+        }
+    }
+
+    private String orderIdOf(OutboxEvent event) {
+        try {
+            JsonNode orderId = objectMapper.readTree(event.getPayload()).get("orderId");
+            return orderId == null ? null : orderId.asText();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable payload of outbox event " + event.getId(), e);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.backend.analytics;
+
+import java.time.LocalDate;
+
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.backend.repository.FishermanSalesDailyRepo;
+
+/**
+ * Keeps fisherman_sales_daily in step with an order after anything that can change whether or what it
+ * sold: a status change, a payment, a deleted item or the order itself being deleted.
+ *
+ * Each refresh swaps the order's previous contribution for its current one in a single statement, under
+ * a per-day advisory lock shared with {@link SalesRollupBackfill}, so it is safe to repeat and to run
+ * alongside a rebuild.
+ */
+public class SalesRollupUpdater {
+
+    private final FishermanSalesDailyRepo fishermanSalesDailyRepo;
+    private final TransactionTemplate transactionTemplate;
+
+    public SalesRollupUpdater(FishermanSalesDailyRepo fishermanSalesDailyRepo, TransactionTemplate transactionTemplate) {
+        this.fishermanSalesDailyRepo = fishermanSalesDailyRepo;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    // Called by SalesRollupSubscriber once the change has committed; a failure is left to the outbox to retry
+    public void refreshOrder(String orderId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDate day = fishermanSalesDailyRepo.findSaleDay(orderId);
+            if (day == null) {
+                return;
+            }
+            fishermanSalesDailyRepo.lockDays(day, day);
+            fishermanSalesDailyRepo.applyOrder(orderId);
+            fishermanSalesDailyRepo.deleteEmptyDays(day, day);
+        });
+    }
+}
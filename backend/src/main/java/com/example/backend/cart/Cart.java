@@ -0,0 +1,108 @@
+package com.example.backend.cart;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A buyer's cart: listings in the order they were added. Methods are synchronized because a buyer can
+ * have several requests in flight; callers get copies of the items, never the live ones.
+ */
+public class Cart {
+
+    private final String buyerId;
+    private final Map<Long, CartItem> items = new LinkedHashMap<>();
+    private volatile long lastAccessMillis;
+    // Set while an order is being placed from this cart; guarded by this
+    private boolean checkingOut;
+
+    public Cart(String buyerId, Collection<CartItem> items, long nowMillis) {
+        this.buyerId = buyerId;
+        items.forEach(item -> this.items.put(item.getFishListingId(), copy(item)));
+        this.lastAccessMillis = nowMillis;
+    }
+
+    public String getBuyerId() {
+        return buyerId;
+    }
+
+    public long getLastAccessMillis() {
+        return lastAccessMillis;
+    }
+
+    void touch(long nowMillis) {
+        lastAccessMillis = nowMillis;
+    }
+
+    public synchronized List<CartItem> getItems() {
+        return items.values().stream().map(Cart::copy).toList();
+    }
+
+    public synchronized int size() {
+        return items.size();
+    }
+
+    public synchronized boolean contains(Long fishListingId) {
+        return items.containsKey(fishListingId);
+    }
+
+    // Adds to the quantity already in the cart; the price is refreshed to the one just validated
+    public synchronized void add(CartItem item) {
+        CartItem existing = items.get(item.getFishListingId());
+        long grams = existing == null ? item.getGrams() : Math.addExact(existing.getGrams(), item.getGrams());
+        items.put(item.getFishListingId(), new CartItem(item.getFishListingId(), item.getFishType(),
+                item.getPricePerKgMinor(), grams));
+    }
+
+    // False when the listing isn't in the cart
+    public synchronized boolean setGrams(Long fishListingId, long grams) {
+        CartItem existing = items.get(fishListingId);
+        if (existing == null) {
+            return false;
+        }
+        existing.setGrams(grams);
+        return true;
+    }
+
+    public synchronized boolean remove(Long fishListingId) {
+        return items.remove(fishListingId) != null;
+    }
+
+    public synchronized void clear() {
+        items.clear();
+    }
+
+    public synchronized void updatePrice(Long fishListingId, long pricePerKgMinor) {
+        CartItem existing = items.get(fishListingId);
+        if (existing != null) {
+            existing.setPricePerKgMinor(pricePerKgMinor);
+        }
+    }
+
+    // Claims the cart for one checkout at a time; false if another one is still running
+    public synchronized boolean beginCheckout() {
+        if (checkingOut) {
+            return false;
+        }
+        checkingOut = true;
+        return true;
+    }
+
+    public synchronized void endCheckout() {
+        checkingOut = false;
+    }
+
+    // After checkout: drops the lines that were ordered, unless the buyer changed them in the meantime
+    public synchronized void removeOrdered(Collection<CartItem> ordered) {
+        for (CartItem line : ordered) {
+            if (line.equals(items.get(line.getFishListingId()))) {
+                items.remove(line.getFishListingId());
+            }
+        }
+    }
+
+    private static CartItem copy(CartItem item) {
+        return new CartItem(item.getFishListingId(), item.getFishType(), item.getPricePerKgMinor(), item.getGrams());
+    }
+}
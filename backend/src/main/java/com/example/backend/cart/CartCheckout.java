@@ -0,0 +1,183 @@
+package com.example.backend.cart;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.backend.enums.OrderStatus;
+import com.example.backend.model.FishListing;
+import com.example.backend.model.Order;
+import com.example.backend.model.OrderItem;
+import com.example.backend.model.User;
+import com.example.backend.money.MoneyMath;
+import com.example.backend.ordering.OrderIdGenerator;
+import com.example.backend.outbox.DomainEventType;
+import com.example.backend.outbox.Outbox;
+import com.example.backend.repository.FishListingRepo;
+import com.example.backend.versioning.TableVersions;
+import com.example.backend.versioning.VersionedTable;
+
+/**
+ * Validates cart lines against their listings and turns a cart into an order.
+ *
+ * Checkout is one transaction with a fixed number of statements whatever the cart size: the listings are
+ * read and share-locked in one query, the order is inserted, and all items go in as a single insert from
+ * arrays. Any listing that is gone, no longer on offer or re-priced since it was added fails the whole
+ * checkout; re-priced lines are updated in the cart so the buyer can review and retry. The order's
+ * ORDER_CREATED outbox event commits with it.
+ */
+public class CartCheckout {
+
+    public record Result(Order order, List<String> problems) {
+        static Result success(Order order) {
+            return new Result(order, List.of());
+        }
+
+        static Result failed(List<String> problems) {
+            return new Result(null, problems);
+        }
+    }
+
+    private static final String INSERT_ORDER = """
+            INSERT INTO orders (id, order_date, status, total_price_minor, buyer_id) VALUES (?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_ITEMS = """
+            INSERT INTO order_items (order_id, fish_listing_id, quantity_grams, price_at_purchase_minor)
+            SELECT ?, line.fish_listing_id, line.quantity_grams, line.price_minor
+            FROM unnest(?, ?, ?) AS line(fish_listing_id, quantity_grams, price_minor)
+            RETURNING id, fish_listing_id
+            """;
+
+    private final FishListingRepo fishListingRepo;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OrderIdGenerator orderIdGenerator;
+    private final Outbox outbox;
+    private final TableVersions tableVersions;
+
+    public CartCheckout(FishListingRepo fishListingRepo, JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate, OrderIdGenerator orderIdGenerator, Outbox outbox,
+            TableVersions tableVersions) {
+        this.fishListingRepo = fishListingRepo;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.orderIdGenerator = orderIdGenerator;
+        this.outbox = outbox;
+        this.tableVersions = tableVersions;
+    }
+
+    // All listings in one query, keyed by id; missing ones are absent
+    public Map<Long, FishListing> findListings(Collection<Long> fishListingIds) {
+        return fishListingRepo.findAllById(fishListingIds).stream()
+                .collect(Collectors.toMap(FishListing::getId, Function.identity()));
+    }
+
+    // Why a listing can't go in a cart, or null if it can
+    public static String unavailable(Long fishListingId, FishListing listing) {
+        if (listing == null) {
+            return "Fish listing with ID " + fishListingId + " not found.";
+        }
+        if (!listing.getStatus().isOnOffer()) {
+            return "Fish listing with ID " + fishListingId + " is no longer for sale.";
+        }
+        return null;
+    }
+
+    public Result checkout(Cart cart, User buyer) {
+        List<CartItem> lines = cart.getItems();
+        if (lines.isEmpty()) {
+            return Result.failed(List.of("Cart is empty."));
+        }
+        Result result = transactionTemplate.execute(status -> {
+            Map<Long, FishListing> listings = new HashMap<>();
+            fishListingRepo.findAllForCheckout(lines.stream().map(CartItem::getFishListingId).toList())
+                    .forEach(listing -> listings.put(listing.getId(), listing));
+
+            List<String> problems = new ArrayList<>();
+            for (CartItem line : lines) {
+                FishListing listing = listings.get(line.getFishListingId());
+                String reason = unavailable(line.getFishListingId(), listing);
+                if (reason != null) {
+                    problems.add(reason);
+                } else if (listing.getPriceMinor() != line.getPricePerKgMinor()) {
+                    problems.add("Price of fish listing with ID " + line.getFishListingId() + " changed from "
+                            + MoneyMath.toDecimal(line.getPricePerKgMinor()) + " to " + listing.getPrice() + " per kg.");
+                    cart.updatePrice(line.getFishListingId(), listing.getPriceMinor());
+                }
+            }
+            if (!problems.isEmpty()) {
+                status.setRollbackOnly();
+                return Result.failed(problems);
+            }
+            return Result.success(insertOrder(buyer, lines, listings));
+        });
+        if (result.order() != null) {
+            cart.removeOrdered(lines);
+        }
+        return result;
+    }
+
+    private Order insertOrder(User buyer, List<CartItem> lines, Map<Long, FishListing> listings) {
+        Order order = new Order();
+        order.setId(orderIdGenerator.next());
+        order.setBuyer(buyer);
+        order.setStatus(OrderStatus.PENDING);
+        order.setOrderDate(LocalDateTime.now());
+
+        long totalPriceMinor = 0;
+        Long[] listingIds = new Long[lines.size()];
+        Long[] grams = new Long[lines.size()];
+        Long[] prices = new Long[lines.size()];
+        Map<Long, OrderItem> itemsByListing = new HashMap<>();
+        List<OrderItem> items = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            CartItem line = lines.get(i);
+            listingIds[i] = line.getFishListingId();
+            grams[i] = line.getGrams();
+            prices[i] = line.getPricePerKgMinor();
+            totalPriceMinor = Math.addExact(totalPriceMinor, MoneyMath.lineTotal(line.getPricePerKgMinor(), line.getGrams()));
+
+            OrderItem item = new OrderItem();
+            item.setOrder(order);
+            item.setFishListing(listings.get(line.getFishListingId()));
+            item.setQuantityGrams(line.getGrams());
+            item.setPriceAtPurchaseMinor(line.getPricePerKgMinor());
+            items.add(item);
+            itemsByListing.put(line.getFishListingId(), item);
+        }
+        order.setItems(items);
+        order.setTotalPriceMinor(totalPriceMinor);
+
+        jdbcTemplate.update(INSERT_ORDER, order.getId(), Timestamp.valueOf(order.getOrderDate()), order.getStatus().name(),
+                order.getTotalPriceMinor(), buyer.getId());
+        // Each listing is in a cart once, so the returned listing id identifies the item
+        jdbcTemplate.query(INSERT_ITEMS, statement -> {
+            statement.setString(1, order.getId());
+            statement.setArray(2, bigintArray(statement.getConnection(), listingIds));
+            statement.setArray(3, bigintArray(statement.getConnection(), grams));
+            statement.setArray(4, bigintArray(statement.getConnection(), prices));
+        }, rs -> {
+            itemsByListing.get(rs.getLong("fish_listing_id")).setId(rs.getLong("id"));
+        });
+        outbox.record(DomainEventType.ORDER_CREATED, order.getId(), Map.of("buyerId", buyer.getId()));
+        tableVersions.bump(VersionedTable.ORDERS, VersionedTable.ORDER_ITEMS);
+        return order;
+    }
+
+    private static Array bigintArray(Connection connection, Long[] values) throws SQLException {
+        return connection.createArrayOf("bigint", values);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.backend.cart;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// One listing in a cart, with the price per kg it was validated at (see MoneyMath for the units)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CartItem {
+    private Long fishListingId;
+    private String fishType;
+    private long pricePerKgMinor;
+    private long grams;
+}
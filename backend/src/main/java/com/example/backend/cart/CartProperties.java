@@ -0,0 +1,26 @@
+package com.example.backend.cart;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "fishermen.cart")
+public class CartProperties {
+
+    // Carts kept in memory; beyond this the least recently used one is dropped
+    private int maxCarts = 10_000;
+
+    // Distinct listings per cart
+    private int maxItems = 50;
+
+    // A cart nobody has touched for this long is discarded
+    private Duration ttl = Duration.ofHours(2);
+
+    private Duration sweepInterval = Duration.ofMinutes(1);
+
+    // Also write carts to buyer_carts, so they survive restarts and being dropped from memory
+    private boolean persistent = false;
+}
@@ -0,0 +1,167 @@
+package com.example.backend.cart;
+
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+
+import com.example.backend.model.SavedCart;
+import com.example.backend.repository.SavedCartRepo;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Buyers' carts, in memory. Bounded: past maxCarts the least recently used cart is dropped, and carts
+ * untouched for the TTL expire (on access and on the periodic sweep).
+ *
+ * With persistence on, every change is written through to buyer_carts and a cart missing from memory is
+ * loaded from there, so carts survive restarts and LRU eviction; the sweep deletes expired rows too.
+ * Without it, a dropped or expired cart is simply gone. Persistence failures are logged and the
+ * in-memory cart stays authoritative.
+ */
+public class CartStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(CartStore.class);
+
+    private static final TypeReference<List<CartItem>> ITEMS = new TypeReference<>() {};
+
+    private final CartProperties properties;
+    private final SavedCartRepo savedCartRepo;
+    private final ObjectMapper objectMapper;
+
+    // Access order, so the eldest entry is the least recently used cart; guarded by this
+    private final LinkedHashMap<String, Cart> carts;
+
+    public CartStore(CartProperties properties, SavedCartRepo savedCartRepo, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.savedCartRepo = savedCartRepo;
+        this.objectMapper = objectMapper;
+        this.carts = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Cart> eldest) {
+                return size() > properties.getMaxCarts();
+            }
+        };
+    }
+
+    // The buyer's cart, or empty when they have none (or it expired)
+    public Optional<Cart> find(String buyerId) {
+        long now = System.currentTimeMillis();
+        synchronized (this) {
+            Cart cart = carts.get(buyerId);
+            if (cart != null && !isExpired(cart, now)) {
+                cart.touch(now);
+                return Optional.of(cart);
+            }
+            carts.remove(buyerId);
+        }
+        // Loaded outside the lock so one slow read doesn't stall every other buyer
+        Cart loaded = load(buyerId, now);
+        if (loaded == null) {
+            return Optional.empty();
+        }
+        synchronized (this) {
+            return Optional.of(carts.computeIfAbsent(buyerId, id -> loaded));
+        }
+    }
+
+    public Cart getOrCreate(String buyerId) {
+        return find(buyerId).orElseGet(() -> {
+            synchronized (this) {
+                return carts.computeIfAbsent(buyerId, id -> new Cart(id, List.of(), System.currentTimeMillis()));
+            }
+        });
+    }
+
+    // Call after changing a cart
+    public void saved(Cart cart) {
+        if (!properties.isPersistent()) {
+            return;
+        }
+        List<CartItem> items = cart.getItems();
+        try {
+            if (items.isEmpty()) {
+                savedCartRepo.deleteById(cart.getBuyerId());
+            } else {
+                savedCartRepo.save(new SavedCart(cart.getBuyerId(), objectMapper.writeValueAsString(items),
+                        LocalDateTime.now()));
+            }
+        } catch (DataAccessException | JsonProcessingException e) {
+            logger.warn("Failed to save cart of buyer {}: {}", cart.getBuyerId(), e.getMessage());
+        }
+    }
+
+    public void remove(String buyerId) {
+        synchronized (this) {
+            carts.remove(buyerId);
+        }
+        if (properties.isPersistent()) {
+            try {
+                savedCartRepo.deleteById(buyerId);
+            } catch (DataAccessException e) {
+                logger.warn("Failed to delete saved cart of buyer {}: {}", buyerId, e.getMessage());
+            }
+        }
+    }
+
+    // Drops expired carts from memory and, with persistence on, from buyer_carts; returns how many were in memory
+    public int evictExpired() {
+        long now = System.currentTimeMillis();
+        int evicted = 0;
+        synchronized (this) {
+            for (Iterator<Cart> it = carts.values().iterator(); it.hasNext();) {
+                if (isExpired(it.next(), now)) {
+                    it.remove();
+                    evicted++;
+                }
+            }
+        }
+        if (properties.isPersistent()) {
+            try {
+                savedCartRepo.deleteUpdatedBefore(LocalDateTime.now().minus(properties.getTtl()));
+            } catch (DataAccessException e) {
+                logger.warn("Failed to delete expired saved carts: {}", e.getMessage());
+            }
+        }
+        return evicted;
+    }
+
+    public synchronized int size() {
+        return carts.size();
+    }
+
+    private boolean isExpired(Cart cart, long now) {
+        return now - cart.getLastAccessMillis() > properties.getTtl().toMillis();
+    }
+
+    private Cart load(String buyerId, long now) {
+        if (!properties.isPersistent()) {
+            return null;
+        }
+        try {
+            return savedCartRepo.findById(buyerId)
+                    .filter(saved -> saved.getUpdatedAt().isAfter(LocalDateTime.now().minus(properties.getTtl())))
+                    .map(saved -> new Cart(buyerId, readItems(saved), now))
+                    .orElse(null);
+        } catch (DataAccessException e) {
+            logger.warn("Failed to load saved cart of buyer {}: {}", buyerId, e.getMessage());
+            return null;
+        }
+    }
+
+    private List<CartItem> readItems(SavedCart saved) {
+        try {
+            return objectMapper.readValue(saved.getItems(), ITEMS);
+        } catch (JsonProcessingException e) {
+            logger.warn("Discarding unreadable saved cart of buyer {}: {}", saved.getBuyerId(), e.getMessage());
+            return List.of();
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.backend.coalescing;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "fishermen.coalescing")
+public class CoalescingProperties {
+
+    // Off: every request loads on its own
+    private boolean enabled = true;
+
+    // How long a request waits for another's load of the same key before loading itself
+    private Duration maxWait = Duration.ofSeconds(2);
+}
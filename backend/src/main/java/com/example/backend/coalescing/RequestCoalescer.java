@@ -0,0 +1,122 @@
+package com.example.backend.coalescing;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import com.example.backend.routing.ReadRouting;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Single-flight loads: while one request is loading a key, concurrent requests for the same key wait for
+ * its result instead of running the same queries. Nothing is kept once the load finishes, so this only
+ * collapses bursts (a shared listing opened by hundreds of people at once); it is not a cache.
+ *
+ * The first request for a key loads it on its own thread, inside its own persistence context. Waiters are
+ * handed the same result object, so loaders must return something safe to share, such as a freshly built
+ * DTO that no caller modifies, and never a managed entity. A failed load fails its waiters too. A waiter
+ * gives up after maxWait and loads for itself, so a stuck load delays others by at most that long.
+ *
+ * A waiter gets a result that was read for the request that started the load, so it can miss a write
+ * that committed between that request's start and its own (by at most maxWait). That is the staleness a
+ * replica read already accepts, and replica and primary reads never share a load since the routing
+ * decision is part of the key. Requests that ReadRoutingFilter pinned to the primary, because their
+ * client just wrote, skip coalescing so they always see their own writes.
+ *
+ * Counted per load name in fishermen.coalescing.requests, tagged outcome=loaded (ran the load),
+ * coalesced (shared another request's) or timed-out (waited maxWait, then loaded); the coalesced ratio
+ * is coalesced over all three. fishermen.coalescing.waiting gauges the requests parked on another's load.
+ */
+public class RequestCoalescer {
+
+    private record Key(String name, Object key, boolean replica) {}
+
+    private final Map<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Outcomes> outcomes = new ConcurrentHashMap<>();
+    private final boolean enabled;
+    private final long maxWaitNanos;
+    private final MeterRegistry meterRegistry;
+
+    public RequestCoalescer(boolean enabled, Duration maxWait, MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.meterRegistry = meterRegistry;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T load(String name, Object key, Supplier<T> loader) {
+        if (!enabled || ReadRouting.isPinnedToPrimary()) {
+            return loader.get();
+        }
+        Outcomes counters = outcomes.computeIfAbsent(name, Outcomes::new);
+        Key flightKey = new Key(name, key, ReadRouting.isReplicaPreferred());
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, flight);
+        if (existing == null) {
+            counters.loaded.increment();
+            try {
+                T result = loader.get();
+                flight.complete(result);
+                return result;
+            } catch (RuntimeException | Error e) {
+                flight.completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlight.remove(flightKey, flight);
+            }
+        }
+
+        counters.waiting.incrementAndGet();
+        try {
+            T result = (T) existing.get(maxWaitNanos, TimeUnit.NANOSECONDS);
+            counters.coalesced.increment();
+            return result;
+        } catch (TimeoutException e) {
+            counters.timedOut.increment();
+        } catch (ExecutionException e) {
+            counters.coalesced.increment();
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Coalesced load of " + name + " " + key + " failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for " + name + " " + key, e);
+        } finally {
+            counters.waiting.decrementAndGet();
+        }
+        return loader.get();
+    }
+
+    private final class Outcomes {
+        final Counter loaded;
+        final Counter coalesced;
+        final Counter timedOut;
+        final AtomicInteger waiting = new AtomicInteger();
+
+        Outcomes(String name) {
+            loaded = counter(name, "loaded");
+            coalesced = counter(name, "coalesced");
+            timedOut = counter(name, "timed-out");
+            Gauge.builder("fishermen.coalescing.waiting", waiting, AtomicInteger::get)
+                    .tag("name", name)
+                    .register(meterRegistry);
+        }
+
+        private Counter counter(String name, String outcome) {
+            return Counter.builder("fishermen.coalescing.requests")
+                    .tag("name", name)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.backend.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.FixedDelayTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.backend.cart.CartCheckout;
+import com.example.backend.cart.CartProperties;
+import com.example.backend.cart.CartStore;
+import com.example.backend.ordering.OrderIdGenerator;
+import com.example.backend.outbox.Outbox;
+import com.example.backend.repository.FishListingRepo;
+import com.example.backend.repository.SavedCartRepo;
+import com.example.backend.versioning.TableVersions;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(CartProperties.class)
+public class CartConfig implements SchedulingConfigurer {
+
+    private final CartProperties properties;
+    private final ObjectProvider<CartStore> cartStore;
+
+    public CartConfig(CartProperties properties, ObjectProvider<CartStore> cartStore) {
+        this.properties = properties;
+        this.cartStore = cartStore;
+    }
+
+    @Bean
+    public CartStore cartStore(SavedCartRepo savedCartRepo, ObjectMapper objectMapper) {
+        return new CartStore(properties, savedCartRepo, objectMapper);
+    }
+
+    @Bean
+    public CartCheckout cartCheckout(FishListingRepo fishListingRepo, JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate, OrderIdGenerator orderIdGenerator, Outbox outbox,
+            TableVersions tableVersions) {
+        return new CartCheckout(fishListingRepo, jdbcTemplate, transactionTemplate, orderIdGenerator, outbox,
+                tableVersions);
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        registrar.addFixedDelayTask(new FixedDelayTask(() -> cartStore.getObject().evictExpired(),
+                properties.getSweepInterval(), properties.getSweepInterval()));
+    }
+}
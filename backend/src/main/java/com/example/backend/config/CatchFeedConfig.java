@@ -0,0 +1,63 @@
+package com.example.backend.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+
+import com.example.backend.feed.CatchFeed;
+import com.example.backend.feed.CatchFeedInterceptor;
+import com.example.backend.feed.NewCatchSubscriber;
+import com.example.backend.repository.FishListingRepo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// STOMP over WebSocket at /ws; the new-catch feed is /topic/catches
+@Configuration
+@EnableWebSocketMessageBroker
+public class CatchFeedConfig implements WebSocketMessageBrokerConfigurer {
+
+    private final ObjectProvider<CatchFeed> catchFeed;
+
+    // Looked up when the inbound channel is built: the feed needs the outbound channel, which this
+    // configurer helps create
+    public CatchFeedConfig(ObjectProvider<CatchFeed> catchFeed) {
+        this.catchFeed = catchFeed;
+    }
+
+    // The application's ObjectMapper, so listing DTOs serialize with the field filter's pass-through default
+    @Bean
+    public CatchFeed catchFeed(@Qualifier("clientOutboundChannel") MessageChannel clientOutboundChannel,
+            ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        return new CatchFeed(clientOutboundChannel, objectMapper, meterRegistry);
+    }
+
+    @Bean
+    public NewCatchSubscriber newCatchSubscriber(CatchFeed catchFeed, FishListingRepo fishListingRepo,
+            ObjectMapper objectMapper) {
+        return new NewCatchSubscriber(catchFeed, fishListingRepo, objectMapper);
+    }
+
+    @Override
+    public void registerStompEndpoints(StompEndpointRegistry registry) {
+        registry.addEndpoint("/ws").setAllowedOrigins("http://localhost:3000");
+    }
+
+    @Override
+    public void configureMessageBroker(MessageBrokerRegistry registry) {
+        registry.enableSimpleBroker(CatchFeed.BROKER_PREFIX);
+        registry.setApplicationDestinationPrefixes("/app");
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(new CatchFeedInterceptor(catchFeed.getObject()));
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.backend.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.backend.coalescing.CoalescingProperties;
+import com.example.backend.coalescing.RequestCoalescer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+@EnableConfigurationProperties(CoalescingProperties.class)
+public class CoalescingConfig {
+
+    @Bean
+    public RequestCoalescer requestCoalescer(CoalescingProperties properties, MeterRegistry meterRegistry) {
+        return new RequestCoalescer(properties.isEnabled(), properties.getMaxWait(), meterRegistry);
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.backend.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.example.backend.routing.ReadReplicaProperties;
+import com.example.backend.versioning.ConditionalGetInterceptor;
+import com.example.backend.versioning.ConditionalGetProperties;
+import com.example.backend.versioning.TableVersions;
+
+@Configuration
+@EnableConfigurationProperties(ConditionalGetProperties.class)
+public class ConditionalGetConfig implements WebMvcConfigurer {
+
+    private final ConditionalGetProperties properties;
+    private final ObjectProvider<ReadReplicaProperties> readReplicaProperties;
+
+    public ConditionalGetConfig(ConditionalGetProperties properties,
+            ObjectProvider<ReadReplicaProperties> readReplicaProperties) {
+        this.properties = properties;
+        this.readReplicaProperties = readReplicaProperties;
+    }
+
+    // Writers always bump, so turning conditional GET on later needs no other change
+    @Bean
+    public TableVersions tableVersions() {
+        // Replicas may lag a write by up to the window in which the writer's own reads stay on the primary
+        ReadReplicaProperties replicas = readReplicaProperties.getIfAvailable();
+        return new TableVersions(replicas == null ? 0 : replicas.getStickyWindow().toMillis());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (properties.isEnabled()) {
+            registry.addInterceptor(new ConditionalGetInterceptor(tableVersions())).addPathPatterns("/api/**");
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.backend.config;
+
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.backend.fields.FieldSelectionFilter;
+
+@Configuration
+public class FieldSelectionConfig {
+
+    // DTOs with a field filter fail to serialize without a provider; MVC responses get theirs from
+    // FieldSelectionAdvice, anything else written with the shared ObjectMapper gets every field
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer fieldSelectionFilters() {
+        return builder -> builder.filters(FieldSelectionFilter.ALL);
+    }
+}
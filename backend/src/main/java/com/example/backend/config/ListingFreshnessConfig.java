@@ -0,0 +1,50 @@
+package com.example.backend.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.FixedDelayTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+import com.example.backend.lifecycle.ListingFreshnessJob;
+import com.example.backend.lifecycle.ListingFreshnessProperties;
+import com.example.backend.partitioning.PartitioningProperties;
+import com.example.backend.repository.FishListingRepo;
+import com.example.backend.versioning.TableVersions;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(ListingFreshnessProperties.class)
+@ConditionalOnProperty(prefix = "fishermen.listing-freshness", name = "enabled", havingValue = "true")
+public class ListingFreshnessConfig implements SchedulingConfigurer {
+
+    private final ListingFreshnessProperties properties;
+    private final ListingFreshnessJob listingFreshnessJob;
+
+    public ListingFreshnessConfig(ListingFreshnessProperties properties, FishListingRepo fishListingRepo,
+            MeterRegistry meterRegistry, TableVersions tableVersions,
+            ObjectProvider<PartitioningProperties> partitioningProperties) {
+        this.properties = properties;
+        // FishListingController bounds /list by catch date only on a partitioned table
+        this.listingFreshnessJob = new ListingFreshnessJob(fishListingRepo, properties, meterRegistry, tableVersions,
+                partitioningProperties.getIfAvailable() != null);
+    }
+
+    @Bean
+    public ListingFreshnessJob listingFreshnessJob() {
+        return listingFreshnessJob;
+    }
+
+    // Registered here rather than with @Scheduled so the interval binds as a Duration ("15m", "PT15M")
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        registrar.addFixedDelayTask(new FixedDelayTask(listingFreshnessJob::run, properties.getInterval(),
+                properties.getInterval()));
+    }
+}
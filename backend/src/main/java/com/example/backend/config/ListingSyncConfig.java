@@ -0,0 +1,38 @@
+package com.example.backend.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.FixedDelayTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+import com.example.backend.repository.FishListingRepo;
+import com.example.backend.sync.ListingSyncProperties;
+import com.example.backend.sync.ListingTombstonePruner;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(ListingSyncProperties.class)
+public class ListingSyncConfig implements SchedulingConfigurer {
+
+    private final ListingSyncProperties properties;
+    private final ListingTombstonePruner listingTombstonePruner;
+
+    public ListingSyncConfig(ListingSyncProperties properties, FishListingRepo fishListingRepo) {
+        this.properties = properties;
+        this.listingTombstonePruner = new ListingTombstonePruner(fishListingRepo, properties);
+    }
+
+    @Bean
+    public ListingTombstonePruner listingTombstonePruner() {
+        return listingTombstonePruner;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        registrar.addFixedDelayTask(new FixedDelayTask(listingTombstonePruner::run, properties.getPruneInterval(),
+                properties.getPruneInterval()));
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.backend.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.FixedDelayTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+import com.example.backend.versioning.TableVersions;
+import com.example.backend.views.ListingViewCounter;
+import com.example.backend.views.ListingViewProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(ListingViewProperties.class)
+public class ListingViewConfig implements SchedulingConfigurer {
+
+    private final ListingViewProperties properties;
+    private final ObjectProvider<ListingViewCounter> listingViewCounter;
+
+    public ListingViewConfig(ListingViewProperties properties, ObjectProvider<ListingViewCounter> listingViewCounter) {
+        this.properties = properties;
+        this.listingViewCounter = listingViewCounter;
+    }
+
+    // Flushed once more on shutdown so a clean stop loses nothing
+    @Bean(destroyMethod = "flush")
+    public ListingViewCounter listingViewCounter(JdbcTemplate jdbcTemplate, TableVersions tableVersions,
+            MeterRegistry meterRegistry) {
+        return new ListingViewCounter(jdbcTemplate, properties, tableVersions, meterRegistry);
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        registrar.addFixedDelayTask(new FixedDelayTask(() -> listingViewCounter.getObject().flush(),
+                properties.getFlushInterval(), properties.getFlushInterval()));
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.backend.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.FixedDelayTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.backend.market.MarketPriceIndex;
+import com.example.backend.market.MarketPriceProperties;
+import com.example.backend.market.MarketPriceSubscriber;
+import com.example.backend.repository.MarketPriceCheckpointRepo;
+import com.example.backend.repository.MarketPriceSketchRepo;
+import com.example.backend.repository.OrderItemRepo;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(MarketPriceProperties.class)
+public class MarketPriceConfig implements SchedulingConfigurer {
+
+    private final MarketPriceProperties properties;
+    private final ObjectProvider<MarketPriceIndex> marketPriceIndex;
+
+    public MarketPriceConfig(MarketPriceProperties properties, ObjectProvider<MarketPriceIndex> marketPriceIndex) {
+        this.properties = properties;
+        this.marketPriceIndex = marketPriceIndex;
+    }
+
+    // Restored after the seed scripts have loaded the orders; checkpointed once more on shutdown
+    @Bean(destroyMethod = "checkpoint")
+    @DependsOnDatabaseInitialization
+    public MarketPriceIndex marketPriceIndex(MarketPriceSketchRepo marketPriceSketchRepo,
+            MarketPriceCheckpointRepo marketPriceCheckpointRepo, OrderItemRepo orderItemRepo,
+            TransactionTemplate transactionTemplate) {
+        MarketPriceIndex index = new MarketPriceIndex(marketPriceSketchRepo, marketPriceCheckpointRepo, orderItemRepo,
+                transactionTemplate, properties);
+        index.restore();
+        return index;
+    }
+
+    @Bean
+    public MarketPriceSubscriber marketPriceSubscriber(MarketPriceIndex marketPriceIndex, OrderItemRepo orderItemRepo) {
+        return new MarketPriceSubscriber(marketPriceIndex, orderItemRepo);
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        registrar.addFixedDelayTask(new FixedDelayTask(() -> marketPriceIndex.getObject().checkpoint(),
+                properties.getCheckpointInterval(), properties.getCheckpointInterval()));
+    }
+}
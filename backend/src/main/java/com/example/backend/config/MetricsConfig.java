@@ -0,0 +1,29 @@
+package com.example.backend.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.example.backend.metrics.HandlerMetricsInterceptor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class MetricsConfig implements WebMvcConfigurer {
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public MetricsConfig(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // No registry in sliced tests (@WebMvcTest), so the interceptor is optional
+        MeterRegistry meters = meterRegistry.getIfAvailable();
+        if (meters != null) {
+            registry.addInterceptor(new HandlerMetricsInterceptor(meters)).addPathPatterns("/api/**");
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.backend.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.backend.export.OrderExportProperties;
+import com.example.backend.export.OrderHistoryExporter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@Configuration
+@EnableConfigurationProperties(OrderExportProperties.class)
+public class OrderExportConfig {
+
+    @Bean
+    public OrderHistoryExporter orderHistoryExporter(JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager, ObjectMapper objectMapper, OrderExportProperties properties) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readOnly.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return new OrderHistoryExporter(jdbcTemplate, readOnly, objectMapper, properties.getFetchSize());
+    }
+}
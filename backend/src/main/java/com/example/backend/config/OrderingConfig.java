@@ -0,0 +1,27 @@
+package com.example.backend.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.backend.ordering.OrderIdGenerator;
+import com.example.backend.ordering.OrderStatusUpdater;
+import com.example.backend.repository.OrderRepo;
+import com.example.backend.versioning.TableVersions;
+
+@Configuration
+public class OrderingConfig {
+
+    // Shared by single-request orders and cart checkout, so both draw from one sequence
+    @Bean
+    public OrderIdGenerator orderIdGenerator(OrderRepo orderRepo) {
+        return new OrderIdGenerator(orderRepo);
+    }
+
+    @Bean
+    public OrderStatusUpdater orderStatusUpdater(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+            TableVersions tableVersions) {
+        return new OrderStatusUpdater(jdbcTemplate, transactionTemplate, tableVersions);
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.backend.config;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.FixedDelayTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.backend.outbox.Outbox;
+import com.example.backend.outbox.OutboxProperties;
+import com.example.backend.outbox.OutboxRelay;
+import com.example.backend.outbox.OutboxSubscriber;
+import com.example.backend.repository.OutboxEventRepo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(OutboxProperties.class)
+public class OutboxConfig implements SchedulingConfigurer {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxConfig.class);
+
+    private final OutboxProperties properties;
+    private final ObjectProvider<OutboxRelay> outboxRelay;
+
+    public OutboxConfig(OutboxProperties properties, ObjectProvider<OutboxRelay> outboxRelay) {
+        this.properties = properties;
+        this.outboxRelay = outboxRelay;
+    }
+
+    @Bean
+    public Outbox outbox(OutboxEventRepo outboxEventRepo, TransactionTemplate transactionTemplate, ObjectMapper objectMapper) {
+        return new Outbox(outboxEventRepo, transactionTemplate, objectMapper);
+    }
+
+    @Bean
+    public OutboxRelay outboxRelay(JdbcTemplate jdbcTemplate, List<OutboxSubscriber> subscribers) {
+        return new OutboxRelay(jdbcTemplate, properties, subscribers);
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        registrar.addFixedDelayTask(new FixedDelayTask(() -> run("relay", () -> outboxRelay.getObject().relay()),
+                properties.getPollInterval(), properties.getPollInterval()));
+        registrar.addFixedDelayTask(new FixedDelayTask(() -> run("prune", () -> outboxRelay.getObject().prune()),
+                properties.getPruneInterval(), properties.getPruneInterval()));
+    }
+
+    // A database outage shouldn't log a stack trace every poll; the events wait in the table
+    private static void run(String task, Runnable runnable) {
+        try {
+            runnable.run();
+        } catch (DataAccessException e) {
+            logger.warn("Outbox {} failed: {}", task, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.backend.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.FixedDelayTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.backend.partitioning.PartitionManager;
+import com.example.backend.partitioning.PartitioningProperties;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(PartitioningProperties.class)
+@ConditionalOnProperty(prefix = "fishermen.partitioning", name = "enabled", havingValue = "true")
+public class PartitioningConfig implements SchedulingConfigurer {
+
+    private final PartitioningProperties properties;
+    private PartitionManager partitionManager;
+
+    public PartitioningConfig(PartitioningProperties properties) {
+        this.properties = properties;
+    }
+
+    // Converts after Hibernate has created the tables and the SQL scripts have loaded and indexed them
+    @Bean
+    @DependsOnDatabaseInitialization
+    public PartitionManager partitionManager(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        partitionManager = new PartitionManager(jdbcTemplate, transactionTemplate, properties);
+        partitionManager.convertTables();
+        partitionManager.maintain();
+        return partitionManager;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        registrar.addFixedDelayTask(new FixedDelayTask(() -> partitionManager.maintain(),
+                properties.getMaintenanceInterval(), properties.getMaintenanceInterval()));
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.backend.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+
+import com.example.backend.routing.ReadReplicaProperties;
+import com.example.backend.routing.ReadRoutingFilter;
+import com.example.backend.routing.ReplicaCacheMode;
+import com.example.backend.routing.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+
+@Configuration
+@EnableConfigurationProperties(ReadReplicaProperties.class)
+@ConditionalOnProperty(prefix = ReadReplicaProperties.PREFIX, name = "enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    // Static for the same reason as the SQL profiler's wrapper; ordered so the profiler wraps the router
+    // and sees replica statements too
+    @Bean
+    public static BeanPostProcessor replicaRoutingDataSourceWrapper(Environment environment) {
+        return new RoutingDataSourceWrapper(environment);
+    }
+
+    // Replica reads bypass the second-level and query caches (see ReplicaCacheMode)
+    @Bean
+    public static BeanPostProcessor replicaCacheModeInitializer() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof AbstractEntityManagerFactoryBean entityManagerFactory) {
+                    entityManagerFactory.setEntityManagerInitializer(new ReplicaCacheMode());
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadRoutingFilter> readRoutingFilter(ReadReplicaProperties properties) {
+        FilterRegistrationBean<ReadRoutingFilter> registration = new FilterRegistrationBean<>(new ReadRoutingFilter(properties));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 20);
+        return registration;
+    }
+
+    private static final class RoutingDataSourceWrapper implements BeanPostProcessor, Ordered {
+
+        private final Environment environment;
+
+        RoutingDataSourceWrapper(Environment environment) {
+            this.environment = environment;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource primary) || bean instanceof ReplicaRoutingDataSource) {
+                return bean;
+            }
+            ReadReplicaProperties properties = Binder.get(environment)
+                    .bindOrCreate(ReadReplicaProperties.PREFIX, ReadReplicaProperties.class);
+            List<DataSource> replicas = new ArrayList<>();
+            for (String url : properties.getUrls()) {
+                replicas.add(replicaPool(properties, url, replicas.size()));
+            }
+            return new ReplicaRoutingDataSource(primary, replicas, properties.getRetryAfter());
+        }
+
+        private HikariDataSource replicaPool(ReadReplicaProperties properties, String url, int index) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + index);
+            replica.setJdbcUrl(url);
+            replica.setUsername(properties.getUsername() != null
+                    ? properties.getUsername() : environment.getProperty("spring.datasource.username"));
+            replica.setPassword(properties.getPassword() != null
+                    ? properties.getPassword() : environment.getProperty("spring.datasource.password"));
+            replica.setMaximumPoolSize(properties.getMaximumPoolSize());
+            replica.setConnectionTimeout(properties.getConnectionTimeout().toMillis());
+            replica.setReadOnly(true);
+            // Start even when the replica is down; requests fall back to the primary until it's reachable
+            replica.setInitializationFailTimeout(-1);
+            return replica;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.backend.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.backend.analytics.SalesRollupBackfill;
+import com.example.backend.analytics.SalesRollupProperties;
+import com.example.backend.analytics.SalesRollupSubscriber;
+import com.example.backend.analytics.SalesRollupUpdater;
+import com.example.backend.repository.FishermanSalesDailyRepo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@Configuration
+@EnableConfigurationProperties(SalesRollupProperties.class)
+public class SalesRollupConfig {
+
+    @Bean
+    public SalesRollupUpdater salesRollupUpdater(FishermanSalesDailyRepo fishermanSalesDailyRepo,
+            TransactionTemplate transactionTemplate) {
+        return new SalesRollupUpdater(fishermanSalesDailyRepo, transactionTemplate);
+    }
+
+    @Bean
+    public SalesRollupSubscriber salesRollupSubscriber(SalesRollupUpdater salesRollupUpdater, ObjectMapper objectMapper) {
+        return new SalesRollupSubscriber(salesRollupUpdater, objectMapper);
+    }
+
+    // Rebuilds after the seed scripts have loaded the orders
+    @Bean
+    @DependsOnDatabaseInitialization
+    public SalesRollupBackfill salesRollupBackfill(FishermanSalesDailyRepo fishermanSalesDailyRepo,
+            TransactionTemplate transactionTemplate, SalesRollupProperties properties) {
+        SalesRollupBackfill backfill = new SalesRollupBackfill(fishermanSalesDailyRepo, transactionTemplate, properties);
+        if (properties.isBackfillOnStartup()) {
+            backfill.rebuild();
+        }
+        return backfill;
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.backend.controller;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.backend.analytics.SalesRollupBackfill;
+import com.example.backend.dto.DailySalesDto;
+import com.example.backend.dto.FishTypeSalesDto;
+import com.example.backend.dto.SalesAnalyticsDto;
+import com.example.backend.enums.UserRole;
+import com.example.backend.model.FishermanSalesDaily;
+import com.example.backend.repository.FishermanSalesDailyRepo;
+import com.example.backend.repository.UserRepo;
+
+@RestController
+@CrossOrigin(origins = "http://localhost:3000")
+@RequestMapping("/api/analytics")
+public class AnalyticsController {
+
+    private static final int DEFAULT_RANGE_DAYS = 30;
+    private static final int MAX_RANGE_DAYS = 366;
+
+    private final FishermanSalesDailyRepo fishermanSalesDailyRepo;
+    private final UserRepo userRepo;
+    private final SalesRollupBackfill salesRollupBackfill;
+
+    public AnalyticsController(FishermanSalesDailyRepo fishermanSalesDailyRepo, UserRepo userRepo,
+            SalesRollupBackfill salesRollupBackfill) {
+        this.fishermanSalesDailyRepo = fishermanSalesDailyRepo;
+        this.userRepo = userRepo;
+        this.salesRollupBackfill = salesRollupBackfill;
+    }
+
+    private static BigDecimal averagePrice(BigDecimal revenue, BigDecimal kilograms) {
+        return kilograms.signum() == 0 ? null : revenue.divide(kilograms, 2, RoundingMode.HALF_UP);
+    }
+
+    // Served from the daily rollups only; defaults to the last 30 days
+    @GetMapping("/fishermen/{fishermanId}/sales")
+    public ResponseEntity<?> getFishermanSales(@PathVariable String fishermanId,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate rangeEnd = to != null ? to : LocalDate.now();
+        LocalDate rangeStart = from != null ? from : rangeEnd.minusDays(DEFAULT_RANGE_DAYS - 1);
+        if (rangeStart.isAfter(rangeEnd)) {
+            return new ResponseEntity<>("'from' must not be after 'to'.", HttpStatus.BAD_REQUEST);
+        }
+        if (ChronoUnit.DAYS.between(rangeStart, rangeEnd) >= MAX_RANGE_DAYS) {
+            return new ResponseEntity<>("Date range cannot exceed " + MAX_RANGE_DAYS + " days.", HttpStatus.BAD_REQUEST);
+        }
+        boolean isFisherman = userRepo.findById(fishermanId)
+                .map(user -> user.getRole() == UserRole.FISHERMAN)
+                .orElse(false);
+        if (!isFisherman) {
+            return new ResponseEntity<>("Fisherman not found", HttpStatus.NOT_FOUND);
+        }
+
+        List<FishermanSalesDaily> rows = fishermanSalesDailyRepo
+                .findByFishermanIdAndSaleDateBetweenOrderBySaleDateAscFishTypeAsc(fishermanId, rangeStart, rangeEnd);
+
+        Map<String, FishTypeSalesDto> byFishType = new TreeMap<>();
+        BigDecimal totalRevenue = BigDecimal.ZERO;
+        BigDecimal totalKilograms = BigDecimal.ZERO;
+        for (FishermanSalesDaily row : rows) {
+            FishTypeSalesDto fishType = byFishType.computeIfAbsent(row.getFishType(),
+                    type -> new FishTypeSalesDto(type, BigDecimal.ZERO, BigDecimal.ZERO, null, 0));
+            fishType.setRevenue(fishType.getRevenue().add(row.getRevenue()));
+            fishType.setKilograms(fishType.getKilograms().add(row.getKilograms()));
+            fishType.setItemCount(fishType.getItemCount() + row.getItemCount());
+            totalRevenue = totalRevenue.add(row.getRevenue());
+            totalKilograms = totalKilograms.add(row.getKilograms());
+        }
+        byFishType.values().forEach(fishType ->
+                fishType.setAveragePricePerKg(averagePrice(fishType.getRevenue(), fishType.getKilograms())));
+
+        SalesAnalyticsDto dto = new SalesAnalyticsDto();
+        dto.setFishermanId(fishermanId);
+        dto.setFrom(rangeStart);
+        dto.setTo(rangeEnd);
+        dto.setTotalRevenue(totalRevenue);
+        dto.setTotalKilograms(totalKilograms);
+        dto.setAveragePricePerKg(averagePrice(totalRevenue, totalKilograms));
+        dto.setDays(rows.stream()
+                .map(row -> new DailySalesDto(row.getSaleDate(), row.getFishType(), row.getRevenue(),
+                        row.getKilograms(), averagePrice(row.getRevenue(), row.getKilograms()), row.getItemCount()))
+                .toList());
+        dto.setFishTypes(List.copyOf(byFishType.values()));
+        return ResponseEntity.ok(dto);
+    }
+
+    // Recomputes every rollup from the orders, e.g. after orders were changed outside the API
+    @PostMapping("/rollups/rebuild")
+    public ResponseEntity<SalesRollupBackfill.Result> rebuildRollups() {
+        return ResponseEntity.ok(salesRollupBackfill.rebuild());
+    }
+}
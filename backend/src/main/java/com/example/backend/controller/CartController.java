@@ -0,0 +1,169 @@
+package com.example.backend.controller;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.backend.cart.Cart;
+import com.example.backend.cart.CartCheckout;
+import com.example.backend.cart.CartItem;
+import com.example.backend.cart.CartProperties;
+import com.example.backend.cart.CartStore;
+import com.example.backend.dto.CartDto;
+import com.example.backend.dto.OrderDto;
+import com.example.backend.dto.OrderItemDto;
+import com.example.backend.model.FishListing;
+import com.example.backend.model.User;
+import com.example.backend.money.MoneyMath;
+import com.example.backend.repository.UserRepo;
+
+@RestController
+@CrossOrigin(origins = "http://localhost:3000")
+@RequestMapping("/api/cart")
+public class CartController {
+
+    private final CartStore cartStore;
+    private final CartCheckout cartCheckout;
+    private final CartProperties cartProperties;
+    private final UserRepo userRepo;
+
+    public CartController(CartStore cartStore, CartCheckout cartCheckout, CartProperties cartProperties,
+            UserRepo userRepo) {
+        this.cartStore = cartStore;
+        this.cartCheckout = cartCheckout;
+        this.cartProperties = cartProperties;
+        this.userRepo = userRepo;
+    }
+
+    // A buyer without a cart gets an empty one; nothing is created until they add something
+    @GetMapping("/{buyerId}")
+    public ResponseEntity<CartDto> getCart(@PathVariable String buyerId) {
+        List<CartItem> items = cartStore.find(buyerId).map(Cart::getItems).orElse(List.of());
+        return ResponseEntity.ok(CartDto.from(buyerId, items));
+    }
+
+    // Adds to the quantities already in the cart; all listings are checked in one query and nothing is added if any fails
+    @PostMapping("/{buyerId}/items")
+    public ResponseEntity<?> addItems(@PathVariable String buyerId, @RequestBody List<OrderItemDto> itemDtos) {
+        if (!userRepo.existsById(buyerId)) {
+            return new ResponseEntity<>("Buyer not found", HttpStatus.NOT_FOUND);
+        }
+        if (itemDtos == null || itemDtos.isEmpty()) {
+            return new ResponseEntity<>("Add at least one item.", HttpStatus.BAD_REQUEST);
+        }
+
+        Map<Long, Long> gramsByListing = new LinkedHashMap<>();
+        for (OrderItemDto itemDto : itemDtos) {
+            long grams = itemDto.getQuantity() == null ? 0 : MoneyMath.toGrams(itemDto.getQuantity());
+            if (itemDto.getFishListingId() == null || grams <= 0) {
+                return new ResponseEntity<>("Quantity for fish listing with ID " + itemDto.getFishListingId()
+                        + " must be at least 1 gram.", HttpStatus.BAD_REQUEST);
+            }
+            gramsByListing.merge(itemDto.getFishListingId(), grams, Math::addExact);
+        }
+
+        Map<Long, FishListing> listings = cartCheckout.findListings(gramsByListing.keySet());
+        List<String> problems = new ArrayList<>();
+        gramsByListing.keySet().forEach(id -> {
+            String reason = CartCheckout.unavailable(id, listings.get(id));
+            if (reason != null) {
+                problems.add(reason);
+            }
+        });
+        if (!problems.isEmpty()) {
+            return new ResponseEntity<>(String.join("; ", problems), HttpStatus.CONFLICT);
+        }
+
+        Cart cart = cartStore.getOrCreate(buyerId);
+        synchronized (cart) {
+            long newListings = gramsByListing.keySet().stream().filter(id -> !cart.contains(id)).count();
+            if (cart.size() + newListings > cartProperties.getMaxItems()) {
+                return new ResponseEntity<>("A cart can hold at most " + cartProperties.getMaxItems() + " listings.",
+                        HttpStatus.BAD_REQUEST);
+            }
+            gramsByListing.forEach((id, grams) -> {
+                FishListing listing = listings.get(id);
+                cart.add(new CartItem(id, listing.getFishType(), listing.getPriceMinor(), grams));
+            });
+        }
+        cartStore.saved(cart);
+        return ResponseEntity.ok(CartDto.from(buyerId, cart.getItems()));
+    }
+
+    // Sets the quantity in kg; 0 removes the line
+    @PutMapping("/{buyerId}/items/{fishListingId}")
+    public ResponseEntity<?> updateItem(@PathVariable String buyerId, @PathVariable Long fishListingId,
+            @RequestParam("quantity") Double quantity) {
+        long grams = MoneyMath.toGrams(quantity);
+        if (grams < 0) {
+            return new ResponseEntity<>("Quantity must not be negative.", HttpStatus.BAD_REQUEST);
+        }
+        Cart cart = cartStore.find(buyerId).orElse(null);
+        boolean changed = cart != null && (grams == 0 ? cart.remove(fishListingId) : cart.setGrams(fishListingId, grams));
+        if (!changed) {
+            return new ResponseEntity<>("Fish listing with ID " + fishListingId + " is not in the cart.", HttpStatus.NOT_FOUND);
+        }
+        cartStore.saved(cart);
+        return ResponseEntity.ok(CartDto.from(buyerId, cart.getItems()));
+    }
+
+    @DeleteMapping("/{buyerId}/items/{fishListingId}")
+    public ResponseEntity<?> removeItem(@PathVariable String buyerId, @PathVariable Long fishListingId) {
+        Cart cart = cartStore.find(buyerId).orElse(null);
+        if (cart == null || !cart.remove(fishListingId)) {
+            return new ResponseEntity<>("Fish listing with ID " + fishListingId + " is not in the cart.", HttpStatus.NOT_FOUND);
+        }
+        cartStore.saved(cart);
+        return ResponseEntity.ok(CartDto.from(buyerId, cart.getItems()));
+    }
+
+    @DeleteMapping("/{buyerId}")
+    public ResponseEntity<Void> clearCart(@PathVariable String buyerId) {
+        cartStore.remove(buyerId);
+        return ResponseEntity.noContent().build();
+    }
+
+    // Orders everything in the cart at the prices it shows; a stale price or a sold listing fails the whole checkout
+    @PostMapping("/{buyerId}/checkout")
+    public ResponseEntity<?> checkout(@PathVariable String buyerId) {
+        User buyer = userRepo.findById(buyerId).orElse(null);
+        if (buyer == null) {
+            return new ResponseEntity<>("Buyer not found", HttpStatus.NOT_FOUND);
+        }
+        Cart cart = cartStore.find(buyerId).orElse(null);
+        if (cart == null || cart.size() == 0) {
+            return new ResponseEntity<>("Cart is empty.", HttpStatus.BAD_REQUEST);
+        }
+
+        // Two checkouts of the same cart would both see its lines and place the order twice
+        if (!cart.beginCheckout()) {
+            return new ResponseEntity<>("Checkout of this cart is already in progress.", HttpStatus.CONFLICT);
+        }
+        CartCheckout.Result result;
+        try {
+            result = cartCheckout.checkout(cart, buyer);
+            // Either the ordered lines were removed or stale prices were refreshed
+            cartStore.saved(cart);
+        } finally {
+            cart.endCheckout();
+        }
+        if (result.order() == null) {
+            return new ResponseEntity<>(String.join("; ", result.problems()), HttpStatus.CONFLICT);
+        }
+        return new ResponseEntity<>(OrderDto.from(result.order()), HttpStatus.CREATED);
+    }
+}
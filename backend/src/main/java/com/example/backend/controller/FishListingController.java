@@ -8,10 +8,16 @@ import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -26,15 +32,29 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.example.backend.coalescing.RequestCoalescer;
 import com.example.backend.dto.FishListingResponseDto;
+import com.example.backend.dto.ListingChangesDto;
+import com.example.backend.dto.NearbyFishListingDto;
+import com.example.backend.dto.NormalizedResponseDto;
+import com.example.backend.dto.SearchPageResponseDto;
 import com.example.backend.dto.UpdateFishListingDto;
-import com.example.backend.dto.UserSummaryDto;
 import com.example.backend.enums.ListingStatus;
 import com.example.backend.enums.UserRole;
+import com.example.backend.lifecycle.ListingFreshnessProperties;
 import com.example.backend.model.FishListing;
 import com.example.backend.model.User;
+import com.example.backend.outbox.DomainEventType;
+import com.example.backend.outbox.Outbox;
+import com.example.backend.partitioning.PartitioningProperties;
 import com.example.backend.repository.FishListingRepo;
+import com.example.backend.repository.GazetteerPlaceRepo;
+import com.example.backend.repository.OrderItemRepo;
 import com.example.backend.repository.UserRepo;
+import com.example.backend.versioning.TableVersions;
+import com.example.backend.versioning.Versioned;
+import com.example.backend.versioning.VersionedTable;
+import com.example.backend.views.ListingViewCounter;
 
 @RestController
 @CrossOrigin(origins = "http://localhost:3000")
@@ -43,11 +63,31 @@ public class FishListingController {
 
     private final UserRepo userRepo;
     private final FishListingRepo fishListingRepo;
+    private final GazetteerPlaceRepo gazetteerPlaceRepo;
+    private final OrderItemRepo orderItemRepo;
+    private final ObjectProvider<ListingFreshnessProperties> freshnessProperties;
+    private final ObjectProvider<PartitioningProperties> partitioningProperties;
+    private final Outbox outbox;
+    private final TableVersions tableVersions;
+    private final RequestCoalescer requestCoalescer;
+    private final ListingViewCounter listingViewCounter;
     private final String UPLOAD_DIR = "uploads/fish-images/";
 
-    public FishListingController(FishListingRepo fishListingRepo, UserRepo userRepo) {
+    public FishListingController(FishListingRepo fishListingRepo, UserRepo userRepo,
+            GazetteerPlaceRepo gazetteerPlaceRepo, OrderItemRepo orderItemRepo,
+            ObjectProvider<ListingFreshnessProperties> freshnessProperties,
+            ObjectProvider<PartitioningProperties> partitioningProperties, Outbox outbox, TableVersions tableVersions,
+            RequestCoalescer requestCoalescer, ListingViewCounter listingViewCounter) {
         this.fishListingRepo = fishListingRepo;
         this.userRepo = userRepo;
+        this.gazetteerPlaceRepo = gazetteerPlaceRepo;
+        this.orderItemRepo = orderItemRepo;
+        this.freshnessProperties = freshnessProperties;
+        this.partitioningProperties = partitioningProperties;
+        this.outbox = outbox;
+        this.tableVersions = tableVersions;
+        this.requestCoalescer = requestCoalescer;
+        this.listingViewCounter = listingViewCounter;
 
         // Create uploads folder, if haven't
         try {
@@ -57,40 +97,212 @@ public class FishListingController {
         }
     }
 
+    private void indexSearchTerms(FishListing fishListing) {
+        if (fishListing.getSearchDocument() != null) {
+            fishListingRepo.addSearchTerms(fishListing.getSearchDocument());
+        }
+    }
+
     private FishListingResponseDto convertToDto(FishListing listing) {
-        FishListingResponseDto dto = new FishListingResponseDto();
-        dto.setId(listing.getId());
-        dto.setFishType(listing.getFishType());
-        dto.setWeightInKg(listing.getWeightInKg());
-        dto.setPrice(listing.getPrice());
-        dto.setPhotoUrl(listing.getPhotoUrl());
-        dto.setCatchDate(listing.getCatchDate());
-        dto.setLocation(listing.getLocation());
-        dto.setStatus(listing.getStatus());
-        dto.setCreatedAt(listing.getCreatedAt());
-
-        UserSummaryDto fishermanDto = new UserSummaryDto();
-        fishermanDto.setId(listing.getFisherman().getId());
-        fishermanDto.setFirstName(listing.getFisherman().getFirstName());
-        fishermanDto.setLastName(listing.getFisherman().getLastName());
-        dto.setFisherman(fishermanDto);
-
-        return dto;
+        return FishListingResponseDto.from(listing);
     }
 
     @GetMapping("/list")
-    public ResponseEntity<List<FishListingResponseDto>> getAllFishListings() {
-        List<FishListing> fishListings = fishListingRepo.findAll();
+    @Versioned({ VersionedTable.FISH_LISTINGS, VersionedTable.USERS })
+    public ResponseEntity<?> getAllFishListings(
+            @RequestParam(value = "normalized", defaultValue = "false") boolean normalized) {
+        // Expired stock stays in the table for order history but is no longer browsable. On a partitioned
+        // table with the freshness job running, nothing older than its longest window is live, so a
+        // catch-date bound only drops stale SOLD rows and lets the query skip old partitions.
+        ListingFreshnessProperties freshness = freshnessProperties.getIfAvailable();
+        List<FishListing> fishListings = freshness == null || partitioningProperties.getIfAvailable() == null
+                ? fishListingRepo.findByStatusNot(ListingStatus.EXPIRED)
+                : fishListingRepo.findByStatusNotAndCatchDateGreaterThanEqual(ListingStatus.EXPIRED,
+                        LocalDateTime.now().minus(freshness.longestExpireAfter()));
         List<FishListingResponseDto> dtoList = fishListings.stream().map(this::convertToDto)
                 .collect(Collectors.toList());
-        return ResponseEntity.ok(dtoList);
+        return ResponseEntity.ok(normalized ? NormalizedResponseDto.ofListings(dtoList) : dtoList);
     }
 
     @GetMapping("/{id}")
+    @Versioned({ VersionedTable.FISH_LISTINGS, VersionedTable.USERS, VersionedTable.LISTING_VIEWS })
     public ResponseEntity<FishListingResponseDto> getFishListingById(@PathVariable Long id) {
-        return fishListingRepo.findById(id)
-                .map(listing -> ResponseEntity.ok(convertToDto(listing)))
-                .orElse(ResponseEntity.notFound().build());
+        // Concurrent requests for one listing share a single load and the DTO it builds
+        Optional<FishListingResponseDto> listing = requestCoalescer.load("listing-detail", id,
+                () -> fishListingRepo.findById(id).map(found -> {
+                    FishListingResponseDto dto = convertToDto(found);
+                    dto.setViewsToday(listingViewCounter.viewsToday(List.of(id)).get(id));
+                    return dto;
+                }));
+        // Counted in memory and written in batches; 304s answered by the ETag check are not counted. The tag
+        // only moves when a flush writes counts, so viewsToday, which includes the unflushed views, can be up
+        // to one flush interval behind in a revalidated response
+        listing.ifPresent(found -> listingViewCounter.record(id));
+        return listing.map(ResponseEntity::ok).orElse(ResponseEntity.notFound().build());
+    }
+
+    // Today's most viewed listings, ranked by the counts flushed so far; viewsToday also includes views
+    // still in memory
+    @GetMapping("/most-viewed")
+    @Versioned({ VersionedTable.FISH_LISTINGS, VersionedTable.USERS, VersionedTable.LISTING_VIEWS })
+    public ResponseEntity<List<FishListingResponseDto>> getMostViewedFishListings(
+            @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        if (limit < 1 || limit > 100) {
+            return ResponseEntity.badRequest().build();
+        }
+        List<Long> rankedIds = listingViewCounter.mostViewedToday(limit);
+        Map<Long, Long> views = listingViewCounter.viewsToday(rankedIds);
+        Map<Long, FishListing> listingsById = rankedIds.isEmpty() ? Map.of()
+                : fishListingRepo.findAllWithFishermanByIdIn(rankedIds).stream()
+                        .collect(Collectors.toMap(FishListing::getId, Function.identity()));
+        List<FishListingResponseDto> items = rankedIds.stream()
+                .map(listingsById::get)
+                .filter(Objects::nonNull)
+                .map(listing -> {
+                    FishListingResponseDto dto = convertToDto(listing);
+                    dto.setViewsToday(views.getOrDefault(listing.getId(), 0L));
+                    return dto;
+                })
+                .toList();
+        return ResponseEntity.ok(items);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<SearchPageResponseDto<FishListingResponseDto>> searchFishListings(
+            @RequestParam("q") String query,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        String trimmedQuery = query.trim();
+        if (trimmedQuery.isEmpty() || page < 0 || size < 1 || size > 100) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        // Rank ids in the index first, then load just that page with fishermen in one query
+        long offset = (long) page * size;
+        String searchedQuery = trimmedQuery;
+        List<Long> rankedIds = fishListingRepo.searchRankedIds(searchedQuery, size + 1, offset);
+        if (rankedIds.isEmpty() && page == 0) {
+            // No exact/stemmed hits: retry once with misspelled words swapped for known terms. Only on the
+            // first page, so paging past the end of a real result set doesn't switch to another query.
+            String suggestion = fishListingRepo.suggestSearchQuery(trimmedQuery);
+            if (suggestion != null && !suggestion.equalsIgnoreCase(trimmedQuery)) {
+                searchedQuery = suggestion;
+                rankedIds = fishListingRepo.searchRankedIds(searchedQuery, size + 1, offset);
+            }
+        }
+        boolean hasNext = rankedIds.size() > size;
+        List<Long> pageIds = hasNext ? rankedIds.subList(0, size) : rankedIds;
+        // Ending short of the cap means every match was ranked; otherwise check for matches past it
+        boolean truncated = (hasNext || offset + rankedIds.size() >= FishListingRepo.SEARCH_CANDIDATES)
+                && fishListingRepo.hasMoreSearchMatches(searchedQuery);
+
+        Map<Long, FishListing> listingsById = fishListingRepo.findAllWithFishermanByIdIn(pageIds).stream()
+                .collect(Collectors.toMap(FishListing::getId, Function.identity()));
+        List<FishListingResponseDto> items = pageIds.stream()
+                .map(listingsById::get)
+                .filter(Objects::nonNull)
+                .map(this::convertToDto)
+                .toList();
+
+        return ResponseEntity.ok(new SearchPageResponseDto<>(items, page, size, hasNext, truncated));
+    }
+
+    @GetMapping("/nearby")
+    public ResponseEntity<List<NearbyFishListingDto>> getNearbyFishListings(
+            @RequestParam(value = "lat", required = false) Double latitude,
+            @RequestParam(value = "lon", required = false) Double longitude,
+            @RequestParam(value = "userId", required = false) String userId,
+            @RequestParam(value = "radiusKm", defaultValue = "50") double radiusKm,
+            @RequestParam(value = "status", required = false) List<ListingStatus> statuses,
+            @RequestParam(value = "maxAgeHours", required = false) Integer maxAgeHours,
+            @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        // Centre on explicit coordinates, or on the user's own geocoded location
+        if (latitude == null || longitude == null) {
+            if (userId == null) {
+                return ResponseEntity.badRequest().build();
+            }
+            Optional<User> user = userRepo.findById(userId);
+            if (user.isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
+            latitude = user.get().getLatitude();
+            longitude = user.get().getLongitude();
+            if (latitude == null || longitude == null) {
+                return ResponseEntity.unprocessableEntity().build();
+            }
+        }
+        if (Math.abs(latitude) > 90 || Math.abs(longitude) > 180 || radiusKm <= 0 || radiusKm > 20_000
+                || limit < 1 || limit > 100 || (maxAgeHours != null && maxAgeHours < 0)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        // Anything still on offer unless the caller narrows it down
+        List<String> statusNames = (statuses == null || statuses.isEmpty()
+                ? Arrays.stream(ListingStatus.values()).filter(ListingStatus::isOnOffer)
+                : statuses.stream()).map(ListingStatus::name).toList();
+        LocalDateTime caughtAfter = maxAgeHours == null ? null : LocalDateTime.now().minusHours(maxAgeHours);
+
+        List<FishListingRepo.NearbyListing> nearby = fishListingRepo.findNearby(latitude, longitude,
+                radiusKm * 1000, statusNames, caughtAfter, limit);
+        Map<Long, FishListing> listingsById = fishListingRepo.findAllWithFishermanByIdIn(
+                nearby.stream().map(FishListingRepo.NearbyListing::getId).toList()).stream()
+                .collect(Collectors.toMap(FishListing::getId, Function.identity()));
+        List<NearbyFishListingDto> result = nearby.stream()
+                .filter(row -> listingsById.containsKey(row.getId()))
+                .map(row -> new NearbyFishListingDto(convertToDto(listingsById.get(row.getId())),
+                        row.getDistanceMeters() / 1000))
+                .toList();
+        return ResponseEntity.ok(result);
+    }
+
+    // Delta sync for clients that keep a local copy of the market: start from since=0, then pass back the
+    // version and afterId of each response. Expired listings arrive as upserts with their new status;
+    // deleted ones as ids under deletes. A client further behind than the tombstone retention gets
+    // 410 and resyncs from 0.
+    @GetMapping("/sync")
+    public ResponseEntity<?> syncFishListings(
+            @RequestParam(value = "since", defaultValue = "0") long since,
+            @RequestParam(value = "afterId", required = false) Long afterId,
+            @RequestParam(value = "size", defaultValue = "200") int size) {
+        if (since < 0 || size < 1 || size > 1000) {
+            return ResponseEntity.badRequest().body("since must be >= 0 and size between 1 and 1000");
+        }
+
+        // Without afterId the client has everything at version since itself
+        List<FishListingRepo.ListingChange> rows = fishListingRepo.findChangesSince(since,
+                afterId == null ? Long.MAX_VALUE : afterId, size + 1);
+        long prunedThrough = rows.get(0).getPrunedThrough();
+        if (since > 0 && (since < prunedThrough || (since == prunedThrough && afterId != null))) {
+            return new ResponseEntity<>("Deletes since version " + since + " are no longer kept, sync again from 0",
+                    HttpStatus.GONE);
+        }
+
+        List<FishListingRepo.ListingChange> changes = rows.stream().filter(row -> row.getId() != null).toList();
+        boolean hasMore = changes.size() > size;
+        if (hasMore) {
+            changes = changes.subList(0, size);
+        }
+        List<Long> upsertIds = changes.stream().filter(change -> !change.getDeleted())
+                .map(FishListingRepo.ListingChange::getId).toList();
+        List<Long> deletes = changes.stream().filter(FishListingRepo.ListingChange::getDeleted)
+                .map(FishListingRepo.ListingChange::getId).toList();
+
+        // A listing deleted since the page was read is left out here and arrives as a delete next time
+        Map<Long, FishListing> listingsById = upsertIds.isEmpty() ? Map.of()
+                : fishListingRepo.findAllWithFishermanByIdIn(upsertIds).stream()
+                        .collect(Collectors.toMap(FishListing::getId, Function.identity()));
+        List<FishListingResponseDto> upserts = upsertIds.stream()
+                .map(listingsById::get)
+                .filter(Objects::nonNull)
+                .map(this::convertToDto)
+                .toList();
+
+        // A full page resumes after its last change; otherwise everything below the horizon has been seen
+        ListingChangesDto result = hasMore
+                ? new ListingChangesDto(upserts, deletes, changes.get(size - 1).getVersion(),
+                        changes.get(size - 1).getId(), true)
+                : new ListingChangesDto(upserts, deletes, Math.max(since, rows.get(0).getHorizon() - 1), null, false);
+        return ResponseEntity.ok(result);
     }
 
     @PostMapping("/create")
@@ -151,8 +363,18 @@ public class FishListingController {
             fishListing.setLocation(location);
             fishListing.setFisherman(fisherman);
             fishListing.setStatus(status);
+            gazetteerPlaceRepo.resolve(location).ifPresent(place -> {
+                fishListing.setLatitude(place.getLatitude());
+                fishListing.setLongitude(place.getLongitude());
+            });
 
-            FishListing createdFishListing = fishListingRepo.save(fishListing);
+            FishListing createdFishListing = outbox.inTransaction(() -> {
+                FishListing saved = fishListingRepo.save(fishListing);
+                outbox.record(DomainEventType.LISTING_CREATED, saved.getId(), Map.of("fishermanId", fisherman.getId()));
+                tableVersions.bump(VersionedTable.FISH_LISTINGS);
+                return saved;
+            });
+            indexSearchTerms(createdFishListing);
 
             return new ResponseEntity<>(convertToDto(createdFishListing), HttpStatus.CREATED);
 
@@ -177,10 +399,19 @@ public class FishListingController {
                 existingFishListing.setPhotoUrl(listingDto.getPhotoUrl());
             if (listingDto.getCatchDate() != null)
                 existingFishListing.setCatchDate(listingDto.getCatchDate());
+            boolean wasOnOffer = existingFishListing.getStatus().isOnOffer();
             if (listingDto.getStatus() != null)
                 existingFishListing.setStatus(listingDto.getStatus());
+            // Back on offer after selling out or expiring: pushed to the new-catch feed like a new listing
+            boolean restocked = !wasOnOffer && existingFishListing.getStatus().isOnOffer();
 
-            FishListing updated = fishListingRepo.save(existingFishListing);
+            FishListing updated = outbox.inTransaction(() -> {
+                FishListing saved = fishListingRepo.save(existingFishListing);
+                outbox.record(DomainEventType.LISTING_UPDATED, id, Map.of("restocked", restocked));
+                tableVersions.bump(VersionedTable.FISH_LISTINGS);
+                return saved;
+            });
+            indexSearchTerms(updated);
             return ResponseEntity.ok(convertToDto(updated));
         }).orElse(ResponseEntity.notFound().build());
     }
@@ -190,8 +421,18 @@ public class FishListingController {
         if (!fishListingRepo.existsById(id)) {
             return ResponseEntity.notFound().build();
         }
+        // Ordered listings stay for the orders' sake (mark them EXPIRED instead); with partitioning there is
+        // no foreign key left to stop the delete, and the order items would point at nothing
+        if (orderItemRepo.existsByFishListingId(id)) {
+            return new ResponseEntity<>("Fish listing with ID " + id + " has been ordered and cannot be deleted.",
+                    HttpStatus.CONFLICT);
+        }
 
-        fishListingRepo.deleteById(id);
+        outbox.inTransaction(() -> {
+            fishListingRepo.deleteById(id);
+            outbox.record(DomainEventType.LISTING_DELETED, id, Map.of());
+            tableVersions.bump(VersionedTable.FISH_LISTINGS);
+        });
         return ResponseEntity.ok("FishListing deleted successfully");
     }
 }
@@ -0,0 +1,60 @@
+package com.example.backend.controller;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.backend.dto.FishermanListingDto;
+import com.example.backend.dto.PageResponseDto;
+import com.example.backend.enums.ListingStatus;
+import com.example.backend.enums.UserRole;
+import com.example.backend.repository.FishListingRepo;
+import com.example.backend.repository.FishListingRepo.ListingSummary;
+import com.example.backend.repository.UserRepo;
+import com.example.backend.versioning.Versioned;
+import com.example.backend.versioning.VersionedTable;
+
+@RestController
+@CrossOrigin(origins = "http://localhost:3000")
+@RequestMapping("/api/fishermen")
+public class FishermanController {
+
+    private final UserRepo userRepo;
+    private final FishListingRepo fishListingRepo;
+
+    public FishermanController(UserRepo userRepo, FishListingRepo fishListingRepo) {
+        this.userRepo = userRepo;
+        this.fishListingRepo = fishListingRepo;
+    }
+
+    // A fisherman's own listings for their dashboard, a page at a time, optionally by status
+    @GetMapping("/{id}/listings")
+    @Versioned({ VersionedTable.FISH_LISTINGS, VersionedTable.USERS })
+    public ResponseEntity<?> getListings(@PathVariable String id,
+            @RequestParam(value = "status", required = false) ListingStatus status,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        if (page < 0 || size < 1 || size > 100) {
+            return new ResponseEntity<>("page must be 0 or more and size between 1 and 100.", HttpStatus.BAD_REQUEST);
+        }
+        boolean fisherman = userRepo.findById(id).map(user -> user.getRole() == UserRole.FISHERMAN).orElse(false);
+        if (!fisherman) {
+            return new ResponseEntity<>("Fisherman not found", HttpStatus.NOT_FOUND);
+        }
+
+        // One extra row tells whether there is a next page
+        List<ListingSummary> rows = fishListingRepo.findSummariesByFisherman(id, status, size + 1, (long) page * size);
+        boolean hasNext = rows.size() > size;
+        List<FishermanListingDto> items = (hasNext ? rows.subList(0, size) : rows).stream()
+                .map(FishermanListingDto::from)
+                .toList();
+        return ResponseEntity.ok(new PageResponseDto<>(items, page, size, hasNext));
+    }
+}
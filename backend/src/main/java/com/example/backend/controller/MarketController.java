@@ -0,0 +1,37 @@
+package com.example.backend.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.backend.dto.MarketPriceDto;
+import com.example.backend.market.MarketPriceIndex;
+
+@RestController
+@CrossOrigin(origins = "http://localhost:3000")
+@RequestMapping("/api/market")
+public class MarketController {
+
+    private final MarketPriceIndex marketPriceIndex;
+
+    public MarketController(MarketPriceIndex marketPriceIndex) {
+        this.marketPriceIndex = marketPriceIndex;
+    }
+
+    // Served from the in-memory index; fish types without trades in the window are left out
+    @GetMapping("/prices")
+    public ResponseEntity<List<MarketPriceDto>> getPrices(@RequestParam(value = "fishType", required = false) String fishType) {
+        List<MarketPriceDto> prices = marketPriceIndex.getPrices();
+        if (fishType != null && !fishType.isBlank()) {
+            prices = prices.stream()
+                    .filter(price -> price.getFishType().equalsIgnoreCase(fishType.trim()))
+                    .toList();
+        }
+        return ResponseEntity.ok(prices);
+    }
+}
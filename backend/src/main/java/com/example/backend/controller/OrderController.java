@@ -1,13 +1,15 @@
 package com.example.backend.controller;
 
-import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -17,72 +19,97 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.example.backend.dto.BulkOrderStatusDto;
 import com.example.backend.dto.CreateOrderDto;
+import com.example.backend.dto.NormalizedResponseDto;
 import com.example.backend.dto.OrderDto;
 import com.example.backend.dto.OrderItemDto;
+import com.example.backend.dto.OrderStatusOutcomeDto;
 import com.example.backend.dto.UpdateOrderStatusDto;
+import com.example.backend.enums.ListingStatus;
 import com.example.backend.enums.OrderStatus;
+import com.example.backend.export.ExportFormat;
+import com.example.backend.export.OrderHistoryExporter;
 import com.example.backend.model.FishListing;
 import com.example.backend.model.Order;
 import com.example.backend.model.OrderItem;
 import com.example.backend.model.User;
+import com.example.backend.money.MoneyMath;
+import com.example.backend.ordering.OrderIdGenerator;
+import com.example.backend.ordering.OrderStatusUpdater;
+import com.example.backend.ordering.OrderTransitions;
+import com.example.backend.outbox.DomainEventType;
+import com.example.backend.outbox.Outbox;
 import com.example.backend.repository.FishListingRepo;
 import com.example.backend.repository.OrderRepo;
 import com.example.backend.repository.UserRepo;
+import com.example.backend.versioning.TableVersions;
+import com.example.backend.versioning.Versioned;
+import com.example.backend.versioning.VersionedTable;
 
 @RestController
 @CrossOrigin(origins = "http://localhost:3000")
 @RequestMapping("/api/orders")
 public class OrderController {
 
-    private static final Logger logger = LoggerFactory.getLogger(OrderController.class);
-    
+    private static final int MAX_BULK_ORDERS = 500;
+
     private final OrderRepo orderRepo;
     private final UserRepo userRepo;
     private final FishListingRepo fishListingRepo;
+    private final OrderHistoryExporter orderHistoryExporter;
+    private final OrderIdGenerator orderIdGenerator;
+    private final OrderStatusUpdater orderStatusUpdater;
+    private final Outbox outbox;
+    private final TableVersions tableVersions;
 
-    public OrderController(OrderRepo orderRepo, UserRepo userRepo, FishListingRepo fishListingRepo) {
+    public OrderController(OrderRepo orderRepo, UserRepo userRepo, FishListingRepo fishListingRepo,
+            OrderHistoryExporter orderHistoryExporter, OrderIdGenerator orderIdGenerator,
+            OrderStatusUpdater orderStatusUpdater, Outbox outbox, TableVersions tableVersions) {
         this.orderRepo = orderRepo;
         this.userRepo = userRepo;
         this.fishListingRepo = fishListingRepo;
+        this.orderHistoryExporter = orderHistoryExporter;
+        this.orderIdGenerator = orderIdGenerator;
+        this.orderStatusUpdater = orderStatusUpdater;
+        this.outbox = outbox;
+        this.tableVersions = tableVersions;
     }
 
-    private synchronized String generateOrderId() {
-        String prefix = "ORD";
-        String lastId = orderRepo.findMaxId();
-        int nextSequence = 1;
-
-        if (lastId != null) {
-            try {
-                int lastSequence = Integer.parseInt(lastId.substring(prefix.length()));
-                nextSequence = lastSequence + 1;
-            } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
-                logger.warn("Failed to parse sequence from last Order ID: '{}'. Resetting sequence to 1. Error: {}", lastId, e.getMessage());
-                // If parsing fails, start from 1, but rely on the unique constraint to catch actual duplicates.
-                nextSequence = 1; 
-            }
-        }
-        return String.format("%s%03d", prefix, nextSequence);
+    // sinceDays limits results to recent orders, which lets a partitioned orders table skip old partitions
+    private List<Order> findOrders(Integer sinceDays) {
+        return sinceDays == null
+                ? orderRepo.findAll()
+                : orderRepo.findByOrderDateGreaterThanEqual(LocalDateTime.now().minusDays(sinceDays));
     }
 
     @GetMapping("/list")
-    public ResponseEntity<List<Order>> getAllOrders() {
-        List<Order> orders = orderRepo.findAll();
+    @Versioned(exceptWithParams = "sinceDays")
+    public ResponseEntity<List<Order>> getAllOrders(
+            @RequestParam(value = "sinceDays", required = false) Integer sinceDays) {
+        List<Order> orders = findOrders(sinceDays);
         return ResponseEntity.ok(orders);
     }
 
     @GetMapping("/list-dto")
-    public ResponseEntity<List<OrderDto>> getAllOrdersDto() {
-        List<Order> orders = orderRepo.findAll();
+    @Versioned(value = { VersionedTable.ORDERS, VersionedTable.ORDER_ITEMS, VersionedTable.FISH_LISTINGS,
+            VersionedTable.USERS }, exceptWithParams = "sinceDays")
+    public ResponseEntity<?> getAllOrdersDto(
+            @RequestParam(value = "sinceDays", required = false) Integer sinceDays,
+            @RequestParam(value = "normalized", defaultValue = "false") boolean normalized) {
+        List<Order> orders = findOrders(sinceDays);
         List<OrderDto> dtoList = orders.stream()
                                        .map(OrderDto::from)
                                        .toList();
-        return ResponseEntity.ok(dtoList);
+        return ResponseEntity.ok(normalized ? NormalizedResponseDto.ofOrders(dtoList) : dtoList);
     }
 
     @GetMapping("/{id}")
+    @Versioned
     public ResponseEntity<Order> getOrderById(@PathVariable String id) {
         return orderRepo.findById(id)
                 .map(ResponseEntity::ok)
@@ -90,12 +117,49 @@ public class OrderController {
     }
 
     @GetMapping("/buyer/{buyerId}")
-    public ResponseEntity<List<OrderDto>> getOrdersByBuyer(@PathVariable String buyerId) {
-        List<Order> orders = orderRepo.findByBuyerId(buyerId);
+    @Versioned(value = { VersionedTable.ORDERS, VersionedTable.ORDER_ITEMS, VersionedTable.FISH_LISTINGS,
+            VersionedTable.USERS }, exceptWithParams = "sinceDays")
+    public ResponseEntity<?> getOrdersByBuyer(@PathVariable String buyerId,
+            @RequestParam(value = "sinceDays", required = false) Integer sinceDays,
+            @RequestParam(value = "normalized", defaultValue = "false") boolean normalized) {
+        List<Order> orders = sinceDays == null
+                ? orderRepo.findByBuyerId(buyerId)
+                : orderRepo.findByBuyerIdAndOrderDateGreaterThanEqual(buyerId, LocalDateTime.now().minusDays(sinceDays));
         List<OrderDto> orderDtos = orders.stream()
             .map(OrderDto::from)
             .toList();
-        return ResponseEntity.ok(orderDtos);
+        return ResponseEntity.ok(normalized ? NormalizedResponseDto.ofOrders(orderDtos) : orderDtos);
+    }
+
+    // Full history for accounting, written row by row from a database cursor instead of built as a list
+    @GetMapping("/buyer/{buyerId}/export")
+    public ResponseEntity<StreamingResponseBody> exportOrdersByBuyer(@PathVariable String buyerId,
+            @RequestParam(value = "format", defaultValue = "csv") String format,
+            @RequestParam(value = "sinceDays", required = false) Integer sinceDays) {
+        ExportFormat exportFormat = ExportFormat.parse(format).orElse(null);
+        if (exportFormat == null) {
+            return exportError(HttpStatus.BAD_REQUEST, "Unsupported export format. Use 'csv' or 'ndjson'.");
+        }
+        if (!userRepo.existsById(buyerId)) {
+            return exportError(HttpStatus.NOT_FOUND, "Buyer not found");
+        }
+
+        LocalDateTime since = sinceDays == null ? null : LocalDateTime.now().minusDays(sinceDays);
+        StreamingResponseBody body = out -> orderHistoryExporter.export(buyerId, since, exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("orders-" + buyerId + "." + exportFormat.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    // Spring only streams when the declared body type is StreamingResponseBody, so errors are written the same way
+    private static ResponseEntity<StreamingResponseBody> exportError(HttpStatus status, String message) {
+        return ResponseEntity.status(status)
+                .contentType(MediaType.TEXT_PLAIN)
+                .body(out -> out.write(message.getBytes(StandardCharsets.UTF_8)));
     }
 
     @PostMapping("/create")
@@ -109,12 +173,12 @@ public class OrderController {
         }
 
         Order order = new Order();
-        order.setId(generateOrderId()); // Generate and set the new ID
+        order.setId(orderIdGenerator.next()); // Generate and set the new ID
         order.setBuyer(buyer);
         order.setStatus(OrderStatus.PENDING);
         order.setOrderDate(LocalDateTime.now());
 
-        BigDecimal totalPrice = BigDecimal.ZERO;
+        long totalPriceMinor = 0;
         List<OrderItem> orderItems = new ArrayList<>();
 
         for (OrderItemDto itemDto : orderDto.getItems()) {
@@ -125,24 +189,37 @@ public class OrderController {
             if (fishListing == null) {
                 return new ResponseEntity<>("Fish listing with ID " + fishListingId + " not found.", HttpStatus.NOT_FOUND);
             }
+            if (fishListing.getStatus() == ListingStatus.EXPIRED) {
+                return new ResponseEntity<>("Fish listing with ID " + fishListingId + " has expired.", HttpStatus.CONFLICT);
+            }
 
-            BigDecimal priceAtPurchase = fishListing.getPrice();
-            BigDecimal itemTotalPrice = priceAtPurchase.multiply(BigDecimal.valueOf(quantity));
+            // Fixed-point: minor units per kg x grams, rounded per line (see MoneyMath)
+            long priceAtPurchaseMinor = fishListing.getPriceMinor();
+            long quantityGrams = quantity == null ? 0 : MoneyMath.toGrams(quantity);
+            if (quantityGrams <= 0) {
+                return new ResponseEntity<>("Quantity for fish listing with ID " + fishListingId + " must be at least 1 gram.",
+                        HttpStatus.BAD_REQUEST);
+            }
 
             OrderItem orderItem = new OrderItem();
             orderItem.setFishListing(fishListing);
             orderItem.setOrder(order);
-            orderItem.setPriceAtPurchase(priceAtPurchase);
-            orderItem.setQuantity(quantity);
+            orderItem.setPriceAtPurchaseMinor(priceAtPurchaseMinor);
+            orderItem.setQuantityGrams(quantityGrams);
 
             orderItems.add(orderItem);
-            totalPrice = totalPrice.add(itemTotalPrice);
+            totalPriceMinor = Math.addExact(totalPriceMinor, MoneyMath.lineTotal(priceAtPurchaseMinor, quantityGrams));
         }
 
         order.setItems(orderItems);
-        order.setTotalPrice(totalPrice);
+        order.setTotalPriceMinor(totalPriceMinor);
 
-        Order createdOrder = orderRepo.save(order);
+        Order createdOrder = outbox.inTransaction(() -> {
+            Order saved = orderRepo.save(order);
+            outbox.record(DomainEventType.ORDER_CREATED, saved.getId(), Map.of("buyerId", buyer.getId()));
+            tableVersions.bump(VersionedTable.ORDERS, VersionedTable.ORDER_ITEMS);
+            return saved;
+        });
 
         return new ResponseEntity<>(createdOrder, HttpStatus.CREATED);
     }
@@ -150,19 +227,52 @@ public class OrderController {
     @PutMapping("/update/{id}")
     public ResponseEntity<Order> updateOrder(@PathVariable String id, @RequestBody UpdateOrderStatusDto statusDto) {
         return orderRepo.findById(id).map(existingOrder -> {
+            if (existingOrder.getStatus() == statusDto.getStatus()) {
+                return ResponseEntity.ok(existingOrder);
+            }
+            if (!OrderTransitions.isAllowed(existingOrder.getStatus(), statusDto.getStatus())) {
+                return ResponseEntity.status(HttpStatus.CONFLICT).<Order>build();
+            }
+            OrderStatus previousStatus = existingOrder.getStatus();
             existingOrder.setStatus(statusDto.getStatus());
-            Order updated = orderRepo.save(existingOrder);
+            // Confirming or cancelling changes whether the order counts towards the fisherman's sales
+            Order updated = outbox.inTransaction(() -> {
+                Order saved = orderRepo.save(existingOrder);
+                outbox.record(DomainEventType.ORDER_STATUS_CHANGED, id,
+                        Map.of("from", previousStatus, "to", statusDto.getStatus()));
+                tableVersions.bump(VersionedTable.ORDERS);
+                return saved;
+            });
             return ResponseEntity.ok(updated);
         }).orElse(ResponseEntity.notFound().build());
     }
 
+    // Moves many orders at once (e.g. shipping a morning's orders); orders that can't make the move are reported, not failed
+    @PutMapping("/status")
+    public ResponseEntity<?> updateOrderStatuses(@RequestBody BulkOrderStatusDto statusDto) {
+        if (statusDto.getStatus() == null || statusDto.getOrderIds() == null || statusDto.getOrderIds().isEmpty()) {
+            return new ResponseEntity<>("Give a status and at least one order ID.", HttpStatus.BAD_REQUEST);
+        }
+        if (statusDto.getOrderIds().size() > MAX_BULK_ORDERS) {
+            return new ResponseEntity<>("At most " + MAX_BULK_ORDERS + " orders can be updated at once.", HttpStatus.BAD_REQUEST);
+        }
+
+        List<OrderStatusOutcomeDto> outcomes = orderStatusUpdater.transition(statusDto.getOrderIds(), statusDto.getStatus(),
+                statusDto.getFishermanId());
+        return ResponseEntity.ok(outcomes);
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<String> deleteOrder(@PathVariable String id) {
         if (!orderRepo.existsById(id)) {
             return ResponseEntity.notFound().build();
         }
 
-        orderRepo.deleteById(id);
+        outbox.inTransaction(() -> {
+            orderRepo.deleteById(id);
+            outbox.record(DomainEventType.ORDER_DELETED, id, Map.of());
+            tableVersions.bump(VersionedTable.ORDERS, VersionedTable.ORDER_ITEMS, VersionedTable.PAYMENTS, VersionedTable.REVIEWS);
+        });
         return ResponseEntity.ok("Order deleted successfully");
     }
 }
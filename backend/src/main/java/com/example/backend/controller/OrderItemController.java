@@ -1,6 +1,8 @@
 package com.example.backend.controller;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -12,7 +14,12 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.example.backend.model.OrderItem;
+import com.example.backend.outbox.DomainEventType;
+import com.example.backend.outbox.Outbox;
 import com.example.backend.repository.OrderItemRepo;
+import com.example.backend.versioning.TableVersions;
+import com.example.backend.versioning.Versioned;
+import com.example.backend.versioning.VersionedTable;
 
 @RestController
 @CrossOrigin(origins = "http://localhost:3000")
@@ -20,18 +27,24 @@ import com.example.backend.repository.OrderItemRepo;
 public class OrderItemController {
     
     private final OrderItemRepo orderItemRepo;
+    private final Outbox outbox;
+    private final TableVersions tableVersions;
 
-    public OrderItemController(OrderItemRepo orderItemRepo) {
+    public OrderItemController(OrderItemRepo orderItemRepo, Outbox outbox, TableVersions tableVersions) {
         this.orderItemRepo = orderItemRepo;
+        this.outbox = outbox;
+        this.tableVersions = tableVersions;
     }
 
     @GetMapping("/list")
+    @Versioned
     public ResponseEntity<List<OrderItem>> getAllOrderItems() {
         List<OrderItem> orderItems = orderItemRepo.findAll();
         return ResponseEntity.ok(orderItems);
     }
 
     @GetMapping("/{id}")
+    @Versioned
     public ResponseEntity<OrderItem> getOrderItemById(@PathVariable Long id) {
         return orderItemRepo.findById(id)
                 .map(ResponseEntity::ok)
@@ -43,11 +56,17 @@ public class OrderItemController {
     // In a real-world scenario, you might want to restrict access to this.
     @DeleteMapping("/{id}")
     public ResponseEntity<String> deleteOrderItem(@PathVariable Long id) {
-        if (!orderItemRepo.existsById(id)) {
+        Optional<OrderItem> orderItem = orderItemRepo.findById(id);
+        if (orderItem.isEmpty()) {
             return new ResponseEntity<>("OrderItem not found", HttpStatus.NOT_FOUND);
         }
 
-        orderItemRepo.deleteById(id);
+        String orderId = orderItem.get().getOrder().getId();
+        outbox.inTransaction(() -> {
+            orderItemRepo.deleteById(id);
+            outbox.record(DomainEventType.ORDER_ITEM_DELETED, orderId, Map.of("orderItemId", id));
+            tableVersions.bump(VersionedTable.ORDER_ITEMS, VersionedTable.REVIEWS);
+        });
         return ResponseEntity.ok("OrderItem deleted successfully");
     }
 }
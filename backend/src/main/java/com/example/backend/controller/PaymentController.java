@@ -1,6 +1,7 @@
 package com.example.backend.controller;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.http.HttpStatus;
@@ -19,8 +20,13 @@ import com.example.backend.dto.CreatePaymentDto;
 import com.example.backend.dto.UpdatePaymentStatusDto;
 import com.example.backend.model.Order;
 import com.example.backend.model.Payment;
+import com.example.backend.outbox.DomainEventType;
+import com.example.backend.outbox.Outbox;
 import com.example.backend.repository.OrderRepo;
 import com.example.backend.repository.PaymentRepo;
+import com.example.backend.versioning.TableVersions;
+import com.example.backend.versioning.Versioned;
+import com.example.backend.versioning.VersionedTable;
 
 @RestController
 @RequestMapping("/api/payments")
@@ -29,19 +35,26 @@ public class PaymentController {
     
     private final PaymentRepo paymentRepo;
     private final OrderRepo orderRepo;
+    private final Outbox outbox;
+    private final TableVersions tableVersions;
 
-    public PaymentController(PaymentRepo paymentRepo, OrderRepo orderRepo) {
+    public PaymentController(PaymentRepo paymentRepo, OrderRepo orderRepo, Outbox outbox,
+            TableVersions tableVersions) {
         this.paymentRepo = paymentRepo;
         this.orderRepo = orderRepo;
+        this.outbox = outbox;
+        this.tableVersions = tableVersions;
     }
 
     @GetMapping("/list")
+    @Versioned
     public ResponseEntity<List<Payment>> getAllPayments() {
         List<Payment> payments = paymentRepo.findAll();
         return ResponseEntity.ok(payments);
     }
 
     @GetMapping("/{id}")
+    @Versioned
     public ResponseEntity<Payment> getPaymentById(@PathVariable Long id) {
         return paymentRepo.findById(id)
                 .map(ResponseEntity::ok)
@@ -67,7 +80,14 @@ public class PaymentController {
         payment.setTransactionId(paymentDto.getTransactionId());
         payment.setOrder(order);
 
-        Payment createdPayment = paymentRepo.save(payment);
+        // A successful payment counts a still-pending order as a sale
+        Payment createdPayment = outbox.inTransaction(() -> {
+            Payment saved = paymentRepo.save(payment);
+            outbox.record(DomainEventType.PAYMENT_CREATED, saved.getId(),
+                    Map.of("orderId", order.getId(), "status", saved.getStatus()));
+            tableVersions.bump(VersionedTable.PAYMENTS);
+            return saved;
+        });
         return new ResponseEntity<>(createdPayment, HttpStatus.CREATED);
     }
 
@@ -75,7 +95,13 @@ public class PaymentController {
     public ResponseEntity<Payment> updatePaymentStatus(@PathVariable Long id, @RequestBody UpdatePaymentStatusDto statusDto) {
         return paymentRepo.findById(id).map(existingPayment -> {
             existingPayment.setStatus(statusDto.getStatus());
-            Payment updated = paymentRepo.save(existingPayment);
+            Payment updated = outbox.inTransaction(() -> {
+                Payment saved = paymentRepo.save(existingPayment);
+                outbox.record(DomainEventType.PAYMENT_STATUS_CHANGED, id,
+                        Map.of("orderId", saved.getOrder().getId(), "status", saved.getStatus()));
+                tableVersions.bump(VersionedTable.PAYMENTS);
+                return saved;
+            });
             return ResponseEntity.ok(updated);
         }).orElse(ResponseEntity.notFound().build());
     }
@@ -85,11 +111,17 @@ public class PaymentController {
     // This endpoint is provided for completeness but should be secured.
     @DeleteMapping("/{id}")
     public ResponseEntity<String> deletePayment(@PathVariable Long id) {
-        if (!paymentRepo.existsById(id)) {
+        Optional<Payment> payment = paymentRepo.findById(id);
+        if (payment.isEmpty()) {
             return ResponseEntity.notFound().build();
         }
 
-        paymentRepo.deleteById(id);
+        String orderId = payment.get().getOrder().getId();
+        outbox.inTransaction(() -> {
+            paymentRepo.deleteById(id);
+            outbox.record(DomainEventType.PAYMENT_DELETED, id, Map.of("orderId", orderId));
+            tableVersions.bump(VersionedTable.PAYMENTS);
+        });
         return ResponseEntity.ok("Payment deleted successfully");
     }
 }
@@ -15,32 +15,51 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.example.backend.dto.CreateReviewDto;
+import com.example.backend.dto.PageResponseDto;
 import com.example.backend.dto.ReviewResponseDto;
+import com.example.backend.dto.ReviewableItemDto;
 import com.example.backend.dto.UpdateReviewDto;
+import com.example.backend.enums.OrderStatus;
 import com.example.backend.model.OrderItem;
 import com.example.backend.model.Review;
 import com.example.backend.model.User;
+import com.example.backend.outbox.DomainEventType;
+import com.example.backend.outbox.Outbox;
 import com.example.backend.repository.OrderItemRepo;
+import com.example.backend.repository.OrderItemRepo.ReviewableItem;
+import com.example.backend.versioning.TableVersions;
+import com.example.backend.versioning.Versioned;
+import com.example.backend.versioning.VersionedTable;
 
 @RestController
 @CrossOrigin(origins = "http://localhost:3000")
 @RequestMapping("/api/reviews")
 public class ReviewController {
 
+    // Only delivered items can be reviewed
+    private static final List<OrderStatus> REVIEWABLE_STATUSES = List.of(OrderStatus.SHIPPED, OrderStatus.COMPLETED);
+
     private final com.example.backend.repository.ReviewRepo reviewRepo;
     private final com.example.backend.repository.UserRepo userRepo;
     private final OrderItemRepo orderItemRepo;
+    private final Outbox outbox;
+    private final TableVersions tableVersions;
 
-    public ReviewController(com.example.backend.repository.ReviewRepo reviewRepo, com.example.backend.repository.UserRepo userRepo, OrderItemRepo orderItemRepo) {
+    public ReviewController(com.example.backend.repository.ReviewRepo reviewRepo, com.example.backend.repository.UserRepo userRepo, OrderItemRepo orderItemRepo,
+            Outbox outbox, TableVersions tableVersions) {
         this.reviewRepo = reviewRepo;
         this.userRepo = userRepo;
         this.orderItemRepo = orderItemRepo;
+        this.outbox = outbox;
+        this.tableVersions = tableVersions;
     }
 
     @GetMapping("/list")
+    @Versioned(VersionedTable.REVIEWS)
     public ResponseEntity<List<ReviewResponseDto>> getAllReviews() {
         List<Review> reviews = reviewRepo.findAll();
         List<ReviewResponseDto> dtos = reviews.stream()
@@ -57,6 +76,7 @@ public class ReviewController {
     }
 
     @GetMapping("/{id}")
+    @Versioned(VersionedTable.REVIEWS)
     public ResponseEntity<ReviewResponseDto> getReviewById(@PathVariable Long id) {
         return reviewRepo.findById(id)
             .map(r -> new ReviewResponseDto(
@@ -113,7 +133,13 @@ public class ReviewController {
         review.setOrderItem(orderItem);
         review.setReviewDate(java.time.LocalDateTime.now());
 
-        Review createdReview = reviewRepo.save(review);
+        Review createdReview = outbox.inTransaction(() -> {
+            Review saved = reviewRepo.save(review);
+            outbox.record(DomainEventType.REVIEW_CREATED, saved.getId(),
+                    Map.of("buyerId", buyer.getId(), "orderItemId", orderItem.getId()));
+            tableVersions.bump(VersionedTable.REVIEWS);
+            return saved;
+        });
         ReviewResponseDto responseDto = new ReviewResponseDto(
             createdReview.getId(),
             createdReview.getRating(),
@@ -126,6 +152,7 @@ public class ReviewController {
     }
 
     @GetMapping("/buyer/{buyerId}")
+    @Versioned(VersionedTable.REVIEWS)
     public ResponseEntity<List<ReviewResponseDto>> getReviewsByBuyerId(@PathVariable String buyerId) {
         List<Review> reviews = reviewRepo.findByBuyerId(buyerId);
         List<ReviewResponseDto> dtos = reviews.stream()
@@ -141,6 +168,31 @@ public class ReviewController {
         return ResponseEntity.ok(dtos);
     }
 
+    // Everything the buyer reviews screen needs in one query, instead of the buyer's full orders plus their reviews
+    @GetMapping("/buyer/{buyerId}/reviewable")
+    @Versioned({ VersionedTable.ORDERS, VersionedTable.ORDER_ITEMS, VersionedTable.FISH_LISTINGS, VersionedTable.USERS,
+            VersionedTable.REVIEWS })
+    public ResponseEntity<?> getReviewableItems(@PathVariable String buyerId,
+            @RequestParam(value = "reviewed", required = false) Boolean reviewed,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        if (page < 0 || size < 1 || size > 100) {
+            return new ResponseEntity<>("page must be 0 or more and size between 1 and 100.", HttpStatus.BAD_REQUEST);
+        }
+        if (!userRepo.existsById(buyerId)) {
+            return new ResponseEntity<>("Buyer not found", HttpStatus.NOT_FOUND);
+        }
+
+        // One extra row tells whether there is a next page
+        List<ReviewableItem> rows = orderItemRepo.findReviewableByBuyer(buyerId, REVIEWABLE_STATUSES, reviewed, size + 1,
+                (long) page * size);
+        boolean hasNext = rows.size() > size;
+        List<ReviewableItemDto> items = (hasNext ? rows.subList(0, size) : rows).stream()
+                .map(ReviewableItemDto::from)
+                .toList();
+        return ResponseEntity.ok(new PageResponseDto<>(items, page, size, hasNext));
+    }
+
     @PutMapping("/update/{id}")
     public ResponseEntity<?> updateReview(@PathVariable Long id, @RequestBody UpdateReviewDto reviewDto) {
         Optional<Review> reviewOptional = reviewRepo.findById(id);
@@ -158,7 +210,12 @@ public class ReviewController {
             existingReview.setComment(reviewDto.getComment());
         }
         
-        Review updated = reviewRepo.save(existingReview);
+        Review updated = outbox.inTransaction(() -> {
+            Review saved = reviewRepo.save(existingReview);
+            outbox.record(DomainEventType.REVIEW_UPDATED, id, Map.of());
+            tableVersions.bump(VersionedTable.REVIEWS);
+            return saved;
+        });
         ReviewResponseDto responseDto = new ReviewResponseDto(
             updated.getId(),
             updated.getRating(),
@@ -176,7 +233,11 @@ public class ReviewController {
             return ResponseEntity.notFound().build();
         }
 
-        reviewRepo.deleteById(id);
+        outbox.inTransaction(() -> {
+            reviewRepo.deleteById(id);
+            outbox.record(DomainEventType.REVIEW_DELETED, id, Map.of());
+            tableVersions.bump(VersionedTable.REVIEWS);
+        });
         return ResponseEntity.ok("Review deleted successfully");
     }
 }
\ No newline at end of file
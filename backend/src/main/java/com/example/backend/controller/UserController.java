@@ -1,7 +1,10 @@
 package com.example.backend.controller;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -17,6 +20,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.example.backend.coalescing.RequestCoalescer;
 import com.example.backend.dto.FishListingSummaryDto;
 import com.example.backend.dto.LoginRequestDto;
 import com.example.backend.dto.OrderSummaryDto;
@@ -26,7 +30,12 @@ import com.example.backend.dto.UpdateUserDto;
 import com.example.backend.dto.UserResponseDto;
 import com.example.backend.enums.UserRole;
 import com.example.backend.model.User;
+import com.example.backend.repository.FishListingRepo;
+import com.example.backend.repository.GazetteerPlaceRepo;
 import com.example.backend.repository.UserRepo;
+import com.example.backend.versioning.TableVersions;
+import com.example.backend.versioning.Versioned;
+import com.example.backend.versioning.VersionedTable;
 
 @RestController
 @CrossOrigin(origins = "http://localhost:3000") // Removed allowCredentials as full Spring Security is not used
@@ -35,9 +44,28 @@ public class UserController {
 
     private static final Logger logger = LoggerFactory.getLogger(UserController.class);
     private final UserRepo userRepo;
+    private final FishListingRepo fishListingRepo;
+    private final GazetteerPlaceRepo gazetteerPlaceRepo;
+    private final TableVersions tableVersions;
+    private final RequestCoalescer requestCoalescer;
 
-    public UserController(UserRepo userRepo) {
+    public UserController(UserRepo userRepo, FishListingRepo fishListingRepo, GazetteerPlaceRepo gazetteerPlaceRepo,
+            TableVersions tableVersions, RequestCoalescer requestCoalescer) {
         this.userRepo = userRepo;
+        this.fishListingRepo = fishListingRepo;
+        this.gazetteerPlaceRepo = gazetteerPlaceRepo;
+        this.tableVersions = tableVersions;
+        this.requestCoalescer = requestCoalescer;
+    }
+
+    private void applyCoordinates(User user) {
+        // Unknown places clear stale coordinates rather than keeping the old position
+        user.setLatitude(null);
+        user.setLongitude(null);
+        gazetteerPlaceRepo.resolve(user.getLocation()).ifPresent(place -> {
+            user.setLatitude(place.getLatitude());
+            user.setLongitude(place.getLongitude());
+        });
     }
 
     private synchronized String generateUserId(UserRole role) {
@@ -69,6 +97,8 @@ public class UserController {
         dto.setRole(user.getRole());
         dto.setProfileInfo(user.getProfileInfo());
         dto.setLocation(user.getLocation());
+        dto.setLatitude(user.getLatitude());
+        dto.setLongitude(user.getLongitude());
         dto.setCreatedAt(user.getCreatedAt());
 
         if (user.getRole() == UserRole.FISHERMAN && user.getFishListings() != null) {
@@ -111,6 +141,7 @@ public class UserController {
     }
 
     @GetMapping("/list")
+    @Versioned
     public ResponseEntity<List<UserResponseDto>> getAllUsers() {
         List<User> users = userRepo.findAll();
         List<UserResponseDto> userDtos = users.stream().map(this::convertToDto).toList();
@@ -118,8 +149,11 @@ public class UserController {
     }
 
     @GetMapping("/{id}")
+    @Versioned
     public ResponseEntity<UserResponseDto> getUserById(@PathVariable String id) {
-        return userRepo.findById(id).map(user -> ResponseEntity.ok(convertToDto(user))).orElse(ResponseEntity.notFound().build());
+        Optional<UserResponseDto> user = requestCoalescer.load("user-detail", id,
+                () -> userRepo.findById(id).map(this::convertToDto));
+        return user.map(ResponseEntity::ok).orElse(ResponseEntity.notFound().build());
     }
     
     @PostMapping("/register") // Changed from createUser to registerUser for clarity
@@ -142,6 +176,7 @@ public class UserController {
         user.setLastName(registerDto.getLastName());
         user.setProfileInfo(registerDto.getProfileInfo());
         user.setLocation(registerDto.getLocation());
+        applyCoordinates(user);
 
         try {
             String roleString = registerDto.getRole();
@@ -161,6 +196,7 @@ public class UserController {
         }
 
         User createdUser = userRepo.save(user);
+        tableVersions.bump(VersionedTable.USERS);
         return new ResponseEntity<>(createdUser, HttpStatus.CREATED);
     }
 
@@ -195,9 +231,19 @@ public class UserController {
         if (updateDto.getFirstName() != null) existingUser.setFirstName(updateDto.getFirstName());
         if (updateDto.getLastName() != null) existingUser.setLastName(updateDto.getLastName());
         if (updateDto.getProfileInfo() != null) existingUser.setProfileInfo(updateDto.getProfileInfo());
-        if (updateDto.getLocation() != null) existingUser.setLocation(updateDto.getLocation());
+        if (updateDto.getLocation() != null) {
+            existingUser.setLocation(updateDto.getLocation());
+            applyCoordinates(existingUser);
+        }
 
         User updatedUser = userRepo.save(existingUser);
+        // Names and profile text are part of the fisherman's listing search documents
+        if (updatedUser.getRole() == UserRole.FISHERMAN) {
+            fishListingRepo.refreshSearchDocuments(id);
+            fishListingRepo.addSearchTerms(Stream.of(updatedUser.getFirstName(), updatedUser.getLastName(),
+                    updatedUser.getProfileInfo()).filter(Objects::nonNull).collect(Collectors.joining(" ")));
+        }
+        tableVersions.bump(VersionedTable.USERS, VersionedTable.FISH_LISTINGS);
         logger.info("User with ID {} updated successfully.", id);
         return ResponseEntity.ok(updatedUser);
     }
@@ -208,7 +254,9 @@ public class UserController {
             return ResponseEntity.notFound().build();
         }
 
+        // Cascades to the user's listings, orders and reviews
         userRepo.deleteById(id);
+        tableVersions.bump(VersionedTable.values());
         return ResponseEntity.ok("User deleted successfully");
     }
 }
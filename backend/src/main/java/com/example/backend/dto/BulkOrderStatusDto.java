@@ -0,0 +1,15 @@
+package com.example.backend.dto;
+
+import java.util.List;
+
+import com.example.backend.enums.OrderStatus;
+
+import lombok.Data;
+
+@Data
+public class BulkOrderStatusDto {
+    private List<String> orderIds;
+    private OrderStatus status;
+    // When set, only orders with at least one of this fisherman's listings are changed
+    private String fishermanId;
+}
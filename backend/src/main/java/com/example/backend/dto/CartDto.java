@@ -0,0 +1,29 @@
+package com.example.backend.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import com.example.backend.cart.CartItem;
+import com.example.backend.money.MoneyMath;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CartDto {
+    private String buyerId;
+    private List<CartItemDto> items;
+    // What checkout would charge at the prices in the cart
+    private BigDecimal totalPrice;
+
+    public static CartDto from(String buyerId, List<CartItem> items) {
+        long totalPriceMinor = 0;
+        for (CartItem item : items) {
+            totalPriceMinor = Math.addExact(totalPriceMinor, MoneyMath.lineTotal(item.getPricePerKgMinor(), item.getGrams()));
+        }
+        return new CartDto(buyerId, items.stream().map(CartItemDto::from).toList(), MoneyMath.toDecimal(totalPriceMinor));
+    }
+}
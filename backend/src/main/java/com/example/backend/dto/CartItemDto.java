@@ -0,0 +1,27 @@
+package com.example.backend.dto;
+
+import java.math.BigDecimal;
+
+import com.example.backend.cart.CartItem;
+import com.example.backend.money.MoneyMath;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CartItemDto {
+    private Long fishListingId;
+    private String fishType;
+    private Double quantity;
+    private BigDecimal pricePerKg;
+    private BigDecimal lineTotal;
+
+    public static CartItemDto from(CartItem item) {
+        return new CartItemDto(item.getFishListingId(), item.getFishType(), MoneyMath.toKilograms(item.getGrams()),
+                MoneyMath.toDecimal(item.getPricePerKgMinor()),
+                MoneyMath.toDecimal(MoneyMath.lineTotal(item.getPricePerKgMinor(), item.getGrams())));
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.backend.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class DailyPriceDto {
+    private LocalDate date;
+    private BigDecimal medianPricePerKg;
+    private BigDecimal kilograms;
+    private long trades;
+}
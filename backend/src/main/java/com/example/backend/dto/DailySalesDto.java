@@ -0,0 +1,20 @@
+package com.example.backend.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class DailySalesDto {
+    private LocalDate date;
+    private String fishType;
+    private BigDecimal revenue;
+    private BigDecimal kilograms;
+    private BigDecimal averagePricePerKg;
+    private long itemCount;
+}
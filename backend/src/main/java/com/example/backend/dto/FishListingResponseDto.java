@@ -4,9 +4,14 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 import com.example.backend.enums.ListingStatus;
+import com.example.backend.fields.FieldSelectionFilter;
+import com.example.backend.model.FishListing;
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.annotation.JsonInclude;
 
 import lombok.Data;
 
+@JsonFilter(FieldSelectionFilter.ID)
 @Data
 public class FishListingResponseDto {
     private Long id;
@@ -17,6 +22,38 @@ public class FishListingResponseDto {
     private LocalDateTime catchDate;
     private ListingStatus status;
     private LocalDateTime createdAt;
+    // In a normalized response the fisherman is in the side table and only fishermanId is set
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private UserSummaryDto fisherman;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String fishermanId;
     private String location;
-}
\ No newline at end of file
+    private Double latitude;
+    private Double longitude;
+    // Set by the detail and most-viewed endpoints only
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long viewsToday;
+
+    public static FishListingResponseDto from(FishListing listing) {
+        FishListingResponseDto dto = new FishListingResponseDto();
+        dto.setId(listing.getId());
+        dto.setFishType(listing.getFishType());
+        dto.setWeightInKg(listing.getWeightInKg());
+        dto.setPrice(listing.getPrice());
+        dto.setPhotoUrl(listing.getPhotoUrl());
+        dto.setCatchDate(listing.getCatchDate());
+        dto.setLocation(listing.getLocation());
+        dto.setLatitude(listing.getLatitude());
+        dto.setLongitude(listing.getLongitude());
+        dto.setStatus(listing.getStatus());
+        dto.setCreatedAt(listing.getCreatedAt());
+
+        UserSummaryDto fishermanDto = new UserSummaryDto();
+        fishermanDto.setId(listing.getFisherman().getId());
+        fishermanDto.setFirstName(listing.getFisherman().getFirstName());
+        fishermanDto.setLastName(listing.getFisherman().getLastName());
+        dto.setFisherman(fishermanDto);
+
+        return dto;
+    }
+}
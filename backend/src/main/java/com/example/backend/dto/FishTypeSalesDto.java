@@ -0,0 +1,18 @@
+package com.example.backend.dto;
+
+import java.math.BigDecimal;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class FishTypeSalesDto {
+    private String fishType;
+    private BigDecimal revenue;
+    private BigDecimal kilograms;
+    private BigDecimal averagePricePerKg;
+    private long itemCount;
+}
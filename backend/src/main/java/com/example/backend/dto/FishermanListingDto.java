@@ -0,0 +1,33 @@
+package com.example.backend.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import com.example.backend.enums.ListingStatus;
+import com.example.backend.money.MoneyMath;
+import com.example.backend.repository.FishListingRepo.ListingSummary;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// A listing as its own fisherman sees it on their dashboard; no fisherman details, they're the reader
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class FishermanListingDto {
+    private Long id;
+    private String fishType;
+    private Double weightInKg;
+    private BigDecimal price;
+    private ListingStatus status;
+    private LocalDateTime catchDate;
+    private String location;
+    private String photoUrl;
+
+    public static FishermanListingDto from(ListingSummary listing) {
+        return new FishermanListingDto(listing.getId(), listing.getFishType(),
+                MoneyMath.toKilograms(listing.getWeightGrams()), MoneyMath.toDecimal(listing.getPriceMinor()),
+                listing.getStatus(), listing.getCatchDate(), listing.getLocation(), listing.getPhotoUrl());
+    }
+}
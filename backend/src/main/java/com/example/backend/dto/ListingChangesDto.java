@@ -0,0 +1,20 @@
+package com.example.backend.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// One page of GET /api/fishListings/sync. Pass version (and afterId, when set) back as the next since
+// and afterId; hasMore says whether to ask again right away.
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ListingChangesDto {
+    private List<FishListingResponseDto> upserts;
+    private List<Long> deletes;
+    private long version;
+    private Long afterId;
+    private boolean hasMore;
+}
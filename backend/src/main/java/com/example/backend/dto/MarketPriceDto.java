@@ -0,0 +1,23 @@
+package com.example.backend.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import lombok.Data;
+
+// Price per kg for one fish type over the index window; the trend compares its median with the window before
+@Data
+public class MarketPriceDto {
+    private String fishType;
+    private LocalDate from;
+    private LocalDate to;
+    private BigDecimal medianPricePerKg;
+    private BigDecimal p10PricePerKg;
+    private BigDecimal p90PricePerKg;
+    private BigDecimal kilograms;
+    private long trades;
+    private BigDecimal previousMedianPricePerKg;
+    private BigDecimal trendPercent;
+    private List<DailyPriceDto> days;
+}
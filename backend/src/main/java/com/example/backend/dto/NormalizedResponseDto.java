@@ -0,0 +1,71 @@
+package com.example.backend.dto;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// A list with its repeated nested entities moved to side tables: items refer to them by id and included
+// holds each one once, by kind and then id (e.g. included.fishermen["FSH001"])
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class NormalizedResponseDto<T> {
+    private List<T> items;
+    private Map<String, Map<Object, Object>> included;
+
+    public static NormalizedResponseDto<FishListingResponseDto> ofListings(List<FishListingResponseDto> listings) {
+        Map<Object, Object> fishermen = new LinkedHashMap<>();
+        for (FishListingResponseDto listing : listings) {
+            UserSummaryDto fisherman = listing.getFisherman();
+            if (fisherman != null) {
+                fishermen.putIfAbsent(fisherman.getId(), fisherman);
+                listing.setFishermanId(fisherman.getId());
+                listing.setFisherman(null);
+            }
+        }
+        Map<String, Map<Object, Object>> included = new LinkedHashMap<>();
+        included.put("fishermen", fishermen);
+        return new NormalizedResponseDto<>(listings, included);
+    }
+
+    // Items keep fishListingId, quantity and priceAtPurchase; the listing's type, photo and price are in
+    // included.listings and its fisherman in included.fishermen
+    public static NormalizedResponseDto<OrderDto> ofOrders(List<OrderDto> orders) {
+        Map<Object, Object> buyers = new LinkedHashMap<>();
+        Map<Object, Object> listings = new LinkedHashMap<>();
+        Map<Object, Object> fishermen = new LinkedHashMap<>();
+        for (OrderDto order : orders) {
+            OrderDto.BuyerDto buyer = order.getBuyer();
+            if (buyer != null) {
+                buyers.putIfAbsent(buyer.getId(), buyer);
+                order.setBuyerId(buyer.getId());
+                order.setBuyer(null);
+            }
+            for (OrderItemDto item : order.getItems()) {
+                OrderItemDto.FishListingDto listing = item.getFishListing();
+                if (listing == null) {
+                    continue;
+                }
+                OrderItemDto.FishListingDto.FishermanDto fisherman = listing.getFisherman();
+                if (fisherman != null) {
+                    fishermen.putIfAbsent(fisherman.getId(), fisherman);
+                    listing.setFishermanId(fisherman.getId());
+                    listing.setFisherman(null);
+                }
+                listings.putIfAbsent(listing.getId(), listing);
+                item.setFishListing(null);
+                item.setPhotoUrl(null);
+                item.setFishName(null);
+            }
+        }
+        Map<String, Map<Object, Object>> included = new LinkedHashMap<>();
+        included.put("buyers", buyers);
+        included.put("listings", listings);
+        included.put("fishermen", fishermen);
+        return new NormalizedResponseDto<>(orders, included);
+    }
+}
@@ -5,13 +5,17 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import com.example.backend.fields.FieldSelectionFilter;
 import com.example.backend.model.Order;
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.annotation.JsonInclude;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 
+@JsonFilter(FieldSelectionFilter.ID)
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
@@ -25,7 +29,12 @@ public class OrderDto {
 
 
    private List<OrderItemDto> items;
+   // In a normalized response the buyer is in the side table and only buyerId is set
+   @JsonInclude(JsonInclude.Include.NON_NULL)
    private BuyerDto buyer;
+   @JsonInclude(JsonInclude.Include.NON_NULL)
+   private String buyerId;
+   @JsonFilter(FieldSelectionFilter.ID)
    @Data
    @AllArgsConstructor
    @NoArgsConstructor
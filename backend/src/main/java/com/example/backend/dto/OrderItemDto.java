@@ -3,29 +3,43 @@ package com.example.backend.dto;
 
 import java.math.BigDecimal;
 
+import com.example.backend.fields.FieldSelectionFilter;
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import lombok.Data;
 
 
+@JsonFilter(FieldSelectionFilter.ID)
 @Data
 public class OrderItemDto {
    private Long id;
    private Long fishListingId;
    private Double quantity;
+   // photoUrl, fishName and fishListing repeat the listing, so a normalized response leaves them out
+   @JsonInclude(JsonInclude.Include.NON_NULL)
    private String photoUrl;
+   @JsonInclude(JsonInclude.Include.NON_NULL)
    private String fishName;
    private BigDecimal priceAtPurchase;
    
    // Add fishListing details
+   @JsonInclude(JsonInclude.Include.NON_NULL)
    private FishListingDto fishListing;
    
+   @JsonFilter(FieldSelectionFilter.ID)
    @Data
    public static class FishListingDto {
        private Long id;
        private String fishType;
        private BigDecimal price;
        private String photoUrl;
+       @JsonInclude(JsonInclude.Include.NON_NULL)
        private FishermanDto fisherman;
+       @JsonInclude(JsonInclude.Include.NON_NULL)
+       private String fishermanId;
        
+       @JsonFilter(FieldSelectionFilter.ID)
        @Data
        public static class FishermanDto {
            private String id;
@@ -0,0 +1,27 @@
+package com.example.backend.dto;
+
+import com.example.backend.enums.OrderStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrderStatusOutcomeDto {
+
+    public enum Outcome {
+        UPDATED,
+        // Already had the requested status
+        UNCHANGED,
+        NOT_ALLOWED,
+        NOT_FOUND
+    }
+
+    private String orderId;
+    private Outcome outcome;
+    // Status before the request; null when not found
+    private OrderStatus previousStatus;
+    private OrderStatus status;
+}
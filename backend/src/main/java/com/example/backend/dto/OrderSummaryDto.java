@@ -4,9 +4,12 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 import com.example.backend.enums.OrderStatus;
+import com.example.backend.fields.FieldSelectionFilter;
+import com.fasterxml.jackson.annotation.JsonFilter;
 
 import lombok.Data;
 
+@JsonFilter(FieldSelectionFilter.ID)
 @Data
 public class OrderSummaryDto {
     private String id;
@@ -0,0 +1,18 @@
+package com.example.backend.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// One page of results; hasNext comes from fetching one extra row, so no COUNT(*) is needed
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PageResponseDto<T> {
+    private List<T> items;
+    private int page;
+    private int size;
+    private boolean hasNext;
+}
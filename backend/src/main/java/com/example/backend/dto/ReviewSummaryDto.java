@@ -2,8 +2,12 @@ package com.example.backend.dto;
 
 import java.time.LocalDateTime;
 
+import com.example.backend.fields.FieldSelectionFilter;
+import com.fasterxml.jackson.annotation.JsonFilter;
+
 import lombok.Data;
 
+@JsonFilter(FieldSelectionFilter.ID)
 @Data
 public class ReviewSummaryDto {
     private Long id;
@@ -0,0 +1,52 @@
+package com.example.backend.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import com.example.backend.enums.OrderStatus;
+import com.example.backend.money.MoneyMath;
+import com.example.backend.repository.OrderItemRepo.ReviewableItem;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// One row of the buyer reviews screen: a delivered order item and its review, if the buyer wrote one
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReviewableItemDto {
+    private Long orderItemId;
+    private String orderId;
+    private LocalDateTime orderDate;
+    private OrderStatus orderStatus;
+    private Long fishListingId;
+    private String fishType;
+    private String photoUrl;
+    private String sellerFirstName;
+    private String sellerLastName;
+    private Double quantity;
+    private BigDecimal priceAtPurchase;
+    private BigDecimal subtotal;
+    private ReviewDto review;
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class ReviewDto {
+        private Long id;
+        private Integer rating;
+        private String comment;
+        private LocalDateTime reviewDate;
+    }
+
+    public static ReviewableItemDto from(ReviewableItem item) {
+        ReviewDto review = item.getReviewId() == null ? null
+                : new ReviewDto(item.getReviewId(), item.getRating(), item.getComment(), item.getReviewDate());
+        return new ReviewableItemDto(item.getOrderItemId(), item.getOrderId(), item.getOrderDate(), item.getOrderStatus(),
+                item.getFishListingId(), item.getFishType(), item.getPhotoUrl(), item.getSellerFirstName(),
+                item.getSellerLastName(), MoneyMath.toKilograms(item.getQuantityGrams()),
+                MoneyMath.toDecimal(item.getPriceAtPurchaseMinor()),
+                MoneyMath.toDecimal(MoneyMath.lineTotal(item.getPriceAtPurchaseMinor(), item.getQuantityGrams())), review);
+    }
+}
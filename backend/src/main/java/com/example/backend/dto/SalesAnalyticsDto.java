@@ -0,0 +1,20 @@
+package com.example.backend.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import lombok.Data;
+
+// A fisherman's sales over a date range: per day and fish type for charts, per fish type and overall for totals
+@Data
+public class SalesAnalyticsDto {
+    private String fishermanId;
+    private LocalDate from;
+    private LocalDate to;
+    private BigDecimal totalRevenue;
+    private BigDecimal totalKilograms;
+    private BigDecimal averagePricePerKg;
+    private List<DailySalesDto> days;
+    private List<FishTypeSalesDto> fishTypes;
+}
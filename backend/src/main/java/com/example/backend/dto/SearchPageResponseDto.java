@@ -0,0 +1,20 @@
+package com.example.backend.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// One page of search results. Only the newest matches are ranked, so truncated says more listings match
+// than were ranked and paging on will not reach the older ones; a narrower query will.
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SearchPageResponseDto<T> {
+    private List<T> items;
+    private int page;
+    private int size;
+    private boolean hasNext;
+    private boolean truncated;
+}
@@ -4,10 +4,13 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import com.example.backend.enums.UserRole;
+import com.example.backend.fields.FieldSelectionFilter;
+import com.fasterxml.jackson.annotation.JsonFilter;
 import com.fasterxml.jackson.annotation.JsonInclude;
 
 import lombok.Data;
 
+@JsonFilter(FieldSelectionFilter.ID)
 @Data
 public class UserResponseDto {
     private String id;
@@ -18,6 +21,8 @@ public class UserResponseDto {
     private UserRole role;
     private String profileInfo;
     private String location;
+    private Double latitude;
+    private Double longitude;
     private LocalDateTime createdAt;
 
     @JsonInclude(JsonInclude.Include.NON_EMPTY)
@@ -1,7 +1,11 @@
 package com.example.backend.dto;
 
+import com.example.backend.fields.FieldSelectionFilter;
+import com.fasterxml.jackson.annotation.JsonFilter;
+
 import lombok.Data;
 
+@JsonFilter(FieldSelectionFilter.ID)
 @Data
 public class UserSummaryDto {
     private String id;
@@ -7,7 +7,9 @@ public enum ListingStatus {
     SENT_FROZEN("SENT FROZEN"),
     UNSENT_FRESH("UNSENT FRESH"),
     AVAILABLE("AVAILABLE"),
-    SOLD("SOLD");
+    SOLD("SOLD"),
+    // Set by the freshness job once a listing is past its fish type's window; kept for order history
+    EXPIRED("EXPIRED");
 
     private final String dbValue;
 
@@ -19,4 +21,9 @@ public enum ListingStatus {
     public String getDbValue() {
         return dbValue;
     }
+
+    // Still for sale: everything but SOLD and EXPIRED
+    public boolean isOnOffer() {
+        return this != SOLD && this != EXPIRED;
+    }
 }
\ No newline at end of file
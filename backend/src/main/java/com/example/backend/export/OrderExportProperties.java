@@ -0,0 +1,13 @@
+package com.example.backend.export;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "fishermen.order-export")
+public class OrderExportProperties {
+
+    // Rows pulled from the cursor per round trip; the only rows held in memory at a time
+    private int fetchSize = 1000;
+}
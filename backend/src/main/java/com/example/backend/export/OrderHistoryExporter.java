@@ -0,0 +1,210 @@
+package com.example.backend.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.backend.money.MoneyMath;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Writes a buyer's order history straight from a database cursor, so heap use doesn't grow with the
+ * number of orders.
+ *
+ * Postgres only honours the fetch size inside a transaction (otherwise the driver reads the whole result
+ * up front), hence the read-only transaction around the query. CSV has one line per order item, with the
+ * order columns repeated; NDJSON has one object per order with its items nested, which works because rows
+ * arrive grouped by order.
+ */
+public class OrderHistoryExporter {
+
+    static final String CSV_HEADER = "order_id,order_date,status,total_price,item_id,fish_listing_id,fish_type,quantity,price_at_purchase";
+
+    private static final String QUERY = """
+            SELECT o.id, o.order_date, o.status, o.total_price_minor,
+                   oi.id AS item_id, oi.fish_listing_id, f.fish_type, oi.quantity_grams, oi.price_at_purchase_minor
+            FROM orders o
+            LEFT JOIN order_items oi ON oi.order_id = o.id
+            LEFT JOIN fish_listings f ON f.id = oi.fish_listing_id
+            WHERE o.buyer_id = ? AND (CAST(? AS timestamp) IS NULL OR o.order_date >= ?)
+            ORDER BY o.order_date, o.id, oi.id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+
+    public OrderHistoryExporter(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+            ObjectMapper objectMapper, int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+    }
+
+    // since may be null for the full history
+    public void export(String buyerId, LocalDateTime since, ExportFormat format, OutputStream out) throws IOException {
+        try {
+            if (format == ExportFormat.CSV) {
+                Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+                writer.write(CSV_HEADER);
+                writer.write('\n');
+                query(buyerId, since, rs -> writeCsvRow(writer, rs));
+                writer.flush();
+            } else {
+                JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+                // Records are separated by newlines rather than the default space between root values
+                generator.setRootValueSeparator(null);
+                NdjsonWriter ndjson = new NdjsonWriter(generator);
+                query(buyerId, since, ndjson::row);
+                ndjson.finish();
+                generator.flush();
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void query(String buyerId, LocalDateTime since, RowCallbackHandler handler) {
+        Timestamp sinceTimestamp = since == null ? null : Timestamp.valueOf(since);
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(QUERY, ResultSet.TYPE_FORWARD_ONLY,
+                    ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            statement.setString(1, buyerId);
+            statement.setTimestamp(2, sinceTimestamp);
+            statement.setTimestamp(3, sinceTimestamp);
+            return statement;
+        }, handler));
+    }
+
+    private static void writeCsvRow(Writer writer, ResultSet rs) throws SQLException {
+        try {
+            writer.write(csv(rs.getString("id")));
+            writer.write(',');
+            writer.write(csv(String.valueOf(rs.getTimestamp("order_date").toLocalDateTime())));
+            writer.write(',');
+            writer.write(csv(rs.getString("status")));
+            writer.write(',');
+            writer.write(csv(plain(money(rs, "total_price_minor"))));
+            writer.write(',');
+            writer.write(csv(rs.getString("item_id")));
+            writer.write(',');
+            writer.write(csv(rs.getString("fish_listing_id")));
+            writer.write(',');
+            writer.write(csvText(rs.getString("fish_type")));
+            writer.write(',');
+            writer.write(csv(plain(kilograms(rs, "quantity_grams"))));
+            writer.write(',');
+            writer.write(csv(plain(money(rs, "price_at_purchase_minor"))));
+            writer.write('\n');
+        } catch (IOException e) {
+            // Usually the client went away; abort the query instead of reading the rest of the cursor
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    // For text typed by users: spreadsheets run a cell starting with =, +, - or @ as a formula (and some skip
+    // a leading tab or carriage return first), so such a value is quoted with an apostrophe in front of it
+    static String csvText(String value) {
+        if (value == null || value.isEmpty() || "=+-@\t\r".indexOf(value.charAt(0)) < 0) {
+            return csv(value);
+        }
+        return "\"'" + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static String plain(BigDecimal value) {
+        return value == null ? null : value.toPlainString();
+    }
+
+    // Stored as minor units and grams; exported in the API's decimal form. Null for orders without items.
+    private static BigDecimal money(ResultSet rs, String column) throws SQLException {
+        long minor = rs.getLong(column);
+        return rs.wasNull() ? null : MoneyMath.toDecimal(minor);
+    }
+
+    private static BigDecimal kilograms(ResultSet rs, String column) throws SQLException {
+        long grams = rs.getLong(column);
+        return rs.wasNull() ? null : BigDecimal.valueOf(grams, 3).stripTrailingZeros();
+    }
+
+    // Keeps only the order currently being written open
+    private static final class NdjsonWriter {
+
+        private final JsonGenerator generator;
+        private String currentOrderId;
+
+        NdjsonWriter(JsonGenerator generator) {
+            this.generator = generator;
+        }
+
+        void row(ResultSet rs) throws SQLException {
+            try {
+                String orderId = rs.getString("id");
+                if (!orderId.equals(currentOrderId)) {
+                    finish();
+                    currentOrderId = orderId;
+                    generator.writeStartObject();
+                    generator.writeStringField("id", orderId);
+                    generator.writeStringField("orderDate", rs.getTimestamp("order_date").toLocalDateTime().toString());
+                    generator.writeStringField("status", rs.getString("status"));
+                    generator.writeNumberField("totalPrice", money(rs, "total_price_minor"));
+                    generator.writeArrayFieldStart("items");
+                }
+                long itemId = rs.getLong("item_id");
+                if (!rs.wasNull()) {
+                    generator.writeStartObject();
+                    generator.writeNumberField("id", itemId);
+                    generator.writeNumberField("fishListingId", rs.getLong("fish_listing_id"));
+                    generator.writeStringField("fishType", rs.getString("fish_type"));
+                    generator.writeNumberField("quantity", MoneyMath.toKilograms(rs.getLong("quantity_grams")));
+                    generator.writeNumberField("priceAtPurchase", money(rs, "price_at_purchase_minor"));
+                    generator.writeEndObject();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void finish() {
+            if (currentOrderId == null) {
+                return;
+            }
+            try {
+                generator.writeEndArray();
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            currentOrderId = null;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.backend.feed;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+import com.example.backend.dto.FishListingResponseDto;
+import com.example.backend.model.FishListing;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * The live new-catch feed: STOMP clients subscribe to {@link #DESTINATION} with a {@link CatchFilter} in
+ * the SUBSCRIBE headers, and each new or restocked listing is pushed to the subscriptions it matches.
+ *
+ * Matching goes through a compiled {@link CatchMatcher}, rebuilt on the first publish after subscriptions
+ * change rather than on every subscribe, so a burst of reconnects costs one rebuild. A listing is
+ * serialized once and the same bytes are handed to each matching session on the client outbound channel,
+ * bypassing the broker's own destination lookup.
+ */
+public class CatchFeed {
+
+    // Destinations under this prefix are served by the broker and only the server publishes to them
+    public static final String BROKER_PREFIX = "/topic";
+    public static final String DESTINATION = BROKER_PREFIX + "/catches";
+
+    private final MessageChannel clientOutboundChannel;
+    private final ObjectMapper objectMapper;
+    private final Timer fanOutTimer;
+    private final Counter deliveries;
+
+    // Session id -> subscription id -> subscription
+    private final Map<String, Map<String, CatchSubscription>> sessions = new ConcurrentHashMap<>();
+    private final Object compileLock = new Object();
+    private volatile boolean stale;
+    private volatile CatchMatcher matcher = CatchMatcher.EMPTY;
+
+    public CatchFeed(MessageChannel clientOutboundChannel, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.clientOutboundChannel = clientOutboundChannel;
+        this.objectMapper = objectMapper;
+        this.fanOutTimer = Timer.builder("fishermen.feed.catches.fanout")
+                .description("Time to match one listing and queue it for every matching subscriber")
+                .register(meterRegistry);
+        this.deliveries = Counter.builder("fishermen.feed.catches.deliveries").register(meterRegistry);
+        Gauge.builder("fishermen.feed.catches.subscriptions", this, CatchFeed::subscriptionCount)
+                .register(meterRegistry);
+    }
+
+    public void subscribe(String sessionId, String subscriptionId, CatchFilter filter) {
+        sessions.computeIfAbsent(sessionId, id -> new ConcurrentHashMap<>())
+                .put(subscriptionId, new CatchSubscription(sessionId, subscriptionId, filter));
+        stale = true;
+    }
+
+    public void unsubscribe(String sessionId, String subscriptionId) {
+        Map<String, CatchSubscription> subscriptions = sessions.get(sessionId);
+        if (subscriptions != null && subscriptions.remove(subscriptionId) != null) {
+            stale = true;
+        }
+    }
+
+    public void disconnect(String sessionId) {
+        if (sessions.remove(sessionId) != null) {
+            stale = true;
+        }
+    }
+
+    // Returns the number of subscriptions the listing was sent to
+    public int publish(FishListing listing) {
+        Timer.Sample sample = Timer.start();
+        CatchMatcher current = matcher();
+        if (current.size() == 0) {
+            return 0;
+        }
+        byte[] payload;
+        try {
+            payload = objectMapper.writeValueAsBytes(FishListingResponseDto.from(listing));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Listing " + listing.getId() + " is not serializable", e);
+        }
+        int[] sent = new int[1];
+        current.forEachMatch(listing, subscription -> {
+            clientOutboundChannel.send(MessageBuilder.createMessage(payload, headers(subscription)));
+            sent[0]++;
+        });
+        deliveries.increment(sent[0]);
+        sample.stop(fanOutTimer);
+        return sent[0];
+    }
+
+    int subscriptionCount() {
+        return sessions.values().stream().mapToInt(Map::size).sum();
+    }
+
+    // Cleared before reading the subscriptions, so a change made while compiling marks the result stale again
+    private CatchMatcher matcher() {
+        if (stale) {
+            synchronized (compileLock) {
+                if (stale) {
+                    stale = false;
+                    matcher = CatchMatcher.compile(sessions.values().stream()
+                            .flatMap(subscriptions -> subscriptions.values().stream())
+                            .toList());
+                }
+            }
+        }
+        return matcher;
+    }
+
+    private static MessageHeaders headers(CatchSubscription subscription) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(subscription.sessionId());
+        accessor.setSubscriptionId(subscription.subscriptionId());
+        accessor.setDestination(DESTINATION);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        return accessor.getMessageHeaders();
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.backend.feed;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+
+/**
+ * Keeps CatchFeed's subscriptions in step with the STOMP sessions: registers the filter of each SUBSCRIBE
+ * to the feed and drops it on UNSUBSCRIBE or when the session ends (the STOMP handler sends a DISCONNECT
+ * for closed connections too). A filter that doesn't parse rejects the SUBSCRIBE, which the client
+ * receives as an ERROR frame. So does a SEND to a broker destination: without the check the simple broker
+ * would relay it to every subscriber as if it were a catch.
+ */
+public class CatchFeedInterceptor implements ChannelInterceptor {
+
+    private final CatchFeed catchFeed;
+
+    public CatchFeedInterceptor(CatchFeed catchFeed) {
+        this.catchFeed = catchFeed;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+        switch (accessor.getCommand()) {
+            case SUBSCRIBE -> {
+                if (CatchFeed.DESTINATION.equals(accessor.getDestination())) {
+                    try {
+                        catchFeed.subscribe(accessor.getSessionId(), accessor.getSubscriptionId(),
+                                CatchFilter.fromHeaders(accessor::getFirstNativeHeader));
+                    } catch (IllegalArgumentException e) {
+                        throw new MessageDeliveryException(message, e.getMessage());
+                    }
+                }
+            }
+            case UNSUBSCRIBE -> catchFeed.unsubscribe(accessor.getSessionId(), accessor.getSubscriptionId());
+            case DISCONNECT -> catchFeed.disconnect(accessor.getSessionId());
+            case SEND -> {
+                String destination = accessor.getDestination();
+                if (destination != null && destination.startsWith(CatchFeed.BROKER_PREFIX)) {
+                    throw new MessageDeliveryException(message, "Clients cannot send to " + destination);
+                }
+            }
+            default -> {
+            }
+        }
+        return message;
+    }
+}
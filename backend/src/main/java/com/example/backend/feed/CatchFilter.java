@@ -0,0 +1,131 @@
+package com.example.backend.feed;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.example.backend.enums.ListingStatus;
+import com.example.backend.lifecycle.ListingFreshnessProperties;
+import com.example.backend.model.FishListing;
+import com.example.backend.money.MoneyMath;
+
+/**
+ * What one subscriber to the new-catch feed wants to hear about, read from the headers of its STOMP
+ * SUBSCRIBE frame. Every header is optional:
+ *
+ * <ul>
+ * <li>fishType: comma-separated fish types, matched case-insensitively ("Bluefin Tuna,mackerel")</li>
+ * <li>location: one location, matched exactly but case-insensitively</li>
+ * <li>maxPrice: highest price per kg, inclusive</li>
+ * <li>status: comma-separated statuses by name or display value; anything on offer when absent</li>
+ * </ul>
+ */
+public final class CatchFilter {
+
+    public static final String FISH_TYPE = "fishType";
+    public static final String LOCATION = "location";
+    public static final String MAX_PRICE = "maxPrice";
+    public static final String STATUS = "status";
+
+    private static final Set<ListingStatus> ON_OFFER = Arrays.stream(ListingStatus.values())
+            .filter(ListingStatus::isOnOffer)
+            .collect(Collectors.toCollection(() -> EnumSet.noneOf(ListingStatus.class)));
+
+    // Empty for any fish type
+    private final Set<String> fishTypeKeys;
+    // Null for any location
+    private final String locationKey;
+    // Long.MAX_VALUE for any price
+    private final long maxPriceMinor;
+    private final Set<ListingStatus> statuses;
+
+    private CatchFilter(Set<String> fishTypeKeys, String locationKey, long maxPriceMinor, Set<ListingStatus> statuses) {
+        this.fishTypeKeys = fishTypeKeys;
+        this.locationKey = locationKey;
+        this.maxPriceMinor = maxPriceMinor;
+        this.statuses = statuses;
+    }
+
+    // Throws IllegalArgumentException for a price or status that doesn't parse
+    public static CatchFilter fromHeaders(Function<String, String> header) {
+        Set<String> fishTypeKeys = split(header.apply(FISH_TYPE)).stream()
+                .map(ListingFreshnessProperties::fishTypeKey)
+                .collect(Collectors.toUnmodifiableSet());
+
+        String location = header.apply(LOCATION);
+        String locationKey = location == null || location.isBlank() ? null : locationKey(location);
+
+        String maxPrice = header.apply(MAX_PRICE);
+        long maxPriceMinor = Long.MAX_VALUE;
+        if (maxPrice != null && !maxPrice.isBlank()) {
+            try {
+                maxPriceMinor = MoneyMath.toMinor(new BigDecimal(maxPrice.trim()));
+            } catch (NumberFormatException | ArithmeticException e) {
+                throw new IllegalArgumentException("Invalid maxPrice: " + maxPrice);
+            }
+            if (maxPriceMinor < 0) {
+                throw new IllegalArgumentException("Invalid maxPrice: " + maxPrice);
+            }
+        }
+
+        Set<ListingStatus> statuses = EnumSet.noneOf(ListingStatus.class);
+        for (String status : split(header.apply(STATUS))) {
+            statuses.add(parseStatus(status));
+        }
+        return new CatchFilter(fishTypeKeys, locationKey, maxPriceMinor,
+                statuses.isEmpty() ? ON_OFFER : Set.copyOf(statuses));
+    }
+
+    public static String locationKey(String location) {
+        return location.trim().toLowerCase();
+    }
+
+    public Set<String> getFishTypeKeys() {
+        return fishTypeKeys;
+    }
+
+    public String getLocationKey() {
+        return locationKey;
+    }
+
+    public long getMaxPriceMinor() {
+        return maxPriceMinor;
+    }
+
+    public boolean acceptsStatus(ListingStatus status) {
+        return statuses.contains(status);
+    }
+
+    // The filter evaluated directly, one listing against one subscriber; CatchMatcher gives the same answer
+    // for all subscribers at once
+    public boolean matches(FishListing listing) {
+        String fishTypeKey = ListingFreshnessProperties.fishTypeKey(listing.getFishType());
+        String listingLocationKey = listing.getLocation() == null ? null : locationKey(listing.getLocation());
+        return (fishTypeKeys.isEmpty() || fishTypeKeys.contains(fishTypeKey))
+                && (locationKey == null || locationKey.equals(listingLocationKey))
+                && listing.getPriceMinor() <= maxPriceMinor
+                && statuses.contains(listing.getStatus());
+    }
+
+    private static Set<String> split(String value) {
+        if (value == null) {
+            return Set.of();
+        }
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(part -> !part.isEmpty())
+                .collect(Collectors.toSet());
+    }
+
+    private static ListingStatus parseStatus(String value) {
+        for (ListingStatus status : ListingStatus.values()) {
+            if (status.name().equalsIgnoreCase(value) || status.getDbValue().equalsIgnoreCase(value)) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("Invalid status: " + value);
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.backend.feed;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import com.example.backend.lifecycle.ListingFreshnessProperties;
+import com.example.backend.model.FishListing;
+
+/**
+ * The feed's subscriptions compiled into an index, so a new listing is matched without visiting every
+ * subscriber. Subscriptions are bucketed by fish type, then by location, with a wildcard bucket at each
+ * level for filters that leave it open; each bucket holds its subscriptions sorted by maximum price. A
+ * listing therefore looks up at most four buckets and, in each, binary-searches to the first subscription
+ * whose maximum price covers it; everything from there on matches but for the status check.
+ *
+ * Immutable: CatchFeed compiles a new one after subscriptions change.
+ */
+public final class CatchMatcher {
+
+    public static final CatchMatcher EMPTY = compile(List.of());
+
+    // Stands for "any" at both levels; fish type and location keys are never empty
+    private static final String ANY = "";
+
+    private final Map<String, Map<String, PriceLadder>> buckets;
+    private final int size;
+
+    private CatchMatcher(Map<String, Map<String, PriceLadder>> buckets, int size) {
+        this.buckets = buckets;
+        this.size = size;
+    }
+
+    public static CatchMatcher compile(Collection<CatchSubscription> subscriptions) {
+        Map<String, Map<String, List<CatchSubscription>>> grouped = new HashMap<>();
+        for (CatchSubscription subscription : subscriptions) {
+            CatchFilter filter = subscription.filter();
+            String locationKey = filter.getLocationKey() == null ? ANY : filter.getLocationKey();
+            Collection<String> fishTypeKeys = filter.getFishTypeKeys().isEmpty() ? List.of(ANY) : filter.getFishTypeKeys();
+            for (String fishTypeKey : fishTypeKeys) {
+                grouped.computeIfAbsent(fishTypeKey, key -> new HashMap<>())
+                        .computeIfAbsent(locationKey, key -> new ArrayList<>())
+                        .add(subscription);
+            }
+        }
+        Map<String, Map<String, PriceLadder>> buckets = new HashMap<>();
+        grouped.forEach((fishTypeKey, byLocation) -> {
+            Map<String, PriceLadder> ladders = new HashMap<>();
+            byLocation.forEach((locationKey, bucket) -> ladders.put(locationKey, new PriceLadder(bucket)));
+            buckets.put(fishTypeKey, ladders);
+        });
+        return new CatchMatcher(buckets, subscriptions.size());
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // Each matching subscription once: a filter sits in exactly one location bucket and the listing has one
+    // fish type, so no subscription is reached twice
+    public void forEachMatch(FishListing listing, Consumer<CatchSubscription> action) {
+        String fishTypeKey = ListingFreshnessProperties.fishTypeKey(listing.getFishType());
+        String locationKey = listing.getLocation() == null ? null : CatchFilter.locationKey(listing.getLocation());
+        if (!fishTypeKey.isEmpty()) {
+            match(buckets.get(fishTypeKey), locationKey, listing, action);
+        }
+        match(buckets.get(ANY), locationKey, listing, action);
+    }
+
+    private static void match(Map<String, PriceLadder> byLocation, String locationKey, FishListing listing,
+            Consumer<CatchSubscription> action) {
+        if (byLocation == null) {
+            return;
+        }
+        if (locationKey != null && !locationKey.isEmpty()) {
+            PriceLadder ladder = byLocation.get(locationKey);
+            if (ladder != null) {
+                ladder.match(listing, action);
+            }
+        }
+        PriceLadder anyLocation = byLocation.get(ANY);
+        if (anyLocation != null) {
+            anyLocation.match(listing, action);
+        }
+    }
+
+    // Subscriptions in ascending order of maximum price
+    private static final class PriceLadder {
+
+        private final long[] maxPricesMinor;
+        private final CatchSubscription[] subscriptions;
+
+        PriceLadder(List<CatchSubscription> bucket) {
+            subscriptions = bucket.toArray(CatchSubscription[]::new);
+            Arrays.sort(subscriptions, Comparator.comparingLong(subscription -> subscription.filter().getMaxPriceMinor()));
+            maxPricesMinor = new long[subscriptions.length];
+            for (int i = 0; i < subscriptions.length; i++) {
+                maxPricesMinor[i] = subscriptions[i].filter().getMaxPriceMinor();
+            }
+        }
+
+        void match(FishListing listing, Consumer<CatchSubscription> action) {
+            for (int i = firstCovering(listing.getPriceMinor()); i < subscriptions.length; i++) {
+                if (subscriptions[i].filter().acceptsStatus(listing.getStatus())) {
+                    action.accept(subscriptions[i]);
+                }
+            }
+        }
+
+        // Index of the first maximum price >= price
+        private int firstCovering(long priceMinor) {
+            int low = 0;
+            int high = maxPricesMinor.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (maxPricesMinor[mid] < priceMinor) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
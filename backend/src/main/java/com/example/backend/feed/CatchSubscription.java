@@ -0,0 +1,5 @@
+package com.example.backend.feed;
+
+// One STOMP subscription to the new-catch feed: messages go to the session under the subscription id
+public record CatchSubscription(String sessionId, String subscriptionId, CatchFilter filter) {
+}
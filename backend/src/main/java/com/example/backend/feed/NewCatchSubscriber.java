@@ -0,0 +1,57 @@
+package com.example.backend.feed;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import com.example.backend.model.FishListing;
+import com.example.backend.model.OutboxEvent;
+import com.example.backend.outbox.DomainEventType;
+import com.example.backend.outbox.OutboxSubscriber;
+import com.example.backend.repository.FishListingRepo;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Pushes listings to the new-catch feed once they are committed: every new listing, and updated ones that
+// came back on offer. A redelivered event is pushed again; clients can tell repeats by listing id.
+public class NewCatchSubscriber implements OutboxSubscriber {
+
+    private final CatchFeed catchFeed;
+    private final FishListingRepo fishListingRepo;
+    private final ObjectMapper objectMapper;
+
+    public NewCatchSubscriber(CatchFeed catchFeed, FishListingRepo fishListingRepo, ObjectMapper objectMapper) {
+        this.catchFeed = catchFeed;
+        this.fishListingRepo = fishListingRepo;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Set<DomainEventType> getEventTypes() {
+        return EnumSet.of(DomainEventType.LISTING_CREATED, DomainEventType.LISTING_UPDATED);
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+        if (event.getEventType() == DomainEventType.LISTING_UPDATED && !restocked(event)) {
+            return;
+        }
+        // Pushed as it is now, so a listing deleted in the meantime is skipped and one sold in the meantime
+        // only reaches filters that ask for SOLD
+        List<FishListing> listings = fishListingRepo.findAllWithFishermanByIdIn(
+                List.of(Long.valueOf(event.getAggregateId())));
+        if (!listings.isEmpty()) {
+            catchFeed.publish(listings.get(0));
+        }
+    }
+
+    private boolean restocked(OutboxEvent event) {
+        try {
+            JsonNode restocked = objectMapper.readTree(event.getPayload()).get("restocked");
+            return restocked != null && restocked.asBoolean();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable payload of outbox event " + event.getId(), e);
+        }
+    }
+}
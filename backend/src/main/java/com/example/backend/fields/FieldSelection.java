@@ -0,0 +1,66 @@
+package com.example.backend.fields;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The properties a client asked for with ?fields=, as a tree of dotted paths: "id,status,items.quantity"
+ * selects id, status and the quantity of each item. Selecting an object ("buyer") selects all of it.
+ *
+ * Parsing is lenient: blank segments are skipped and names that match no property select nothing.
+ */
+public final class FieldSelection {
+
+    // Everything below this point is selected
+    static final FieldSelection ALL = new FieldSelection(null);
+
+    // Selected property names; null for ALL
+    private final Map<String, FieldSelection> children;
+
+    private FieldSelection(Map<String, FieldSelection> children) {
+        this.children = children;
+    }
+
+    // The selection in a fields parameter, or null when it is absent or selects nothing
+    public static FieldSelection parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        Map<String, FieldSelection> root = new HashMap<>();
+        for (String path : fields.split(",")) {
+            add(root, path.trim().split("\\."));
+        }
+        return root.isEmpty() ? null : new FieldSelection(root);
+    }
+
+    private static void add(Map<String, FieldSelection> node, String[] names) {
+        for (int i = 0; i < names.length; i++) {
+            String name = names[i].trim();
+            if (name.isEmpty()) {
+                return;
+            }
+            FieldSelection child = node.get(name);
+            if (child == ALL) {
+                return;
+            }
+            if (i == names.length - 1) {
+                node.put(name, ALL);
+                return;
+            }
+            if (child == null) {
+                child = new FieldSelection(new HashMap<>());
+                node.put(name, child);
+            }
+            node = child.children;
+        }
+    }
+
+    public boolean includes(String name) {
+        return children == null || children.containsKey(name);
+    }
+
+    // What is selected below the named property; null when the property is not selected
+    public FieldSelection child(String name) {
+        return children == null ? ALL : children.get(name);
+    }
+}
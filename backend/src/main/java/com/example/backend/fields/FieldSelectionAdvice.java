@@ -0,0 +1,29 @@
+package com.example.backend.fields;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+/**
+ * Applies the request's ?fields= selection (see {@link FieldSelection}) to every Jackson response body.
+ * Responses without the parameter still get a pass-through filter, which the annotated DTOs need.
+ */
+@ControllerAdvice
+public class FieldSelectionAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    public static final String PARAMETER = "fields";
+
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType,
+            MethodParameter returnType, ServerHttpRequest request, ServerHttpResponse response) {
+        FieldSelection selection = request instanceof ServletServerHttpRequest servletRequest
+                ? FieldSelection.parse(servletRequest.getServletRequest().getParameter(PARAMETER))
+                : null;
+        bodyContainer.setFilters(selection == null ? FieldSelectionFilter.ALL : FieldSelectionFilter.provider(selection));
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.backend.fields;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+
+/**
+ * Writes only the selected properties of DTOs annotated {@code @JsonFilter(FieldSelectionFilter.ID)}.
+ *
+ * Paths are resolved from the generator's output context while writing, so the same DTO class can be
+ * selected differently at different depths. The CBOR and Smile contexts forget a property's name once its
+ * value starts, so the filter tracks the property each DTO is writing itself rather than reading it back.
+ * The selection applies to the response's top-level objects, or to the items of a top-level page; a
+ * filtered DTO anywhere else, such as the side tables of a normalized response, is written in full.
+ */
+public class FieldSelectionFilter extends SimpleBeanPropertyFilter {
+
+    public static final String ID = "fields";
+
+    // Writes everything; for responses without ?fields= and for serialization outside MVC
+    public static final FilterProvider ALL = provider(null);
+
+    private static final ClassValue<Boolean> FILTERED = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            JsonFilter filter = type.getAnnotation(JsonFilter.class);
+            return filter != null && ID.equals(filter.value());
+        }
+    };
+
+    private final FieldSelection selection;
+
+    // The last object resolved and its selection: properties of one object are written one after another,
+    // so this saves walking the context for each of them. A provider serves one response at a time, and
+    // response DTOs are built per response, so one instance never appears at two paths.
+    private Object lastPojo;
+    private FieldSelection lastSelection;
+
+    // The filtered DTOs being written, outermost first, and the property each is in the middle of
+    private final List<Object> writingPojos = new ArrayList<>();
+    private final List<String> writingNames = new ArrayList<>();
+
+    private FieldSelectionFilter(FieldSelection selection) {
+        this.selection = selection;
+    }
+
+    public static FilterProvider provider(FieldSelection selection) {
+        return new SimpleFilterProvider().addFilter(ID, new FieldSelectionFilter(selection));
+    }
+
+    @Override
+    public void serializeAsField(Object pojo, JsonGenerator gen, SerializerProvider provider, PropertyWriter writer)
+            throws Exception {
+        if (selection == null) {
+            writer.serializeAsField(pojo, gen, provider);
+            return;
+        }
+        if (pojo != lastPojo) {
+            lastSelection = selectionFor(gen.getOutputContext());
+            lastPojo = pojo;
+        }
+        FieldSelection node = lastSelection;
+        if (node != null && node.includes(writer.getName())) {
+            writingPojos.add(pojo);
+            writingNames.add(writer.getName());
+            try {
+                writer.serializeAsField(pojo, gen, provider);
+            } finally {
+                writingPojos.remove(writingPojos.size() - 1);
+                writingNames.remove(writingNames.size() - 1);
+            }
+        } else if (!gen.canOmitFields()) {
+            writer.serializeAsOmittedField(pojo, gen, provider);
+        }
+    }
+
+    // The selection for the object being written in context; null when none of it is selected
+    private FieldSelection selectionFor(JsonStreamContext context) {
+        JsonStreamContext parent = outsideArrays(context.getParent());
+        if (parent == null || parent.inRoot()) {
+            return selection;
+        }
+        Object owner = parent.getCurrentValue();
+        if (owner != null && FILTERED.get(owner.getClass())) {
+            FieldSelection ownerSelection = selectionFor(parent);
+            return ownerSelection == null ? null : ownerSelection.child(writingName(owner));
+        }
+        if (owner instanceof Map) {
+            return FieldSelection.ALL;
+        }
+        // A page or other wrapper at the top: its items take the selection. Binary formats don't keep the
+        // name, but items is the only list of DTOs on the wrappers (the side tables of a normalized
+        // response are maps).
+        JsonStreamContext wrapperParent = outsideArrays(parent.getParent());
+        String name = parent.getCurrentName();
+        boolean items = name != null
+                ? "items".equals(name)
+                : context.getParent() != null && context.getParent().inArray();
+        boolean topLevelItems = (wrapperParent == null || wrapperParent.inRoot()) && items;
+        return topLevelItems ? selection : FieldSelection.ALL;
+    }
+
+    private String writingName(Object pojo) {
+        for (int i = writingPojos.size() - 1; i >= 0; i--) {
+            if (writingPojos.get(i) == pojo) {
+                return writingNames.get(i);
+            }
+        }
+        return null;
+    }
+
+    private static JsonStreamContext outsideArrays(JsonStreamContext context) {
+        while (context != null && context.inArray()) {
+            context = context.getParent();
+        }
+        return context;
+    }
+}
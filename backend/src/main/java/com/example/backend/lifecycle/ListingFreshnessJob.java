@@ -0,0 +1,113 @@
+package com.example.backend.lifecycle;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.example.backend.enums.ListingStatus;
+import com.example.backend.repository.FishListingRepo;
+import com.example.backend.versioning.TableVersions;
+import com.example.backend.versioning.VersionedTable;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Moves listings along as their catch ages: fresh stock is downgraded once it is past its fish type's
+ * fresh window and anything unsold expires after the expiry window. Each transition is a set-based
+ * UPDATE repeated in small batches until nothing is left, so no single transaction locks many rows.
+ */
+public class ListingFreshnessJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(ListingFreshnessJob.class);
+
+    private static final List<String> UNSOLD = List.of(ListingStatus.SENT_FRESH.name(),
+            ListingStatus.SENT_FROZEN.name(), ListingStatus.UNSENT_FRESH.name(), ListingStatus.AVAILABLE.name());
+    private static final List<String> SENT_FRESH = List.of(ListingStatus.SENT_FRESH.name());
+    private static final List<String> UNSENT_FRESH = List.of(ListingStatus.UNSENT_FRESH.name());
+    private static final String DEFAULT_FISH_TYPE = "default";
+
+    private final FishListingRepo fishListingRepo;
+    private final ListingFreshnessProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final TableVersions tableVersions;
+    private final boolean listBoundedByCatchDate;
+
+    public ListingFreshnessJob(FishListingRepo fishListingRepo, ListingFreshnessProperties properties,
+            MeterRegistry meterRegistry, TableVersions tableVersions, boolean listBoundedByCatchDate) {
+        this.fishListingRepo = fishListingRepo;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.tableVersions = tableVersions;
+        this.listBoundedByCatchDate = listBoundedByCatchDate;
+    }
+
+    // Scheduled by ListingFreshnessConfig at fishermen.listing-freshness.interval
+    public void run() {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        LocalDateTime now = LocalDateTime.now();
+        int touched = 0;
+
+        int batchSize = properties.getBatchSize();
+        List<String> configuredKeys = new ArrayList<>();
+        for (Map.Entry<String, ListingFreshnessProperties.Window> entry : properties.getFishTypes().entrySet()) {
+            String key = ListingFreshnessProperties.fishTypeKey(entry.getKey());
+            configuredKeys.add(key);
+            touched += applyWindow(key, entry.getValue(), now, (from, to, caughtBefore) ->
+                    fishListingRepo.transitionStaleBatch(from, to, caughtBefore, key, batchSize));
+        }
+        // NOT IN () is invalid SQL, and "" never matches a real fish type
+        List<String> excludedKeys = configuredKeys.isEmpty() ? List.of("") : configuredKeys;
+        touched += applyWindow(DEFAULT_FISH_TYPE, properties.getDefaultWindow(), now, (from, to, caughtBefore) ->
+                fishListingRepo.transitionStaleBatchExcluding(from, to, caughtBefore, excludedKeys, batchSize));
+        // On a partitioned table /list is bounded by catch date, which moves with the clock and drops old SOLD
+        // rows even when nothing changed status
+        if (touched > 0 || listBoundedByCatchDate) {
+            tableVersions.bump(VersionedTable.FISH_LISTINGS);
+        }
+
+        long elapsedNanos = sample.stop(Timer.builder("fishermen.listings.freshness.runs")
+                .description("Duration of one listing freshness pass")
+                .register(meterRegistry));
+        logger.info("Listing freshness run updated {} listings in {} ms", touched, elapsedNanos / 1_000_000);
+    }
+
+    private int applyWindow(String fishType, ListingFreshnessProperties.Window window, LocalDateTime now,
+            StaleBatch batch) {
+        LocalDateTime expireBefore = now.minus(window.getExpireAfter());
+        LocalDateTime freshBefore = now.minus(window.getFreshFor());
+        // Expire first so long-stale fresh stock goes straight to EXPIRED instead of via SENT_FROZEN
+        return drain(fishType, "expired", () -> batch.update(UNSOLD, ListingStatus.EXPIRED.name(), expireBefore))
+                + drain(fishType, "expired", () -> batch.update(UNSENT_FRESH, ListingStatus.EXPIRED.name(), freshBefore))
+                + drain(fishType, "downgraded", () -> batch.update(SENT_FRESH, ListingStatus.SENT_FROZEN.name(), freshBefore));
+    }
+
+    // Repeats one batch statement until a short batch shows nothing is left
+    private int drain(String fishType, String transition, IntSupplier batch) {
+        int total = 0;
+        int updated;
+        do {
+            updated = batch.getAsInt();
+            total += updated;
+        } while (updated >= properties.getBatchSize());
+
+        Counter.builder("fishermen.listings.freshness.rows")
+                .description("Listings moved to a new status by the freshness job")
+                .tag("fishType", fishType)
+                .tag("transition", transition)
+                .register(meterRegistry)
+                .increment(total);
+        return total;
+    }
+
+    @FunctionalInterface
+    private interface StaleBatch {
+        int update(List<String> fromStatuses, String toStatus, LocalDateTime caughtBefore);
+    }
+}
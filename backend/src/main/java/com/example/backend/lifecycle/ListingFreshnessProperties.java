@@ -0,0 +1,51 @@
+package com.example.backend.lifecycle;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "fishermen.listing-freshness")
+public class ListingFreshnessProperties {
+
+    private boolean enabled = false;
+
+    // Delay between the end of one run and the start of the next
+    private Duration interval = Duration.ofMinutes(15);
+
+    // Rows updated per statement (and per transaction), so no run holds row locks for long
+    private int batchSize = 1000;
+
+    // Applies to every fish type without its own entry below
+    private Window defaultWindow = new Window();
+
+    // Keyed by fish type in lower case with spaces as dashes, e.g. "bluefin-tuna"
+    private Map<String, Window> fishTypes = new LinkedHashMap<>();
+
+    @Data
+    public static class Window {
+        // After this, SENT_FRESH becomes SENT_FROZEN and UNSENT_FRESH expires
+        private Duration freshFor = Duration.ofDays(3);
+        // After this, anything still unsold expires
+        private Duration expireAfter = Duration.ofDays(30);
+    }
+
+    // Anything caught before now minus this is EXPIRED (once the job has run), whatever its fish type
+    public Duration longestExpireAfter() {
+        Duration longest = defaultWindow.getExpireAfter();
+        for (Window window : fishTypes.values()) {
+            if (window.getExpireAfter().compareTo(longest) > 0) {
+                longest = window.getExpireAfter();
+            }
+        }
+        return longest;
+    }
+
+    public static String fishTypeKey(String fishType) {
+        return fishType.trim().toLowerCase().replace(' ', '-');
+    }
+}
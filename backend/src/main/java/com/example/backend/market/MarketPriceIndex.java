@@ -0,0 +1,280 @@
+package com.example.backend.market;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.backend.dto.DailyPriceDto;
+import com.example.backend.dto.MarketPriceDto;
+import com.example.backend.model.MarketPriceCheckpoint;
+import com.example.backend.model.MarketPriceSketch;
+import com.example.backend.money.MoneyMath;
+import com.example.backend.repository.MarketPriceCheckpointRepo;
+import com.example.backend.repository.MarketPriceSketchRepo;
+import com.example.backend.repository.OrderItemRepo;
+import com.example.backend.repository.OrderItemRepo.PricedItem;
+
+/**
+ * Price per kg by fish type, kept in memory as one {@link PriceSketch} per fish type and order day.
+ *
+ * New orders feed it through the outbox; reads merge the days of the current and previous window into a
+ * snapshot that is reused until the next order or the next day, so serving the index runs no SQL.
+ * The sketches older than two windows are dropped as days pass.
+ *
+ * A checkpoint stores the day sketches and the highest order item id folded into them. On startup the
+ * index is restored from it and only order items after that id are replayed, so a restart doesn't
+ * rescan order history. Items recorded after the last checkpoint with an id below it (a slower
+ * concurrent order) are lost on a crash; the index is an estimate, so that's accepted. Each instance
+ * only sees the orders its own outbox relay delivers between restarts.
+ *
+ * The ORDER_CREATED events of replayed items can still be waiting in the outbox, so the replayed ids are
+ * remembered and the first delivery of each is skipped.
+ */
+public class MarketPriceIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(MarketPriceIndex.class);
+
+    private static final int CATCH_UP_BATCH_SIZE = 5000;
+
+    private record Snapshot(LocalDate day, long version, List<MarketPriceDto> prices) {}
+
+    private final MarketPriceSketchRepo marketPriceSketchRepo;
+    private final MarketPriceCheckpointRepo marketPriceCheckpointRepo;
+    private final OrderItemRepo orderItemRepo;
+    private final TransactionTemplate transactionTemplate;
+    private final MarketPriceProperties properties;
+
+    // fish type -> order day -> sketch; guarded by this
+    private final Map<String, TreeMap<LocalDate, PriceSketch>> sketches = new HashMap<>();
+    private long lastOrderItemId;
+    // Ids replayed by the last restore, as offsets from replayedAfter; a bit is cleared when its delivery is skipped
+    private long replayedAfter;
+    private final BitSet replayed = new BitSet();
+    private long version;
+    private long checkpointedVersion;
+
+    private volatile Snapshot snapshot = new Snapshot(LocalDate.MIN, -1, List.of());
+
+    public MarketPriceIndex(MarketPriceSketchRepo marketPriceSketchRepo, MarketPriceCheckpointRepo marketPriceCheckpointRepo,
+            OrderItemRepo orderItemRepo, TransactionTemplate transactionTemplate, MarketPriceProperties properties) {
+        this.marketPriceSketchRepo = marketPriceSketchRepo;
+        this.marketPriceCheckpointRepo = marketPriceCheckpointRepo;
+        this.orderItemRepo = orderItemRepo;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+    }
+
+    // New order items, delivered by MarketPriceSubscriber once their order has committed
+    public void recordItems(Collection<PricedItem> items) {
+        synchronized (this) {
+            for (PricedItem item : items) {
+                int offset = replayedOffset(item.getId());
+                if (offset >= 0 && replayed.get(offset)) {
+                    replayed.clear(offset);
+                    continue;
+                }
+                record(item);
+            }
+        }
+    }
+
+    public List<MarketPriceDto> getPrices() {
+        LocalDate today = LocalDate.now();
+        Snapshot current = snapshot;
+        if (current.day().equals(today) && current.version() == currentVersion()) {
+            return current.prices();
+        }
+        synchronized (this) {
+            if (!snapshot.day().equals(today) || snapshot.version() != version) {
+                prune(today);
+                snapshot = new Snapshot(today, version, computePrices(today));
+            }
+            return snapshot.prices();
+        }
+    }
+
+    // Loads the last checkpoint and replays the order items created after it
+    public void restore() {
+        LocalDate oldestDay = oldestDay(LocalDate.now());
+        int restoredDays = 0;
+        synchronized (this) {
+            sketches.clear();
+            lastOrderItemId = marketPriceCheckpointRepo.findById(MarketPriceCheckpoint.SINGLETON_ID)
+                    .map(MarketPriceCheckpoint::getLastOrderItemId)
+                    .orElse(0L);
+            replayedAfter = lastOrderItemId;
+            replayed.clear();
+            for (MarketPriceSketch row : marketPriceSketchRepo.findAll()) {
+                if (!row.getSaleDate().isBefore(oldestDay)) {
+                    sketches.computeIfAbsent(row.getFishType(), fishType -> new TreeMap<>())
+                            .put(row.getSaleDate(), PriceSketch.decode(properties.getRelativeAccuracy(), row.getSketch()));
+                    restoredDays++;
+                }
+            }
+        }
+
+        long restoredThrough = lastOrderItemId;
+        long replayed = 0;
+        List<PricedItem> batch;
+        do {
+            batch = orderItemRepo.findPricedItemsAfter(lastOrderItemId, oldestDay.atStartOfDay(),
+                    Pageable.ofSize(CATCH_UP_BATCH_SIZE));
+            replay(batch);
+            replayed += batch.size();
+        } while (batch.size() == CATCH_UP_BATCH_SIZE);
+
+        logger.info("Market price index restored {} day sketches through order item {} and replayed {} items",
+                restoredDays, restoredThrough, replayed);
+        if (replayed > 0) {
+            checkpoint();
+        }
+    }
+
+    // Replaces the stored sketches with the in-memory ones; skipped when nothing changed since the last one
+    public void checkpoint() {
+        List<MarketPriceSketch> rows = new ArrayList<>();
+        long checkpointVersion;
+        long watermark;
+        synchronized (this) {
+            if (version == checkpointedVersion) {
+                return;
+            }
+            prune(LocalDate.now());
+            sketches.forEach((fishType, days) -> days.forEach((day, sketch) ->
+                    rows.add(new MarketPriceSketch(null, fishType, day, sketch.encode()))));
+            checkpointVersion = version;
+            watermark = lastOrderItemId;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                marketPriceSketchRepo.deleteAllInBatch();
+                marketPriceSketchRepo.saveAll(rows);
+                marketPriceCheckpointRepo.save(new MarketPriceCheckpoint(MarketPriceCheckpoint.SINGLETON_ID, watermark,
+                        LocalDateTime.now()));
+            });
+        } catch (DataAccessException e) {
+            // Kept dirty, so the next run retries
+            logger.warn("Market price checkpoint failed", e);
+            return;
+        }
+        synchronized (this) {
+            checkpointedVersion = Math.max(checkpointedVersion, checkpointVersion);
+        }
+    }
+
+    private synchronized long currentVersion() {
+        return version;
+    }
+
+    private synchronized void replay(List<PricedItem> items) {
+        for (PricedItem item : items) {
+            int offset = replayedOffset(item.getId());
+            if (offset >= 0) {
+                replayed.set(offset);
+            }
+            record(item);
+        }
+    }
+
+    // Caller holds the lock; -1 when the id can't be one the last restore replayed
+    private int replayedOffset(Long orderItemId) {
+        if (orderItemId == null || orderItemId <= replayedAfter || orderItemId - replayedAfter > Integer.MAX_VALUE) {
+            return -1;
+        }
+        return (int) (orderItemId - replayedAfter - 1);
+    }
+
+    // Caller holds the lock
+    private void record(PricedItem item) {
+        if (item.getId() != null) {
+            lastOrderItemId = Math.max(lastOrderItemId, item.getId());
+        }
+        LocalDate day = item.getOrderDate().toLocalDate();
+        if (item.getFishType() == null || day.isBefore(oldestDay(LocalDate.now()))) {
+            return;
+        }
+        sketches.computeIfAbsent(item.getFishType(), type -> new TreeMap<>())
+                .computeIfAbsent(day, d -> new PriceSketch(properties.getRelativeAccuracy()))
+                .add(MoneyMath.toDecimal(item.getPriceAtPurchaseMinor()).doubleValue(),
+                        MoneyMath.toKilograms(item.getQuantityGrams()));
+        version++;
+    }
+
+    // Caller holds the lock
+    private void prune(LocalDate today) {
+        LocalDate oldestDay = oldestDay(today);
+        sketches.values().forEach(days -> days.headMap(oldestDay).clear());
+        sketches.values().removeIf(TreeMap::isEmpty);
+    }
+
+    // Caller holds the lock
+    private List<MarketPriceDto> computePrices(LocalDate today) {
+        LocalDate windowStart = today.minusDays(properties.getWindowDays() - 1L);
+        LocalDate previousStart = windowStart.minusDays(properties.getWindowDays());
+        List<MarketPriceDto> prices = new ArrayList<>();
+        for (Map.Entry<String, TreeMap<LocalDate, PriceSketch>> entry : new TreeMap<>(sketches).entrySet()) {
+            PriceSketch window = new PriceSketch(properties.getRelativeAccuracy());
+            PriceSketch previous = new PriceSketch(properties.getRelativeAccuracy());
+            List<DailyPriceDto> days = new ArrayList<>();
+            for (Map.Entry<LocalDate, PriceSketch> day : entry.getValue().subMap(previousStart, true, today, true).entrySet()) {
+                PriceSketch sketch = day.getValue();
+                if (day.getKey().isBefore(windowStart)) {
+                    previous.merge(sketch);
+                } else {
+                    window.merge(sketch);
+                    days.add(new DailyPriceDto(day.getKey(), price(sketch.quantile(0.5)),
+                            kilograms(sketch.getTotalWeight()), sketch.getCount()));
+                }
+            }
+            if (window.isEmpty()) {
+                continue;
+            }
+
+            MarketPriceDto dto = new MarketPriceDto();
+            dto.setFishType(entry.getKey());
+            dto.setFrom(windowStart);
+            dto.setTo(today);
+            dto.setMedianPricePerKg(price(window.quantile(0.5)));
+            dto.setP10PricePerKg(price(window.quantile(0.1)));
+            dto.setP90PricePerKg(price(window.quantile(0.9)));
+            dto.setKilograms(kilograms(window.getTotalWeight()));
+            dto.setTrades(window.getCount());
+            dto.setDays(List.copyOf(days));
+            if (!previous.isEmpty()) {
+                double previousMedian = previous.quantile(0.5);
+                dto.setPreviousMedianPricePerKg(price(previousMedian));
+                dto.setTrendPercent(BigDecimal.valueOf((window.quantile(0.5) - previousMedian) / previousMedian * 100)
+                        .setScale(1, RoundingMode.HALF_UP));
+            }
+            prices.add(dto);
+        }
+        return List.copyOf(prices);
+    }
+
+    // The current window plus the one before it, for the trend
+    private LocalDate oldestDay(LocalDate today) {
+        return today.minusDays(2L * properties.getWindowDays() - 1);
+    }
+
+    private static BigDecimal price(double value) {
+        return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private static BigDecimal kilograms(double value) {
+        return BigDecimal.valueOf(value).setScale(3, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.backend.market;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "fishermen.market-prices")
+public class MarketPriceProperties {
+
+    // Quantiles are within this fraction of the true price per kg
+    private double relativeAccuracy = 0.01;
+
+    // The index covers this many days; the trend compares it with the same number of days before
+    private int windowDays = 7;
+
+    // How often the in-memory sketches are saved; a restart replays only order items after the last save
+    private Duration checkpointInterval = Duration.ofMinutes(1);
+}
@@ -0,0 +1,31 @@
+package com.example.backend.market;
+
+import java.util.Set;
+
+import com.example.backend.model.OutboxEvent;
+import com.example.backend.outbox.DomainEventType;
+import com.example.backend.outbox.OutboxSubscriber;
+import com.example.backend.repository.OrderItemRepo;
+
+// Folds new orders into the market price index. A redelivered order is counted twice; the index is an estimate.
+// Orders the index already replayed on startup are skipped by MarketPriceIndex
+public class MarketPriceSubscriber implements OutboxSubscriber {
+
+    private final MarketPriceIndex marketPriceIndex;
+    private final OrderItemRepo orderItemRepo;
+
+    public MarketPriceSubscriber(MarketPriceIndex marketPriceIndex, OrderItemRepo orderItemRepo) {
+        this.marketPriceIndex = marketPriceIndex;
+        this.orderItemRepo = orderItemRepo;
+    }
+
+    @Override
+    public Set<DomainEventType> getEventTypes() {
+        return Set.of(DomainEventType.ORDER_CREATED);
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+        marketPriceIndex.recordItems(orderItemRepo.findPricedItemsByOrderId(event.getAggregateId()));
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.backend.market;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Mergeable quantile sketch for positive prices, after DDSketch: values fall into logarithmic buckets
+ * whose width is a fixed fraction of their value, so every quantile is within the configured relative
+ * accuracy and two sketches merge by adding bucket weights. Size grows with the price range (about 700
+ * buckets from 1 to 1,000,000 at 1%), not with the number of values.
+ *
+ * Not thread-safe; {@link MarketPriceIndex} guards its sketches.
+ */
+public final class PriceSketch {
+
+    private final double relativeAccuracy;
+    private final double gamma;
+    private final double logGamma;
+    private final TreeMap<Integer, Double> buckets = new TreeMap<>();
+    private double totalWeight;
+    private long count;
+
+    public PriceSketch(double relativeAccuracy) {
+        if (relativeAccuracy <= 0 || relativeAccuracy >= 1) {
+            throw new IllegalArgumentException("relativeAccuracy must be in (0, 1)");
+        }
+        this.relativeAccuracy = relativeAccuracy;
+        this.gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+        this.logGamma = Math.log(gamma);
+    }
+
+    // weight is the quantity sold, so quantiles are per kilogram rather than per order line
+    public void add(double value, double weight) {
+        if (!(value > 0) || !(weight > 0)) {
+            return;
+        }
+        buckets.merge((int) Math.ceil(Math.log(value) / logGamma), weight, Double::sum);
+        totalWeight += weight;
+        count++;
+    }
+
+    public void merge(PriceSketch other) {
+        if (other.relativeAccuracy != relativeAccuracy) {
+            throw new IllegalArgumentException("Cannot merge sketches with different accuracy");
+        }
+        other.buckets.forEach((index, weight) -> buckets.merge(index, weight, Double::sum));
+        totalWeight += other.totalWeight;
+        count += other.count;
+    }
+
+    // NaN when empty
+    public double quantile(double q) {
+        if (buckets.isEmpty()) {
+            return Double.NaN;
+        }
+        double rank = q * totalWeight;
+        double seen = 0;
+        for (Map.Entry<Integer, Double> bucket : buckets.entrySet()) {
+            seen += bucket.getValue();
+            if (seen >= rank) {
+                return valueOf(bucket.getKey());
+            }
+        }
+        return valueOf(buckets.lastKey());
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    public double getTotalWeight() {
+        return totalWeight;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    // Checkpoint format: "count;index:weight,index:weight,..."
+    public String encode() {
+        StringBuilder encoded = new StringBuilder().append(count).append(';');
+        buckets.forEach((index, weight) -> encoded.append(index).append(':').append(weight).append(','));
+        if (!buckets.isEmpty()) {
+            encoded.setLength(encoded.length() - 1);
+        }
+        return encoded.toString();
+    }
+
+    public static PriceSketch decode(double relativeAccuracy, String encoded) {
+        PriceSketch sketch = new PriceSketch(relativeAccuracy);
+        int separator = encoded.indexOf(';');
+        sketch.count = Long.parseLong(encoded.substring(0, separator));
+        String buckets = encoded.substring(separator + 1);
+        if (!buckets.isEmpty()) {
+            for (String bucket : buckets.split(",")) {
+                int colon = bucket.indexOf(':');
+                double weight = Double.parseDouble(bucket.substring(colon + 1));
+                sketch.buckets.put(Integer.parseInt(bucket.substring(0, colon)), weight);
+                sketch.totalWeight += weight;
+            }
+        }
+        return sketch;
+    }
+
+    // Midpoint of the bucket in relative terms, which is what bounds the error
+    private double valueOf(int index) {
+        return 2 * Math.pow(gamma, index) / (gamma + 1);
+    }
+}
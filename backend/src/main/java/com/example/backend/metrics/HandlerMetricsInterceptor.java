@@ -0,0 +1,68 @@
+package com.example.backend.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Times every controller method and records how many SQL statements it issued.
+ * Timings cover the handler and response serialization, tagged by controller and method name.
+ */
+public class HandlerMetricsInterceptor implements HandlerInterceptor {
+
+    private static final String START_ATTRIBUTE = HandlerMetricsInterceptor.class.getName() + ".start";
+
+    private final MeterRegistry meterRegistry;
+
+    public HandlerMetricsInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+            Exception ex) {
+        Object start = request.getAttribute(START_ATTRIBUTE);
+        if (!(handler instanceof HandlerMethod handlerMethod) || start == null) {
+            return;
+        }
+        long elapsed = System.nanoTime() - (Long) start;
+
+        String controller = handlerMethod.getBeanType().getSimpleName();
+        String method = handlerMethod.getMethod().getName();
+
+        Timer.builder("fishermen.controller.requests")
+                .description("Controller method latency including response serialization")
+                .tag("controller", controller)
+                .tag("method", method)
+                .tag("status", String.valueOf(response.getStatus()))
+                .tag("exception", ex == null ? "none" : ex.getClass().getSimpleName())
+                .register(meterRegistry)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+
+        // Filled in by SqlProfilingFilter, which wraps the whole request
+        SqlRequestProfile profile = SqlRequestProfile.current();
+        if (profile != null) {
+            DistributionSummary.builder("fishermen.controller.sql.statements")
+                    .description("SQL statements issued per controller method invocation")
+                    .tag("controller", controller)
+                    .tag("method", method)
+                    .register(meterRegistry)
+                    .record(profile.getStatements());
+        }
+    }
+}
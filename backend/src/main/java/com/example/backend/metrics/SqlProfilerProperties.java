@@ -0,0 +1,21 @@
+package com.example.backend.metrics;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "fishermen.sql-profiler")
+public class SqlProfilerProperties {
+
+    // Wrap the DataSource and profile every request
+    private boolean enabled = true;
+
+    // A request crossing any of these is logged as a warning
+    private int maxStatements = 25;
+    private long maxDbTimeMs = 500;
+    private long maxRowsRead = 5000;
+
+    // Return X-Sql-* headers when the request carries X-Debug-Sql
+    private boolean debugHeaderEnabled = false;
+}
@@ -0,0 +1,106 @@
+package com.example.backend.metrics;
+
+import java.io.IOException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Tallies the SQL issued by each request (including lazy loads during serialization) and
+ * logs a key=value warning naming the handler method when a request crosses the configured
+ * thresholds. Requests sending {@code X-Debug-Sql} get the tallies back as response headers.
+ *
+ * Streamed responses (StreamingResponseBody) are written after the handler returns, on an async thread
+ * whose SQL is not tallied. Their buffered body is copied out when the async dispatch finishes, as
+ * ShallowEtagHeaderFilter does, rather than when the handler returns.
+ */
+public class SqlProfilingFilter extends OncePerRequestFilter {
+
+    public static final String DEBUG_REQUEST_HEADER = "X-Debug-Sql";
+
+    private static final Logger logger = LoggerFactory.getLogger(SqlProfilingFilter.class);
+
+    private final SqlProfilerProperties properties;
+
+    public SqlProfilingFilter(SqlProfilerProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (isAsyncDispatch(request)) {
+            // The streamed body has been written by now; the tallies were settled on the first dispatch
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                copyBodyWhenComplete(request, WebUtils.getNativeResponse(response, ContentCachingResponseWrapper.class));
+            }
+            return;
+        }
+
+        boolean debug = properties.isDebugHeaderEnabled() && request.getHeader(DEBUG_REQUEST_HEADER) != null;
+        // Headers must be added before the body is committed, so debug responses are buffered
+        HttpServletResponse target = debug ? new ContentCachingResponseWrapper(response) : response;
+
+        SqlRequestProfile profile = SqlRequestProfile.begin();
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, target);
+        } finally {
+            SqlRequestProfile.end();
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+            if (exceedsThresholds(profile)) {
+                logger.warn("slow_sql_request handler={} method={} uri={} status={} statements={} dbTimeMs={} rowsRead={} rowsWritten={} elapsedMs={}",
+                        handlerName(request), request.getMethod(), request.getRequestURI(), target.getStatus(),
+                        profile.getStatements(), profile.getDbTimeMillis(), profile.getRowsRead(),
+                        profile.getRowsWritten(), elapsedMs);
+            }
+
+            if (debug) {
+                target.setHeader("X-Sql-Statements", String.valueOf(profile.getStatements()));
+                target.setHeader("X-Sql-Time-Ms", String.valueOf(profile.getDbTimeMillis()));
+                target.setHeader("X-Sql-Rows-Read", String.valueOf(profile.getRowsRead()));
+                target.setHeader("X-Sql-Rows-Written", String.valueOf(profile.getRowsWritten()));
+                copyBodyWhenComplete(request, (ContentCachingResponseWrapper) target);
+            }
+        }
+    }
+
+    private void copyBodyWhenComplete(HttpServletRequest request, ContentCachingResponseWrapper buffered)
+            throws IOException {
+        if (buffered != null && !isAsyncStarted(request)) {
+            buffered.copyBodyToResponse();
+        }
+    }
+
+    private boolean exceedsThresholds(SqlRequestProfile profile) {
+        return profile.getStatements() > properties.getMaxStatements()
+                || profile.getDbTimeMillis() > properties.getMaxDbTimeMs()
+                || profile.getRowsRead() > properties.getMaxRowsRead();
+    }
+
+    private static String handlerName(HttpServletRequest request) {
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        if (handler instanceof HandlerMethod handlerMethod) {
+            return handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+        }
+        return "unmapped";
+    }
+}
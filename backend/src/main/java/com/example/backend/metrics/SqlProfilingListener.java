@@ -0,0 +1,67 @@
+package com.example.backend.metrics;
+
+import java.sql.ResultSet;
+import java.util.List;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+/**
+ * Feeds JDBC activity from the datasource proxy into the current {@link SqlRequestProfile}.
+ * Work outside a profiled request (startup scripts, schedulers) is ignored.
+ */
+public class SqlProfilingListener implements QueryExecutionListener, MethodExecutionListener {
+
+    private static final String START_NANOS = "fishermen.sqlStartNanos";
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (SqlRequestProfile.current() != null) {
+            execInfo.addCustomValue(START_NANOS, System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        SqlRequestProfile profile = SqlRequestProfile.current();
+        Long start = execInfo.getCustomValue(START_NANOS, Long.class);
+        if (profile == null || start == null) {
+            return;
+        }
+        profile.recordStatement(System.nanoTime() - start, updatedRows(execInfo.getResult()));
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+    }
+
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        // ResultSet.next() returning true means one more row came back from the database
+        if (executionContext.getTarget() instanceof ResultSet
+                && "next".equals(executionContext.getMethod().getName())
+                && Boolean.TRUE.equals(executionContext.getResult())) {
+            SqlRequestProfile profile = SqlRequestProfile.current();
+            if (profile != null) {
+                profile.recordRowRead();
+            }
+        }
+    }
+
+    private static long updatedRows(Object result) {
+        if (result instanceof Integer count) {
+            return Math.max(count, 0);
+        }
+        if (result instanceof int[] counts) {
+            long total = 0;
+            for (int count : counts) {
+                total += Math.max(count, 0);
+            }
+            return total;
+        }
+        return 0;
+    }
+}
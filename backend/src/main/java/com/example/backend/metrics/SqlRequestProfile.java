@@ -0,0 +1,59 @@
+package com.example.backend.metrics;
+
+/**
+ * SQL work done by the current thread for one HTTP request: statements executed,
+ * time spent inside the JDBC driver, rows read from result sets and rows written.
+ */
+public class SqlRequestProfile {
+
+    private static final ThreadLocal<SqlRequestProfile> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long dbTimeNanos;
+    private long rowsRead;
+    private long rowsWritten;
+
+    public static SqlRequestProfile begin() {
+        SqlRequestProfile profile = new SqlRequestProfile();
+        CURRENT.set(profile);
+        return profile;
+    }
+
+    public static SqlRequestProfile current() {
+        return CURRENT.get();
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    void recordStatement(long elapsedNanos, long updatedRows) {
+        statements++;
+        dbTimeNanos += elapsedNanos;
+        rowsWritten += updatedRows;
+    }
+
+    void recordRowRead() {
+        rowsRead++;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getDbTimeNanos() {
+        return dbTimeNanos;
+    }
+
+    public long getDbTimeMillis() {
+        return dbTimeNanos / 1_000_000;
+    }
+
+    public long getRowsRead() {
+        return rowsRead;
+    }
+
+    public long getRowsWritten() {
+        return rowsWritten;
+    }
+}
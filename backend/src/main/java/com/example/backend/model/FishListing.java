@@ -3,11 +3,17 @@ package com.example.backend.model;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.StringJoiner;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 
 import com.example.backend.enums.ListingStatus;
+import com.example.backend.money.MoneyMath;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -16,9 +22,12 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -28,7 +37,11 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "fish_listings")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+// A fisherman's own listings, newest catch first (FishListingRepo#findSummariesByFisherman)
+@Table(name = "fish_listings", indexes = @Index(name = "idx_fish_listings_fisherman_catch_date",
+        columnList = "fisherman_id, catch_date DESC, id DESC"))
 public class FishListing {
     
     @Id
@@ -38,11 +51,14 @@ public class FishListing {
     @Column(name = "fish_type", nullable = false)
     private String fishType;
 
-    @Column(nullable = false)
-    private Double weightInKg;
+    @JsonIgnore
+    @Column(name = "weight_grams", nullable = false)
+    private long weightGrams;
 
-    @Column(nullable = false)
-    private BigDecimal price;
+    // Per kg, in minor units
+    @JsonIgnore
+    @Column(name = "price_minor", nullable = false)
+    private long priceMinor;
 
     @Column(name = "photo_url")
     private String photoUrl;
@@ -53,6 +69,10 @@ public class FishListing {
     @Column(nullable = false)
     private String location;
 
+    // Resolved from location through the gazetteer; null when the place is unknown
+    private Double latitude;
+    private Double longitude;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private ListingStatus status = ListingStatus.AVAILABLE;
@@ -70,4 +90,45 @@ public class FishListing {
     @OneToMany(mappedBy = "fishListing")
     private List<OrderItem> orderItems;
 
+    // Text the search indexes are built from (see schema-extensions.sql).
+    // Must stay in step with the concat_ws(' ', ...) backfill there.
+    @Column(name = "search_document", columnDefinition = "TEXT")
+    private String searchDocument;
+
+    @PrePersist
+    @PreUpdate
+    void refreshSearchDocument() {
+        StringJoiner document = new StringJoiner(" ");
+        addIfPresent(document, fishType);
+        addIfPresent(document, location);
+        if (fisherman != null) {
+            addIfPresent(document, fisherman.getFirstName());
+            addIfPresent(document, fisherman.getLastName());
+            addIfPresent(document, fisherman.getProfileInfo());
+        }
+        searchDocument = document.toString();
+    }
+
+    private static void addIfPresent(StringJoiner document, String value) {
+        if (value != null) {
+            document.add(value);
+        }
+    }
+
+    // Decimal views for the API (see MoneyMath)
+    public Double getWeightInKg() {
+        return MoneyMath.toKilograms(weightGrams);
+    }
+
+    public void setWeightInKg(Double weightInKg) {
+        this.weightGrams = MoneyMath.toGrams(weightInKg);
+    }
+
+    public BigDecimal getPrice() {
+        return MoneyMath.toDecimal(priceMinor);
+    }
+
+    public void setPrice(BigDecimal price) {
+        this.priceMinor = MoneyMath.toMinor(price);
+    }
 }
@@ -0,0 +1,55 @@
+package com.example.backend.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// What one order currently adds to fisherman_sales_daily. Re-applying an order subtracts these rows
+// before adding its current items, so repeated or out-of-order events never double count.
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "fisherman_sales_contributions",
+        uniqueConstraints = @UniqueConstraint(name = "uq_fisherman_sales_contributions",
+                columnNames = { "order_id", "fisherman_id", "sale_date", "fish_type" }),
+        indexes = @Index(name = "idx_fisherman_sales_contributions_sale_date", columnList = "sale_date"))
+public class FishermanSalesContribution {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Plain column rather than a foreign key: the order may already be deleted when it is subtracted
+    @Column(name = "order_id", nullable = false)
+    private String orderId;
+
+    @Column(name = "fisherman_id", nullable = false)
+    private String fishermanId;
+
+    @Column(name = "sale_date", nullable = false)
+    private LocalDate saleDate;
+
+    @Column(name = "fish_type", nullable = false)
+    private String fishType;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal revenue;
+
+    @Column(nullable = false, precision = 19, scale = 3)
+    private BigDecimal kilograms;
+
+    @Column(name = "item_count", nullable = false)
+    private Long itemCount;
+}
@@ -0,0 +1,51 @@
+package com.example.backend.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Sales rollup: one row per fisherman, day and fish type, maintained by SalesRollupUpdater
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "fisherman_sales_daily",
+        uniqueConstraints = @UniqueConstraint(name = "uq_fisherman_sales_daily",
+                columnNames = { "fisherman_id", "sale_date", "fish_type" }))
+public class FishermanSalesDaily {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "fisherman_id", nullable = false)
+    private String fishermanId;
+
+    // Day the order was placed
+    @Column(name = "sale_date", nullable = false)
+    private LocalDate saleDate;
+
+    @Column(name = "fish_type", nullable = false)
+    private String fishType;
+
+    // Sum of price at purchase x quantity
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal revenue;
+
+    @Column(nullable = false, precision = 19, scale = 3)
+    private BigDecimal kilograms;
+
+    // Order items counted
+    @Column(name = "item_count", nullable = false)
+    private Long itemCount;
+}
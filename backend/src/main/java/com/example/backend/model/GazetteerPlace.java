@@ -0,0 +1,47 @@
+package com.example.backend.model;
+
+import java.util.Locale;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Local lookup table from free-text place names to coordinates (seeded by gazetteer.sql)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "gazetteer_places")
+public class GazetteerPlace {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String name;
+
+    // Lookup key; aliases are just extra rows with the same coordinates
+    @Column(name = "normalized_name", nullable = false, unique = true)
+    private String normalizedName;
+
+    @Column(nullable = false)
+    private Double latitude;
+
+    @Column(nullable = false)
+    private Double longitude;
+
+    // "Black Sea (Azov area)" -> "black sea". Must stay in step with the backfill in schema-extensions.sql.
+    public static String normalize(String name) {
+        return name.toLowerCase(Locale.ROOT)
+                .replaceAll("\\(.*?\\)", " ")
+                .replaceAll("\\s+", " ")
+                .trim();
+    }
+}
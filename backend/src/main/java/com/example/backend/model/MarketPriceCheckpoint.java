@@ -0,0 +1,31 @@
+package com.example.backend.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Single row: the highest order item already folded into the checkpointed market price sketches
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "market_price_checkpoints")
+public class MarketPriceCheckpoint {
+
+    public static final int SINGLETON_ID = 1;
+
+    @Id
+    private Integer id;
+
+    @Column(name = "last_order_item_id", nullable = false)
+    private Long lastOrderItemId;
+
+    @Column(name = "checkpointed_at", nullable = false)
+    private LocalDateTime checkpointedAt;
+}
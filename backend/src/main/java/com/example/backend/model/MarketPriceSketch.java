@@ -0,0 +1,38 @@
+package com.example.backend.model;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Checkpointed price-per-kg sketch for one fish type and day (see MarketPriceIndex)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "market_price_sketches",
+        uniqueConstraints = @UniqueConstraint(name = "uq_market_price_sketches", columnNames = { "fish_type", "sale_date" }))
+public class MarketPriceSketch {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "fish_type", nullable = false)
+    private String fishType;
+
+    @Column(name = "sale_date", nullable = false)
+    private LocalDate saleDate;
+
+    // PriceSketch.encode()
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String sketch;
+}
@@ -7,6 +7,8 @@ import java.util.List;
 import org.hibernate.annotations.CreationTimestamp;
 
 import com.example.backend.enums.OrderStatus;
+import com.example.backend.money.MoneyMath;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
@@ -42,8 +44,10 @@ public class Order {
     @Column(nullable = false)
     private OrderStatus status = OrderStatus.PENDING;
 
-    @Column(name = "total_price", nullable = false)
-    private BigDecimal totalPrice;
+    // Sum of the item line totals, in minor units
+    @JsonIgnore
+    @Column(name = "total_price_minor", nullable = false)
+    private long totalPriceMinor;
 
     // An order is placed by one Buyer
     @ManyToOne(fetch = FetchType.LAZY)
@@ -59,4 +63,13 @@ public class Order {
     private Payment payment;
 
     
+
+    // Decimal view for the API (see MoneyMath)
+    public BigDecimal getTotalPrice() {
+        return MoneyMath.toDecimal(totalPriceMinor);
+    }
+
+    public void setTotalPrice(BigDecimal totalPrice) {
+        this.totalPriceMinor = MoneyMath.toMinor(totalPrice);
+    }
 }
@@ -2,6 +2,9 @@ package com.example.backend.model;
 
 import java.math.BigDecimal;
 
+import com.example.backend.money.MoneyMath;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -28,14 +31,16 @@ public class OrderItem {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    
 
-    @Column(name = "price_at_purchase", nullable = false)
-    private BigDecimal priceAtPurchase;
-    
-    // e.g., 2.5 (for 2.5kg)
-    @Column(nullable = false)
-    private Double quantity;
+    // Listing price per kg when ordered, in minor units
+    @JsonIgnore
+    @Column(name = "price_at_purchase_minor", nullable = false)
+    private long priceAtPurchaseMinor;
+
+    // e.g., 2500 (for 2.5kg)
+    @JsonIgnore
+    @Column(name = "quantity_grams", nullable = false)
+    private long quantityGrams;
 
     // Many items belong to one order
     @ManyToOne(fetch = FetchType.LAZY)
@@ -50,4 +55,21 @@ public class OrderItem {
     // An order item can have one review
     @OneToOne(mappedBy = "orderItem", cascade = CascadeType.ALL, orphanRemoval = true)
     private Review review;
+
+    // Decimal views for the API (see MoneyMath)
+    public BigDecimal getPriceAtPurchase() {
+        return MoneyMath.toDecimal(priceAtPurchaseMinor);
+    }
+
+    public void setPriceAtPurchase(BigDecimal priceAtPurchase) {
+        this.priceAtPurchaseMinor = MoneyMath.toMinor(priceAtPurchase);
+    }
+
+    public Double getQuantity() {
+        return MoneyMath.toKilograms(quantityGrams);
+    }
+
+    public void setQuantity(Double quantity) {
+        this.quantityGrams = MoneyMath.toGrams(quantity);
+    }
 }
@@ -6,6 +6,8 @@ import java.time.LocalDateTime;
 import org.hibernate.annotations.CreationTimestamp;
 
 import com.example.backend.enums.PaymentStatus;
+import com.example.backend.money.MoneyMath;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -33,8 +35,10 @@ public class Payment {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(nullable = false)
-    private BigDecimal amount;
+    // In minor units
+    @JsonIgnore
+    @Column(name = "amount_minor", nullable = false)
+    private long amountMinor;
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
@@ -52,4 +56,13 @@ public class Payment {
     @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "order_id", nullable = false, unique = true)
     private Order order;
+
+    // Decimal view for the API (see MoneyMath)
+    public BigDecimal getAmount() {
+        return MoneyMath.toDecimal(amountMinor);
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amountMinor = MoneyMath.toMinor(amount);
+    }
 }
@@ -0,0 +1,32 @@
+package com.example.backend.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Persisted copy of an in-memory cart (see CartStore), written only when fishermen.cart.persistent is on
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "buyer_carts", indexes = @Index(name = "idx_buyer_carts_updated_at", columnList = "updated_at"))
+public class SavedCart {
+
+    @Id
+    @Column(name = "buyer_id")
+    private String buyerId;
+
+    // JSON array of CartItem
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String items;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
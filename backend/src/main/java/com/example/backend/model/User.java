@@ -5,6 +5,8 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 
 import com.example.backend.enums.UserRole;
@@ -16,6 +18,9 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+// Read through every listing, order and review; cached in the second-level cache (ehcache.xml)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "users")
 public class User {
     
@@ -44,12 +49,17 @@ public class User {
     private String profileInfo;
     private String location;
 
+    // Resolved from location through the gazetteer; null when the place is unknown
+    private Double latitude;
+    private Double longitude;
+
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
     // A Fisherman (User) can have many listings
     @OneToMany(mappedBy = "fisherman", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     private List<FishListing> fishListings;
 
     // A Buyer (User) can have many orders
@@ -0,0 +1,45 @@
+package com.example.backend.money;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Fixed-point arithmetic for prices and weights. Amounts are longs in minor units (1/100 of the currency
+ * unit, e.g. satang) and weights are longs in grams, so pricing an order is integer math with no
+ * allocation and no binary floating point. BigDecimal and kilogram doubles only appear at the API edge.
+ *
+ * Listing prices are per kilogram, so a line total is price x grams / 1000, rounded half up to the
+ * minor unit; an order total is the sum of its rounded lines. Overflow throws ArithmeticException
+ * (it would take a line worth about 9e13 currency units).
+ */
+public final class MoneyMath {
+
+    public static final int MINOR_UNIT_SCALE = 2;
+    public static final long GRAMS_PER_KILOGRAM = 1000;
+
+    private MoneyMath() {
+    }
+
+    public static long lineTotal(long pricePerKgMinor, long grams) {
+        return Math.floorDiv(Math.addExact(Math.multiplyExact(pricePerKgMinor, grams), GRAMS_PER_KILOGRAM / 2),
+                GRAMS_PER_KILOGRAM);
+    }
+
+    // Rounds half up to the minor unit
+    public static long toMinor(BigDecimal amount) {
+        return amount.setScale(MINOR_UNIT_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    public static BigDecimal toDecimal(long minor) {
+        return BigDecimal.valueOf(minor, MINOR_UNIT_SCALE);
+    }
+
+    // Rounds to the nearest gram
+    public static long toGrams(double kilograms) {
+        return Math.round(kilograms * GRAMS_PER_KILOGRAM);
+    }
+
+    public static double toKilograms(long grams) {
+        return (double) grams / GRAMS_PER_KILOGRAM;
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.backend.ordering;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.example.backend.repository.OrderRepo;
+
+/**
+ * Issues sequential order ids (ORD001, ORD002, ...) for every path that creates orders.
+ *
+ * The next id is one past the highest id in the database or the highest id this instance has handed out,
+ * whichever is larger, so two orders created concurrently get different ids even when the first one
+ * hasn't committed yet.
+ */
+public class OrderIdGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderIdGenerator.class);
+
+    private static final String PREFIX = "ORD";
+    private static final Duration RECENT_ORDER_WINDOW = Duration.ofDays(14);
+
+    private final OrderRepo orderRepo;
+    private int lastIssued;
+
+    public OrderIdGenerator(OrderRepo orderRepo) {
+        this.orderRepo = orderRepo;
+    }
+
+    public synchronized String next() {
+        // Ids grow with order date, so the newest orders hold the max id; only scan history when they're empty
+        String lastId = orderRepo.findMaxIdSince(LocalDateTime.now().minus(RECENT_ORDER_WINDOW));
+        if (lastId == null) {
+            lastId = orderRepo.findMaxId();
+        }
+        int lastSequence = 0;
+
+        if (lastId != null) {
+            try {
+                lastSequence = Integer.parseInt(lastId.substring(PREFIX.length()));
+            } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+                logger.warn("Failed to parse sequence from last Order ID: '{}'. Resetting sequence to 1. Error: {}", lastId, e.getMessage());
+                // If parsing fails, start from 1, but rely on the unique constraint to catch actual duplicates.
+            }
+        }
+        lastIssued = Math.max(lastIssued, lastSequence) + 1;
+        return String.format("%s%03d", PREFIX, lastIssued);
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.backend.ordering;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.backend.dto.OrderStatusOutcomeDto;
+import com.example.backend.dto.OrderStatusOutcomeDto.Outcome;
+import com.example.backend.enums.OrderStatus;
+import com.example.backend.outbox.DomainEventType;
+import com.example.backend.versioning.TableVersions;
+import com.example.backend.versioning.VersionedTable;
+
+/**
+ * Moves many orders to one status with a single UPDATE, guarded by the statuses {@link OrderTransitions}
+ * allows the move from. The guarded rows are locked first, so an order changed concurrently is checked
+ * against its new status rather than overwritten.
+ *
+ * The same statement writes the orders' ORDER_STATUS_CHANGED outbox events, so side effects follow as
+ * they do for single updates.
+ *
+ * Orders the guard skipped are looked up in the same transaction to tell apart the ones that don't exist
+ * (or aren't the fisherman's), already have the status, or can't make the move.
+ */
+public class OrderStatusUpdater {
+
+    // Also writes an ORDER_STATUS_CHANGED outbox event per updated order, shaped like the ones Outbox.record writes
+    private static final String UPDATE_GUARDED = """
+            WITH target AS (
+                SELECT o.id, o.status FROM orders o
+                WHERE o.id = ANY(?) AND o.status = ANY(?)
+                  AND (?::varchar IS NULL OR EXISTS (
+                      SELECT 1 FROM order_items oi JOIN fish_listings f ON f.id = oi.fish_listing_id
+                      WHERE oi.order_id = o.id AND f.fisherman_id = ?))
+                FOR UPDATE OF o
+            ), updated AS (
+                UPDATE orders o SET status = ? FROM target
+                WHERE o.id = target.id
+                RETURNING o.id, target.status AS previous_status
+            ), events AS (
+                INSERT INTO outbox_events (event_type, aggregate_type, aggregate_id, payload, created_at, available_at, attempts)
+                SELECT ?, ?, id, json_build_object('from', previous_status, 'to', ?)::text, ?, ?, 0 FROM updated
+            )
+            SELECT id, previous_status FROM updated
+            """;
+
+    private static final String FIND_SKIPPED = """
+            SELECT o.id, o.status FROM orders o
+            WHERE o.id = ANY(?)
+              AND (?::varchar IS NULL OR EXISTS (
+                  SELECT 1 FROM order_items oi JOIN fish_listings f ON f.id = oi.fish_listing_id
+                  WHERE oi.order_id = o.id AND f.fisherman_id = ?))
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TableVersions tableVersions;
+
+    public OrderStatusUpdater(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+            TableVersions tableVersions) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.tableVersions = tableVersions;
+    }
+
+    // One outcome per distinct order id, in request order; fishermanId may be null
+    public List<OrderStatusOutcomeDto> transition(List<String> orderIds, OrderStatus status, String fishermanId) {
+        String[] ids = new LinkedHashSet<>(orderIds).toArray(String[]::new);
+        String[] from = OrderTransitions.allowedFrom(status).stream().map(Enum::name).toArray(String[]::new);
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Map<String, OrderStatus> updated = new HashMap<>();
+        Map<String, OrderStatus> skipped = new HashMap<>();
+        transactionTemplate.executeWithoutResult(tx -> {
+            jdbcTemplate.query(UPDATE_GUARDED, ps -> {
+                ps.setArray(1, array(ps, "varchar", ids));
+                ps.setArray(2, array(ps, "varchar", from));
+                ps.setString(3, fishermanId);
+                ps.setString(4, fishermanId);
+                ps.setString(5, status.name());
+                ps.setString(6, DomainEventType.ORDER_STATUS_CHANGED.name());
+                ps.setString(7, DomainEventType.ORDER_STATUS_CHANGED.getAggregateType());
+                ps.setString(8, status.name());
+                ps.setTimestamp(9, now);
+                ps.setTimestamp(10, now);
+            }, rs -> {
+                updated.put(rs.getString(1), OrderStatus.valueOf(rs.getString(2)));
+            });
+            if (!updated.isEmpty()) {
+                tableVersions.bump(VersionedTable.ORDERS);
+            }
+            if (updated.size() == ids.length) {
+                return;
+            }
+            String[] rest = Arrays.stream(ids).filter(id -> !updated.containsKey(id)).toArray(String[]::new);
+            jdbcTemplate.query(FIND_SKIPPED, ps -> {
+                ps.setArray(1, array(ps, "varchar", rest));
+                ps.setString(2, fishermanId);
+                ps.setString(3, fishermanId);
+            }, rs -> {
+                skipped.put(rs.getString(1), OrderStatus.valueOf(rs.getString(2)));
+            });
+        });
+
+        List<OrderStatusOutcomeDto> outcomes = new ArrayList<>(ids.length);
+        for (String id : ids) {
+            OrderStatus previous = updated.get(id);
+            if (previous != null) {
+                outcomes.add(new OrderStatusOutcomeDto(id, Outcome.UPDATED, previous, status));
+                continue;
+            }
+            previous = skipped.get(id);
+            if (previous == null) {
+                outcomes.add(new OrderStatusOutcomeDto(id, Outcome.NOT_FOUND, null, null));
+            } else {
+                outcomes.add(new OrderStatusOutcomeDto(id, previous == status ? Outcome.UNCHANGED : Outcome.NOT_ALLOWED,
+                        previous, previous));
+            }
+        }
+        return outcomes;
+    }
+
+    private static Array array(PreparedStatement ps, String type, String[] values) throws SQLException {
+        return ps.getConnection().createArrayOf(type, values);
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.backend.ordering;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+import com.example.backend.enums.OrderStatus;
+
+/**
+ * Which status changes an order may go through:
+ *
+ * PENDING -> CONFIRMED, UNSHIPPED or CANCELLED
+ * CONFIRMED -> UNSHIPPED, SHIPPED or CANCELLED
+ * UNSHIPPED -> SHIPPED or CANCELLED
+ * SHIPPED -> COMPLETED
+ *
+ * COMPLETED and CANCELLED are final. Setting the status an order already has is not a transition.
+ */
+public final class OrderTransitions {
+
+    private static final Map<OrderStatus, Set<OrderStatus>> NEXT = new EnumMap<>(OrderStatus.class);
+
+    static {
+        NEXT.put(OrderStatus.PENDING, EnumSet.of(OrderStatus.CONFIRMED, OrderStatus.UNSHIPPED, OrderStatus.CANCELLED));
+        NEXT.put(OrderStatus.CONFIRMED, EnumSet.of(OrderStatus.UNSHIPPED, OrderStatus.SHIPPED, OrderStatus.CANCELLED));
+        NEXT.put(OrderStatus.UNSHIPPED, EnumSet.of(OrderStatus.SHIPPED, OrderStatus.CANCELLED));
+        NEXT.put(OrderStatus.SHIPPED, EnumSet.of(OrderStatus.COMPLETED));
+        NEXT.put(OrderStatus.COMPLETED, EnumSet.noneOf(OrderStatus.class));
+        NEXT.put(OrderStatus.CANCELLED, EnumSet.noneOf(OrderStatus.class));
+    }
+
+    private OrderTransitions() {
+    }
+
+    public static boolean isAllowed(OrderStatus from, OrderStatus to) {
+        return from != null && NEXT.get(from).contains(to);
+    }
+
+    // The statuses an order can move to the given one from; the guard of a bulk update
+    public static Set<OrderStatus> allowedFrom(OrderStatus to) {
+        Set<OrderStatus> from = EnumSet.noneOf(OrderStatus.class);
+        NEXT.forEach((status, next) -> {
+            if (next.contains(to)) {
+                from.add(status);
+            }
+        });
+        return from;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.backend.outbox;
+
+// Events written to the outbox; the aggregate id is the id of the named aggregate
+public enum DomainEventType {
+    ORDER_CREATED("order"),
+    ORDER_STATUS_CHANGED("order"),
+    ORDER_DELETED("order"),
+    // Aggregate id is the order's
+    ORDER_ITEM_DELETED("order"),
+    PAYMENT_CREATED("payment"),
+    PAYMENT_STATUS_CHANGED("payment"),
+    PAYMENT_DELETED("payment"),
+    REVIEW_CREATED("review"),
+    REVIEW_UPDATED("review"),
+    REVIEW_DELETED("review"),
+    LISTING_CREATED("fish_listing"),
+    LISTING_UPDATED("fish_listing"),
+    LISTING_DELETED("fish_listing");
+
+    private final String aggregateType;
+
+    DomainEventType(String aggregateType) {
+        this.aggregateType = aggregateType;
+    }
+
+    public String getAggregateType() {
+        return aggregateType;
+    }
+}
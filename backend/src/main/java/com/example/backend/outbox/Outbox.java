@@ -0,0 +1,66 @@
+package com.example.backend.outbox;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.springframework.transaction.support.TransactionOperations;
+
+import com.example.backend.model.OutboxEvent;
+import com.example.backend.repository.OutboxEventRepo;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Writes domain events to outbox_events in the transaction of the change they describe, so an event
+ * exists exactly when its change committed. Side effects (rollups, the market price index, search terms)
+ * subscribe to the events through {@link OutboxRelay} instead of running inside the request.
+ *
+ * Typical use from a controller:
+ *
+ * <pre>
+ * Order saved = outbox.inTransaction(() -&gt; {
+ *     Order order = orderRepo.save(newOrder);
+ *     outbox.record(DomainEventType.ORDER_CREATED, order.getId(), Map.of("buyerId", buyerId));
+ *     return order;
+ * });
+ * </pre>
+ */
+public class Outbox {
+
+    private final OutboxEventRepo outboxEventRepo;
+    private final TransactionOperations transactionOperations;
+    private final ObjectMapper objectMapper;
+
+    public Outbox(OutboxEventRepo outboxEventRepo, TransactionOperations transactionOperations, ObjectMapper objectMapper) {
+        this.outboxEventRepo = outboxEventRepo;
+        this.transactionOperations = transactionOperations;
+        this.objectMapper = objectMapper;
+    }
+
+    // Runs the change in a transaction (joining the caller's, if any) so events recorded in it commit with it
+    public <T> T inTransaction(Supplier<T> change) {
+        return transactionOperations.execute(status -> change.get());
+    }
+
+    public void inTransaction(Runnable change) {
+        transactionOperations.executeWithoutResult(status -> change.run());
+    }
+
+    // Must be called inside the change's transaction
+    public void record(DomainEventType type, Object aggregateId, Map<String, ?> details) {
+        outboxEventRepo.save(event(type, aggregateId, details));
+    }
+
+    private OutboxEvent event(DomainEventType type, Object aggregateId, Map<String, ?> details) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(details);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Event details of " + type + " are not serializable", e);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        return new OutboxEvent(null, type, type.getAggregateType(), String.valueOf(aggregateId), payload, now, now, 0,
+                null, null);
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.backend.outbox;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "fishermen.outbox")
+public class OutboxProperties {
+
+    // Delay between polls once the outbox is drained
+    private Duration pollInterval = Duration.ofMillis(500);
+
+    private int batchSize = 100;
+
+    // How long a claimed batch is hidden from other relays; must exceed the time to deliver a batch
+    private Duration lease = Duration.ofSeconds(30);
+
+    // First retry delay after a failed delivery, doubled per attempt up to maxRetryBackoff
+    private Duration retryBackoff = Duration.ofSeconds(1);
+
+    private Duration maxRetryBackoff = Duration.ofMinutes(5);
+
+    // Events still failing after this many attempts are left in the table for inspection
+    private int maxAttempts = 10;
+
+    // Delivered events are deleted after this long
+    private Duration retention = Duration.ofDays(1);
+
+    private Duration pruneInterval = Duration.ofHours(1);
+}
@@ -0,0 +1,146 @@
+package com.example.backend.outbox;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import com.example.backend.model.OutboxEvent;
+
+/**
+ * Delivers outbox events to the {@link OutboxSubscriber}s of their type, in id order, a batch at a time.
+ *
+ * A batch is claimed with one statement: the oldest due events are locked with SKIP LOCKED, their attempt
+ * count bumped and their availability pushed out by the lease, so several relays (one per instance) share
+ * the table without delivering the same event twice at once. Delivered events are marked processed in one
+ * statement; an event whose delivery threw is retried after an exponential backoff and left in the table
+ * once it has used up its attempts. Processed events are pruned after the retention period.
+ */
+public class OutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private static final String CLAIM = """
+            UPDATE outbox_events e SET attempts = e.attempts + 1, available_at = ?
+            WHERE e.id IN (
+                SELECT id FROM outbox_events
+                WHERE processed_at IS NULL AND available_at <= ? AND attempts < ?
+                ORDER BY id
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED)
+            RETURNING e.id, e.event_type, e.aggregate_type, e.aggregate_id, e.payload, e.created_at, e.attempts
+            """;
+
+    private static final String MARK_PROCESSED = "UPDATE outbox_events SET processed_at = ?, last_error = NULL WHERE id = ANY(?)";
+
+    private static final String MARK_FAILED = "UPDATE outbox_events SET available_at = ?, last_error = ? WHERE id = ?";
+
+    private static final String PRUNE = """
+            DELETE FROM outbox_events WHERE id IN (
+                SELECT id FROM outbox_events WHERE processed_at < ? LIMIT ?)
+            """;
+
+    private static final RowMapper<OutboxEvent> EVENT = (rs, rowNum) -> new OutboxEvent(rs.getLong("id"),
+            DomainEventType.valueOf(rs.getString("event_type")), rs.getString("aggregate_type"),
+            rs.getString("aggregate_id"), rs.getString("payload"), rs.getTimestamp("created_at").toLocalDateTime(),
+            null, rs.getInt("attempts"), null, null);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final OutboxProperties properties;
+    private final Map<DomainEventType, List<OutboxSubscriber>> subscribers = new EnumMap<>(DomainEventType.class);
+
+    public OutboxRelay(JdbcTemplate jdbcTemplate, OutboxProperties properties, List<OutboxSubscriber> subscribers) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        for (OutboxSubscriber subscriber : subscribers) {
+            subscriber.getEventTypes().forEach(type ->
+                    this.subscribers.computeIfAbsent(type, t -> new ArrayList<>()).add(subscriber));
+        }
+    }
+
+    // Delivers until no due events are left; returns how many were delivered
+    public int relay() {
+        int delivered = 0;
+        List<OutboxEvent> batch;
+        do {
+            batch = claim();
+            List<Long> processed = new ArrayList<>(batch.size());
+            for (OutboxEvent event : batch) {
+                try {
+                    deliver(event);
+                    processed.add(event.getId());
+                } catch (RuntimeException e) {
+                    failed(event, e);
+                }
+            }
+            if (!processed.isEmpty()) {
+                jdbcTemplate.update(MARK_PROCESSED, ps -> {
+                    ps.setTimestamp(1, Timestamp.valueOf(LocalDateTime.now()));
+                    ps.setArray(2, ps.getConnection().createArrayOf("bigint", processed.toArray()));
+                });
+            }
+            delivered += processed.size();
+        } while (batch.size() == properties.getBatchSize());
+        return delivered;
+    }
+
+    // Deletes processed events past the retention period, a batch per statement; returns how many
+    public int prune() {
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minus(properties.getRetention()));
+        int pruned = 0;
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update(PRUNE, cutoff, properties.getBatchSize() * 10);
+            pruned += deleted;
+        } while (deleted == properties.getBatchSize() * 10);
+        return pruned;
+    }
+
+    private List<OutboxEvent> claim() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> batch = new ArrayList<>(jdbcTemplate.query(CLAIM, EVENT,
+                Timestamp.valueOf(now.plus(properties.getLease())), Timestamp.valueOf(now), properties.getMaxAttempts(),
+                properties.getBatchSize()));
+        // RETURNING doesn't keep the subquery's order
+        batch.sort(Comparator.comparing(OutboxEvent::getId));
+        return batch;
+    }
+
+    private void deliver(OutboxEvent event) {
+        for (OutboxSubscriber subscriber : subscribers.getOrDefault(event.getEventType(), List.of())) {
+            subscriber.handle(event);
+        }
+    }
+
+    private void failed(OutboxEvent event, RuntimeException e) {
+        String error = String.valueOf(e.getMessage());
+        if (error.length() > MAX_ERROR_LENGTH) {
+            error = error.substring(0, MAX_ERROR_LENGTH);
+        }
+        Duration backoff = backoff(event.getAttempts());
+        jdbcTemplate.update(MARK_FAILED, Timestamp.valueOf(LocalDateTime.now().plus(backoff)), error, event.getId());
+        if (event.getAttempts() >= properties.getMaxAttempts()) {
+            logger.error("Giving up on outbox event {} ({} {}) after {} attempts", event.getId(), event.getEventType(),
+                    event.getAggregateId(), event.getAttempts(), e);
+        } else {
+            logger.warn("Delivery of outbox event {} ({} {}) failed, retrying in {}: {}", event.getId(),
+                    event.getEventType(), event.getAggregateId(), backoff, e.getMessage());
+        }
+    }
+
+    private Duration backoff(int attempts) {
+        Duration backoff = properties.getRetryBackoff().multipliedBy(1L << Math.min(attempts - 1, 20));
+        return backoff.compareTo(properties.getMaxRetryBackoff()) > 0 ? properties.getMaxRetryBackoff() : backoff;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.backend.outbox;
+
+import java.util.Set;
+
+import com.example.backend.model.OutboxEvent;
+
+/**
+ * Reacts to outbox events, off the request thread. Delivery is at least once: an event is redelivered
+ * (to every subscriber of its type) when any subscriber throws or the relay stops before marking it
+ * processed, so handlers must tolerate repeats.
+ */
+public interface OutboxSubscriber {
+
+    Set<DomainEventType> getEventTypes();
+
+    void handle(OutboxEvent event);
+}
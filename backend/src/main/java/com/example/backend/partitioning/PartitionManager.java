@@ -0,0 +1,201 @@
+package com.example.backend.partitioning;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Range-partitions fish_listings by catch_date and orders by order_date, one partition per month.
+ *
+ * Hibernate creates both as plain tables, so on startup they are converted in place (new partitioned
+ * table, data copied, indexes, triggers and outgoing foreign keys recreated). Postgres can only reference a
+ * partitioned table through a key that includes the partition column, so the foreign keys pointing
+ * at these tables (order_items, payments) are dropped and left to the application: orders remove their
+ * items and payment through JPA cascades, and FishListingController refuses to delete an ordered listing.
+ *
+ * Maintenance keeps partitions ready ahead of time and detaches months past retention, renaming them
+ * to *_archive_YYYY_MM so they can be dumped or dropped without touching the live tables.
+ */
+public class PartitionManager {
+
+    private static final Logger logger = LoggerFactory.getLogger(PartitionManager.class);
+
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private record PartitionedTable(String name, String partitionColumn) {}
+
+    private static final List<PartitionedTable> TABLES = List.of(
+            new PartitionedTable("fish_listings", "catch_date"),
+            new PartitionedTable("orders", "order_date"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PartitioningProperties properties;
+
+    public PartitionManager(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+            PartitioningProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+    }
+
+    public void convertTables() {
+        for (PartitionedTable table : TABLES) {
+            if (isPartitioned(table.name())) {
+                continue;
+            }
+            // DDL is transactional in Postgres: either the table is fully converted or untouched
+            transactionTemplate.executeWithoutResult(status -> convert(table));
+        }
+    }
+
+    public void maintain() {
+        YearMonth current = YearMonth.now();
+        YearMonth oldestKept = current.minusMonths(properties.getRetentionMonths());
+        for (PartitionedTable table : TABLES) {
+            if (!isPartitioned(table.name())) {
+                continue;
+            }
+            for (YearMonth month = current; !month.isAfter(current.plusMonths(properties.getPremakeMonths()));
+                    month = month.plusMonths(1)) {
+                createMonthlyPartition(table, month);
+            }
+            // Never archive the newest rows: order ids are derived from the highest live id, so detaching
+            // the last non-empty month would let new orders reuse archived ids
+            Timestamp newest = jdbcTemplate.queryForObject(
+                    "SELECT max(" + table.partitionColumn() + ") FROM " + table.name(), Timestamp.class);
+            if (newest == null) {
+                continue;
+            }
+            YearMonth detachBefore = YearMonth.from(newest.toLocalDateTime());
+            if (oldestKept.isBefore(detachBefore)) {
+                detachBefore = oldestKept;
+            }
+            for (String partition : partitionsOf(table.name())) {
+                YearMonth month = monthOf(table.name(), partition);
+                if (month != null && month.isBefore(detachBefore)) {
+                    detach(table.name(), partition, month);
+                }
+            }
+        }
+    }
+
+    private void convert(PartitionedTable table) {
+        String name = table.name();
+        String legacy = name + "_unpartitioned";
+
+        List<String> indexDefinitions = jdbcTemplate.queryForList(
+                "SELECT indexdef FROM pg_indexes WHERE schemaname = current_schema() AND tablename = ? "
+                        + "AND indexname <> ?", String.class, name, name + "_pkey");
+        List<String> outgoingForeignKeys = jdbcTemplate.queryForList(
+                "SELECT 'CONSTRAINT ' || quote_ident(conname) || ' ' || pg_get_constraintdef(oid) FROM pg_constraint "
+                        + "WHERE conrelid = ?::regclass AND contype = 'f'", String.class, name);
+        // User triggers (the listing sync change log); they follow the rename, so recreate them on the new table
+        List<String> triggerDefinitions = jdbcTemplate.queryForList(
+                "SELECT pg_get_triggerdef(oid) FROM pg_trigger WHERE tgrelid = ?::regclass AND NOT tgisinternal",
+                String.class, name);
+        List<Map<String, Object>> incomingForeignKeys = jdbcTemplate.queryForList(
+                "SELECT conrelid::regclass::text AS referencing_table, conname FROM pg_constraint "
+                        + "WHERE confrelid = ?::regclass AND contype = 'f'", name);
+
+        for (Map<String, Object> foreignKey : incomingForeignKeys) {
+            logger.warn("Dropping foreign key {} on {}: it cannot reference partitioned table {}",
+                    foreignKey.get("conname"), foreignKey.get("referencing_table"), name);
+            jdbcTemplate.execute("ALTER TABLE " + foreignKey.get("referencing_table")
+                    + " DROP CONSTRAINT " + foreignKey.get("conname"));
+        }
+
+        jdbcTemplate.execute("ALTER TABLE " + name + " RENAME TO " + legacy);
+        jdbcTemplate.execute("CREATE TABLE " + name + " (LIKE " + legacy
+                + " INCLUDING DEFAULTS INCLUDING GENERATED INCLUDING IDENTITY INCLUDING CONSTRAINTS)"
+                + " PARTITION BY RANGE (" + table.partitionColumn() + ")");
+        jdbcTemplate.execute("ALTER TABLE " + name + " ALTER COLUMN " + table.partitionColumn() + " SET NOT NULL");
+
+        // Everything before the first monthly partition lands in a single history partition
+        Timestamp oldest = jdbcTemplate.queryForObject(
+                "SELECT min(" + table.partitionColumn() + ") FROM " + legacy, Timestamp.class);
+        YearMonth current = YearMonth.now();
+        YearMonth first = oldest == null ? current : YearMonth.from(oldest.toLocalDateTime());
+        if (first.isAfter(current)) {
+            first = current;
+        }
+        jdbcTemplate.execute("CREATE TABLE " + name + "_history PARTITION OF " + name
+                + " FOR VALUES FROM (MINVALUE) TO ('" + first.atDay(1) + "')");
+        for (YearMonth month = first; !month.isAfter(current.plusMonths(properties.getPremakeMonths()));
+                month = month.plusMonths(1)) {
+            createMonthlyPartition(table, month);
+        }
+
+        // Generated columns (the search vector) are recomputed by the new table, not copied
+        String columns = String.join(", ", jdbcTemplate.queryForList(
+                "SELECT quote_ident(column_name::text) FROM information_schema.columns "
+                        + "WHERE table_schema = current_schema() AND table_name = ? AND is_generated = 'NEVER' "
+                        + "ORDER BY ordinal_position", String.class, legacy));
+        int copied = jdbcTemplate.update("INSERT INTO " + name + " (" + columns + ") SELECT " + columns + " FROM " + legacy);
+        jdbcTemplate.execute("DROP TABLE " + legacy);
+        // After the copy, so copied rows keep their change versions
+        triggerDefinitions.forEach(jdbcTemplate::execute);
+
+        // The primary key has to include the partition column
+        jdbcTemplate.execute("ALTER TABLE " + name + " ADD CONSTRAINT " + name + "_pkey PRIMARY KEY (id, "
+                + table.partitionColumn() + ")");
+        indexDefinitions.forEach(jdbcTemplate::execute);
+        for (String definition : outgoingForeignKeys) {
+            jdbcTemplate.execute("ALTER TABLE " + name + " ADD " + definition);
+        }
+
+        // Rows were copied with their ids, so move the identity sequence past them
+        String sequence = jdbcTemplate.queryForObject("SELECT pg_get_serial_sequence(?, 'id')", String.class, name);
+        if (sequence != null) {
+            jdbcTemplate.queryForObject("SELECT setval(?, coalesce((SELECT max(id) FROM " + name + "), 0) + 1, false)",
+                    Long.class, sequence);
+        }
+        logger.info("Partitioned {} by {} ({} rows copied)", name, table.partitionColumn(), copied);
+    }
+
+    private void createMonthlyPartition(PartitionedTable table, YearMonth month) {
+        String partition = table.name() + "_p" + month.format(SUFFIX);
+        LocalDate from = month.atDay(1);
+        LocalDate to = month.plusMonths(1).atDay(1);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partition + " PARTITION OF " + table.name()
+                + " FOR VALUES FROM ('" + from + "') TO ('" + to + "')");
+    }
+
+    private void detach(String table, String partition, YearMonth month) {
+        String archive = table + "_archive_" + month.format(SUFFIX);
+        // CONCURRENTLY only takes a brief lock on the parent, which is why there is no DEFAULT partition.
+        // It can't run inside a transaction, so each statement commits on its own here.
+        jdbcTemplate.execute("ALTER TABLE " + table + " DETACH PARTITION " + partition + " CONCURRENTLY");
+        jdbcTemplate.execute("ALTER TABLE " + partition + " RENAME TO " + archive);
+        logger.info("Detached {} from {} as {}", partition, table, archive);
+    }
+
+    private boolean isPartitioned(String table) {
+        String kind = jdbcTemplate.queryForObject(
+                "SELECT (SELECT c.relkind::text FROM pg_class c WHERE c.oid = to_regclass(?))", String.class, table);
+        return "p".equals(kind);
+    }
+
+    private List<String> partitionsOf(String table) {
+        return jdbcTemplate.queryForList(
+                "SELECT c.relname::text FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid "
+                        + "WHERE i.inhparent = ?::regclass ORDER BY c.relname", String.class, table);
+    }
+
+    private static YearMonth monthOf(String table, String partition) {
+        Matcher matcher = Pattern.compile(Pattern.quote(table) + "_p(\\d{4})_(\\d{2})").matcher(partition);
+        return matcher.matches()
+                ? YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)))
+                : null;
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.backend.partitioning;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "fishermen.partitioning")
+public class PartitioningProperties {
+
+    // Opt-in: converting drops the foreign keys that point at fish_listings and orders
+    private boolean enabled = false;
+
+    // Monthly partitions kept ready ahead of the current month
+    private int premakeMonths = 3;
+
+    // Monthly partitions entirely older than this are detached and renamed *_archive_YYYY_MM
+    private int retentionMonths = 24;
+
+    private Duration maintenanceInterval = Duration.ofDays(1);
+}
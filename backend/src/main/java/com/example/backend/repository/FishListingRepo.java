@@ -1,11 +1,253 @@
 package com.example.backend.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.example.backend.enums.ListingStatus;
 import com.example.backend.model.FishListing;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface FishListingRepo extends JpaRepository<FishListing, Long>{
-    
+
+    // /list on an unpartitioned table. Cached: the result only changes when a listing is written, and
+    // Hibernate invalidates it then (native writes declare fish_listings as their query space).
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<FishListing> findByStatusNot(ListingStatus status);
+
+    interface ListingSummary {
+        Long getId();
+        String getFishType();
+        long getWeightGrams();
+        long getPriceMinor();
+        ListingStatus getStatus();
+        LocalDateTime getCatchDate();
+        String getLocation();
+        String getPhotoUrl();
+    }
+
+    // One page of a fisherman's listings, newest catch first; walks idx_fish_listings_fisherman_catch_date
+    // so the cost follows the fisherman's own listings. status may be null for all of them.
+    @Query("SELECT f.id AS id, f.fishType AS fishType, f.weightGrams AS weightGrams, f.priceMinor AS priceMinor, "
+            + "f.status AS status, f.catchDate AS catchDate, f.location AS location, f.photoUrl AS photoUrl "
+            + "FROM FishListing f WHERE f.fisherman.id = :fishermanId AND (:status IS NULL OR f.status = :status) "
+            + "ORDER BY f.catchDate DESC, f.id DESC LIMIT :limit OFFSET :offset")
+    List<ListingSummary> findSummariesByFisherman(@Param("fishermanId") String fishermanId,
+            @Param("status") ListingStatus status, @Param("limit") int limit, @Param("offset") long offset);
+
+    // Cart checkout: every listing in one query, share-locked until the order commits so none of them can
+    // expire or be sold in between. The fisherman is fetched for the order response.
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT f FROM FishListing f JOIN FETCH f.fisherman WHERE f.id IN :ids")
+    List<FishListing> findAllForCheckout(@Param("ids") Collection<Long> ids);
+
+    // /list on a partitioned table: bounded by catch date so only recent partitions are scanned. Not cached,
+    // since the bound moves with the clock and each call would be a new cache key.
+    List<FishListing> findByStatusNotAndCatchDateGreaterThanEqual(ListingStatus status, LocalDateTime caughtSince);
+
+    // Matches ranked by searchRankedIds; anything older is left out (see hasMoreSearchMatches).
+    // Kept a literal in both queries so the planner sees the real limit.
+    int SEARCH_CANDIDATES = 1000;
+
+    // Stemmed full-text match ranked by weight (fish type > location > fisherman). Only the newest
+    // SEARCH_CANDIDATES matches are ranked so broad terms like "salmon" stay index-bound at millions of rows.
+    // The EXPIRED check is a literal so the partial indexes in schema-extensions.sql apply.
+    @Query(value = """
+            SELECT c.id FROM (
+                SELECT f.id, f.search_vector FROM fish_listings f
+                WHERE f.search_vector @@ websearch_to_tsquery('english', :q)
+                  AND f.status <> 'EXPIRED'
+                ORDER BY f.id DESC
+                LIMIT 1000
+            ) c
+            ORDER BY ts_rank(c.search_vector, websearch_to_tsquery('english', :q)) DESC, c.id DESC
+            LIMIT :limit OFFSET :offset
+            """, nativeQuery = true)
+    List<Long> searchRankedIds(@Param("q") String query, @Param("limit") int limit, @Param("offset") long offset);
+
+    // Whether more than SEARCH_CANDIDATES listings match, i.e. searchRankedIds left some out.
+    // Stops at the first match past the cap instead of counting them all.
+    @Query(value = """
+            SELECT EXISTS (
+                SELECT 1 FROM fish_listings f
+                WHERE f.search_vector @@ websearch_to_tsquery('english', :q)
+                  AND f.status <> 'EXPIRED'
+                OFFSET 1000
+            )
+            """, nativeQuery = true)
+    boolean hasMoreSearchMatches(@Param("q") String query);
+
+    // Rewrites each query word to the closest known search term by trigram similarity ("samon" -> "salmon").
+    // Runs against the small term dictionary rather than every listing's search document.
+    @Query(value = """
+            SELECT string_agg(coalesce(
+                       (SELECT t.term FROM listing_search_terms t
+                        WHERE t.term % w.word
+                        ORDER BY t.term <-> w.word, t.term
+                        LIMIT 1),
+                       w.word), ' ' ORDER BY w.ord)
+            FROM regexp_split_to_table(lower(:q), '[^[:alnum:]]+') WITH ORDINALITY AS w(word, ord)
+            WHERE w.word <> ''
+            """, nativeQuery = true)
+    String suggestSearchQuery(@Param("q") String query);
+
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "listing_search_terms"))
+    @Query(value = """
+            INSERT INTO listing_search_terms (term)
+            SELECT DISTINCT w FROM regexp_split_to_table(lower(:text), '[^[:alnum:]]+') AS w
+            WHERE length(w) >= 3
+            ON CONFLICT DO NOTHING
+            """, nativeQuery = true)
+    int addSearchTerms(@Param("text") String text);
+
+    interface NearbyListing {
+        Long getId();
+        Double getDistanceMeters();
+    }
+
+    // Nearest-first within a radius. earth_box is a bounding cube served by the GiST index on
+    // ll_to_earth(latitude, longitude); earth_distance then trims the box corners to the exact circle.
+    // As in search, the literal EXPIRED check matches the partial index.
+    @Query(value = """
+            SELECT f.id AS "id",
+                   earth_distance(ll_to_earth(f.latitude, f.longitude), ll_to_earth(:lat, :lon)) AS "distanceMeters"
+            FROM fish_listings f
+            WHERE earth_box(ll_to_earth(:lat, :lon), :radiusMeters) @> ll_to_earth(f.latitude, f.longitude)
+              AND earth_distance(ll_to_earth(f.latitude, f.longitude), ll_to_earth(:lat, :lon)) <= :radiusMeters
+              AND f.status <> 'EXPIRED'
+              AND f.status IN (:statuses)
+              AND (CAST(:caughtAfter AS timestamp) IS NULL OR f.catch_date >= CAST(:caughtAfter AS timestamp))
+            ORDER BY 2, f.id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<NearbyListing> findNearby(@Param("lat") double latitude, @Param("lon") double longitude,
+            @Param("radiusMeters") double radiusMeters, @Param("statuses") List<String> statuses,
+            @Param("caughtAfter") LocalDateTime caughtAfter, @Param("limit") int limit);
+
+    @Query("SELECT f FROM FishListing f JOIN FETCH f.fisherman WHERE f.id IN :ids")
+    List<FishListing> findAllWithFishermanByIdIn(@Param("ids") List<Long> ids);
+
+    interface ListingChange {
+        Long getId();
+        Long getVersion();
+        Boolean getDeleted();
+        long getHorizon();
+        long getPrunedThrough();
+    }
+
+    // One page of the change log after (since, afterId): live rows as upserts, tombstones as deletes, in
+    // (version, id) order. Versions are writing transaction ids, which follow start order rather than
+    // commit order, so only changes below the oldest transaction still running (the horizon) are
+    // returned; anything later may still be joined by an earlier-numbered commit. The lateral join keeps
+    // one row carrying the horizon and pruned_through when there are no changes.
+    @Query(value = """
+            WITH bounds AS (
+                SELECT pg_snapshot_xmin(pg_current_snapshot())::text::bigint AS horizon, s.pruned_through
+                FROM fish_listing_sync_state s
+            )
+            SELECT c.id AS "id", c.version AS "version", c.deleted AS "deleted",
+                   b.horizon AS "horizon", b.pruned_through AS "prunedThrough"
+            FROM bounds b
+            LEFT JOIN LATERAL (
+                SELECT u.id, u.version, u.deleted FROM (
+                    (SELECT f.id, f.change_version AS version, false AS deleted FROM fish_listings f
+                     WHERE (f.change_version, f.id) > (:since, :afterId) AND f.change_version < b.horizon
+                     ORDER BY f.change_version, f.id
+                     LIMIT :limit)
+                    UNION ALL
+                    (SELECT t.listing_id, t.change_version, true FROM fish_listing_tombstones t
+                     WHERE (t.change_version, t.listing_id) > (:since, :afterId) AND t.change_version < b.horizon
+                     ORDER BY t.change_version, t.listing_id
+                     LIMIT :limit)
+                ) u
+                ORDER BY u.version, u.id
+                LIMIT :limit
+            ) c ON true
+            ORDER BY c.version, c.id
+            """, nativeQuery = true)
+    List<ListingChange> findChangesSince(@Param("since") long since, @Param("afterId") long afterId,
+            @Param("limit") int limit);
+
+    // Drops tombstones older than the cutoff and records the highest version dropped, so clients that
+    // last synced below it are told to start over instead of silently missing deletes
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES,
+            value = "fish_listing_tombstones fish_listing_sync_state"))
+    @Query(value = """
+            WITH pruned AS (
+                DELETE FROM fish_listing_tombstones WHERE deleted_at < :cutoff RETURNING change_version
+            )
+            UPDATE fish_listing_sync_state s
+            SET pruned_through = greatest(s.pruned_through, (SELECT max(p.change_version) FROM pruned))
+            WHERE s.id = 1 AND EXISTS (SELECT 1 FROM pruned)
+            """, nativeQuery = true)
+    int pruneTombstones(@Param("cutoff") LocalDateTime cutoff);
+
+    // Keeps listing search documents in step when a fisherman's name or profile changes
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "fish_listings"))
+    @Query(value = """
+            UPDATE fish_listings f
+            SET search_document = concat_ws(' ', f.fish_type, f.location, u.first_name, u.last_name, u.profile_info)
+            FROM users u
+            WHERE u.id = f.fisherman_id AND u.id = :fishermanId
+            """, nativeQuery = true)
+    int refreshSearchDocuments(@Param("fishermanId") String fishermanId);
+
+    // Freshness transitions: one bounded batch per call and per transaction. SKIP LOCKED leaves rows
+    // that a checkout is holding for the next run instead of waiting on them. The native spaces hint
+    // limits second-level cache invalidation to fish_listings (Hibernate otherwise clears every region).
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "fish_listings"))
+    @Query(value = """
+            WITH batch AS (
+                SELECT f.id FROM fish_listings f
+                WHERE f.status IN (:fromStatuses)
+                  AND f.catch_date < :caughtBefore
+                  AND lower(replace(btrim(f.fish_type), ' ', '-')) = :fishTypeKey
+                LIMIT :batchSize
+                FOR UPDATE SKIP LOCKED
+            )
+            UPDATE fish_listings f SET status = :toStatus FROM batch WHERE f.id = batch.id
+            """, nativeQuery = true)
+    int transitionStaleBatch(@Param("fromStatuses") List<String> fromStatuses, @Param("toStatus") String toStatus,
+            @Param("caughtBefore") LocalDateTime caughtBefore, @Param("fishTypeKey") String fishTypeKey,
+            @Param("batchSize") int batchSize);
+
+    // Same as above for every fish type without its own window; excludedKeys must not be empty
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "fish_listings"))
+    @Query(value = """
+            WITH batch AS (
+                SELECT f.id FROM fish_listings f
+                WHERE f.status IN (:fromStatuses)
+                  AND f.catch_date < :caughtBefore
+                  AND lower(replace(btrim(f.fish_type), ' ', '-')) NOT IN (:excludedKeys)
+                LIMIT :batchSize
+                FOR UPDATE SKIP LOCKED
+            )
+            UPDATE fish_listings f SET status = :toStatus FROM batch WHERE f.id = batch.id
+            """, nativeQuery = true)
+    int transitionStaleBatchExcluding(@Param("fromStatuses") List<String> fromStatuses, @Param("toStatus") String toStatus,
+            @Param("caughtBefore") LocalDateTime caughtBefore, @Param("excludedKeys") List<String> excludedKeys,
+            @Param("batchSize") int batchSize);
 }
@@ -0,0 +1,124 @@
+package com.example.backend.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.backend.model.FishermanSalesDaily;
+
+import jakarta.persistence.QueryHint;
+
+@Repository
+public interface FishermanSalesDailyRepo extends JpaRepository<FishermanSalesDaily, Long> {
+
+    // The tables the native statements below write; declaring them keeps Hibernate from clearing every
+    // second-level cache region after each one
+    String SALES_TABLES = "fisherman_sales_daily fisherman_sales_contributions";
+
+    // An order counts as a sale once it is confirmed (or further along) or paid, until it is cancelled
+    String COUNTED_ORDER = """
+            o.status <> 'CANCELLED'
+            AND (o.status <> 'PENDING'
+                 OR EXISTS (SELECT 1 FROM payments p WHERE p.order_id = o.id AND p.status = 'SUCCESSFUL'))
+            """;
+
+    // Shared tail of the apply statements: net the removed and added contributions per rollup key and
+    // fold them into the daily rows
+    String FOLD_INTO_DAILY = """
+            INSERT INTO fisherman_sales_daily (fisherman_id, sale_date, fish_type, revenue, kilograms, item_count)
+            SELECT fisherman_id, sale_date, fish_type, sum(revenue), sum(kilograms), sum(item_count)
+            FROM (SELECT * FROM removed UNION ALL SELECT * FROM added) delta
+            GROUP BY fisherman_id, sale_date, fish_type
+            ON CONFLICT (fisherman_id, sale_date, fish_type) DO UPDATE
+            SET revenue = fisherman_sales_daily.revenue + EXCLUDED.revenue,
+                kilograms = fisherman_sales_daily.kilograms + EXCLUDED.kilograms,
+                item_count = fisherman_sales_daily.item_count + EXCLUDED.item_count
+            """;
+
+    String CONTRIBUTION_COLUMNS = """
+            INSERT INTO fisherman_sales_contributions (order_id, fisherman_id, sale_date, fish_type, revenue, kilograms, item_count)
+            SELECT o.id, f.fisherman_id, CAST(o.order_date AS date), f.fish_type,
+                   sum(round(oi.price_at_purchase_minor * oi.quantity_grams / 1000.0)) / 100, sum(oi.quantity_grams) / 1000.0,
+                   count(*)
+            FROM orders o
+            JOIN order_items oi ON oi.order_id = o.id
+            JOIN fish_listings f ON f.id = oi.fish_listing_id
+            """;
+
+    String RETURNING_NEGATED = """
+            RETURNING fisherman_id, sale_date, fish_type, -revenue AS revenue, -kilograms AS kilograms,
+                      -item_count AS item_count
+            """;
+
+    String RETURNING = """
+            RETURNING fisherman_id, sale_date, fish_type, revenue, kilograms, item_count
+            """;
+
+    List<FishermanSalesDaily> findByFishermanIdAndSaleDateBetweenOrderBySaleDateAscFishTypeAsc(String fishermanId,
+            LocalDate from, LocalDate to);
+
+    // Order dates never change, so this is the only day an order is or was counted on. Falls back to the
+    // contributions for orders that have been deleted.
+    @Query(value = """
+            SELECT CAST(coalesce((SELECT o.order_date FROM orders o WHERE o.id = :orderId),
+                                 (SELECT min(c.sale_date) FROM fisherman_sales_contributions c WHERE c.order_id = :orderId))
+                        AS date)
+            """, nativeQuery = true)
+    LocalDate findSaleDay(@Param("orderId") String orderId);
+
+    // Serializes rollup writers per day, in day order so overlapping ranges can't deadlock.
+    // Must run inside the caller's transaction; the locks are released when it ends.
+    @Query(value = """
+            SELECT count(pg_advisory_xact_lock(hashtext('fisherman_sales_daily'), CAST(d AS date) - DATE '2000-01-01'))
+            FROM generate_series(CAST(:from AS date), CAST(:to AS date), interval '1 day') AS d
+            """, nativeQuery = true)
+    long lockDays(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = SALES_TABLES))
+    @Query(value = "WITH removed AS (DELETE FROM fisherman_sales_contributions WHERE order_id = :orderId "
+            + RETURNING_NEGATED + "), added AS (" + CONTRIBUTION_COLUMNS
+            + "WHERE o.id = :orderId AND " + COUNTED_ORDER
+            + "GROUP BY o.id, f.fisherman_id, CAST(o.order_date AS date), f.fish_type " + RETURNING + ") "
+            + FOLD_INTO_DAILY, nativeQuery = true)
+    int applyOrder(@Param("orderId") String orderId);
+
+    // Re-applies every order placed in [from, to) plus contributions left by orders deleted since
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = SALES_TABLES))
+    @Query(value = "WITH removed AS (DELETE FROM fisherman_sales_contributions "
+            + "WHERE sale_date >= CAST(:from AS date) AND sale_date < CAST(:to AS date) " + RETURNING_NEGATED
+            + "), added AS (" + CONTRIBUTION_COLUMNS
+            + "WHERE o.order_date >= CAST(:from AS date) AND o.order_date < CAST(:to AS date) AND " + COUNTED_ORDER
+            + "GROUP BY o.id, f.fisherman_id, CAST(o.order_date AS date), f.fish_type " + RETURNING + ") "
+            + FOLD_INTO_DAILY, nativeQuery = true)
+    int applyDays(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // Keys whose last counted item went away
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = SALES_TABLES))
+    @Query(value = """
+            DELETE FROM fisherman_sales_daily
+            WHERE item_count = 0 AND sale_date BETWEEN CAST(:from AS date) AND CAST(:to AS date)
+            """, nativeQuery = true)
+    int deleteEmptyDays(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query(value = """
+            SELECT CAST(least((SELECT min(order_date) FROM orders),
+                              (SELECT min(sale_date) FROM fisherman_sales_contributions)) AS date)
+            """, nativeQuery = true)
+    LocalDate findFirstSaleDay();
+
+    @Query(value = """
+            SELECT CAST(greatest((SELECT max(order_date) FROM orders),
+                                 (SELECT max(sale_date) FROM fisherman_sales_contributions)) AS date)
+            """, nativeQuery = true)
+    LocalDate findLastSaleDay();
+}
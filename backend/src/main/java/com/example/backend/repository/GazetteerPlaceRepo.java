@@ -0,0 +1,21 @@
+package com.example.backend.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.example.backend.model.GazetteerPlace;
+
+@Repository
+public interface GazetteerPlaceRepo extends JpaRepository<GazetteerPlace, Long> {
+
+    Optional<GazetteerPlace> findByNormalizedName(String normalizedName);
+
+    default Optional<GazetteerPlace> resolve(String location) {
+        if (location == null || location.isBlank()) {
+            return Optional.empty();
+        }
+        return findByNormalizedName(GazetteerPlace.normalize(location));
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.backend.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.example.backend.model.MarketPriceSketch;
+
+@Repository
+public interface MarketPriceSketchRepo extends JpaRepository<MarketPriceSketch, Long> {
+}
@@ -1,12 +1,74 @@
 package com.example.backend.repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.example.backend.enums.OrderStatus;
 import com.example.backend.model.OrderItem;
 
 @Repository
 public interface OrderItemRepo extends JpaRepository<OrderItem, Long> {
-    
-    
+
+    // Just what the market price index needs from an order item
+    interface PricedItem {
+        Long getId();
+        String getFishType();
+        LocalDateTime getOrderDate();
+        long getPriceAtPurchaseMinor();
+        long getQuantityGrams();
+    }
+
+    boolean existsByFishListingId(Long fishListingId);
+
+    @Query("SELECT oi.id AS id, f.fishType AS fishType, o.orderDate AS orderDate, "
+            + "oi.priceAtPurchaseMinor AS priceAtPurchaseMinor, oi.quantityGrams AS quantityGrams "
+            + "FROM OrderItem oi JOIN oi.order o JOIN oi.fishListing f WHERE o.id = :orderId")
+    List<PricedItem> findPricedItemsByOrderId(@Param("orderId") String orderId);
+
+    // A buyer's order item with the seller and, when written, its review; review columns are null otherwise
+    interface ReviewableItem {
+        Long getOrderItemId();
+        String getOrderId();
+        LocalDateTime getOrderDate();
+        OrderStatus getOrderStatus();
+        Long getFishListingId();
+        String getFishType();
+        String getPhotoUrl();
+        String getSellerFirstName();
+        String getSellerLastName();
+        long getQuantityGrams();
+        long getPriceAtPurchaseMinor();
+        Long getReviewId();
+        Integer getRating();
+        String getComment();
+        LocalDateTime getReviewDate();
+    }
+
+    // Newest orders first; walks idx_orders_buyer_order_date and idx_order_items_order. reviewed may be null for both.
+    @Query("SELECT oi.id AS orderItemId, o.id AS orderId, o.orderDate AS orderDate, o.status AS orderStatus, "
+            + "f.id AS fishListingId, f.fishType AS fishType, f.photoUrl AS photoUrl, "
+            + "s.firstName AS sellerFirstName, s.lastName AS sellerLastName, "
+            + "oi.quantityGrams AS quantityGrams, oi.priceAtPurchaseMinor AS priceAtPurchaseMinor, "
+            + "r.id AS reviewId, r.rating AS rating, r.comment AS comment, r.reviewDate AS reviewDate "
+            + "FROM OrderItem oi JOIN oi.order o JOIN oi.fishListing f JOIN f.fisherman s LEFT JOIN oi.review r "
+            + "WHERE o.buyer.id = :buyerId AND o.status IN :statuses "
+            + "AND (:reviewed IS NULL OR (CASE WHEN r.id IS NULL THEN false ELSE true END) = :reviewed) "
+            + "ORDER BY o.orderDate DESC, oi.id DESC LIMIT :limit OFFSET :offset")
+    List<ReviewableItem> findReviewableByBuyer(@Param("buyerId") String buyerId,
+            @Param("statuses") List<OrderStatus> statuses, @Param("reviewed") Boolean reviewed,
+            @Param("limit") int limit, @Param("offset") long offset);
+
+    // Order items after a checkpoint, in id order so callers can page by the last id seen
+    @Query("SELECT oi.id AS id, f.fishType AS fishType, o.orderDate AS orderDate, "
+            + "oi.priceAtPurchaseMinor AS priceAtPurchaseMinor, oi.quantityGrams AS quantityGrams "
+            + "FROM OrderItem oi JOIN oi.order o JOIN oi.fishListing f "
+            + "WHERE oi.id > :afterId AND o.orderDate >= :since ORDER BY oi.id")
+    List<PricedItem> findPricedItemsAfter(@Param("afterId") Long afterId, @Param("since") LocalDateTime since,
+            Pageable page);
 }
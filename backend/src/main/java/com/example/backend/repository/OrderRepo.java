@@ -1,9 +1,11 @@
 package com.example.backend.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.example.backend.model.Order;
@@ -16,5 +18,15 @@ public interface OrderRepo extends JpaRepository<Order, String>{
     @Query("SELECT o.id FROM Order o WHERE o.id LIKE 'ORD%' ORDER BY LENGTH(o.id) DESC, o.id DESC LIMIT 1")
     String findMaxId();
 
+    // Same as findMaxId, but only looks at recent orders, so a partitioned orders table prunes down
+    // to the newest partitions. Returns null when there were no orders in the window.
+    @Query("SELECT o.id FROM Order o WHERE o.id LIKE 'ORD%' AND o.orderDate >= :since ORDER BY LENGTH(o.id) DESC, o.id DESC LIMIT 1")
+    String findMaxIdSince(@Param("since") LocalDateTime since);
+
     public List<Order> findByBuyerId(String buyerId);
+
+    // Date-bounded variants for the hot window; the order_date predicate enables partition pruning
+    public List<Order> findByBuyerIdAndOrderDateGreaterThanEqual(String buyerId, LocalDateTime since);
+
+    public List<Order> findByOrderDateGreaterThanEqual(LocalDateTime since);
 }
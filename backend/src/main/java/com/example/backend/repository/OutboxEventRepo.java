@@ -0,0 +1,17 @@
+package com.example.backend.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.backend.model.OutboxEvent;
+
+@Repository
+public interface OutboxEventRepo extends JpaRepository<OutboxEvent, Long> {
+
+    // An event saved outside the change's transaction could outlive a rolled-back change, so require one
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    <S extends OutboxEvent> S save(S event);
+}
@@ -0,0 +1,21 @@
+package com.example.backend.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.backend.model.SavedCart;
+
+@Repository
+public interface SavedCartRepo extends JpaRepository<SavedCart, String> {
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM SavedCart c WHERE c.updatedAt < :cutoff")
+    int deleteUpdatedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,32 @@
+package com.example.backend.routing;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = ReadReplicaProperties.PREFIX)
+public class ReadReplicaProperties {
+
+    public static final String PREFIX = "fishermen.read-replicas";
+
+    // Off by default: everything goes to spring.datasource
+    private boolean enabled = false;
+
+    // JDBC URLs of the replicas, used round-robin; credentials default to the primary's
+    private List<String> urls = new ArrayList<>();
+    private String username;
+    private String password;
+    private int maximumPoolSize = 10;
+
+    // A replica that can't hand out a connection within this time is skipped for retryAfter
+    private Duration connectionTimeout = Duration.ofSeconds(2);
+    private Duration retryAfter = Duration.ofSeconds(30);
+
+    // After a client's own write its reads stay on the primary for this long, covering replica lag
+    private Duration stickyWindow = Duration.ofSeconds(5);
+}
@@ -0,0 +1,35 @@
+package com.example.backend.routing;
+
+/**
+ * Per-thread routing hint set by {@link ReadRoutingFilter} for the duration of a request: replica
+ * preferred, or pinned to the primary because the client wrote recently (or is writing).
+ * Work outside a request (startup scripts, scheduled jobs) never sees the hint and stays on the primary.
+ */
+public final class ReadRouting {
+
+    // TRUE for a replica read, FALSE when pinned to the primary, unset without a hint
+    private static final ThreadLocal<Boolean> REPLICA_PREFERRED = new ThreadLocal<>();
+
+    private ReadRouting() {
+    }
+
+    static void preferReplica() {
+        REPLICA_PREFERRED.set(Boolean.TRUE);
+    }
+
+    static void pinToPrimary() {
+        REPLICA_PREFERRED.set(Boolean.FALSE);
+    }
+
+    static void clear() {
+        REPLICA_PREFERRED.remove();
+    }
+
+    public static boolean isReplicaPreferred() {
+        return Boolean.TRUE.equals(REPLICA_PREFERRED.get());
+    }
+
+    public static boolean isPinnedToPrimary() {
+        return Boolean.FALSE.equals(REPLICA_PREFERRED.get());
+    }
+}
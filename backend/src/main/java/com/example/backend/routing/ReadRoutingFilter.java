@@ -0,0 +1,107 @@
+package com.example.backend.routing;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Marks GET and HEAD requests as replica reads, except for clients that wrote recently: those are marked
+ * as pinned to the primary, like the writes themselves. CORS preflights neither read nor write.
+ *
+ * Clients are told apart by the {@code X-Client-Id} header when they send one and by remote address
+ * otherwise. Any other method pins its client to the primary for the sticky window, so a page reloaded
+ * right after a checkout sees the new order even if the replicas haven't caught up. The window is kept
+ * in memory, so with several backend instances it only holds for requests reaching the same one.
+ */
+public class ReadRoutingFilter extends OncePerRequestFilter {
+
+    public static final String CLIENT_ID_HEADER = "X-Client-Id";
+
+    private static final int PRUNE_THRESHOLD = 10_000;
+
+    private final long stickyWindowNanos;
+    private final LongSupplier nanoClock;
+    private final Map<String, Long> primaryUntil = new ConcurrentHashMap<>();
+
+    public ReadRoutingFilter(ReadReplicaProperties properties) {
+        this(properties, System::nanoTime);
+    }
+
+    ReadRoutingFilter(ReadReplicaProperties properties, LongSupplier nanoClock) {
+        this.stickyWindowNanos = properties.getStickyWindow().toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String method = request.getMethod();
+        if ("OPTIONS".equals(method) || "TRACE".equals(method)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String client = clientKey(request);
+        if (!"GET".equals(method) && !"HEAD".equals(method)) {
+            // Pinned before and after the write, so reads racing it or following it both hit the primary
+            pin(client);
+            ReadRouting.pinToPrimary();
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                ReadRouting.clear();
+                pin(client);
+            }
+            return;
+        }
+
+        if (isPinned(client)) {
+            ReadRouting.pinToPrimary();
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                ReadRouting.clear();
+            }
+            return;
+        }
+        ReadRouting.preferReplica();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadRouting.clear();
+        }
+    }
+
+    private static String clientKey(HttpServletRequest request) {
+        String clientId = request.getHeader(CLIENT_ID_HEADER);
+        return clientId != null && !clientId.isBlank() ? clientId : request.getRemoteAddr();
+    }
+
+    private void pin(String client) {
+        long now = nanoClock.getAsLong();
+        if (primaryUntil.size() > PRUNE_THRESHOLD) {
+            primaryUntil.values().removeIf(until -> now - until > 0);
+        }
+        primaryUntil.put(client, now + stickyWindowNanos);
+    }
+
+    private boolean isPinned(String client) {
+        Long until = primaryUntil.get(client);
+        if (until == null) {
+            return false;
+        }
+        if (nanoClock.getAsLong() - until > 0) {
+            primaryUntil.remove(client, until);
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.backend.routing;
+
+import java.util.function.Consumer;
+
+import jakarta.persistence.CacheRetrieveMode;
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManager;
+
+/**
+ * Opens the EntityManagers of replica reads with the second-level and query caches bypassed. A replica can
+ * lag the primary, and a row or query result loaded from it would otherwise sit in the shared cache until
+ * evicted or expired, served to every client including those pinned to the primary for read-your-writes.
+ * The caches are filled and read by primary sessions only.
+ *
+ * Reads are bypassed as well as puts: in Hibernate 6.5 a query cache miss under CacheMode.GET still stores
+ * the result it then loads. Set as JPA properties rather than a Hibernate CacheMode because find() takes
+ * its cache mode from them. Registered by ReadReplicaConfig as the EntityManagerFactory's EntityManager
+ * initializer, so it runs when open-session-in-view opens the request's EntityManager, after
+ * {@link ReadRoutingFilter} has routed the request.
+ */
+public class ReplicaCacheMode implements Consumer<EntityManager> {
+
+    static final String RETRIEVE_MODE = "jakarta.persistence.cache.retrieveMode";
+    static final String STORE_MODE = "jakarta.persistence.cache.storeMode";
+
+    @Override
+    public void accept(EntityManager entityManager) {
+        if (ReadRouting.isReplicaPreferred()) {
+            entityManager.setProperty(RETRIEVE_MODE, CacheRetrieveMode.BYPASS);
+            entityManager.setProperty(STORE_MODE, CacheStoreMode.BYPASS);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.backend.sync;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "fishermen.listing-sync")
+public class ListingSyncProperties {
+
+    // How long deletes stay visible to /api/fishListings/sync; clients away longer must resync from 0
+    private Duration tombstoneRetention = Duration.ofDays(30);
+
+    // Delay between the end of one prune and the start of the next
+    private Duration pruneInterval = Duration.ofHours(1);
+}
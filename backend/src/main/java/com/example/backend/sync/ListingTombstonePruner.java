@@ -0,0 +1,37 @@
+package com.example.backend.sync;
+
+import java.time.LocalDateTime;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.example.backend.repository.FishListingRepo;
+
+/**
+ * Keeps the listing change log bounded: tombstones older than the retention are dropped, and the sync
+ * endpoint turns away clients whose version is older than the newest one dropped.
+ */
+public class ListingTombstonePruner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ListingTombstonePruner.class);
+
+    private final FishListingRepo fishListingRepo;
+    private final ListingSyncProperties properties;
+
+    public ListingTombstonePruner(FishListingRepo fishListingRepo, ListingSyncProperties properties) {
+        this.fishListingRepo = fishListingRepo;
+        this.properties = properties;
+    }
+
+    // Scheduled by ListingSyncConfig at fishermen.listing-sync.prune-interval
+    public void run() {
+        try {
+            int pruned = fishListingRepo.pruneTombstones(LocalDateTime.now().minus(properties.getTombstoneRetention()));
+            if (pruned > 0) {
+                logger.info("Pruned listing tombstones older than {}", properties.getTombstoneRetention());
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Listing tombstone prune failed, retrying next run", e);
+        }
+    }
+}
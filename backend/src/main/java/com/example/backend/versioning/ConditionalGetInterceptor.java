@@ -0,0 +1,51 @@
+package com.example.backend.versioning;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Answers conditional GETs for {@link Versioned} handlers before they run: the ETag comes from the table
+ * counters, so a matching If-None-Match gets a 304 without a query or any serialization. Otherwise the
+ * tag is set on the response and the handler runs as usual.
+ */
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    private final TableVersions tableVersions;
+
+    public ConditionalGetInterceptor(TableVersions tableVersions) {
+        this.tableVersions = tableVersions;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)
+                || !(HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod()))) {
+            return true;
+        }
+        Versioned versioned = handlerMethod.getMethodAnnotation(Versioned.class);
+        if (versioned == null) {
+            return true;
+        }
+        for (String param : versioned.exceptWithParams()) {
+            if (request.getParameter(param) != null) {
+                return true;
+            }
+        }
+
+        String etag = tableVersions.etag(versioned.value().length == 0 ? VersionedTable.entityTables() : versioned.value());
+        if (etag == null) {
+            return true;
+        }
+        // Cacheable, but always revalidated; the tag covers every representation (JSON, CBOR, Smile), so
+        // caches must keep them apart by Accept
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        return !new ServletWebRequest(request, response).checkNotModified(etag);
+    }
+}
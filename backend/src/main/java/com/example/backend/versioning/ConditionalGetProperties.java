@@ -0,0 +1,13 @@
+package com.example.backend.versioning;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "fishermen.conditional-get")
+public class ConditionalGetProperties {
+
+    // Tag versioned responses and answer If-None-Match with 304; single-instance deployments only (see TableVersions)
+    private boolean enabled = true;
+}
@@ -0,0 +1,71 @@
+package com.example.backend.versioning;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * In-memory modification counters, one per table, from which list and detail endpoints derive their ETags.
+ *
+ * Writers call {@link #bump} for every table they change; inside a transaction the bump waits for the
+ * commit, so a tag is never handed out for rows that could still roll back, and a reader that took the
+ * old version before the commit at worst re-downloads once. Counters only grow, so the sum over an
+ * endpoint's tables changes whenever any of them does. The boot time is part of every tag, so tags from
+ * before a restart never match.
+ *
+ * With read replicas a response can be read from a replica that hasn't caught up with a write yet; for
+ * settleWindow after a bump the affected endpoints are served untagged so such a response is never validated.
+ *
+ * The counters are per instance: writes made through another instance are not seen, so with more than one
+ * instance behind a load balancer turn fishermen.conditional-get.enabled off.
+ */
+public class TableVersions {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLongArray versions = new AtomicLongArray(VersionedTable.values().length);
+    private final AtomicLongArray lastBumpMillis = new AtomicLongArray(VersionedTable.values().length);
+    private final long settleWindowMillis;
+
+    public TableVersions(long settleWindowMillis) {
+        this.settleWindowMillis = settleWindowMillis;
+    }
+
+    public void bump(VersionedTable... tables) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    increment(tables);
+                }
+            });
+        } else {
+            increment(tables);
+        }
+    }
+
+    public long version(VersionedTable table) {
+        return versions.get(table.ordinal());
+    }
+
+    // Weak ETag for a response built from the given tables, or null while one of them is settling
+    public String etag(VersionedTable... tables) {
+        long now = System.currentTimeMillis();
+        long sum = 0;
+        for (VersionedTable table : tables) {
+            if (settleWindowMillis > 0 && now - lastBumpMillis.get(table.ordinal()) < settleWindowMillis) {
+                return null;
+            }
+            sum += versions.get(table.ordinal());
+        }
+        return "W/\"" + epoch + "-" + Long.toString(sum, 36) + "\"";
+    }
+
+    private void increment(VersionedTable... tables) {
+        long now = System.currentTimeMillis();
+        for (VersionedTable table : tables) {
+            versions.incrementAndGet(table.ordinal());
+            lastBumpMillis.set(table.ordinal(), now);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.backend.versioning;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a GET handler whose response depends only on the given tables, so {@link ConditionalGetInterceptor}
+ * can answer If-None-Match from {@link TableVersions} without calling it. No tables means all the entity
+ * tables, for handlers that serialize entities with their associations; view counts have to be named.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Versioned {
+
+    VersionedTable[] value() default {};
+
+    // Query parameters that make the response depend on the clock (e.g. sinceDays); requests with them aren't tagged
+    String[] exceptWithParams() default {};
+}
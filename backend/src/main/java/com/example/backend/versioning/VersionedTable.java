@@ -0,0 +1,35 @@
+package com.example.backend.versioning;
+
+import java.util.Arrays;
+
+// Tables whose writes invalidate the ETags of the endpoints reading them
+public enum VersionedTable {
+    USERS,
+    FISH_LISTINGS,
+    ORDERS,
+    ORDER_ITEMS,
+    PAYMENTS,
+    REVIEWS,
+    // Bumped by each ListingViewCounter flush that wrote counts. Not an entity table, so a bare @Versioned
+    // doesn't include it and the handlers showing view counts name it
+    LISTING_VIEWS(false);
+
+    private static final VersionedTable[] ENTITY_TABLES = Arrays.stream(values())
+            .filter(table -> table.entity)
+            .toArray(VersionedTable[]::new);
+
+    private final boolean entity;
+
+    VersionedTable() {
+        this(true);
+    }
+
+    VersionedTable(boolean entity) {
+        this.entity = entity;
+    }
+
+    // What a @Versioned without tables depends on; shared, so callers must not modify it
+    static VersionedTable[] entityTables() {
+        return ENTITY_TABLES;
+    }
+}
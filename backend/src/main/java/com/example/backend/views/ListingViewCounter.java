@@ -0,0 +1,167 @@
+package com.example.backend.views;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import com.example.backend.versioning.TableVersions;
+import com.example.backend.versioning.VersionedTable;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Counts listing views in memory and writes them to listing_view_counts in one statement per flush,
+ * so a popular listing costs an increment per view rather than an UPDATE on its row.
+ *
+ * Each listing has a LongAdder, so views of the same listing from many threads don't contend. A flush
+ * drains every adder with sumThenReset (each cell is swapped atomically, so a concurrent view lands
+ * either in this flush or the next) and upserts the non-zero counts for today from two arrays. Listings
+ * with nothing to flush are dropped from the map, so memory follows the listings viewed recently, and
+ * at most maxTrackedListings are tracked at once. A failed flush puts its counts back for the next one.
+ *
+ * Views are attributed to the day of the flush, so those in the last interval before midnight count
+ * toward the next day.
+ */
+public class ListingViewCounter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ListingViewCounter.class);
+
+    private static final String UPSERT = """
+            INSERT INTO listing_view_counts (listing_id, view_date, views)
+            SELECT v.listing_id, ?, v.views FROM unnest(?::bigint[], ?::bigint[]) AS v(listing_id, views)
+            ON CONFLICT (listing_id, view_date) DO UPDATE SET views = listing_view_counts.views + EXCLUDED.views
+            """;
+
+    private static final String PRUNE = "DELETE FROM listing_view_counts WHERE view_date < ?";
+
+    private static final String VIEWS_ON_DAY = "SELECT listing_id, views FROM listing_view_counts "
+            + "WHERE view_date = ? AND listing_id = ANY(?)";
+
+    // Walks idx_listing_view_counts_day_views; the literal EXPIRED check matches the partial indexes
+    private static final String MOST_VIEWED_ON_DAY = """
+            SELECT c.listing_id FROM listing_view_counts c
+            JOIN fish_listings f ON f.id = c.listing_id AND f.status <> 'EXPIRED'
+            WHERE c.view_date = ?
+            ORDER BY c.views DESC, c.listing_id
+            LIMIT ?
+            """;
+
+    // Package-private so tests can stage a view racing the idle-entry removal
+    final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    private final JdbcTemplate jdbcTemplate;
+    private final ListingViewProperties properties;
+    private final TableVersions tableVersions;
+    private final Counter dropped;
+    private final Timer flushTimer;
+
+    public ListingViewCounter(JdbcTemplate jdbcTemplate, ListingViewProperties properties, TableVersions tableVersions,
+            MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.tableVersions = tableVersions;
+        this.dropped = Counter.builder("fishermen.listings.views.dropped")
+                .description("Views not counted because max-tracked-listings was reached")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("fishermen.listings.views.flushes").register(meterRegistry);
+        Gauge.builder("fishermen.listings.views.tracked", pending, Map::size).register(meterRegistry);
+    }
+
+    public void record(long listingId) {
+        LongAdder adder = pending.get(listingId);
+        if (adder == null) {
+            if (pending.size() >= properties.getMaxTrackedListings()) {
+                dropped.increment();
+                return;
+            }
+            adder = pending.computeIfAbsent(listingId, id -> new LongAdder());
+        }
+        adder.increment();
+    }
+
+    // Today's views: flushed plus still in memory
+    public Map<Long, Long> viewsToday(Collection<Long> listingIds) {
+        Map<Long, Long> views = new HashMap<>();
+        if (listingIds.isEmpty()) {
+            return views;
+        }
+        jdbcTemplate.query(VIEWS_ON_DAY, ps -> {
+            ps.setDate(1, Date.valueOf(LocalDate.now()));
+            ps.setArray(2, ps.getConnection().createArrayOf("bigint", listingIds.toArray()));
+        }, (RowCallbackHandler) rs -> views.put(rs.getLong("listing_id"), rs.getLong("views")));
+        for (Long listingId : listingIds) {
+            LongAdder adder = pending.get(listingId);
+            long unflushed = adder == null ? 0 : adder.sum();
+            views.merge(listingId, unflushed, Long::sum);
+        }
+        return views;
+    }
+
+    // Ids of the listings viewed most today as of the last flush, most first; expired ones are left out
+    public List<Long> mostViewedToday(int limit) {
+        return jdbcTemplate.queryForList(MOST_VIEWED_ON_DAY, Long.class, Date.valueOf(LocalDate.now()), limit);
+    }
+
+    // Scheduled by ListingViewConfig at fishermen.listing-views.flush-interval, and run once more on shutdown
+    public void flush() {
+        Timer.Sample sample = Timer.start();
+        List<Long> ids = new ArrayList<>();
+        List<Long> counts = new ArrayList<>();
+        for (Iterator<Map.Entry<Long, LongAdder>> it = pending.entrySet().iterator(); it.hasNext();) {
+            Map.Entry<Long, LongAdder> entry = it.next();
+            long views = entry.getValue().sumThenReset();
+            if (views > 0) {
+                ids.add(entry.getKey());
+                counts.add(views);
+            } else {
+                // Idle since the last flush. Views that reach the removed adder before the second drain are
+                // put back; one that took the adder just before removal and adds after that drain is lost.
+                it.remove();
+                long raced = entry.getValue().sumThenReset();
+                if (raced > 0) {
+                    putBack(entry.getKey(), raced);
+                }
+            }
+        }
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        LocalDate today = LocalDate.now();
+        try {
+            jdbcTemplate.update(UPSERT, ps -> {
+                ps.setDate(1, Date.valueOf(today));
+                ps.setArray(2, ps.getConnection().createArrayOf("bigint", ids.toArray()));
+                ps.setArray(3, ps.getConnection().createArrayOf("bigint", counts.toArray()));
+            });
+            jdbcTemplate.update(PRUNE, Date.valueOf(today.minusDays(properties.getRetention().toDays())));
+            tableVersions.bump(VersionedTable.LISTING_VIEWS);
+        } catch (DataAccessException e) {
+            logger.warn("Listing view flush failed, keeping {} listings' counts for the next one: {}", ids.size(),
+                    e.getMessage());
+            for (int i = 0; i < ids.size(); i++) {
+                putBack(ids.get(i), counts.get(i));
+            }
+        }
+        sample.stop(flushTimer);
+    }
+
+    private void putBack(long listingId, long views) {
+        pending.computeIfAbsent(listingId, id -> new LongAdder()).add(views);
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.backend.views;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "fishermen.listing-views")
+public class ListingViewProperties {
+
+    // Delay between the end of one flush and the start of the next; also the most a crash can lose
+    private Duration flushInterval = Duration.ofSeconds(30);
+
+    // Distinct listings counted in memory between flushes; views of further listings are dropped
+    private int maxTrackedListings = 100_000;
+
+    // Daily counts older than this are deleted
+    private Duration retention = Duration.ofDays(30);
+}
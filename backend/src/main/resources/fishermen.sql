@@ -1,6 +1,7 @@
 -- This script provides mock data for the Fishermen application.
 -- It assumes that the tables have been created by Hibernate (ddl-auto=update).
 -- Note: Timestamps are hardcoded for reproducibility. In a real scenario, these would be dynamic.
+-- Money is stored in minor units (1/100 of the currency unit) and weights in grams; see MoneyMath.
 
 -- Clear existing data and reset sequences
 TRUNCATE TABLE reviews, payments, order_items, orders, fish_listings, users RESTART IDENTITY CASCADE;
@@ -35,59 +36,65 @@ INSERT INTO users (id, username, email, password, first_name, last_name, role, p
 -- =================================================================
 -- Note: id is auto-generated, so we don't specify it.
 INSERT INTO fish_listings (
-    fish_type, weight_in_kg, price, photo_url, catch_date, status, fisherman_id, created_at, location
+    fish_type, weight_grams, price_minor, photo_url, catch_date, status, fisherman_id, created_at, location
 ) VALUES
 -- Anchovy (Commonly found in the Mediterranean and Gulf of Thailand)
-('Anchovy', 1.0, 180.00, '/images/anchovy.jpg', '2025-05-10 08:00:00', 'SENT_FRESH', 'FISHER0001', '2025-05-10 10:00:00', 'Gulf of Thailand'),
-('Anchovy', 1.0, 235.00, '/images/anchovy2.jpg', '2025-05-13 07:00:00', 'SENT_FRESH', 'FISHER0002', '2025-05-13 09:00:00', 'Mediterranean Sea'),
+('Anchovy', 1000, 18000, '/images/anchovy.jpg', '2025-05-10 08:00:00', 'SENT_FRESH', 'FISHER0001', '2025-05-10 10:00:00', 'Gulf of Thailand'),
+('Anchovy', 1000, 23500, '/images/anchovy2.jpg', '2025-05-13 07:00:00', 'SENT_FRESH', 'FISHER0002', '2025-05-13 09:00:00', 'Mediterranean Sea'),
 
 -- Bluefin Tuna (Oceanic, highly migratory)
-('Bluefin Tuna', 1.0, 5400.00, '/images/BluefinTuna.jpg', '2025-05-09 06:00:00', 'SENT_FRESH', 'FISHER0002', '2025-05-09 08:00:00', 'Atlantic Ocean'),
-('Bluefin Tuna', 1.0, 7920.00, '/images/BluefinTuna2.jpg', '2025-05-14 05:30:00', 'SENT_FRESH', 'FISHER0001', '2025-05-14 08:00:00', 'Pacific Ocean'),
+('Bluefin Tuna', 1000, 540000, '/images/BluefinTuna.jpg', '2025-05-09 06:00:00', 'SENT_FRESH', 'FISHER0002', '2025-05-09 08:00:00', 'Atlantic Ocean'),
+('Bluefin Tuna', 1000, 792000, '/images/BluefinTuna2.jpg', '2025-05-14 05:30:00', 'SENT_FRESH', 'FISHER0001', '2025-05-14 08:00:00', 'Pacific Ocean'),
 
 -- Carp (Freshwater, but using an associated water body name)
-('Carp', 1.0, 290.00, '/images/carp.jpg', '2025-05-11 09:30:00', 'SENT_FRESH', 'FISHER0003', '2025-05-11 11:00:00', 'Black Sea (Azov area)'),
-('Carp', 1.0, 380.00, '/images/carp_2.jpg', '2025-05-13 10:00:00', 'SENT_FROZEN', 'FISHER0001', '2025-05-13 12:00:00', 'Caspian Sea Basin'),
+('Carp', 1000, 29000, '/images/carp.jpg', '2025-05-11 09:30:00', 'SENT_FRESH', 'FISHER0003', '2025-05-11 11:00:00', 'Black Sea (Azov area)'),
+('Carp', 1000, 38000, '/images/carp_2.jpg', '2025-05-13 10:00:00', 'SENT_FROZEN', 'FISHER0001', '2025-05-13 12:00:00', 'Caspian Sea Basin'),
 
 -- Catfish (Freshwater, but using an associated water body name)
-('Catfish', 1.0, 270.00, '/images/catfish.jpg', '2025-05-12 07:00:00', 'SENT_FROZEN', 'FISHER0001', '2025-05-12 09:00:00', 'Gulf of Mexico'),
-('Catfish', 1.0, 325.00, '/images/catfish_small.jpg', '2025-05-14 06:00:00', 'SENT_FRESH', 'FISHER0003', '2025-05-14 08:00:00', 'South China Sea'),
+('Catfish', 1000, 27000, '/images/catfish.jpg', '2025-05-12 07:00:00', 'SENT_FROZEN', 'FISHER0001', '2025-05-12 09:00:00', 'Gulf of Mexico'),
+('Catfish', 1000, 32500, '/images/catfish_small.jpg', '2025-05-14 06:00:00', 'SENT_FRESH', 'FISHER0003', '2025-05-14 08:00:00', 'South China Sea'),
 
 -- Cod (Major fishing grounds in the North Atlantic and Pacific)
-('Cod', 1.0, 1080.00, '/images/cod.jpg', '2025-05-08 10:30:00', 'SENT_FRESH', 'FISHER0002', '2025-05-08 12:00:00', 'Barents Sea'),
-('Cod', 1.0, 900.00, '/images/cod_2.jpg', '2025-05-12 11:00:00', 'SENT_FRESH', 'FISHER0002', '2025-05-12 13:00:00', 'North Sea'),
+('Cod', 1000, 108000, '/images/cod.jpg', '2025-05-08 10:30:00', 'SENT_FRESH', 'FISHER0002', '2025-05-08 12:00:00', 'Barents Sea'),
+('Cod', 1000, 90000, '/images/cod_2.jpg', '2025-05-12 11:00:00', 'SENT_FRESH', 'FISHER0002', '2025-05-12 13:00:00', 'North Sea'),
 
 -- Herring (Large fisheries in the North Atlantic and Pacific)
-('Herring', 1.0, 430.00, '/images/herring.jpg', '2025-05-09 08:30:00', 'SENT_FRESH', 'FISHER0001', '2025-05-09 10:00:00', 'Baltic Sea'),
-('Herring', 1.0, 520.00, '/images/herring_2.jpg', '2025-05-12 09:00:00', 'SENT_FRESH', 'FISHER0002', '2025-05-12 10:30:00', 'Norwegian Sea'),
+('Herring', 1000, 43000, '/images/herring.jpg', '2025-05-09 08:30:00', 'SENT_FRESH', 'FISHER0001', '2025-05-09 10:00:00', 'Baltic Sea'),
+('Herring', 1000, 52000, '/images/herring_2.jpg', '2025-05-12 09:00:00', 'SENT_FRESH', 'FISHER0002', '2025-05-12 10:30:00', 'Norwegian Sea'),
 
 -- Mackerel (Coastal pelagic species)
-('Mackerel', 1.0, 360.00, '/images/mackerel.jpg', '2025-05-12 06:15:00', 'SENT_FROZEN', 'FISHER0003', '2025-05-12 08:00:00', 'Celtic Sea'),
-('Mackerel', 1.0, 415.00, '/images/mackerel_2.jpg', '2025-05-14 07:00:00', 'SENT_FRESH', 'FISHER0001', '2025-05-14 09:00:00', 'English Channel'),
+('Mackerel', 1000, 36000, '/images/mackerel.jpg', '2025-05-12 06:15:00', 'SENT_FROZEN', 'FISHER0003', '2025-05-12 08:00:00', 'Celtic Sea'),
+('Mackerel', 1000, 41500, '/images/mackerel_2.jpg', '2025-05-14 07:00:00', 'SENT_FRESH', 'FISHER0001', '2025-05-14 09:00:00', 'English Channel'),
 
 -- Pomfret (Tropical and temperate marine waters)
-('Pomfret', 1.0, 1260.00, '/images/pomfret.jpg', '2025-05-10 05:30:00', 'SENT_FRESH', 'FISHER0002', '2025-05-10 07:00:00', 'Andaman Sea'),
-('Pomfret', 1.0, 1510.00, '/images/pomfret_2.jpg', '2025-05-14 06:00:00', 'SENT_FRESH', 'FISHER0003', '2025-05-14 08:00:00', 'Persian Gulf'),
+('Pomfret', 1000, 126000, '/images/pomfret.jpg', '2025-05-10 05:30:00', 'SENT_FRESH', 'FISHER0002', '2025-05-10 07:00:00', 'Andaman Sea'),
+('Pomfret', 1000, 151000, '/images/pomfret_2.jpg', '2025-05-14 06:00:00', 'SENT_FRESH', 'FISHER0003', '2025-05-14 08:00:00', 'Persian Gulf'),
 
 -- Salmon (Anadromous, but commonly associated with oceans/bays)
-('Salmon', 1.0, 1000.00, '/images/salmon.jpg', '2025-05-11 10:00:00', 'SENT_FRESH', 'FISHER0003', '2025-05-11 12:00:00', 'North Atlantic Ocean'),
-('Salmon', 1.0, 1260.00, '/images/salmon_2.jpg', '2025-05-13 09:00:00', 'SENT_FRESH', 'FISHER0001', '2025-05-13 11:00:00', 'Gulf of Alaska'),
+('Salmon', 1000, 100000, '/images/salmon.jpg', '2025-05-11 10:00:00', 'SENT_FRESH', 'FISHER0003', '2025-05-11 12:00:00', 'North Atlantic Ocean'),
+('Salmon', 1000, 126000, '/images/salmon_2.jpg', '2025-05-13 09:00:00', 'SENT_FRESH', 'FISHER0001', '2025-05-13 11:00:00', 'Gulf of Alaska'),
 
 -- Sea Bass (Coastal waters and estuaries)
-('Sea Bass', 1.0, 790.00, '/images/seabass.jpg', '2025-05-08 06:00:00', 'SENT_FROZEN', 'FISHER0001', '2025-05-08 08:00:00', 'Adriatic Sea'),
-('Sea Bass', 1.0, 1000.00, '/images/seabass_2.jpg', '2025-05-12 07:30:00', 'SENT_FRESH', 'FISHER0002', '2025-05-12 09:30:00', 'Ionian Sea'),
+('Sea Bass', 1000, 79000, '/images/seabass.jpg', '2025-05-08 06:00:00', 'SENT_FROZEN', 'FISHER0001', '2025-05-08 08:00:00', 'Adriatic Sea'),
+('Sea Bass', 1000, 100000, '/images/seabass_2.jpg', '2025-05-12 07:30:00', 'SENT_FRESH', 'FISHER0002', '2025-05-12 09:30:00', 'Ionian Sea'),
 
 -- Snapper (Found in tropical and subtropical regions)
-('Snapper', 1.0, 1370.00, '/images/snapper.jpg', '2025-05-10 09:00:00', 'SENT_FRESH', 'FISHER0002', '2025-05-10 11:00:00', 'Caribbean Sea'),
-('Snapper', 1.0, 1620.00, '/images/snapper_2.jpg', '2025-05-14 08:30:00', 'SENT_FRESH', 'FISHER0003', '2025-05-14 10:30:00', 'Coral Sea'),
+('Snapper', 1000, 137000, '/images/snapper.jpg', '2025-05-10 09:00:00', 'SENT_FRESH', 'FISHER0002', '2025-05-10 11:00:00', 'Caribbean Sea'),
+('Snapper', 1000, 162000, '/images/snapper_2.jpg', '2025-05-14 08:30:00', 'SENT_FRESH', 'FISHER0003', '2025-05-14 10:30:00', 'Coral Sea'),
 
 -- Trout (Freshwater/Anadromous, using associated sea/bay names)
-('Trout', 1.0, 650.00, '/images/trout.jpg', '2025-05-09 07:30:00', 'SENT_FRESH', 'FISHER0001', '2025-05-09 09:00:00', 'Great Lakes (Connecting to the Atlantic)'),
-('Trout', 1.0, 900.00, '/images/trout_2.jpg', '2025-05-12 08:00:00', 'SENT_FRESH', 'FISHER0003', '2025-05-12 09:30:00', 'Chesapeake Bay'),
+('Trout', 1000, 65000, '/images/trout.jpg', '2025-05-09 07:30:00', 'SENT_FRESH', 'FISHER0001', '2025-05-09 09:00:00', 'Great Lakes (Connecting to the Atlantic)'),
+('Trout', 1000, 90000, '/images/trout_2.jpg', '2025-05-12 08:00:00', 'SENT_FRESH', 'FISHER0003', '2025-05-12 09:30:00', 'Chesapeake Bay'),
 
 -- Yellowtail (e.g., Japanese Amberjack, found in Pacific waters)
-('Yellowtail', 1.0, 2340.00, '/images/yellowtail.jpg', '2025-05-11 08:15:00', 'SENT_FRESH', 'FISHER0003', '2025-05-11 10:15:00', 'Sea of Japan'),
-('Yellowtail', 1.0, 2700.00, '/images/yellowtail_2.jpg', '2025-05-13 07:45:00', 'SENT_FRESH', 'FISHER0002', '2025-05-13 09:45:00', 'South China Sea');
+('Yellowtail', 1000, 234000, '/images/yellowtail.jpg', '2025-05-11 08:15:00', 'SENT_FRESH', 'FISHER0003', '2025-05-11 10:15:00', 'Sea of Japan'),
+('Yellowtail', 1000, 270000, '/images/yellowtail_2.jpg', '2025-05-13 07:45:00', 'SENT_FRESH', 'FISHER0002', '2025-05-13 09:45:00', 'South China Sea');
+
+-- Keep the catches recent whenever the seed runs: shift them so the newest (2025-05-14) was caught today.
+-- The freshness job works on catch age and would otherwise expire every listing above.
+UPDATE fish_listings
+SET catch_date = catch_date + (CURRENT_DATE - DATE '2025-05-14') * INTERVAL '1 day',
+    created_at = created_at + (CURRENT_DATE - DATE '2025-05-14') * INTERVAL '1 day';
 
 
 -- =================================================================
@@ -95,137 +102,137 @@ INSERT INTO fish_listings (
 -- =================================================================
 
 -- Order 1: Alice buys Anchovy and Bluefin Tuna (CORRECTED)
-INSERT INTO orders (id, order_date, status, total_price, buyer_id) VALUES
+INSERT INTO orders (id, order_date, status, total_price_minor, buyer_id) VALUES
 ('ORD001', '2024-05-11 12:00:00', 'SHIPPED', 0, 'BUY0001');
 
-INSERT INTO order_items (order_id, fish_listing_id, quantity, price_at_purchase) VALUES
-('ORD001', 2, 2.0, 235.00),  -- 2kg Anchovy (id=2, price=235)
-('ORD001', 4, 1.5, 7920.00); -- 1.5kg Bluefin Tuna (id=4, price=7920)
+INSERT INTO order_items (order_id, fish_listing_id, quantity_grams, price_at_purchase_minor) VALUES
+('ORD001', 2, 2000, 23500),  -- 2kg Anchovy (id=2, price=235)
+('ORD001', 4, 1500, 792000); -- 1.5kg Bluefin Tuna (id=4, price=7920)
 
-UPDATE orders SET total_price = (2.0 * 235.00 + 1.5 * 7920.00) WHERE id = 'ORD001';
+UPDATE orders SET total_price_minor = (2000::bigint * 23500 + 1500::bigint * 792000) / 1000 WHERE id = 'ORD001';
 
 -- Order 2: Bob buys Snapper (CORRECTED)
-INSERT INTO orders (id, order_date, status, total_price, buyer_id) VALUES
+INSERT INTO orders (id, order_date, status, total_price_minor, buyer_id) VALUES
 ('ORD002', '2024-05-11 14:30:00', 'COMPLETED', 0, 'BUY0002');
 
-INSERT INTO order_items (order_id, fish_listing_id, quantity, price_at_purchase) VALUES
-('ORD002', 21, 10.0, 1370.00); -- 10kg Snapper (id=21, price=1370)
+INSERT INTO order_items (order_id, fish_listing_id, quantity_grams, price_at_purchase_minor) VALUES
+('ORD002', 21, 10000, 137000); -- 10kg Snapper (id=21, price=1370)
 
-UPDATE orders SET total_price = (10.0 * 1370.00) WHERE id = 'ORD002';
+UPDATE orders SET total_price_minor = (10000::bigint * 137000) / 1000 WHERE id = 'ORD002';
 
 -- Order 3: Charlie buys Herring and Salmon
-INSERT INTO orders (id, order_date, status, total_price, buyer_id) VALUES
+INSERT INTO orders (id, order_date, status, total_price_minor, buyer_id) VALUES
 ('ORD003', '2024-05-12 10:00:00', 'PENDING', 0, 'BUY0003');
 
-INSERT INTO order_items (order_id, fish_listing_id, quantity, price_at_purchase) VALUES
-('ORD003', 11, 3.0, 430.00),  -- 3kg Herring (id=11, price=430)
-('ORD003', 18, 2.5, 1260.00); -- 2.5kg Salmon (id=18, price=1260)
+INSERT INTO order_items (order_id, fish_listing_id, quantity_grams, price_at_purchase_minor) VALUES
+('ORD003', 11, 3000, 43000),  -- 3kg Herring (id=11, price=430)
+('ORD003', 18, 2500, 126000); -- 2.5kg Salmon (id=18, price=1260)
 
-UPDATE orders SET total_price = (3.0 * 430.00 + 2.5 * 1260.00) WHERE id = 'ORD003';
+UPDATE orders SET total_price_minor = (3000::bigint * 43000 + 2500::bigint * 126000) / 1000 WHERE id = 'ORD003';
 
 -- Order 4: Chef David buys premium fish
-INSERT INTO orders (id, order_date, status, total_price, buyer_id) VALUES
+INSERT INTO orders (id, order_date, status, total_price_minor, buyer_id) VALUES
 ('ORD004', '2024-05-13 09:00:00', 'COMPLETED', 0, 'BUY0004');
 
-INSERT INTO order_items (order_id, fish_listing_id, quantity, price_at_purchase) VALUES
-('ORD004', 3, 5.0, 5400.00),   -- 5kg Bluefin Tuna (id=3, price=5400)
-('ORD004', 13, 3.0, 1260.00),  -- 3kg Pomfret (id=13, price=1260)
-('ORD004', 23, 2.0, 2340.00);  -- 2kg Yellowtail (id=23, price=2340)
+INSERT INTO order_items (order_id, fish_listing_id, quantity_grams, price_at_purchase_minor) VALUES
+('ORD004', 3, 5000, 540000),   -- 5kg Bluefin Tuna (id=3, price=5400)
+('ORD004', 13, 3000, 126000),  -- 3kg Pomfret (id=13, price=1260)
+('ORD004', 23, 2000, 234000);  -- 2kg Yellowtail (id=23, price=2340)
 
-UPDATE orders SET total_price = (5.0 * 5400.00 + 3.0 * 1260.00 + 2.0 * 2340.00) WHERE id = 'ORD004';
+UPDATE orders SET total_price_minor = (5000::bigint * 540000 + 3000::bigint * 126000 + 2000::bigint * 234000) / 1000 WHERE id = 'ORD004';
 
 -- Order 5: Emma buys family fish
-INSERT INTO orders (id, order_date, status, total_price, buyer_id) VALUES
+INSERT INTO orders (id, order_date, status, total_price_minor, buyer_id) VALUES
 ('ORD005', '2024-05-13 15:00:00', 'SHIPPED', 0, 'BUY0005');
 
-INSERT INTO order_items (order_id, fish_listing_id, quantity, price_at_purchase) VALUES
-('ORD005', 9, 4.0, 1080.00),   -- 4kg Cod (id=9, price=1080)
-('ORD005', 17, 3.0, 650.00);   -- 3kg Trout (id=17, price=650)
+INSERT INTO order_items (order_id, fish_listing_id, quantity_grams, price_at_purchase_minor) VALUES
+('ORD005', 9, 4000, 108000),   -- 4kg Cod (id=9, price=1080)
+('ORD005', 17, 3000, 65000);   -- 3kg Trout (id=17, price=650)
 
-UPDATE orders SET total_price = (4.0 * 1080.00 + 3.0 * 650.00) WHERE id = 'ORD005';
+UPDATE orders SET total_price_minor = (4000::bigint * 108000 + 3000::bigint * 65000) / 1000 WHERE id = 'ORD005';
 
 -- Order 6: Frank buys bulk fish
-INSERT INTO orders (id, order_date, status, total_price, buyer_id) VALUES
+INSERT INTO orders (id, order_date, status, total_price_minor, buyer_id) VALUES
 ('ORD006', '2024-05-14 08:00:00', 'COMPLETED', 0, 'BUY0006');
 
-INSERT INTO order_items (order_id, fish_listing_id, quantity, price_at_purchase) VALUES
-('ORD006', 11, 15.0, 430.00),  -- 15kg Herring (id=11, price=430)
-('ORD006', 15, 8.0, 360.00),   -- 8kg Mackerel (id=15, price=360)
-('ORD006', 5, 6.0, 290.00);    -- 6kg Carp (id=5, price=290)
+INSERT INTO order_items (order_id, fish_listing_id, quantity_grams, price_at_purchase_minor) VALUES
+('ORD006', 11, 15000, 43000),  -- 15kg Herring (id=11, price=430)
+('ORD006', 15, 8000, 36000),   -- 8kg Mackerel (id=15, price=360)
+('ORD006', 5, 6000, 29000);    -- 6kg Carp (id=5, price=290)
 
-UPDATE orders SET total_price = (15.0 * 430.00 + 8.0 * 360.00 + 6.0 * 290.00) WHERE id = 'ORD006';
+UPDATE orders SET total_price_minor = (15000::bigint * 43000 + 8000::bigint * 36000 + 6000::bigint * 29000) / 1000 WHERE id = 'ORD006';
 
 -- Order 7: Lisa buys healthy fish
-INSERT INTO orders (id, order_date, status, total_price, buyer_id) VALUES
+INSERT INTO orders (id, order_date, status, total_price_minor, buyer_id) VALUES
 ('ORD007', '2024-05-14 11:00:00', 'CANCELLED', 0, 'BUY0007');
 
-INSERT INTO order_items (order_id, fish_listing_id, quantity, price_at_purchase) VALUES
-('ORD007', 17, 2.0, 650.00),   -- 2kg Trout (id=17, price=650)
-('ORD007', 19, 1.5, 790.00);   -- 1.5kg Sea Bass (id=19, price=790)
+INSERT INTO order_items (order_id, fish_listing_id, quantity_grams, price_at_purchase_minor) VALUES
+('ORD007', 17, 2000, 65000),   -- 2kg Trout (id=17, price=650)
+('ORD007', 19, 1500, 79000);   -- 1.5kg Sea Bass (id=19, price=790)
 
-UPDATE orders SET total_price = (2.0 * 650.00 + 1.5 * 790.00) WHERE id = 'ORD007';
+UPDATE orders SET total_price_minor = (2000::bigint * 65000 + 1500::bigint * 79000) / 1000 WHERE id = 'ORD007';
 
 -- Order 8: Ken buys sushi-grade fish
-INSERT INTO orders (id, order_date, status, total_price, buyer_id) VALUES
+INSERT INTO orders (id, order_date, status, total_price_minor, buyer_id) VALUES
 ('ORD008', '2024-05-15 07:00:00', 'COMPLETED', 0, 'BUY0008');
 
-INSERT INTO order_items (order_id, fish_listing_id, quantity, price_at_purchase) VALUES
-('ORD008', 4, 3.0, 7920.00),   -- 3kg Bluefin Tuna (id=4, price=7920)
-('ORD008', 24, 2.0, 2700.00);  -- 2kg Yellowtail (id=24, price=2700)
+INSERT INTO order_items (order_id, fish_listing_id, quantity_grams, price_at_purchase_minor) VALUES
+('ORD008', 4, 3000, 792000),   -- 3kg Bluefin Tuna (id=4, price=7920)
+('ORD008', 24, 2000, 270000);  -- 2kg Yellowtail (id=24, price=2700)
 
-UPDATE orders SET total_price = (3.0 * 7920.00 + 2.0 * 2700.00) WHERE id = 'ORD008';
+UPDATE orders SET total_price_minor = (3000::bigint * 792000 + 2000::bigint * 270000) / 1000 WHERE id = 'ORD008';
 
 -- Order 9: Alice's second order
-INSERT INTO orders (id, order_date, status, total_price, buyer_id) VALUES
+INSERT INTO orders (id, order_date, status, total_price_minor, buyer_id) VALUES
 ('ORD009', '2024-05-15 14:00:00', 'SHIPPED', 0, 'BUY0001');
 
-INSERT INTO order_items (order_id, fish_listing_id, quantity, price_at_purchase) VALUES
-('ORD009', 10, 2.5, 900.00),   -- 2.5kg Cod (id=10, price=900)
-('ORD009', 16, 1.0, 415.00);   -- 1kg Mackerel (id=16, price=415)
+INSERT INTO order_items (order_id, fish_listing_id, quantity_grams, price_at_purchase_minor) VALUES
+('ORD009', 10, 2500, 90000),   -- 2.5kg Cod (id=10, price=900)
+('ORD009', 16, 1000, 41500);   -- 1kg Mackerel (id=16, price=415)
 
-UPDATE orders SET total_price = (2.5 * 900.00 + 1.0 * 415.00) WHERE id = 'ORD009';
+UPDATE orders SET total_price_minor = (2500::bigint * 90000 + 1000::bigint * 41500) / 1000 WHERE id = 'ORD009';
 
 -- Order 10: Bob's restaurant order
-INSERT INTO orders (id, order_date, status, total_price, buyer_id) VALUES
+INSERT INTO orders (id, order_date, status, total_price_minor, buyer_id) VALUES
 ('ORD010', '2024-05-16 10:00:00', 'PENDING', 0, 'BUY0002');
 
-INSERT INTO order_items (order_id, fish_listing_id, quantity, price_at_purchase) VALUES
-('ORD010', 22, 5.0, 1620.00),  -- 5kg Snapper (id=22, price=1620)
-('ORD010', 20, 3.0, 1000.00);  -- 3kg Sea Bass (id=20, price=1000)
+INSERT INTO order_items (order_id, fish_listing_id, quantity_grams, price_at_purchase_minor) VALUES
+('ORD010', 22, 5000, 162000),  -- 5kg Snapper (id=22, price=1620)
+('ORD010', 20, 3000, 100000);  -- 3kg Sea Bass (id=20, price=1000)
 
-UPDATE orders SET total_price = (5.0 * 1620.00 + 3.0 * 1000.00) WHERE id = 'ORD010';
+UPDATE orders SET total_price_minor = (5000::bigint * 162000 + 3000::bigint * 100000) / 1000 WHERE id = 'ORD010';
 
 -- =================================================================
 -- PAYMENTS (EXPANDED)
 -- =================================================================
 
 -- Payment for Order 1 (CORRECTED)
-INSERT INTO payments (order_id, amount, status, transaction_id, payment_date) VALUES
-('ORD001', 12350.00, 'SUCCESSFUL', 'txn_1a2b3c4d5e6f', '2024-05-11 12:01:00');
+INSERT INTO payments (order_id, amount_minor, status, transaction_id, payment_date) VALUES
+('ORD001', 1235000, 'SUCCESSFUL', 'txn_1a2b3c4d5e6f', '2024-05-11 12:01:00');
 
 -- Payment for Order 2 (CORRECTED)
-INSERT INTO payments (order_id, amount, status, transaction_id, payment_date) VALUES
-('ORD002', 13700.00, 'SUCCESSFUL', 'txn_7g8h9i0j1k2l', '2024-05-11 14:31:00');
+INSERT INTO payments (order_id, amount_minor, status, transaction_id, payment_date) VALUES
+('ORD002', 1370000, 'SUCCESSFUL', 'txn_7g8h9i0j1k2l', '2024-05-11 14:31:00');
 
 -- Payment for Order 4
-INSERT INTO payments (order_id, amount, status, transaction_id, payment_date) VALUES
-('ORD004', 35460.00, 'SUCCESSFUL', 'txn_chef_premium', '2024-05-13 09:05:00');
+INSERT INTO payments (order_id, amount_minor, status, transaction_id, payment_date) VALUES
+('ORD004', 3546000, 'SUCCESSFUL', 'txn_chef_premium', '2024-05-13 09:05:00');
 
 -- Payment for Order 5
-INSERT INTO payments (order_id, amount, status, transaction_id, payment_date) VALUES
-('ORD005', 6270.00, 'SUCCESSFUL', 'txn_family_fish', '2024-05-13 15:05:00');
+INSERT INTO payments (order_id, amount_minor, status, transaction_id, payment_date) VALUES
+('ORD005', 627000, 'SUCCESSFUL', 'txn_family_fish', '2024-05-13 15:05:00');
 
 -- Payment for Order 6
-INSERT INTO payments (order_id, amount, status, transaction_id, payment_date) VALUES
-('ORD006', 10080.00, 'SUCCESSFUL', 'txn_bulk_order', '2024-05-14 08:05:00');
+INSERT INTO payments (order_id, amount_minor, status, transaction_id, payment_date) VALUES
+('ORD006', 1008000, 'SUCCESSFUL', 'txn_bulk_order', '2024-05-14 08:05:00');
 
 -- Payment for Order 8
-INSERT INTO payments (order_id, amount, status, transaction_id, payment_date) VALUES
-('ORD008', 29160.00, 'SUCCESSFUL', 'txn_sushi_grade', '2024-05-15 07:05:00');
+INSERT INTO payments (order_id, amount_minor, status, transaction_id, payment_date) VALUES
+('ORD008', 2916000, 'SUCCESSFUL', 'txn_sushi_grade', '2024-05-15 07:05:00');
 
 -- Payment for Order 9
-INSERT INTO payments (order_id, amount, status, transaction_id, payment_date) VALUES
-('ORD009', 2665.00, 'SUCCESSFUL', 'txn_alice_second', '2024-05-15 14:05:00');
+INSERT INTO payments (order_id, amount_minor, status, transaction_id, payment_date) VALUES
+('ORD009', 266500, 'SUCCESSFUL', 'txn_alice_second', '2024-05-15 14:05:00');
 
 -- =================================================================
 -- REVIEWS (EXPANDED AND CORRECTED)
@@ -0,0 +1,58 @@
+-- Local gazetteer: approximate centre points for the fishing grounds and towns used in listings and
+-- user profiles. Lookups go through normalized_name (lower case, parentheticals dropped, see
+-- GazetteerPlace#normalize), so aliases are extra rows pointing at the same coordinates.
+
+TRUNCATE TABLE gazetteer_places RESTART IDENTITY;
+
+INSERT INTO gazetteer_places (name, normalized_name, latitude, longitude) VALUES
+-- Seas and fishing grounds
+('Adriatic Sea', 'adriatic sea', 43.0, 15.0),
+('Andaman Sea', 'andaman sea', 10.0, 96.0),
+('Arabian Sea', 'arabian sea', 15.0, 65.0),
+('Atlantic Ocean', 'atlantic ocean', 0.0, -30.0),
+('Baltic Sea', 'baltic sea', 58.0, 20.0),
+('Barents Sea', 'barents sea', 75.0, 40.0),
+('Bay of Bengal', 'bay of bengal', 15.0, 88.0),
+('Bering Sea', 'bering sea', 58.0, -178.0),
+('Black Sea', 'black sea', 43.4, 34.3),
+('Caribbean Sea', 'caribbean sea', 15.0, -75.0),
+('Caspian Sea', 'caspian sea', 41.7, 50.6),
+('Caspian Sea Basin', 'caspian sea basin', 41.7, 50.6),
+('Celtic Sea', 'celtic sea', 51.0, -7.0),
+('Chesapeake Bay', 'chesapeake bay', 37.8, -76.1),
+('Coral Sea', 'coral sea', -18.0, 152.0),
+('East China Sea', 'east china sea', 29.0, 125.0),
+('English Channel', 'english channel', 50.2, -1.0),
+('Great Lakes', 'great lakes', 45.0, -84.0),
+('Gulf of Alaska', 'gulf of alaska', 57.0, -144.0),
+('Gulf of Maine', 'gulf of maine', 43.0, -68.0),
+('Gulf of Mexico', 'gulf of mexico', 25.0, -90.0),
+('Gulf of Thailand', 'gulf of thailand', 9.5, 101.5),
+('Ionian Sea', 'ionian sea', 38.0, 19.0),
+('Labrador Sea', 'labrador sea', 60.0, -55.0),
+('Mediterranean Sea', 'mediterranean sea', 35.0, 18.0),
+('North Atlantic Ocean', 'north atlantic ocean', 45.0, -35.0),
+('North Sea', 'north sea', 56.0, 3.0),
+('Norwegian Sea', 'norwegian sea', 69.0, 3.0),
+('Pacific Ocean', 'pacific ocean', 0.0, -160.0),
+('Persian Gulf', 'persian gulf', 26.9, 51.5),
+('Red Sea', 'red sea', 20.0, 38.0),
+('Sea of Japan', 'sea of japan', 40.0, 135.0),
+('Sea of Okhotsk', 'sea of okhotsk', 53.0, 150.0),
+('South China Sea', 'south china sea', 12.0, 113.0),
+('Tasman Sea', 'tasman sea', -40.0, 160.0),
+('Yellow Sea', 'yellow sea', 35.0, 123.0),
+
+-- Towns and ports
+('Bangkok', 'bangkok', 13.756, 100.502),
+('Little Tokyo', 'little tokyo', 34.050, -118.240),
+('Maple Creek', 'maple creek', 49.908, -109.480),
+('Marina Bay', 'marina bay', 1.283, 103.860),
+('Nantucket', 'nantucket', 41.283, -70.099),
+('Pattaya', 'pattaya', 12.927, 100.877),
+('Phuket', 'phuket', 7.880, 98.392),
+('Port Royal', 'port royal', 17.937, -76.841),
+('Riverside', 'riverside', 33.953, -117.396),
+('Salaya', 'salaya', 13.800, 100.320),
+('Samut Sakhon', 'samut sakhon', 13.547, 100.274),
+('Songkhla', 'songkhla', 7.190, 100.595);
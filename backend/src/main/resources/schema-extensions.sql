@@ -0,0 +1,154 @@
+-- Postgres-specific schema that Hibernate's ddl-auto can't express (extensions, generated
+-- columns, GIN indexes), plus backfills for rows inserted by fishermen.sql.
+-- Runs after fishermen.sql (see spring.sql.init.data-locations); every statement is re-runnable.
+
+-- =================================================================
+-- LISTING SEARCH
+-- =================================================================
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Seed rows bypass JPA, so build their search documents here (same layout as FishListing#refreshSearchDocument)
+UPDATE fish_listings f
+SET search_document = concat_ws(' ', f.fish_type, f.location, u.first_name, u.last_name, u.profile_info)
+FROM users u
+WHERE u.id = f.fisherman_id AND f.search_document IS NULL;
+
+-- Weighted full-text vector maintained by Postgres on every insert/update of the listing
+ALTER TABLE fish_listings ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('english', coalesce(fish_type, '')), 'A') ||
+        setweight(to_tsvector('english', coalesce(location, '')), 'B') ||
+        setweight(to_tsvector('english', coalesce(search_document, '')), 'C')
+    ) STORED;
+
+-- Partial: expired stock drops out of the index (search filters on the same literal predicate)
+CREATE INDEX IF NOT EXISTS idx_fish_listings_search_vector ON fish_listings USING gin (search_vector)
+    WHERE status <> 'EXPIRED';
+
+-- Dictionary of words seen in search documents; typo correction matches query words against it
+-- by trigram similarity. Stale words (from deleted listings) only cost a suggestion with no hits.
+CREATE TABLE IF NOT EXISTS listing_search_terms (
+    term TEXT PRIMARY KEY
+);
+
+INSERT INTO listing_search_terms (term)
+SELECT DISTINCT w FROM fish_listings f, regexp_split_to_table(lower(f.search_document), '[^[:alnum:]]+') AS w
+WHERE length(w) >= 3
+ON CONFLICT DO NOTHING;
+
+CREATE INDEX IF NOT EXISTS idx_listing_search_terms_trgm ON listing_search_terms USING gin (term gin_trgm_ops);
+
+-- =================================================================
+-- GEO SEARCH
+-- =================================================================
+CREATE EXTENSION IF NOT EXISTS cube;
+CREATE EXTENSION IF NOT EXISTS earthdistance;
+
+-- Geocode seed rows against the gazetteer (same normalisation as GazetteerPlace#normalize)
+UPDATE fish_listings f
+SET latitude = g.latitude, longitude = g.longitude
+FROM gazetteer_places g
+WHERE f.latitude IS NULL
+  AND g.normalized_name = btrim(regexp_replace(regexp_replace(lower(f.location), '\(.*?\)', ' ', 'g'), '\s+', ' ', 'g'));
+
+UPDATE users u
+SET latitude = g.latitude, longitude = g.longitude
+FROM gazetteer_places g
+WHERE u.latitude IS NULL
+  AND g.normalized_name = btrim(regexp_replace(regexp_replace(lower(u.location), '\(.*?\)', ' ', 'g'), '\s+', ' ', 'g'));
+
+-- Spatial index for the earth_box/earth_distance radius search; rows without coordinates index as NULL.
+-- Partial like the search index, so expired stock doesn't slow down nearby queries.
+CREATE INDEX IF NOT EXISTS idx_fish_listings_earth ON fish_listings USING gist (ll_to_earth(latitude, longitude))
+    WHERE status <> 'EXPIRED';
+
+-- =================================================================
+-- LISTING FRESHNESS
+-- =================================================================
+-- Lets ListingFreshnessJob find stale rows per status without scanning the table
+CREATE INDEX IF NOT EXISTS idx_fish_listings_status_catch_date ON fish_listings (status, catch_date);
+
+-- =================================================================
+-- ORDERS
+-- =================================================================
+-- Buyer order history, newest first; also serves the date-bounded hot-window queries
+CREATE INDEX IF NOT EXISTS idx_orders_buyer_order_date ON orders (buyer_id, order_date);
+
+-- Items of an order in id order; lets the order history export walk a buyer's orders
+-- with nested index lookups instead of hashing every order item. The included columns
+-- make the sales rollup rebuild an index-only scan.
+CREATE INDEX IF NOT EXISTS idx_order_items_order ON order_items (order_id, id)
+    INCLUDE (fish_listing_id, quantity_grams, price_at_purchase_minor);
+
+-- Date-range scans of orders: sales rollup rebuild chunks
+CREATE INDEX IF NOT EXISTS idx_orders_order_date ON orders (order_date);
+
+-- =================================================================
+-- OUTBOX
+-- =================================================================
+-- Pending events in id order for OutboxRelay's claim; delivered events drop out of the index
+CREATE INDEX IF NOT EXISTS idx_outbox_events_pending ON outbox_events (id) WHERE processed_at IS NULL;
+
+-- =================================================================
+-- LISTING SYNC
+-- =================================================================
+-- Change log behind GET /api/fishListings/sync: every insert or update stamps the row with the writing
+-- transaction's id, and every delete leaves a tombstone stamped the same way. Transaction ids follow
+-- start order, not commit order, so the endpoint only hands out changes below the oldest transaction
+-- still running (see FishListingRepo#findChangesSince). Function bodies are single-quoted because the
+-- script runner splits statements on semicolons outside quotes.
+ALTER TABLE fish_listings ADD COLUMN IF NOT EXISTS change_version BIGINT;
+
+CREATE OR REPLACE FUNCTION stamp_fish_listing_change() RETURNS trigger LANGUAGE plpgsql AS
+    'BEGIN NEW.change_version := pg_current_xact_id()::text::bigint; RETURN NEW; END';
+
+CREATE OR REPLACE TRIGGER fish_listings_change_version BEFORE INSERT OR UPDATE ON fish_listings
+    FOR EACH ROW EXECUTE FUNCTION stamp_fish_listing_change();
+
+-- Rows seeded before the trigger existed take this script's transaction id
+UPDATE fish_listings SET change_version = pg_current_xact_id()::text::bigint WHERE change_version IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_fish_listings_change_version ON fish_listings (change_version, id);
+
+CREATE TABLE IF NOT EXISTS fish_listing_tombstones (
+    listing_id BIGINT PRIMARY KEY,
+    change_version BIGINT NOT NULL,
+    deleted_at TIMESTAMP NOT NULL DEFAULT now()
+);
+
+CREATE INDEX IF NOT EXISTS idx_fish_listing_tombstones_change_version
+    ON fish_listing_tombstones (change_version, listing_id);
+
+CREATE OR REPLACE FUNCTION record_fish_listing_tombstone() RETURNS trigger LANGUAGE plpgsql AS
+    'BEGIN
+        INSERT INTO fish_listing_tombstones (listing_id, change_version)
+        VALUES (OLD.id, pg_current_xact_id()::text::bigint)
+        ON CONFLICT (listing_id) DO UPDATE SET change_version = EXCLUDED.change_version, deleted_at = now();
+        RETURN OLD;
+    END';
+
+CREATE OR REPLACE TRIGGER fish_listings_tombstone AFTER DELETE ON fish_listings
+    FOR EACH ROW EXECUTE FUNCTION record_fish_listing_tombstone();
+
+-- Highest tombstone version pruned so far; clients syncing from below it have missed deletes
+CREATE TABLE IF NOT EXISTS fish_listing_sync_state (
+    id INT PRIMARY KEY CHECK (id = 1),
+    pruned_through BIGINT NOT NULL
+);
+
+INSERT INTO fish_listing_sync_state (id, pruned_through) VALUES (1, 0) ON CONFLICT DO NOTHING;
+
+-- =================================================================
+-- LISTING VIEWS
+-- =================================================================
+-- Views per listing and day, written by ListingViewCounter's periodic batched upsert rather than per
+-- request. No foreign key: rows of deleted listings simply age out with the retention.
+CREATE TABLE IF NOT EXISTS listing_view_counts (
+    listing_id BIGINT NOT NULL,
+    view_date DATE NOT NULL,
+    views BIGINT NOT NULL,
+    PRIMARY KEY (listing_id, view_date)
+);
+
+-- Most viewed on a day, and pruning by day
+CREATE INDEX IF NOT EXISTS idx_listing_view_counts_day_views ON listing_view_counts (view_date, views DESC, listing_id);
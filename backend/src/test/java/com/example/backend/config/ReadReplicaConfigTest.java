@@ -0,0 +1,85 @@
+package com.example.backend.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+
+import com.example.backend.routing.ReadReplicaProperties;
+import com.example.backend.routing.ReadRoutingFilter;
+import com.example.backend.routing.ReplicaCacheMode;
+import com.example.backend.routing.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+
+public class ReadReplicaConfigTest {
+
+    @Test
+    public void testDataSourceWrapper_BuildsReadOnlyReplicaPools() throws Exception {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("spring.datasource.username", "myuser")
+                .withProperty("spring.datasource.password", "secret")
+                .withProperty("fishermen.read-replicas.urls", "jdbc:postgresql://replica-1:5432/db,jdbc:postgresql://replica-2:5432/db")
+                .withProperty("fishermen.read-replicas.connection-timeout", "1s");
+        BeanPostProcessor wrapper = ReadReplicaConfig.replicaRoutingDataSourceWrapper(environment);
+        DataSource primary = mock(DataSource.class);
+
+        Object wrapped = wrapper.postProcessAfterInitialization(primary, "dataSource");
+
+        ReplicaRoutingDataSource router = assertInstanceOf(ReplicaRoutingDataSource.class, wrapped);
+        try {
+            assertSame(primary, router.getPrimary());
+            assertEquals(2, router.getReplicas().size());
+            HikariDataSource replica = assertInstanceOf(HikariDataSource.class, router.getReplicas().get(1));
+            assertEquals("jdbc:postgresql://replica-2:5432/db", replica.getJdbcUrl());
+            assertEquals("myuser", replica.getUsername());
+            assertEquals(1000, replica.getConnectionTimeout());
+            assertTrue(replica.isReadOnly());
+            // Already routed: not wrapped twice
+            assertSame(router, wrapper.postProcessAfterInitialization(router, "dataSource"));
+        } finally {
+            router.close();
+        }
+    }
+
+    @Test
+    public void testDataSourceWrapper_IgnoresOtherBeans() {
+        BeanPostProcessor wrapper = ReadReplicaConfig.replicaRoutingDataSourceWrapper(new MockEnvironment());
+        Object bean = new Object();
+
+        assertSame(bean, wrapper.postProcessAfterInitialization(bean, "other"));
+    }
+
+    @Test
+    public void testCacheModeInitializer_SetOnEntityManagerFactory() {
+        BeanPostProcessor initializer = ReadReplicaConfig.replicaCacheModeInitializer();
+        LocalContainerEntityManagerFactoryBean entityManagerFactory = mock(LocalContainerEntityManagerFactoryBean.class);
+
+        assertSame(entityManagerFactory, initializer.postProcessBeforeInitialization(entityManagerFactory, "entityManagerFactory"));
+
+        verify(entityManagerFactory).setEntityManagerInitializer(any(ReplicaCacheMode.class));
+    }
+
+    @Test
+    public void testReadRoutingFilter_CoversApiOnly() {
+        ReadReplicaProperties properties = new ReadReplicaProperties();
+        properties.setStickyWindow(Duration.ofSeconds(5));
+
+        FilterRegistrationBean<ReadRoutingFilter> registration = new ReadReplicaConfig().readRoutingFilter(properties);
+
+        assertEquals(List.of("/api/*"), List.copyOf(registration.getUrlPatterns()));
+    }
+}
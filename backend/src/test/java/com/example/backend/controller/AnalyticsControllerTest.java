@@ -0,0 +1,105 @@
+package com.example.backend.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.example.backend.analytics.SalesRollupBackfill;
+import com.example.backend.dto.SalesAnalyticsDto;
+import com.example.backend.enums.UserRole;
+import com.example.backend.model.FishermanSalesDaily;
+import com.example.backend.model.User;
+import com.example.backend.repository.FishermanSalesDailyRepo;
+import com.example.backend.repository.UserRepo;
+
+@ExtendWith(MockitoExtension.class)
+public class AnalyticsControllerTest {
+
+    @Mock
+    private FishermanSalesDailyRepo fishermanSalesDailyRepo;
+
+    @Mock
+    private UserRepo userRepo;
+
+    @Mock
+    private SalesRollupBackfill salesRollupBackfill;
+
+    @InjectMocks
+    private AnalyticsController analyticsController;
+
+    private User fisherman;
+
+    @BeforeEach
+    void setUp() {
+        fisherman = new User();
+        fisherman.setId("FISHER0001");
+        fisherman.setRole(UserRole.FISHERMAN);
+    }
+
+    @Test
+    public void testGetFishermanSales_AggregatesRollups() {
+        LocalDate from = LocalDate.of(2025, 6, 1);
+        LocalDate to = LocalDate.of(2025, 6, 30);
+        when(userRepo.findById("FISHER0001")).thenReturn(Optional.of(fisherman));
+        when(fishermanSalesDailyRepo.findByFishermanIdAndSaleDateBetweenOrderBySaleDateAscFishTypeAsc("FISHER0001", from, to))
+                .thenReturn(List.of(
+                        new FishermanSalesDaily(1L, "FISHER0001", LocalDate.of(2025, 6, 2), "Salmon",
+                                new BigDecimal("1000.00"), new BigDecimal("2.000"), 1L),
+                        new FishermanSalesDaily(2L, "FISHER0001", LocalDate.of(2025, 6, 3), "Salmon",
+                                new BigDecimal("2000.00"), new BigDecimal("6.000"), 2L),
+                        new FishermanSalesDaily(3L, "FISHER0001", LocalDate.of(2025, 6, 3), "Tuna",
+                                new BigDecimal("0.00"), new BigDecimal("0.000"), 1L)));
+
+        ResponseEntity<?> response = analyticsController.getFishermanSales("FISHER0001", from, to);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        SalesAnalyticsDto dto = (SalesAnalyticsDto) response.getBody();
+        assertEquals(3, dto.getDays().size());
+        assertEquals(0, new BigDecimal("3000.00").compareTo(dto.getTotalRevenue()));
+        assertEquals(0, new BigDecimal("375.00").compareTo(dto.getAveragePricePerKg()));
+        assertEquals(2, dto.getFishTypes().size());
+        assertEquals("Salmon", dto.getFishTypes().get(0).getFishType());
+        assertEquals(3, dto.getFishTypes().get(0).getItemCount());
+        // No weight sold, so no average price rather than a division by zero
+        assertNull(dto.getFishTypes().get(1).getAveragePricePerKg());
+    }
+
+    @Test
+    public void testGetFishermanSales_FromAfterTo() {
+        ResponseEntity<?> response = analyticsController.getFishermanSales("FISHER0001",
+                LocalDate.of(2025, 7, 1), LocalDate.of(2025, 6, 1));
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verify(fishermanSalesDailyRepo, never())
+                .findByFishermanIdAndSaleDateBetweenOrderBySaleDateAscFishTypeAsc(anyString(), any(), any());
+    }
+
+    @Test
+    public void testGetFishermanSales_NotAFisherman() {
+        User buyer = new User();
+        buyer.setId("BUY0001");
+        buyer.setRole(UserRole.BUYER);
+        when(userRepo.findById("BUY0001")).thenReturn(Optional.of(buyer));
+
+        ResponseEntity<?> response = analyticsController.getFishermanSales("BUY0001", null, null);
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+}
@@ -0,0 +1,187 @@
+package com.example.backend.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.example.backend.cart.CartCheckout;
+import com.example.backend.cart.CartItem;
+import com.example.backend.cart.CartProperties;
+import com.example.backend.cart.CartStore;
+import com.example.backend.dto.CartDto;
+import com.example.backend.dto.OrderItemDto;
+import com.example.backend.enums.ListingStatus;
+import com.example.backend.model.FishListing;
+import com.example.backend.model.User;
+import com.example.backend.repository.SavedCartRepo;
+import com.example.backend.repository.UserRepo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@ExtendWith(MockitoExtension.class)
+public class CartControllerTest {
+
+    @Mock
+    private CartCheckout cartCheckout;
+
+    @Mock
+    private UserRepo userRepo;
+
+    @Mock
+    private SavedCartRepo savedCartRepo;
+
+    private CartStore cartStore;
+    private CartProperties cartProperties;
+    private CartController cartController;
+
+    @BeforeEach
+    public void setUp() {
+        // Real in-memory store; persistence is off so the repo is never used
+        cartProperties = new CartProperties();
+        cartStore = new CartStore(cartProperties, savedCartRepo, new ObjectMapper());
+        cartController = new CartController(cartStore, cartCheckout, cartProperties, userRepo);
+    }
+
+    private static FishListing listing(Long id, String price, ListingStatus status) {
+        FishListing listing = new FishListing();
+        listing.setId(id);
+        listing.setFishType("Cod");
+        listing.setPrice(new BigDecimal(price));
+        listing.setStatus(status);
+        return listing;
+    }
+
+    private static OrderItemDto item(Long fishListingId, Double quantity) {
+        OrderItemDto dto = new OrderItemDto();
+        dto.setFishListingId(fishListingId);
+        dto.setQuantity(quantity);
+        return dto;
+    }
+
+    @Test
+    public void testAddItems_MergesQuantitiesAndPricesCart() {
+        when(userRepo.existsById("B1")).thenReturn(true);
+        when(cartCheckout.findListings(any())).thenReturn(Map.of(1L, listing(1L, "250.00", ListingStatus.AVAILABLE)));
+
+        cartController.addItems("B1", List.of(item(1L, 1.5)));
+        ResponseEntity<?> response = cartController.addItems("B1", List.of(item(1L, 0.25)));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        CartDto cart = (CartDto) response.getBody();
+        assertEquals(1, cart.getItems().size());
+        assertEquals(1.75, cart.getItems().get(0).getQuantity());
+        assertEquals(new BigDecimal("437.50"), cart.getTotalPrice());
+    }
+
+    @Test
+    public void testAddItems_UnavailableListingAddsNothing() {
+        when(userRepo.existsById("B1")).thenReturn(true);
+        when(cartCheckout.findListings(any())).thenReturn(Map.of(1L, listing(1L, "250.00", ListingStatus.AVAILABLE),
+                2L, listing(2L, "90.00", ListingStatus.SOLD)));
+
+        ResponseEntity<?> response = cartController.addItems("B1", List.of(item(1L, 1.0), item(2L, 1.0), item(3L, 1.0)));
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertEquals("Fish listing with ID 2 is no longer for sale.; Fish listing with ID 3 not found.", response.getBody());
+        assertTrue(cartStore.find("B1").isEmpty());
+    }
+
+    @Test
+    public void testAddItems_QuantityBelowOneGram() {
+        when(userRepo.existsById("B1")).thenReturn(true);
+
+        ResponseEntity<?> response = cartController.addItems("B1", List.of(item(1L, 0.0001)));
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
+    @Test
+    public void testAddItems_TooManyListings() {
+        cartProperties.setMaxItems(1);
+        when(userRepo.existsById("B1")).thenReturn(true);
+        when(cartCheckout.findListings(any())).thenReturn(Map.of(1L, listing(1L, "250.00", ListingStatus.AVAILABLE),
+                2L, listing(2L, "90.00", ListingStatus.AVAILABLE)));
+
+        ResponseEntity<?> response = cartController.addItems("B1", List.of(item(1L, 1.0), item(2L, 1.0)));
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
+    @Test
+    public void testCheckout_EmptyCart() {
+        when(userRepo.findById("B1")).thenReturn(Optional.of(new User()));
+
+        ResponseEntity<?> response = cartController.checkout("B1");
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verify(cartCheckout, never()).checkout(any(), any());
+    }
+
+    @Test
+    public void testCheckout_StalePriceConflict() {
+        User buyer = new User();
+        when(userRepo.findById("B1")).thenReturn(Optional.of(buyer));
+        cartStore.getOrCreate("B1").add(new CartItem(1L, "Cod", 25_000, 1000));
+        when(cartCheckout.checkout(any(), any())).thenReturn(new CartCheckout.Result(null,
+                List.of("Price of fish listing with ID 1 changed from 250.00 to 260.00 per kg.")));
+
+        ResponseEntity<?> response = cartController.checkout("B1");
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertEquals("Price of fish listing with ID 1 changed from 250.00 to 260.00 per kg.", response.getBody());
+    }
+
+    @Test
+    public void testCheckout_ConcurrentCheckoutOfSameCartConflicts() throws Exception {
+        when(userRepo.findById("B1")).thenReturn(Optional.of(new User()));
+        cartStore.getOrCreate("B1").add(new CartItem(1L, "Cod", 25_000, 1000));
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(cartCheckout.checkout(any(), any())).thenAnswer(invocation -> {
+            entered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new CartCheckout.Result(null, List.of("Fish listing with ID 1 is no longer for sale."));
+        });
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<ResponseEntity<?>> first = executor.submit(() -> cartController.checkout("B1"));
+            assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+            ResponseEntity<?> second = cartController.checkout("B1");
+            release.countDown();
+
+            assertEquals(HttpStatus.CONFLICT, second.getStatusCode());
+            assertEquals("Checkout of this cart is already in progress.", second.getBody());
+            assertEquals("Fish listing with ID 1 is no longer for sale.", first.get(5, TimeUnit.SECONDS).getBody());
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(cartCheckout, times(1)).checkout(any(), any());
+
+        // Released once the first checkout finished
+        cartController.checkout("B1");
+        verify(cartCheckout, times(2)).checkout(any(), any());
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.backend.controller;
+
+import java.time.Duration;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import com.example.backend.coalescing.RequestCoalescer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// Real coalescer for controller slices, which have no MeterRegistry of their own; its registry is a bean
+// so tests can read the coalescing meters
+@TestConfiguration
+class CoalescingTestConfig {
+
+    @Bean
+    SimpleMeterRegistry coalescingMeterRegistry() {
+        return new SimpleMeterRegistry();
+    }
+
+    @Bean
+    RequestCoalescer requestCoalescer(SimpleMeterRegistry coalescingMeterRegistry) {
+        return new RequestCoalescer(true, Duration.ofSeconds(1), coalescingMeterRegistry);
+    }
+}
@@ -2,18 +2,35 @@ package com.example.backend.controller;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
@@ -22,19 +39,33 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.example.backend.config.BinaryFormatsConfig;
 import com.example.backend.dto.UpdateFishListingDto;
 import com.example.backend.enums.ListingStatus;
 import com.example.backend.enums.UserRole;
 import com.example.backend.model.FishListing;
+import com.example.backend.model.OutboxEvent;
 import com.example.backend.model.User;
+import com.example.backend.outbox.DomainEventType;
 import com.example.backend.repository.FishListingRepo;
+import com.example.backend.repository.GazetteerPlaceRepo;
+import com.example.backend.repository.OrderItemRepo;
+import com.example.backend.repository.OutboxEventRepo;
 import com.example.backend.repository.UserRepo;
+import com.example.backend.views.ListingViewCounter;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @WebMvcTest(FishListingController.class)
+@Import({ OutboxTestConfig.class, CoalescingTestConfig.class, BinaryFormatsConfig.class })
 class FishListingControllerTest {
 
     @Autowired
@@ -46,6 +77,21 @@ class FishListingControllerTest {
     @MockBean
     private UserRepo userRepo;
 
+    @MockBean
+    private GazetteerPlaceRepo gazetteerPlaceRepo;
+
+    @MockBean
+    private OrderItemRepo orderItemRepo;
+
+    @MockBean
+    private OutboxEventRepo outboxEventRepo;
+
+    @MockBean
+    private ListingViewCounter listingViewCounter;
+
+    @Autowired
+    private SimpleMeterRegistry coalescingMeterRegistry;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -360,6 +406,26 @@ class FishListingControllerTest {
                 .andExpect(jsonPath("$.fishType").value("Salmon"));
     }
 
+    // A sold listing put back on offer is flagged for the new-catch feed
+    @Test
+    void testUpdateFishListing_RestockFlagsEvent() throws Exception {
+        fishListing.setStatus(ListingStatus.SOLD);
+        UpdateFishListingDto updateDto = new UpdateFishListingDto();
+        updateDto.setStatus(ListingStatus.AVAILABLE);
+
+        when(fishListingRepo.findById(1L)).thenReturn(Optional.of(fishListing));
+        when(fishListingRepo.save(any(FishListing.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        mockMvc.perform(put("/api/fishListings/1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updateDto)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("AVAILABLE"));
+
+        verify(outboxEventRepo).save(argThat((OutboxEvent event) ->
+                event.getEventType() == DomainEventType.LISTING_UPDATED && event.getPayload().equals("{\"restocked\":true}")));
+    }
+
     // MBCC Variation 1: Invalid Listing ID
     @Test
     void testUpdateFishListing_Variation_InvalidId() throws Exception {
@@ -391,6 +457,19 @@ class FishListingControllerTest {
         verify(fishListingRepo).deleteById(1L);
     }
 
+    // MBCC Variation: Listing with order items
+    @Test
+    void testDeleteFishListing_Variation_Ordered() throws Exception {
+        when(fishListingRepo.existsById(1L)).thenReturn(true);
+        when(orderItemRepo.existsByFishListingId(1L)).thenReturn(true);
+
+        mockMvc.perform(delete("/api/fishListings/1"))
+                .andExpect(status().isConflict())
+                .andExpect(content().string("Fish listing with ID 1 has been ordered and cannot be deleted."));
+
+        verify(fishListingRepo, never()).deleteById(any());
+    }
+
     // MBCC Variation: Invalid ID
     @Test
     void testDeleteFishListing_Variation_InvalidId() throws Exception {
@@ -426,6 +505,102 @@ class FishListingControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    // Coalescing: requests arriving while a load of the same listing is running share its result
+    @Test
+    void testGetFishListingById_ConcurrentRequestsShareOneLoad() throws Exception {
+        // The load holds until the other seven requests are parked on it
+        when(fishListingRepo.findById(1L)).thenAnswer(invocation -> {
+            await().atMost(5, TimeUnit.SECONDS).until(() -> coalescingMeterRegistry.get("fishermen.coalescing.waiting")
+                    .tag("name", "listing-detail").gauge().value() == 7);
+            return Optional.of(fishListing);
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Integer>> statuses = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                statuses.add(executor.submit(() -> mockMvc.perform(get("/api/fishListings/1"))
+                        .andReturn().getResponse().getStatus()));
+            }
+            for (Future<Integer> responseStatus : statuses) {
+                assertEquals(200, responseStatus.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(fishListingRepo, times(1)).findById(1L);
+    }
+
+    // View counts: a detail read shows today's views and counts itself
+    @Test
+    void testGetFishListingById_CountsView() throws Exception {
+        when(fishListingRepo.findById(1L)).thenReturn(Optional.of(fishListing));
+        when(listingViewCounter.viewsToday(List.of(1L))).thenReturn(Map.of(1L, 340L));
+
+        mockMvc.perform(get("/api/fishListings/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.viewsToday").value(340));
+        verify(listingViewCounter).record(1L);
+    }
+
+    @Test
+    void testGetMostViewedFishListings_RankedOrder() throws Exception {
+        FishListing other = new FishListing();
+        other.setId(2L);
+        other.setFishType("Tuna");
+        other.setPrice(new BigDecimal("900.00"));
+        other.setStatus(ListingStatus.AVAILABLE);
+        other.setFisherman(fisherman);
+        when(listingViewCounter.mostViewedToday(20)).thenReturn(List.of(2L, 1L));
+        when(listingViewCounter.viewsToday(List.of(2L, 1L))).thenReturn(Map.of(2L, 50L, 1L, 12L));
+        when(fishListingRepo.findAllWithFishermanByIdIn(List.of(2L, 1L))).thenReturn(List.of(fishListing, other));
+
+        mockMvc.perform(get("/api/fishListings/most-viewed"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(2))
+                .andExpect(jsonPath("$[0].viewsToday").value(50))
+                .andExpect(jsonPath("$[1].id").value(1))
+                .andExpect(jsonPath("$[1].viewsToday").value(12));
+    }
+
+    // Conditional GET: a matching If-None-Match is answered before the repository is touched
+    @Test
+    void testGetFishListingById_NotModified() throws Exception {
+        when(fishListingRepo.findById(1L)).thenReturn(Optional.of(fishListing));
+
+        String etag = mockMvc.perform(get("/api/fishListings/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-cache"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/fishListings/1").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(content().string(""));
+        verify(fishListingRepo, times(1)).findById(1L);
+    }
+
+    // Conditional GET: a write through the controller invalidates the tag
+    @Test
+    void testGetFishListingById_ModifiedAfterUpdate() throws Exception {
+        when(fishListingRepo.findById(1L)).thenReturn(Optional.of(fishListing));
+        when(fishListingRepo.save(any(FishListing.class))).thenReturn(fishListing);
+
+        String etag = mockMvc.perform(get("/api/fishListings/1"))
+                .andReturn().getResponse().getHeader("ETag");
+        UpdateFishListingDto updateDto = new UpdateFishListingDto();
+        updateDto.setStatus(ListingStatus.SOLD);
+        mockMvc.perform(put("/api/fishListings/1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updateDto)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/fishListings/1").header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(etag)))
+                .andExpect(jsonPath("$.status").value("SOLD"));
+    }
+
     // MBCC Base Choice: Get All Fish Listings
     @Test
     void testGetAllFishListings_BaseChoice() throws Exception {
@@ -441,7 +616,7 @@ class FishListingControllerTest {
         listing2.setCreatedAt(LocalDateTime.now());
 
         List<FishListing> listings = Arrays.asList(fishListing, listing2);
-        when(fishListingRepo.findAll()).thenReturn(listings);
+        when(fishListingRepo.findByStatusNot(ListingStatus.EXPIRED)).thenReturn(listings);
 
         mockMvc.perform(get("/api/fishListings/list"))
                 .andExpect(status().isOk())
@@ -455,11 +630,303 @@ class FishListingControllerTest {
     // MBCC Base Choice: Get All Fish Listings - Empty List
     @Test
     void testGetAllFishListings_BaseChoice_EmptyList() throws Exception {
-        when(fishListingRepo.findAll()).thenReturn(Arrays.asList());
+        when(fishListingRepo.findByStatusNot(ListingStatus.EXPIRED)).thenReturn(Arrays.asList());
 
         mockMvc.perform(get("/api/fishListings/list"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$").isArray())
                 .andExpect(jsonPath("$").isEmpty());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testGetAllFishListings_SparseFields() throws Exception {
+        when(fishListingRepo.findByStatusNot(ListingStatus.EXPIRED)).thenReturn(List.of(fishListing));
+
+        mockMvc.perform(get("/api/fishListings/list").param("fields", "id,price,fisherman.firstName"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[0].price").value(1500.00))
+                .andExpect(jsonPath("$[0].fisherman.firstName").value("John"))
+                .andExpect(jsonPath("$[0].fisherman.lastName").doesNotExist())
+                .andExpect(jsonPath("$[0].fishType").doesNotExist())
+                .andExpect(jsonPath("$[0].photoUrl").doesNotExist());
+    }
+
+    @Test
+    void testGetAllFishListings_Normalized() throws Exception {
+        FishListing listing2 = new FishListing();
+        listing2.setId(2L);
+        listing2.setFishType("Tuna");
+        listing2.setStatus(ListingStatus.AVAILABLE);
+        listing2.setFisherman(fisherman);
+
+        when(fishListingRepo.findByStatusNot(ListingStatus.EXPIRED)).thenReturn(List.of(fishListing, listing2));
+
+        mockMvc.perform(get("/api/fishListings/list").param("normalized", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].fishermanId").value("FISH001"))
+                .andExpect(jsonPath("$.items[0].fisherman").doesNotExist())
+                .andExpect(jsonPath("$.items[1].fishermanId").value("FISH001"))
+                .andExpect(jsonPath("$.included.fishermen.length()").value(1))
+                .andExpect(jsonPath("$.included.fishermen.FISH001.lastName").value("Fisher"));
+    }
+
+    @Test
+    void testGetAllFishListings_NormalizedSparseFieldsKeepSideTablesWhole() throws Exception {
+        when(fishListingRepo.findByStatusNot(ListingStatus.EXPIRED)).thenReturn(List.of(fishListing));
+
+        mockMvc.perform(get("/api/fishListings/list").param("normalized", "true").param("fields", "fishType,fishermanId"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].fishType").value("Salmon"))
+                .andExpect(jsonPath("$.items[0].id").doesNotExist())
+                .andExpect(jsonPath("$.items[0].fishermanId").value("FISH001"))
+                .andExpect(jsonPath("$.included.fishermen.FISH001.id").value("FISH001"))
+                .andExpect(jsonPath("$.included.fishermen.FISH001.firstName").value("John"));
+    }
+
+    @Test
+    void testGetAllFishListings_Cbor() throws Exception {
+        when(fishListingRepo.findByStatusNot(ListingStatus.EXPIRED)).thenReturn(List.of(fishListing));
+
+        byte[] body = mockMvc.perform(get("/api/fishListings/list").accept("application/cbor"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/cbor"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode listings = new CBORMapper().readTree(body);
+        assertEquals(1, listings.size());
+        assertEquals("Salmon", listings.get(0).get("fishType").asText());
+        assertEquals(0, new BigDecimal("1500.00").compareTo(listings.get(0).get("price").decimalValue()));
+        assertEquals("FISH001", listings.get(0).get("fisherman").get("id").asText());
+    }
+
+    @Test
+    void testGetAllFishListings_CborSparseFields() throws Exception {
+        when(fishListingRepo.findByStatusNot(ListingStatus.EXPIRED)).thenReturn(List.of(fishListing));
+
+        byte[] body = mockMvc.perform(get("/api/fishListings/list").param("fields", "id,fisherman.firstName")
+                        .accept("application/cbor"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/cbor"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode listing = new CBORMapper().readTree(body).get(0);
+        assertEquals(List.of("id", "fisherman"), iterableToList(listing.fieldNames()));
+        assertEquals(List.of("firstName"), iterableToList(listing.get("fisherman").fieldNames()));
+        assertEquals("John", listing.get("fisherman").get("firstName").asText());
+    }
+
+    @Test
+    void testGetAllFishListings_SmileSparseFields() throws Exception {
+        when(fishListingRepo.findByStatusNot(ListingStatus.EXPIRED)).thenReturn(List.of(fishListing));
+
+        byte[] body = mockMvc.perform(get("/api/fishListings/list").param("fields", "id,fishType")
+                        .accept("application/x-jackson-smile"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-jackson-smile"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode listing = new SmileMapper().readTree(body).get(0);
+        assertEquals(List.of("id", "fishType"), iterableToList(listing.fieldNames()));
+        assertEquals("Salmon", listing.get("fishType").asText());
+    }
+
+    @Test
+    void testGetAllFishListings_AnyAcceptGetsJson() throws Exception {
+        when(fishListingRepo.findByStatusNot(ListingStatus.EXPIRED)).thenReturn(List.of(fishListing));
+
+        mockMvc.perform(get("/api/fishListings/list").accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$[0].fishType").value("Salmon"));
+    }
+
+    private static List<String> iterableToList(Iterator<String> names) {
+        List<String> list = new ArrayList<>();
+        names.forEachRemaining(list::add);
+        return list;
+    }
+
+    // =================================================================================================
+    // Feature: Search Fish Listings
+    // =================================================================================================
+
+    @Test
+    void testSearchFishListings_KeepsRankOrder() throws Exception {
+        FishListing listing2 = new FishListing();
+        listing2.setId(2L);
+        listing2.setFishType("Salmon");
+        listing2.setLocation("Bangkok");
+        listing2.setStatus(ListingStatus.AVAILABLE);
+        listing2.setFisherman(fisherman);
+
+        when(fishListingRepo.searchRankedIds("salmon", 2, 0L)).thenReturn(Arrays.asList(2L, 1L));
+        when(fishListingRepo.findAllWithFishermanByIdIn(List.of(2L)))
+                .thenReturn(List.of(listing2));
+
+        mockMvc.perform(get("/api/fishListings/search").param("q", " salmon ").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(2))
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.hasNext").value(true));
+    }
+
+    @Test
+    void testSearchFishListings_SparseFieldsApplyToItems() throws Exception {
+        when(fishListingRepo.searchRankedIds("salmon", 21, 0L)).thenReturn(List.of(1L));
+        when(fishListingRepo.findAllWithFishermanByIdIn(List.of(1L))).thenReturn(List.of(fishListing));
+
+        mockMvc.perform(get("/api/fishListings/search").param("q", "salmon").param("fields", "id"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(1))
+                .andExpect(jsonPath("$.items[0].fishType").doesNotExist())
+                .andExpect(jsonPath("$.items[0].fisherman").doesNotExist())
+                .andExpect(jsonPath("$.page").value(0))
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    void testSearchFishListings_FallsBackToSuggestedQuery() throws Exception {
+        when(fishListingRepo.searchRankedIds("samon", 21, 0L)).thenReturn(List.of());
+        when(fishListingRepo.suggestSearchQuery("samon")).thenReturn("salmon");
+        when(fishListingRepo.searchRankedIds("salmon", 21, 0L)).thenReturn(List.of(1L));
+        when(fishListingRepo.findAllWithFishermanByIdIn(List.of(1L))).thenReturn(List.of(fishListing));
+
+        mockMvc.perform(get("/api/fishListings/search").param("q", "samon"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].fishType").value("Salmon"))
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    void testSearchFishListings_NoFallbackPastFirstPage() throws Exception {
+        when(fishListingRepo.searchRankedIds("samon", 21, 20L)).thenReturn(List.of());
+
+        mockMvc.perform(get("/api/fishListings/search").param("q", "samon").param("page", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(0))
+                .andExpect(jsonPath("$.hasNext").value(false));
+
+        verify(fishListingRepo, never()).suggestSearchQuery(anyString());
+    }
+
+    @Test
+    void testSearchFishListings_TruncatedPastCandidateCap() throws Exception {
+        // The last ranked candidate
+        when(fishListingRepo.searchRankedIds("salmon", 2, 999L)).thenReturn(List.of(1L));
+        when(fishListingRepo.hasMoreSearchMatches("salmon")).thenReturn(true);
+        when(fishListingRepo.findAllWithFishermanByIdIn(List.of(1L))).thenReturn(List.of(fishListing));
+
+        mockMvc.perform(get("/api/fishListings/search").param("q", "salmon").param("page", "999").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andExpect(jsonPath("$.truncated").value(true));
+    }
+
+    @Test
+    void testSearchFishListings_AllMatchesRanked() throws Exception {
+        when(fishListingRepo.searchRankedIds("salmon", 21, 0L)).thenReturn(List.of(1L));
+        when(fishListingRepo.findAllWithFishermanByIdIn(List.of(1L))).thenReturn(List.of(fishListing));
+
+        mockMvc.perform(get("/api/fishListings/search").param("q", "salmon"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.truncated").value(false));
+
+        verify(fishListingRepo, never()).hasMoreSearchMatches(anyString());
+    }
+
+    @Test
+    void testSearchFishListings_BlankQuery() throws Exception {
+        mockMvc.perform(get("/api/fishListings/search").param("q", "  "))
+                .andExpect(status().isBadRequest());
+    }
+
+    // =================================================================================================
+    // Feature: Nearby Fish Listings
+    // =================================================================================================
+
+    @Test
+    void testGetNearbyFishListings_NearestFirst() throws Exception {
+        FishListingRepo.NearbyListing row = new FishListingRepo.NearbyListing() {
+            public Long getId() { return 1L; }
+            public Double getDistanceMeters() { return 12_500.0; }
+        };
+        when(fishListingRepo.findNearby(eq(13.8), eq(100.3), eq(25_000.0), any(), isNull(), eq(20)))
+                .thenReturn(List.of(row));
+        when(fishListingRepo.findAllWithFishermanByIdIn(List.of(1L))).thenReturn(List.of(fishListing));
+
+        mockMvc.perform(get("/api/fishListings/nearby").param("lat", "13.8").param("lon", "100.3")
+                        .param("radiusKm", "25"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].listing.id").value(1))
+                .andExpect(jsonPath("$[0].distanceKm").value(12.5));
+    }
+
+    @Test
+    void testGetNearbyFishListings_UserWithoutCoordinates() throws Exception {
+        when(userRepo.findById("BUY001")).thenReturn(Optional.of(buyer));
+
+        mockMvc.perform(get("/api/fishListings/nearby").param("userId", "BUY001"))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
+    @Test
+    void testGetNearbyFishListings_MissingCentre() throws Exception {
+        mockMvc.perform(get("/api/fishListings/nearby"))
+                .andExpect(status().isBadRequest());
+    }
+
+    // =================================================================================================
+    // Feature: Delta Sync
+    // =================================================================================================
+
+    private static FishListingRepo.ListingChange change(Long id, Long version, Boolean deleted, long horizon,
+            long prunedThrough) {
+        return new FishListingRepo.ListingChange() {
+            public Long getId() { return id; }
+            public Long getVersion() { return version; }
+            public Boolean getDeleted() { return deleted; }
+            public long getHorizon() { return horizon; }
+            public long getPrunedThrough() { return prunedThrough; }
+        };
+    }
+
+    @Test
+    void testSyncFishListings_FullPageResumesAfterLastChange() throws Exception {
+        when(fishListingRepo.findChangesSince(100L, Long.MAX_VALUE, 3)).thenReturn(List.of(
+                change(1L, 105L, false, 120L, 0L),
+                change(7L, 106L, true, 120L, 0L),
+                change(2L, 110L, false, 120L, 0L)));
+        when(fishListingRepo.findAllWithFishermanByIdIn(List.of(1L))).thenReturn(List.of(fishListing));
+
+        mockMvc.perform(get("/api/fishListings/sync").param("since", "100").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.upserts[0].id").value(1))
+                .andExpect(jsonPath("$.deletes[0]").value(7))
+                .andExpect(jsonPath("$.version").value(106))
+                .andExpect(jsonPath("$.afterId").value(7))
+                .andExpect(jsonPath("$.hasMore").value(true));
+    }
+
+    @Test
+    void testSyncFishListings_CaughtUpReturnsHorizon() throws Exception {
+        when(fishListingRepo.findChangesSince(106L, 7L, 201)).thenReturn(List.of(change(null, null, null, 120L, 0L)));
+
+        mockMvc.perform(get("/api/fishListings/sync").param("since", "106").param("afterId", "7"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.upserts").isEmpty())
+                .andExpect(jsonPath("$.deletes").isEmpty())
+                .andExpect(jsonPath("$.version").value(119))
+                .andExpect(jsonPath("$.afterId").doesNotExist())
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    void testSyncFishListings_PrunedVersionIsGone() throws Exception {
+        when(fishListingRepo.findChangesSince(50L, Long.MAX_VALUE, 201)).thenReturn(List.of(change(null, null, null, 120L, 80L)));
+
+        mockMvc.perform(get("/api/fishListings/sync").param("since", "50"))
+                .andExpect(status().isGone());
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.backend.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.example.backend.dto.FishermanListingDto;
+import com.example.backend.dto.PageResponseDto;
+import com.example.backend.enums.ListingStatus;
+import com.example.backend.enums.UserRole;
+import com.example.backend.model.User;
+import com.example.backend.repository.FishListingRepo;
+import com.example.backend.repository.FishListingRepo.ListingSummary;
+import com.example.backend.repository.UserRepo;
+
+@ExtendWith(MockitoExtension.class)
+public class FishermanControllerTest {
+
+    @Mock
+    private UserRepo userRepo;
+
+    @Mock
+    private FishListingRepo fishListingRepo;
+
+    @InjectMocks
+    private FishermanController fishermanController;
+
+    private static User user(String id, UserRole role) {
+        User user = new User();
+        user.setId(id);
+        user.setRole(role);
+        return user;
+    }
+
+    private static ListingSummary summary(long id) {
+        return new ListingSummary() {
+            public Long getId() { return id; }
+            public String getFishType() { return "Cod"; }
+            public long getWeightGrams() { return 2500; }
+            public long getPriceMinor() { return 25_000; }
+            public ListingStatus getStatus() { return ListingStatus.AVAILABLE; }
+            public LocalDateTime getCatchDate() { return LocalDateTime.of(2026, 10, 1, 5, 0); }
+            public String getLocation() { return "Phuket"; }
+            public String getPhotoUrl() { return null; }
+        };
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testGetListings_PageWithNext() {
+        when(userRepo.findById("FISHER0001")).thenReturn(Optional.of(user("FISHER0001", UserRole.FISHERMAN)));
+        // Asked for one more than the page size
+        when(fishListingRepo.findSummariesByFisherman("FISHER0001", ListingStatus.AVAILABLE, 3, 2L))
+                .thenReturn(List.of(summary(5), summary(4), summary(3)));
+
+        ResponseEntity<?> response = fishermanController.getListings("FISHER0001", ListingStatus.AVAILABLE, 1, 2);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        PageResponseDto<FishermanListingDto> body = (PageResponseDto<FishermanListingDto>) response.getBody();
+        assertEquals(2, body.getItems().size());
+        assertTrue(body.isHasNext());
+        assertEquals(2.5, body.getItems().get(0).getWeightInKg());
+        assertEquals("250.00", body.getItems().get(0).getPrice().toPlainString());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testGetListings_LastPage() {
+        when(userRepo.findById("FISHER0001")).thenReturn(Optional.of(user("FISHER0001", UserRole.FISHERMAN)));
+        when(fishListingRepo.findSummariesByFisherman("FISHER0001", null, 21, 0L)).thenReturn(List.of(summary(1)));
+
+        ResponseEntity<?> response = fishermanController.getListings("FISHER0001", null, 0, 20);
+
+        PageResponseDto<FishermanListingDto> body = (PageResponseDto<FishermanListingDto>) response.getBody();
+        assertEquals(1, body.getItems().size());
+        assertFalse(body.isHasNext());
+    }
+
+    @Test
+    public void testGetListings_NotAFisherman() {
+        when(userRepo.findById("BUY0001")).thenReturn(Optional.of(user("BUY0001", UserRole.BUYER)));
+
+        ResponseEntity<?> response = fishermanController.getListings("BUY0001", null, 0, 20);
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        verify(fishListingRepo, never()).findSummariesByFisherman(any(), any(), anyInt(), anyLong());
+    }
+
+    @Test
+    public void testGetListings_PageTooLarge() {
+        ResponseEntity<?> response = fishermanController.getListings("FISHER0001", null, 0, 500);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.backend.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.example.backend.dto.MarketPriceDto;
+import com.example.backend.market.MarketPriceIndex;
+
+@ExtendWith(MockitoExtension.class)
+public class MarketControllerTest {
+
+    @Mock
+    private MarketPriceIndex marketPriceIndex;
+
+    @InjectMocks
+    private MarketController marketController;
+
+    private static MarketPriceDto price(String fishType, String median) {
+        MarketPriceDto dto = new MarketPriceDto();
+        dto.setFishType(fishType);
+        dto.setMedianPricePerKg(new BigDecimal(median));
+        return dto;
+    }
+
+    @Test
+    public void testGetPrices_ReturnsIndex() {
+        List<MarketPriceDto> prices = List.of(price("Cod", "250.00"), price("Salmon", "480.00"));
+        when(marketPriceIndex.getPrices()).thenReturn(prices);
+
+        ResponseEntity<List<MarketPriceDto>> response = marketController.getPrices(null);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(prices, response.getBody());
+    }
+
+    @Test
+    public void testGetPrices_FiltersByFishTypeIgnoringCase() {
+        when(marketPriceIndex.getPrices()).thenReturn(List.of(price("Cod", "250.00"), price("Salmon", "480.00")));
+
+        ResponseEntity<List<MarketPriceDto>> response = marketController.getPrices(" salmon ");
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, response.getBody().size());
+        assertEquals("Salmon", response.getBody().get(0).getFishType());
+    }
+}
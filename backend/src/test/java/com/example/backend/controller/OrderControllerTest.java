@@ -2,13 +2,18 @@ package com.example.backend.controller;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayOutputStream;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -18,22 +23,42 @@ import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.example.backend.dto.BulkOrderStatusDto;
 import com.example.backend.dto.CreateOrderDto;
+import com.example.backend.dto.NormalizedResponseDto;
+import com.example.backend.dto.OrderDto;
 import com.example.backend.dto.OrderItemDto;
+import com.example.backend.dto.OrderStatusOutcomeDto;
+import com.example.backend.dto.OrderStatusOutcomeDto.Outcome;
 import com.example.backend.dto.UpdateOrderStatusDto;
 import com.example.backend.enums.OrderStatus;
+import com.example.backend.export.ExportFormat;
+import com.example.backend.export.OrderHistoryExporter;
 import com.example.backend.model.FishListing;
 import com.example.backend.model.Order;
+import com.example.backend.model.OrderItem;
+import com.example.backend.model.OutboxEvent;
 import com.example.backend.model.User;
+import com.example.backend.ordering.OrderIdGenerator;
+import com.example.backend.ordering.OrderStatusUpdater;
+import com.example.backend.outbox.DomainEventType;
+import com.example.backend.outbox.Outbox;
 import com.example.backend.repository.FishListingRepo;
 import com.example.backend.repository.OrderRepo;
+import com.example.backend.repository.OutboxEventRepo;
 import com.example.backend.repository.UserRepo;
+import com.example.backend.versioning.TableVersions;
+import com.example.backend.versioning.VersionedTable;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 @ExtendWith(MockitoExtension.class)
 public class OrderControllerTest {
@@ -47,8 +72,17 @@ public class OrderControllerTest {
     @Mock
     private FishListingRepo fishListingRepo;
 
-    @InjectMocks
+    @Mock
+    private OrderHistoryExporter orderHistoryExporter;
+
+    @Mock
+    private OutboxEventRepo outboxEventRepo;
+
+    @Mock
+    private OrderStatusUpdater orderStatusUpdater;
+
     private OrderController orderController;
+    private TableVersions tableVersions;
 
     private User buyer;
     private FishListing fishListing;
@@ -57,6 +91,13 @@ public class OrderControllerTest {
 
     @BeforeEach
     void setUp() {
+        // Real id generator over the mocked repo, so tests stub findMaxId for ids; real outbox over a mocked
+        // event repo, so tests verify the events saved
+        tableVersions = new TableVersions(0);
+        orderController = new OrderController(orderRepo, userRepo, fishListingRepo, orderHistoryExporter,
+                new OrderIdGenerator(orderRepo), orderStatusUpdater,
+                new Outbox(outboxEventRepo, TransactionOperations.withoutTransaction(), new ObjectMapper()), tableVersions);
+
         buyer = new User();
         buyer.setId("user1");
 
@@ -73,6 +114,11 @@ public class OrderControllerTest {
         createOrderDto.setItems(List.of(itemDto));
     }
 
+    private void verifyEvent(DomainEventType type, String aggregateId) {
+        verify(outboxEventRepo).save(argThat((OutboxEvent event) ->
+                event.getEventType() == type && event.getAggregateId().equals(aggregateId)));
+    }
+
     // --- BCC Test Cases for createOrder ---
 
     /**
@@ -101,8 +147,10 @@ public class OrderControllerTest {
         assertEquals("user1", createdOrder.getBuyer().getId());
         assertEquals(1, createdOrder.getItems().size());
         // Use compareTo for BigDecimal to ignore scale differences
+        assertEquals("ORD002", createdOrder.getId());
         assertEquals(0, new BigDecimal("20.00").compareTo(createdOrder.getTotalPrice()));
         verify(orderRepo, times(1)).save(any(Order.class));
+        verifyEvent(DomainEventType.ORDER_CREATED, "ORD002");
     }
 
     /**
@@ -171,6 +219,52 @@ public class OrderControllerTest {
         verify(orderRepo, never()).save(any(Order.class));
     }
 
+    /**
+     * Test Case 4a (Variation 4): Fractional quantity.
+     * Line totals are computed in minor units and grams and rounded half up per line.
+     * Expected: Order created with exact item and total amounts.
+     */
+    @Test
+    public void testCreateOrder_FractionalQuantityRoundsPerLine() {
+        // Arrange
+        fishListing.setPrice(new BigDecimal("12.35"));
+        itemDto.setQuantity(0.333); // 333 g x 1235 minor units/kg = 411.255 -> 411
+        when(userRepo.findById("user1")).thenReturn(Optional.of(buyer));
+        when(fishListingRepo.findById(1L)).thenReturn(Optional.of(fishListing));
+        when(orderRepo.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        ResponseEntity<?> response = orderController.createOrder(createOrderDto);
+
+        // Assert
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        Order createdOrder = (Order) response.getBody();
+        assertEquals(333, createdOrder.getItems().get(0).getQuantityGrams());
+        assertEquals(1235, createdOrder.getItems().get(0).getPriceAtPurchaseMinor());
+        assertEquals(411, createdOrder.getTotalPriceMinor());
+        assertEquals(new BigDecimal("4.11"), createdOrder.getTotalPrice());
+    }
+
+    /**
+     * Test Case 4b (Variation 5): Quantity that rounds to zero grams.
+     * Expected: Error response (HTTP 400).
+     */
+    @Test
+    public void testCreateOrder_QuantityBelowOneGram() {
+        // Arrange
+        itemDto.setQuantity(0.0004);
+        when(userRepo.findById("user1")).thenReturn(Optional.of(buyer));
+        when(fishListingRepo.findById(1L)).thenReturn(Optional.of(fishListing));
+
+        // Act
+        ResponseEntity<?> response = orderController.createOrder(createOrderDto);
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("Quantity for fish listing with ID 1 must be at least 1 gram.", response.getBody());
+        verify(orderRepo, never()).save(any(Order.class));
+    }
+
     // --- Tests for updateOrder ---
 
     /**
@@ -198,6 +292,8 @@ public class OrderControllerTest {
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(OrderStatus.CONFIRMED, response.getBody().getStatus());
         verify(orderRepo, times(1)).save(existingOrder);
+        verifyEvent(DomainEventType.ORDER_STATUS_CHANGED, orderId);
+        assertEquals(1, tableVersions.version(VersionedTable.ORDERS));
     }
 
     /**
@@ -221,6 +317,58 @@ public class OrderControllerTest {
         verify(orderRepo, never()).save(any(Order.class));
     }
 
+    @Test
+    public void testUpdateOrder_TransitionNotAllowed() {
+        UpdateOrderStatusDto statusDto = new UpdateOrderStatusDto();
+        statusDto.setStatus(OrderStatus.PENDING);
+
+        Order existingOrder = new Order();
+        existingOrder.setId("ORD001");
+        existingOrder.setStatus(OrderStatus.SHIPPED);
+        when(orderRepo.findById("ORD001")).thenReturn(Optional.of(existingOrder));
+
+        ResponseEntity<Order> response = orderController.updateOrder("ORD001", statusDto);
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        verify(orderRepo, never()).save(any(Order.class));
+        verify(outboxEventRepo, never()).save(any());
+        assertEquals(0, tableVersions.version(VersionedTable.ORDERS));
+    }
+
+    // --- Tests for updateOrderStatuses ---
+
+    @Test
+    public void testUpdateOrderStatuses_ReturnsPerOrderOutcomes() {
+        BulkOrderStatusDto statusDto = new BulkOrderStatusDto();
+        statusDto.setOrderIds(List.of("ORD001", "ORD002", "ORD999"));
+        statusDto.setStatus(OrderStatus.SHIPPED);
+        statusDto.setFishermanId("FISHER0001");
+        List<OrderStatusOutcomeDto> outcomes = List.of(
+                new OrderStatusOutcomeDto("ORD001", Outcome.UPDATED, OrderStatus.UNSHIPPED, OrderStatus.SHIPPED),
+                new OrderStatusOutcomeDto("ORD002", Outcome.NOT_ALLOWED, OrderStatus.CANCELLED, OrderStatus.CANCELLED),
+                new OrderStatusOutcomeDto("ORD999", Outcome.NOT_FOUND, null, null));
+        when(orderStatusUpdater.transition(statusDto.getOrderIds(), OrderStatus.SHIPPED, "FISHER0001")).thenReturn(outcomes);
+
+        ResponseEntity<?> response = orderController.updateOrderStatuses(statusDto);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(outcomes, response.getBody());
+        // The updater's statement writes the events itself
+        verify(outboxEventRepo, never()).save(any());
+    }
+
+    @Test
+    public void testUpdateOrderStatuses_NoOrders() {
+        BulkOrderStatusDto statusDto = new BulkOrderStatusDto();
+        statusDto.setOrderIds(List.of());
+        statusDto.setStatus(OrderStatus.SHIPPED);
+
+        ResponseEntity<?> response = orderController.updateOrderStatuses(statusDto);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verify(orderStatusUpdater, never()).transition(any(), any(), any());
+    }
+
     // --- Tests for deleteOrder ---
 
     /**
@@ -240,6 +388,7 @@ public class OrderControllerTest {
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals("Order deleted successfully", response.getBody());
         verify(orderRepo, times(1)).deleteById(orderId);
+        verifyEvent(DomainEventType.ORDER_DELETED, orderId);
     }
 
     /**
@@ -265,7 +414,7 @@ public class OrderControllerTest {
     @Test
     public void testGetAllOrders() {
         when(orderRepo.findAll()).thenReturn(Collections.emptyList());
-        ResponseEntity<List<Order>> response = orderController.getAllOrders();
+        ResponseEntity<List<Order>> response = orderController.getAllOrders(null);
         assertEquals(HttpStatus.OK, response.getStatusCode());
     }
 
@@ -285,4 +434,81 @@ public class OrderControllerTest {
         ResponseEntity<Order> response = orderController.getOrderById(id);
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
     }
+
+    @Test
+    public void testGetOrdersByBuyer_NormalizedSharesListings() {
+        User fisherman = new User();
+        fisherman.setId("fish1");
+        fisherman.setFirstName("John");
+        fishListing.setFishType("Salmon");
+        fishListing.setFisherman(fisherman);
+        buyer.setUsername("buyer");
+        List<Order> orders = new ArrayList<>();
+        for (String id : List.of("ORD001", "ORD002")) {
+            Order order = new Order();
+            order.setId(id);
+            order.setStatus(OrderStatus.COMPLETED);
+            order.setBuyer(buyer);
+            OrderItem item = new OrderItem();
+            item.setOrder(order);
+            item.setFishListing(fishListing);
+            item.setQuantityGrams(1000);
+            item.setPriceAtPurchaseMinor(1000);
+            order.setItems(List.of(item));
+            orders.add(order);
+        }
+        when(orderRepo.findByBuyerId("user1")).thenReturn(orders);
+
+        ResponseEntity<?> response = orderController.getOrdersByBuyer("user1", null, true);
+
+        NormalizedResponseDto<?> body = (NormalizedResponseDto<?>) response.getBody();
+        assertNotNull(body);
+        assertEquals(2, body.getItems().size());
+        OrderDto first = (OrderDto) body.getItems().get(0);
+        assertEquals("user1", first.getBuyerId());
+        assertNull(first.getBuyer());
+        assertNull(first.getItems().get(0).getFishListing());
+        assertNull(first.getItems().get(0).getPhotoUrl());
+        assertEquals(1L, first.getItems().get(0).getFishListingId());
+        assertEquals(1, body.getIncluded().get("buyers").size());
+        assertEquals(1, body.getIncluded().get("listings").size());
+        OrderItemDto.FishListingDto listing = (OrderItemDto.FishListingDto) body.getIncluded().get("listings").get(1L);
+        assertEquals("Salmon", listing.getFishType());
+        assertEquals("fish1", listing.getFishermanId());
+        assertEquals(1, body.getIncluded().get("fishermen").size());
+    }
+
+    // --- Order history export ---
+
+    @Test
+    public void testExportOrdersByBuyer_StreamsCsv() throws Exception {
+        when(userRepo.existsById("BUY0006")).thenReturn(true);
+
+        ResponseEntity<StreamingResponseBody> response = orderController.exportOrdersByBuyer("BUY0006", "csv", null);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(MediaType.parseMediaType("text/csv"), response.getHeaders().getContentType());
+        assertTrue(response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION).contains("orders-BUY0006.csv"));
+        // Nothing is read until the body is written
+        verify(orderHistoryExporter, never()).export(any(), any(), any(), any());
+        response.getBody().writeTo(new ByteArrayOutputStream());
+        verify(orderHistoryExporter).export(eq("BUY0006"), isNull(), eq(ExportFormat.CSV), any());
+    }
+
+    @Test
+    public void testExportOrdersByBuyer_UnsupportedFormat() throws Exception {
+        ResponseEntity<StreamingResponseBody> response = orderController.exportOrdersByBuyer("BUY0006", "xlsx", null);
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        response.getBody().writeTo(body);
+        assertTrue(body.toString().contains("Unsupported export format"));
+        verify(orderHistoryExporter, never()).export(any(), any(), any(), any());
+    }
+
+    @Test
+    public void testExportOrdersByBuyer_BuyerNotFound() {
+        when(userRepo.existsById("BUY9999")).thenReturn(false);
+        ResponseEntity<StreamingResponseBody> response = orderController.exportOrdersByBuyer("BUY9999", "ndjson", null);
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
 }
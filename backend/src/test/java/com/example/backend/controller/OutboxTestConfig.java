@@ -0,0 +1,19 @@
+package com.example.backend.controller;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.transaction.support.TransactionOperations;
+
+import com.example.backend.outbox.Outbox;
+import com.example.backend.repository.OutboxEventRepo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Real outbox over the test's mocked OutboxEventRepo, running changes without a transaction manager
+@TestConfiguration
+class OutboxTestConfig {
+
+    @Bean
+    Outbox outbox(OutboxEventRepo outboxEventRepo, ObjectMapper objectMapper) {
+        return new Outbox(outboxEventRepo, TransactionOperations.withoutTransaction(), objectMapper);
+    }
+}
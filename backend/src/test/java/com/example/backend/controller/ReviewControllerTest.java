@@ -8,11 +8,14 @@ import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
@@ -25,16 +28,19 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.example.backend.dto.CreateReviewDto;
 import com.example.backend.dto.UpdateReviewDto;
+import com.example.backend.enums.OrderStatus;
 import com.example.backend.model.Order;
 import com.example.backend.model.OrderItem;
 import com.example.backend.model.Review;
 import com.example.backend.model.User;
 import com.example.backend.repository.OrderItemRepo;
+import com.example.backend.repository.OutboxEventRepo;
 import com.example.backend.repository.ReviewRepo;
 import com.example.backend.repository.UserRepo;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 @WebMvcTest(ReviewController.class)
+@Import(OutboxTestConfig.class)
 class ReviewControllerTest {
 
     @Autowired
@@ -49,6 +55,9 @@ class ReviewControllerTest {
     @MockBean
     private OrderItemRepo orderItemRepo;
 
+    @MockBean
+    private OutboxEventRepo outboxEventRepo;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -393,4 +402,59 @@ class ReviewControllerTest {
                 .andExpect(jsonPath("$").isArray())
                 .andExpect(jsonPath("$[0].buyerId").value("BUY0001"));
     }
-}
\ No newline at end of file
+
+    private static OrderItemRepo.ReviewableItem reviewableItem(long orderItemId, Long reviewId) {
+        return new OrderItemRepo.ReviewableItem() {
+            public Long getOrderItemId() { return orderItemId; }
+            public String getOrderId() { return "ORD001"; }
+            public LocalDateTime getOrderDate() { return LocalDateTime.of(2026, 10, 1, 12, 0); }
+            public OrderStatus getOrderStatus() { return OrderStatus.SHIPPED; }
+            public Long getFishListingId() { return 4L; }
+            public String getFishType() { return "Bluefin Tuna"; }
+            public String getPhotoUrl() { return null; }
+            public String getSellerFirstName() { return "Jack"; }
+            public String getSellerLastName() { return "Sparrow"; }
+            public long getQuantityGrams() { return 1500; }
+            public long getPriceAtPurchaseMinor() { return 792_000; }
+            public Long getReviewId() { return reviewId; }
+            public Integer getRating() { return reviewId == null ? null : 5; }
+            public String getComment() { return reviewId == null ? null : "Excellent"; }
+            public LocalDateTime getReviewDate() { return null; }
+        };
+    }
+
+    @Test
+    void testGetReviewableItems_PageWithReviews() throws Exception {
+        when(userRepo.existsById("BUY0001")).thenReturn(true);
+        when(orderItemRepo.findReviewableByBuyer(eq("BUY0001"), any(), isNull(), eq(3), eq(0L)))
+                .thenReturn(List.of(reviewableItem(2L, 7L), reviewableItem(1L, null), reviewableItem(0L, null)));
+
+        mockMvc.perform(get("/api/reviews/buyer/BUY0001/reviewable").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.items[0].review.id").value(7))
+                .andExpect(jsonPath("$.items[0].subtotal").value(11880.0))
+                .andExpect(jsonPath("$.items[1].review").doesNotExist());
+    }
+
+    @Test
+    void testGetReviewableItems_ReviewedFilter() throws Exception {
+        when(userRepo.existsById("BUY0001")).thenReturn(true);
+        when(orderItemRepo.findReviewableByBuyer(eq("BUY0001"), any(), eq(false), eq(21), eq(20L)))
+                .thenReturn(List.of());
+
+        mockMvc.perform(get("/api/reviews/buyer/BUY0001/reviewable").param("reviewed", "false").param("page", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items").isEmpty())
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    void testGetReviewableItems_BuyerNotFound() throws Exception {
+        when(userRepo.existsById("INVALID")).thenReturn(false);
+
+        mockMvc.perform(get("/api/reviews/buyer/INVALID/reviewable"))
+                .andExpect(status().isNotFound());
+    }
+}
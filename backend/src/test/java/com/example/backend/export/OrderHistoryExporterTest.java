@@ -0,0 +1,34 @@
+package com.example.backend.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+public class OrderHistoryExporterTest {
+
+    @Test
+    public void testCsv_QuotesOnlyWhenNeeded() {
+        assertEquals("Salmon", OrderHistoryExporter.csv("Salmon"));
+        assertEquals("\"Salmon, smoked\"", OrderHistoryExporter.csv("Salmon, smoked"));
+        assertEquals("\"12\"\" fillet\"", OrderHistoryExporter.csv("12\" fillet"));
+        assertEquals("", OrderHistoryExporter.csv(null));
+    }
+
+    @Test
+    public void testCsvText_FormulaPrefixesNeutralized() {
+        assertEquals("\"'=HYPERLINK(\"\"http://example.com\"\",\"\"Tuna\"\")\"",
+                OrderHistoryExporter.csvText("=HYPERLINK(\"http://example.com\",\"Tuna\")"));
+        assertEquals("\"'+1+1\"", OrderHistoryExporter.csvText("+1+1"));
+        assertEquals("\"'-2+3\"", OrderHistoryExporter.csvText("-2+3"));
+        assertEquals("\"'@SUM(A1:A2)\"", OrderHistoryExporter.csvText("@SUM(A1:A2)"));
+        assertEquals("\"'\t=1\"", OrderHistoryExporter.csvText("\t=1"));
+    }
+
+    @Test
+    public void testCsvText_OrdinaryTextUnchanged() {
+        assertEquals("Bluefin Tuna", OrderHistoryExporter.csvText("Bluefin Tuna"));
+        assertEquals("\"Tuna, = fresh\"", OrderHistoryExporter.csvText("Tuna, = fresh"));
+        assertEquals("", OrderHistoryExporter.csvText(""));
+        assertEquals("", OrderHistoryExporter.csvText(null));
+    }
+}
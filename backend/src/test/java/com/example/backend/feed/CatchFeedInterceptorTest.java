@@ -0,0 +1,77 @@
+package com.example.backend.feed;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+@ExtendWith(MockitoExtension.class)
+public class CatchFeedInterceptorTest {
+
+    @Mock
+    private CatchFeed catchFeed;
+
+    @Mock
+    private MessageChannel channel;
+
+    private CatchFeedInterceptor interceptor;
+
+    @BeforeEach
+    public void setUp() {
+        interceptor = new CatchFeedInterceptor(catchFeed);
+    }
+
+    private static Message<byte[]> frame(StompCommand command, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId("session-1");
+        accessor.setSubscriptionId("sub-0");
+        accessor.setDestination(destination);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    @Test
+    public void testPreSend_SendToFeedRejected() {
+        Message<byte[]> message = frame(StompCommand.SEND, CatchFeed.DESTINATION);
+
+        assertThrows(MessageDeliveryException.class, () -> interceptor.preSend(message, channel));
+        verifyNoInteractions(catchFeed);
+    }
+
+    @Test
+    public void testPreSend_SendToAnyBrokerDestinationRejected() {
+        Message<byte[]> message = frame(StompCommand.SEND, "/topic/other");
+
+        assertThrows(MessageDeliveryException.class, () -> interceptor.preSend(message, channel));
+    }
+
+    @Test
+    public void testPreSend_SendToApplicationDestinationPassesThrough() {
+        Message<byte[]> message = frame(StompCommand.SEND, "/app/ping");
+
+        assertSame(message, interceptor.preSend(message, channel));
+        verifyNoInteractions(catchFeed);
+    }
+
+    @Test
+    public void testPreSend_SubscribeRegistersFilter() {
+        Message<byte[]> message = frame(StompCommand.SUBSCRIBE, CatchFeed.DESTINATION);
+
+        assertSame(message, interceptor.preSend(message, channel));
+        verify(catchFeed).subscribe(eq("session-1"), eq("sub-0"), any(CatchFilter.class));
+    }
+}
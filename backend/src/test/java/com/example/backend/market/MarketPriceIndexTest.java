@@ -0,0 +1,204 @@
+package com.example.backend.market;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.backend.dto.MarketPriceDto;
+import com.example.backend.model.MarketPriceCheckpoint;
+import com.example.backend.model.MarketPriceSketch;
+import com.example.backend.repository.MarketPriceCheckpointRepo;
+import com.example.backend.repository.MarketPriceSketchRepo;
+import com.example.backend.repository.OrderItemRepo;
+import com.example.backend.repository.OrderItemRepo.PricedItem;
+
+@ExtendWith(MockitoExtension.class)
+public class MarketPriceIndexTest {
+
+    private record Item(Long id, String fishType, LocalDateTime orderDate, long priceAtPurchaseMinor,
+            long quantityGrams) implements PricedItem {
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public String getFishType() {
+            return fishType;
+        }
+
+        @Override
+        public LocalDateTime getOrderDate() {
+            return orderDate;
+        }
+
+        @Override
+        public long getPriceAtPurchaseMinor() {
+            return priceAtPurchaseMinor;
+        }
+
+        @Override
+        public long getQuantityGrams() {
+            return quantityGrams;
+        }
+    }
+
+    @Mock
+    private MarketPriceSketchRepo marketPriceSketchRepo;
+
+    @Mock
+    private MarketPriceCheckpointRepo marketPriceCheckpointRepo;
+
+    @Mock
+    private OrderItemRepo orderItemRepo;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private MarketPriceProperties properties;
+    private MarketPriceIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        properties = new MarketPriceProperties();
+        // Runs the checkpoint write inline; restores with nothing to replay don't checkpoint
+        lenient().doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        index = new MarketPriceIndex(marketPriceSketchRepo, marketPriceCheckpointRepo, orderItemRepo,
+                transactionTemplate, properties);
+    }
+
+    // 1 kg of salmon at the given price per kg, ordered today
+    private static Item salmon(long id, String pricePerKg) {
+        return new Item(id, "Salmon", LocalDateTime.now(), new BigDecimal(pricePerKg).movePointRight(2).longValueExact(),
+                1000);
+    }
+
+    private void replayOnRestore(List<PricedItem> items) {
+        when(orderItemRepo.findPricedItemsAfter(any(), any(), any())).thenReturn(items);
+    }
+
+    private MarketPriceDto salmonPrices() {
+        List<MarketPriceDto> prices = index.getPrices();
+        assertEquals(1, prices.size());
+        return prices.get(0);
+    }
+
+    @Test
+    public void testRecordItems_CountsEachItem() {
+        replayOnRestore(List.of());
+        index.restore();
+
+        index.recordItems(List.of(salmon(1, "100.00"), salmon(2, "200.00")));
+
+        MarketPriceDto salmon = salmonPrices();
+        assertEquals(2, salmon.getTrades());
+        assertEquals(new BigDecimal("2.000"), salmon.getKilograms());
+    }
+
+    @Test
+    public void testRestore_ReplaysItemsAfterCheckpoint() {
+        LocalDate today = LocalDate.now();
+        PriceSketch checkpointed = new PriceSketch(properties.getRelativeAccuracy());
+        checkpointed.add(100, 1);
+        when(marketPriceCheckpointRepo.findById(MarketPriceCheckpoint.SINGLETON_ID))
+                .thenReturn(Optional.of(new MarketPriceCheckpoint(MarketPriceCheckpoint.SINGLETON_ID, 10L,
+                        LocalDateTime.now())));
+        when(marketPriceSketchRepo.findAll())
+                .thenReturn(List.of(new MarketPriceSketch(1L, "Salmon", today, checkpointed.encode())));
+        replayOnRestore(List.of(salmon(11, "120.00"), salmon(12, "140.00")));
+
+        index.restore();
+
+        verify(orderItemRepo).findPricedItemsAfter(eq(10L), any(), any());
+        assertEquals(3, salmonPrices().getTrades());
+    }
+
+    // The ORDER_CREATED events of the replayed orders are still in the outbox and arrive after the restore
+    @Test
+    public void testRecordItems_ReplayedItemsNotCountedAgain() {
+        replayOnRestore(List.of(salmon(11, "120.00"), salmon(12, "140.00")));
+        index.restore();
+
+        index.recordItems(List.of(salmon(11, "120.00")));
+        index.recordItems(List.of(salmon(12, "140.00"), salmon(13, "160.00")));
+
+        assertEquals(3, salmonPrices().getTrades());
+    }
+
+    // Only the first delivery of a replayed item is skipped; after that it is an ordinary redelivery
+    @Test
+    public void testRecordItems_ReplayedItemSkippedOnce() {
+        replayOnRestore(List.of(salmon(11, "120.00")));
+        index.restore();
+
+        index.recordItems(List.of(salmon(11, "120.00")));
+        index.recordItems(List.of(salmon(11, "120.00")));
+
+        assertEquals(2, salmonPrices().getTrades());
+    }
+
+    @Test
+    public void testCheckpoint_RestoresSamePrices() {
+        replayOnRestore(List.of());
+        index.restore();
+        index.recordItems(List.of(salmon(1, "100.00"), salmon(2, "150.00"), salmon(3, "300.00")));
+        MarketPriceDto before = salmonPrices();
+
+        index.checkpoint();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<MarketPriceSketch>> rows = ArgumentCaptor.forClass(List.class);
+        verify(marketPriceSketchRepo).saveAll(rows.capture());
+        ArgumentCaptor<MarketPriceCheckpoint> checkpoint = ArgumentCaptor.forClass(MarketPriceCheckpoint.class);
+        verify(marketPriceCheckpointRepo).save(checkpoint.capture());
+        assertEquals(3L, checkpoint.getValue().getLastOrderItemId());
+
+        MarketPriceIndex restored = new MarketPriceIndex(marketPriceSketchRepo, marketPriceCheckpointRepo,
+                orderItemRepo, transactionTemplate, properties);
+        when(marketPriceCheckpointRepo.findById(MarketPriceCheckpoint.SINGLETON_ID))
+                .thenReturn(Optional.of(checkpoint.getValue()));
+        when(marketPriceSketchRepo.findAll()).thenReturn(new ArrayList<>(rows.getValue()));
+        restored.restore();
+
+        MarketPriceDto after = restored.getPrices().get(0);
+        assertEquals(before.getTrades(), after.getTrades());
+        assertEquals(before.getMedianPricePerKg(), after.getMedianPricePerKg());
+        assertEquals(before.getKilograms(), after.getKilograms());
+    }
+
+    @Test
+    public void testRecordItems_OutsideWindowIgnored() {
+        replayOnRestore(List.of());
+        index.restore();
+
+        index.recordItems(List.of(new Item(1L, "Salmon", LocalDateTime.now().minusDays(30), 10000, 1000)));
+
+        assertTrue(index.getPrices().isEmpty());
+    }
+}
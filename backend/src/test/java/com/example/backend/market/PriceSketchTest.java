@@ -0,0 +1,115 @@
+package com.example.backend.market;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PriceSketchTest {
+
+    private static final double ACCURACY = 0.01;
+
+    // Exact weighted quantile of the values, each with weight 1: the smallest value whose rank reaches q
+    private static double exactQuantile(double[] sorted, double q) {
+        int rank = (int) Math.ceil(q * sorted.length);
+        return sorted[Math.max(rank, 1) - 1];
+    }
+
+    @Test
+    public void testQuantile_WithinRelativeAccuracy() {
+        Random random = new Random(42);
+        PriceSketch sketch = new PriceSketch(ACCURACY);
+        double[] values = new double[10_000];
+        for (int i = 0; i < values.length; i++) {
+            // Log-uniform over 1 to 100,000, so the buckets at every scale are exercised
+            values[i] = Math.exp(random.nextDouble() * Math.log(100_000));
+            sketch.add(values[i], 1);
+        }
+        Arrays.sort(values);
+
+        for (double q : new double[] { 0.01, 0.1, 0.25, 0.5, 0.75, 0.9, 0.99 }) {
+            double exact = exactQuantile(values, q);
+            double estimate = sketch.quantile(q);
+            assertTrue(Math.abs(estimate - exact) <= ACCURACY * exact,
+                    "q=" + q + ": estimate " + estimate + " is more than 1% off " + exact);
+        }
+    }
+
+    @Test
+    public void testQuantile_WeightedByQuantity() {
+        PriceSketch sketch = new PriceSketch(ACCURACY);
+        sketch.add(100, 1);
+        sketch.add(200, 9);
+
+        assertEquals(200, sketch.quantile(0.5), 200 * ACCURACY);
+        assertEquals(10, sketch.getTotalWeight());
+        assertEquals(2, sketch.getCount());
+    }
+
+    @Test
+    public void testAdd_IgnoresNonPositive() {
+        PriceSketch sketch = new PriceSketch(ACCURACY);
+        sketch.add(0, 1);
+        sketch.add(-5, 1);
+        sketch.add(10, 0);
+
+        assertTrue(sketch.isEmpty());
+        assertTrue(Double.isNaN(sketch.quantile(0.5)));
+    }
+
+    @Test
+    public void testMerge_SameAsAddingToOne() {
+        Random random = new Random(7);
+        PriceSketch combined = new PriceSketch(ACCURACY);
+        PriceSketch first = new PriceSketch(ACCURACY);
+        PriceSketch second = new PriceSketch(ACCURACY);
+        for (int i = 0; i < 1000; i++) {
+            double value = 50 + random.nextDouble() * 500;
+            double weight = 0.5 + random.nextInt(10);
+            combined.add(value, weight);
+            (i % 2 == 0 ? first : second).add(value, weight);
+        }
+
+        first.merge(second);
+
+        assertEquals(combined.getCount(), first.getCount());
+        assertEquals(combined.getTotalWeight(), first.getTotalWeight(), 1e-9);
+        for (double q : new double[] { 0.1, 0.5, 0.9 }) {
+            assertEquals(combined.quantile(q), first.quantile(q));
+        }
+    }
+
+    @Test
+    public void testMerge_DifferentAccuracyRejected() {
+        PriceSketch sketch = new PriceSketch(0.01);
+
+        assertThrows(IllegalArgumentException.class, () -> sketch.merge(new PriceSketch(0.02)));
+    }
+
+    @Test
+    public void testEncodeDecode_RoundTrip() {
+        PriceSketch sketch = new PriceSketch(ACCURACY);
+        sketch.add(120.5, 2.5);
+        sketch.add(99.9, 1);
+        sketch.add(450, 0.25);
+
+        PriceSketch decoded = PriceSketch.decode(ACCURACY, sketch.encode());
+
+        assertEquals(sketch.encode(), decoded.encode());
+        assertEquals(sketch.getCount(), decoded.getCount());
+        assertEquals(sketch.getTotalWeight(), decoded.getTotalWeight(), 1e-9);
+        assertEquals(sketch.quantile(0.5), decoded.quantile(0.5));
+    }
+
+    @Test
+    public void testEncodeDecode_Empty() {
+        PriceSketch decoded = PriceSketch.decode(ACCURACY, new PriceSketch(ACCURACY).encode());
+
+        assertTrue(decoded.isEmpty());
+        assertEquals(0, decoded.getTotalWeight());
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.backend.routing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+public class ReadRoutingFilterTest {
+
+    private enum Route { REPLICA, PINNED, NONE }
+
+    private final AtomicLong clock = new AtomicLong(1_000);
+    private ReadRoutingFilter filter;
+
+    @BeforeEach
+    public void setUp() {
+        ReadReplicaProperties properties = new ReadReplicaProperties();
+        properties.setStickyWindow(Duration.ofSeconds(5));
+        filter = new ReadRoutingFilter(properties, clock::get);
+    }
+
+    // The route the handler saw for one request from the client
+    private Route route(String method, String clientId) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/api/fishListings/list");
+        request.addHeader(ReadRoutingFilter.CLIENT_ID_HEADER, clientId);
+        Route[] seen = new Route[1];
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> seen[0] =
+                ReadRouting.isReplicaPreferred() ? Route.REPLICA
+                        : ReadRouting.isPinnedToPrimary() ? Route.PINNED : Route.NONE);
+        return seen[0];
+    }
+
+    @Test
+    public void testGet_RoutedToReplicaAndClearedAfter() throws Exception {
+        assertEquals(Route.REPLICA, route("GET", "client-a"));
+        assertEquals(Route.REPLICA, route("HEAD", "client-a"));
+        assertFalse(ReadRouting.isReplicaPreferred());
+        assertFalse(ReadRouting.isPinnedToPrimary());
+    }
+
+    @Test
+    public void testWrite_PinnedToPrimary() throws Exception {
+        assertEquals(Route.PINNED, route("POST", "client-a"));
+        assertEquals(Route.PINNED, route("PUT", "client-a"));
+        assertEquals(Route.PINNED, route("DELETE", "client-a"));
+    }
+
+    @Test
+    public void testGetAfterWrite_PinnedForSameClientOnly() throws Exception {
+        route("POST", "client-a");
+
+        assertEquals(Route.PINNED, route("GET", "client-a"));
+        assertEquals(Route.REPLICA, route("GET", "client-b"));
+    }
+
+    @Test
+    public void testGetAfterStickyWindow_BackOnReplica() throws Exception {
+        route("POST", "client-a");
+
+        clock.addAndGet(Duration.ofSeconds(5).toNanos());
+        assertEquals(Route.PINNED, route("GET", "client-a"));
+        clock.addAndGet(1);
+        assertEquals(Route.REPLICA, route("GET", "client-a"));
+    }
+
+    @Test
+    public void testPreflight_NoRoute() throws Exception {
+        assertEquals(Route.NONE, route("OPTIONS", "client-a"));
+    }
+}
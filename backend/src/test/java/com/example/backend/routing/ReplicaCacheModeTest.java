@@ -0,0 +1,55 @@
+package com.example.backend.routing;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.CacheRetrieveMode;
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManager;
+
+public class ReplicaCacheModeTest {
+
+    private final ReplicaCacheMode replicaCacheMode = new ReplicaCacheMode();
+
+    @AfterEach
+    public void tearDown() {
+        ReadRouting.clear();
+    }
+
+    @Test
+    public void testAccept_ReplicaReadBypassesCaches() {
+        EntityManager entityManager = mock(EntityManager.class);
+        ReadRouting.preferReplica();
+
+        replicaCacheMode.accept(entityManager);
+
+        verify(entityManager).setProperty(ReplicaCacheMode.RETRIEVE_MODE, CacheRetrieveMode.BYPASS);
+        verify(entityManager).setProperty(ReplicaCacheMode.STORE_MODE, CacheStoreMode.BYPASS);
+    }
+
+    @Test
+    public void testAccept_PinnedReadUsesCaches() {
+        EntityManager entityManager = mock(EntityManager.class);
+        ReadRouting.pinToPrimary();
+
+        replicaCacheMode.accept(entityManager);
+
+        verify(entityManager, never()).setProperty(anyString(), any());
+    }
+
+    // Startup scripts and scheduled jobs run without a hint, on the primary
+    @Test
+    public void testAccept_OutsideRequestUsesCaches() {
+        EntityManager entityManager = mock(EntityManager.class);
+
+        replicaCacheMode.accept(entityManager);
+
+        verify(entityManager, never()).setProperty(anyString(), any());
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.backend.routing;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+public class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection replicaConnection;
+
+    private final AtomicLong clock = new AtomicLong(1_000);
+    private ReplicaRoutingDataSource dataSource;
+
+    @BeforeEach
+    public void setUp() {
+        dataSource = new ReplicaRoutingDataSource(primary, List.of(replica), Duration.ofSeconds(30), clock::get);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ReadRouting.clear();
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    public void testGetConnection_NoHintUsesPrimary() throws Exception {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        assertSame(primaryConnection, dataSource.getConnection());
+        verify(replica, never()).getConnection();
+    }
+
+    @Test
+    public void testGetConnection_ReplicaRead() throws Exception {
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        ReadRouting.preferReplica();
+
+        assertSame(replicaConnection, dataSource.getConnection());
+        verify(primary, never()).getConnection();
+    }
+
+    @Test
+    public void testGetConnection_PinnedUsesPrimary() throws Exception {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        ReadRouting.pinToPrimary();
+
+        assertSame(primaryConnection, dataSource.getConnection());
+        verify(replica, never()).getConnection();
+    }
+
+    @Test
+    public void testGetConnection_ReadWriteTransactionInReadRequestUsesPrimary() throws Exception {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        ReadRouting.preferReplica();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        assertSame(primaryConnection, dataSource.getConnection());
+        verify(replica, never()).getConnection();
+    }
+
+    @Test
+    public void testGetConnection_FailedReplicaSkippedUntilRetryAfter() throws Exception {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenThrow(new SQLException("connection refused"))
+                .thenReturn(replicaConnection);
+        ReadRouting.preferReplica();
+
+        assertSame(primaryConnection, dataSource.getConnection());
+        clock.addAndGet(Duration.ofSeconds(29).toNanos());
+        assertSame(primaryConnection, dataSource.getConnection());
+        verify(replica, times(1)).getConnection();
+
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertSame(replicaConnection, dataSource.getConnection());
+        verify(replica, times(2)).getConnection();
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.backend.versioning;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+public class ConditionalGetInterceptorTest {
+
+    static class Handlers {
+
+        @Versioned
+        public void entities() {
+        }
+
+        @Versioned({ VersionedTable.FISH_LISTINGS, VersionedTable.LISTING_VIEWS })
+        public void withViews() {
+        }
+    }
+
+    private TableVersions tableVersions;
+    private ConditionalGetInterceptor interceptor;
+
+    @BeforeEach
+    public void setUp() {
+        tableVersions = new TableVersions(0);
+        interceptor = new ConditionalGetInterceptor(tableVersions);
+    }
+
+    private String etag(String handler) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertTrue(interceptor.preHandle(new MockHttpServletRequest("GET", "/"), response,
+                new HandlerMethod(new Handlers(), Handlers.class.getMethod(handler))));
+        return response.getHeader("ETag");
+    }
+
+    @Test
+    public void testBareVersioned_ViewFlushKeepsTag() throws Exception {
+        String before = etag("entities");
+
+        tableVersions.bump(VersionedTable.LISTING_VIEWS);
+
+        assertEquals(before, etag("entities"));
+    }
+
+    @Test
+    public void testBareVersioned_EntityWriteChangesTag() throws Exception {
+        String before = etag("entities");
+
+        tableVersions.bump(VersionedTable.PAYMENTS);
+
+        assertNotEquals(before, etag("entities"));
+    }
+
+    @Test
+    public void testNamedViews_ViewFlushChangesTag() throws Exception {
+        String before = etag("withViews");
+
+        tableVersions.bump(VersionedTable.LISTING_VIEWS);
+
+        assertNotEquals(before, etag("withViews"));
+    }
+
+    @Test
+    public void testBareVersioned_NotSettlingWhileViewsFlush() throws Exception {
+        tableVersions = new TableVersions(60_000);
+        interceptor = new ConditionalGetInterceptor(tableVersions);
+
+        tableVersions.bump(VersionedTable.LISTING_VIEWS);
+
+        assertNotNull(etag("entities"));
+    }
+}
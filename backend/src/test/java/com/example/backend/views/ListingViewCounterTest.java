@@ -0,0 +1,179 @@
+package com.example.backend.views;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+
+import com.example.backend.versioning.TableVersions;
+import com.example.backend.versioning.VersionedTable;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+public class ListingViewCounterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TableVersions tableVersions;
+
+    private ListingViewProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private ListingViewCounter counter;
+
+    @BeforeEach
+    public void setUp() {
+        properties = new ListingViewProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        counter = new ListingViewCounter(jdbcTemplate, properties, tableVersions, meterRegistry);
+    }
+
+    private void view(long listingId, int times) {
+        for (int i = 0; i < times; i++) {
+            counter.record(listingId);
+        }
+    }
+
+    // The counts bound to each upsert so far, by listing, read back from the statement's two arrays
+    private List<Map<Long, Long>> upserts() throws Exception {
+        ArgumentCaptor<PreparedStatementSetter> setters = ArgumentCaptor.forClass(PreparedStatementSetter.class);
+        verify(jdbcTemplate, atLeast(0)).update(anyString(), setters.capture());
+        List<Map<Long, Long>> upserts = new ArrayList<>();
+        for (PreparedStatementSetter setter : setters.getAllValues()) {
+            PreparedStatement statement = mock(PreparedStatement.class);
+            Connection connection = mock(Connection.class);
+            when(statement.getConnection()).thenReturn(connection);
+            ArgumentCaptor<Object[]> arrays = ArgumentCaptor.forClass(Object[].class);
+            when(connection.createArrayOf(eq("bigint"), arrays.capture())).thenReturn(null);
+            setter.setValues(statement);
+            Object[] ids = arrays.getAllValues().get(0);
+            Object[] counts = arrays.getAllValues().get(1);
+            Map<Long, Long> views = new HashMap<>();
+            for (int i = 0; i < ids.length; i++) {
+                views.put((Long) ids[i], (Long) counts[i]);
+            }
+            upserts.add(views);
+        }
+        return upserts;
+    }
+
+    private double tracked() {
+        return meterRegistry.get("fishermen.listings.views.tracked").gauge().value();
+    }
+
+    @Test
+    public void testFlush_DrainsCountsIntoOneUpsert() throws Exception {
+        view(1L, 3);
+        view(2L, 1);
+
+        counter.flush();
+
+        assertEquals(List.of(Map.of(1L, 3L, 2L, 1L)), upserts());
+        verify(jdbcTemplate).update(anyString(), eq(Date.valueOf(LocalDate.now().minusDays(30))));
+        verify(tableVersions).bump(VersionedTable.LISTING_VIEWS);
+
+        // Drained: nothing left to write
+        counter.flush();
+        assertEquals(1, upserts().size());
+    }
+
+    @Test
+    public void testFlush_FailedUpsertPutsCountsBack() throws Exception {
+        when(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class)))
+                .thenThrow(new DataAccessResourceFailureException("connection refused"))
+                .thenReturn(1);
+        view(1L, 2);
+
+        counter.flush();
+        verify(tableVersions, never()).bump(any());
+
+        view(1L, 1);
+        counter.flush();
+
+        assertEquals(List.of(Map.of(1L, 2L), Map.of(1L, 3L)), upserts());
+        verify(tableVersions).bump(VersionedTable.LISTING_VIEWS);
+    }
+
+    @Test
+    public void testFlush_IdleListingDroppedAndTrackedAgainOnNextView() throws Exception {
+        view(1L, 1);
+        counter.flush();
+        assertEquals(1, tracked());
+
+        // No views since the last flush
+        counter.flush();
+        assertEquals(0, tracked());
+
+        view(1L, 4);
+        assertEquals(1, tracked());
+        counter.flush();
+        assertEquals(List.of(Map.of(1L, 1L), Map.of(1L, 4L)), upserts());
+    }
+
+    @Test
+    public void testFlush_ViewRacingIdleRemovalPutBack() throws Exception {
+        // An idle adder that takes a view between the flush finding it empty and removing it
+        counter.pending.put(7L, new LongAdder() {
+            private boolean raced;
+
+            @Override
+            public long sumThenReset() {
+                long sum = super.sumThenReset();
+                if (!raced) {
+                    raced = true;
+                    increment();
+                }
+                return sum;
+            }
+        });
+
+        counter.flush();
+        assertEquals(1, tracked());
+        assertEquals(List.of(), upserts());
+
+        counter.flush();
+        assertEquals(List.of(Map.of(7L, 1L)), upserts());
+    }
+
+    @Test
+    public void testRecord_CapsTrackedListings() throws Exception {
+        properties.setMaxTrackedListings(2);
+        view(1L, 1);
+        view(2L, 1);
+        view(3L, 2);
+        // Listings already tracked still count
+        view(1L, 1);
+
+        counter.flush();
+
+        assertEquals(List.of(Map.of(1L, 2L, 2L, 1L)), upserts());
+        assertEquals(2, meterRegistry.get("fishermen.listings.views.dropped").counter().count());
+    }
+}
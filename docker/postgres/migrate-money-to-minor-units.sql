@@ -0,0 +1,34 @@
+-- Converts a database created before money moved to fixed point (see MoneyMath):
+-- decimal amounts become bigint minor units (1/100) and kilogram weights become bigint grams.
+-- Run once against a kept database before starting the new backend, e.g.
+--   docker exec -i postgres_db psql -U myuser -d mydatabase < docker/postgres/migrate-money-to-minor-units.sql
+-- Single transaction; columns already converted are skipped, so it is safe to re-run.
+
+BEGIN;
+
+CREATE OR REPLACE FUNCTION pg_temp.to_fixed_point(tbl text, old_column text, new_column text, factor int)
+RETURNS void AS $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM information_schema.columns
+                   WHERE table_schema = current_schema() AND table_name = tbl AND column_name = old_column) THEN
+        RETURN;
+    END IF;
+    EXECUTE format('ALTER TABLE %I ADD COLUMN %I bigint', tbl, new_column);
+    -- round() on numeric is half away from zero, which is MoneyMath's half up for non-negative values
+    EXECUTE format('UPDATE %I SET %I = round(%I::numeric * %s)', tbl, new_column, old_column, factor);
+    EXECUTE format('ALTER TABLE %I ALTER COLUMN %I SET NOT NULL', tbl, new_column);
+    EXECUTE format('ALTER TABLE %I DROP COLUMN %I CASCADE', tbl, old_column);
+END;
+$$ LANGUAGE plpgsql;
+
+SELECT pg_temp.to_fixed_point('fish_listings', 'price', 'price_minor', 100);
+SELECT pg_temp.to_fixed_point('fish_listings', 'weight_in_kg', 'weight_grams', 1000);
+SELECT pg_temp.to_fixed_point('order_items', 'price_at_purchase', 'price_at_purchase_minor', 100);
+SELECT pg_temp.to_fixed_point('order_items', 'quantity', 'quantity_grams', 1000);
+SELECT pg_temp.to_fixed_point('orders', 'total_price', 'total_price_minor', 100);
+SELECT pg_temp.to_fixed_point('payments', 'amount', 'amount_minor', 100);
+
+-- Dropped with the old columns by CASCADE; the backend recreates it on startup (schema-extensions.sql)
+DROP INDEX IF EXISTS idx_order_items_order;
+
+COMMIT;